@@ -0,0 +1,154 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.instrumentation.aspect;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.context.Scope;
+import kr.co.ouroboros.core.rest.tryit.config.properties.MethodTracingProperties;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.instrumentation.context.TryContext;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link MethodTracingMethodInterceptor} per intercepted call.
+ * <p>
+ * <ul>
+ *   <li>{@code direct} - plain method call, for reference</li>
+ *   <li>{@code invocation} - {@code new FixedMethodInvocation(...).proceed()} without the interceptor,
+ *       the baseline: it pays the same allocation and reflective call as the intercepted benchmarks</li>
+ *   <li>{@code nonTraced} - interceptor on regular traffic (no tryId in context)</li>
+ *   <li>{@code traced} - interceptor on a Try request with an active observation handler</li>
+ * </ul>
+ * The interceptor overhead is {@code nonTraced} or {@code traced} minus {@code invocation}.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=MethodTracingInterceptorBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MethodTracingInterceptorBenchmark {
+
+    @State(org.openjdk.jmh.annotations.Scope.Thread)
+    public static class InterceptorState {
+        SampleRepository target;
+        Method method;
+        Object[] args;
+        MethodTracingMethodInterceptor interceptor;
+        Scope tryScope;
+
+        @Setup(Level.Trial)
+        public void setUp() throws NoSuchMethodException {
+            target = new SampleRepository();
+            method = SampleRepository.class.getMethod("findById", Long.class, Object.class);
+            args = new Object[]{42L, "owner"};
+
+            ObservationRegistry registry = ObservationRegistry.create();
+            registry.observationConfig().observationHandler(context -> true);
+
+            MethodTracingProperties properties = new MethodTracingProperties();
+            properties.setEnabled(true);
+            properties.setAllowedPackages(List.of("kr.co.ouroboros.core.rest.tryit.infrastructure.instrumentation.aspect"));
+
+            StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("observationRegistry", registry));
+            interceptor = new MethodTracingMethodInterceptor(
+                    beanFactory.getBeanProvider(ObservationRegistry.class), properties);
+        }
+    }
+
+    @State(org.openjdk.jmh.annotations.Scope.Thread)
+    public static class TryState extends InterceptorState {
+
+        @Setup(Level.Trial)
+        public void openTry() {
+            tryScope = TryContext.setTryId(UUID.randomUUID());
+        }
+
+        @TearDown(Level.Trial)
+        public void closeTry() {
+            if (tryScope != null) {
+                tryScope.close();
+            }
+        }
+    }
+
+    @Benchmark
+    public Object direct(InterceptorState state) {
+        return state.target.findById((Long) state.args[0], state.args[1]);
+    }
+
+    @Benchmark
+    public Object invocation(InterceptorState state) throws Throwable {
+        return new FixedMethodInvocation(state.target, state.method, state.args).proceed();
+    }
+
+    @Benchmark
+    public Object nonTraced(InterceptorState state) throws Throwable {
+        return state.interceptor.invoke(new FixedMethodInvocation(state.target, state.method, state.args));
+    }
+
+    @Benchmark
+    public Object traced(TryState state) throws Throwable {
+        return state.interceptor.invoke(new FixedMethodInvocation(state.target, state.method, state.args));
+    }
+
+    /**
+     * Sample traced bean. The Object parameter exercises the erased-type path.
+     */
+    public static class SampleRepository {
+        public String findById(Long id, Object owner) {
+            return owner + ":" + id;
+        }
+    }
+
+    /**
+     * Minimal MethodInvocation invoking the target method reflectively.
+     */
+    private static final class FixedMethodInvocation implements MethodInvocation {
+        private final Object target;
+        private final Method method;
+        private final Object[] args;
+
+        private FixedMethodInvocation(Object target, Method method, Object[] args) {
+            this.target = target;
+            this.method = method;
+            this.args = args;
+        }
+
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Object[] getArguments() {
+            return args;
+        }
+
+        @Override
+        public Object proceed() throws Throwable {
+            return method.invoke(target, args);
+        }
+
+        @Override
+        public Object getThis() {
+            return target;
+        }
+
+        @Override
+        public AccessibleObject getStaticPart() {
+            return method;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.instrumentation.context;
+
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.context.Scope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link TryContext#hasTryId()} on the hot path.
+ * <p>
+ * <ul>
+ *   <li>{@code noTry} - regular traffic, nothing in the context</li>
+ *   <li>{@code tryViaContextKey} - Try request set through {@link TryContext#setTryId(UUID)}</li>
+ *   <li>{@code tryViaBaggageOnly} - tryId only present as a Baggage entry (remote propagation)</li>
+ * </ul>
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=TryContextBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TryContextBenchmark {
+
+    @State(org.openjdk.jmh.annotations.Scope.Thread)
+    public static class EmptyState {
+    }
+
+    @State(org.openjdk.jmh.annotations.Scope.Thread)
+    public static class ContextKeyState {
+        Scope scope;
+
+        @Setup(Level.Trial)
+        public void open() {
+            scope = TryContext.setTryId(UUID.randomUUID());
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            scope.close();
+        }
+    }
+
+    @State(org.openjdk.jmh.annotations.Scope.Thread)
+    public static class BaggageOnlyState {
+        Scope scope;
+
+        @Setup(Level.Trial)
+        public void open() {
+            scope = Baggage.builder()
+                    .put("ouro.try_id", UUID.randomUUID().toString())
+                    .build()
+                    .makeCurrent();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            scope.close();
+        }
+    }
+
+    @Benchmark
+    public boolean noTry(EmptyState state) {
+        return TryContext.hasTryId();
+    }
+
+    @Benchmark
+    public boolean tryViaContextKey(ContextKeyState state) {
+        return TryContext.hasTryId();
+    }
+
+    @Benchmark
+    public boolean tryViaBaggageOnly(BaggageOnlyState state) {
+        return TryContext.hasTryId();
+    }
+}
@@ -0,0 +1,101 @@
+package kr.co.ouroboros.core.websocket.tryit.identification;
+
+import io.opentelemetry.context.Scope;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.instrumentation.context.TryContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of a client outbound channel with and without
+ * {@link TryStompOutboundChannelInterceptor}.
+ * <p>
+ * The channel has no executor, so a send runs the interceptors and the handler on the calling
+ * thread, like one broker fan-out step. The message is a broadcast message as created by the
+ * simple broker (no STOMP command, a destination, a subscription and one native header).
+ * <ul>
+ *   <li>{@code withoutInterceptor} - outbound channel without interceptor, the baseline</li>
+ *   <li>{@code interceptorNoTry} - interceptor on regular traffic (no tryId in context)</li>
+ *   <li>{@code interceptorTry} - interceptor on a Try message (tryId header added)</li>
+ * </ul>
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=TryStompOutboundChannelBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TryStompOutboundChannelBenchmark {
+
+    @State(org.openjdk.jmh.annotations.Scope.Thread)
+    public static class ChannelState {
+        ExecutorSubscribableChannel plainChannel;
+        ExecutorSubscribableChannel interceptedChannel;
+        Message<byte[]> message;
+        Blackhole blackhole;
+
+        @Setup(Level.Trial)
+        public void setUp(Blackhole blackhole) {
+            this.blackhole = blackhole;
+
+            plainChannel = new ExecutorSubscribableChannel();
+            plainChannel.subscribe(sent -> this.blackhole.consume(sent));
+
+            interceptedChannel = new ExecutorSubscribableChannel();
+            interceptedChannel.addInterceptor(new TryStompOutboundChannelInterceptor());
+            interceptedChannel.subscribe(sent -> this.blackhole.consume(sent));
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination("/topic/prices");
+            accessor.setSubscriptionId("sub-0");
+            accessor.setSessionId("session-0");
+            accessor.setNativeHeader("content-type", "application/json");
+            message = MessageBuilder.createMessage(
+                    "{\"symbol\":\"ACME\",\"price\":42}".getBytes(StandardCharsets.UTF_8),
+                    accessor.getMessageHeaders());
+        }
+    }
+
+    @State(org.openjdk.jmh.annotations.Scope.Thread)
+    public static class TryState {
+        Scope scope;
+
+        @Setup(Level.Trial)
+        public void open() {
+            scope = TryContext.setTryId(UUID.randomUUID());
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            scope.close();
+        }
+    }
+
+    @Benchmark
+    public boolean withoutInterceptor(ChannelState state) {
+        return state.plainChannel.send(state.message);
+    }
+
+    @Benchmark
+    public boolean interceptorNoTry(ChannelState state) {
+        return state.interceptedChannel.send(state.message);
+    }
+
+    @Benchmark
+    public boolean interceptorTry(ChannelState state, TryState tryState) {
+        return state.interceptedChannel.send(state.message);
+    }
+}
@@ -0,0 +1,123 @@
+package kr.co.ouroboros.core.websocket.tryit.infrastructure.executor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a client inbound channel on the default thread pool with the virtual thread
+ * executor when handlers block.
+ * <p>
+ * One operation sends a burst of messages from several sessions and waits until all of them
+ * were handled. The handler sleeps to simulate a blocking {@code @MessageMapping} method
+ * (JDBC, remote call).
+ * <ul>
+ *   <li>{@code mode=platform} - {@code ThreadPoolTaskExecutor} sized like Spring's default
+ *       channel executor (2 x available processors, unbounded queue)</li>
+ *   <li>{@code mode=virtual} - {@link VirtualThreadChannelExecutor} with per-session ordering</li>
+ * </ul>
+ * Throughput is reported as bursts per millisecond; sample time reports the burst completion
+ * time distribution, including p99.
+ * <p>
+ * The virtual mode needs a Java 21+ JVM for the benchmark run; on older runtimes its trials fail.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=ChannelExecutorModeBenchmark}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChannelExecutorModeBenchmark {
+
+    @State(org.openjdk.jmh.annotations.Scope.Benchmark)
+    public static class ChannelState {
+
+        @Param({"platform", "virtual"})
+        String mode;
+
+        @Param({"1"})
+        int blockingMillis;
+
+        @Param({"64"})
+        int sessions;
+
+        @Param({"4"})
+        int messagesPerSession;
+
+        ThreadPoolTaskExecutor threadPool;
+        VirtualThreadChannelExecutor virtualExecutor;
+        ExecutorSubscribableChannel channel;
+        List<Message<byte[]>> burst;
+        volatile CountDownLatch handled;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            if ("virtual".equals(mode)) {
+                virtualExecutor = new VirtualThreadChannelExecutor("bench-virtual-", true);
+                channel = new ExecutorSubscribableChannel(virtualExecutor);
+            } else {
+                threadPool = new ThreadPoolTaskExecutor();
+                threadPool.setCorePoolSize(Runtime.getRuntime().availableProcessors() * 2);
+                threadPool.setMaxPoolSize(Integer.MAX_VALUE);
+                threadPool.setThreadNamePrefix("bench-platform-");
+                threadPool.initialize();
+                channel = new ExecutorSubscribableChannel(threadPool);
+            }
+            channel.subscribe(message -> {
+                try {
+                    Thread.sleep(blockingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                handled.countDown();
+            });
+
+            burst = new ArrayList<>(sessions * messagesPerSession);
+            byte[] payload = "{\"text\":\"hello\"}".getBytes(StandardCharsets.UTF_8);
+            for (int i = 0; i < messagesPerSession; i++) {
+                for (int session = 0; session < sessions; session++) {
+                    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+                    accessor.setSessionId("session-" + session);
+                    accessor.setDestination("/app/chat");
+                    burst.add(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            if (threadPool != null) {
+                threadPool.shutdown();
+            }
+            if (virtualExecutor != null) {
+                virtualExecutor.destroy();
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean blockingBurst(ChannelState state) throws InterruptedException {
+        CountDownLatch handled = new CountDownLatch(state.burst.size());
+        state.handled = handled;
+        for (Message<byte[]> message : state.burst) {
+            state.channel.send(message);
+        }
+        return handled.await(1, TimeUnit.MINUTES);
+    }
+}
@@ -1,5 +1,6 @@
 package kr.co.ouroboros.core.global.mock.service;
-import lombok.RequiredArgsConstructor;
+import net.datafaker.Faker;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.*;
@@ -20,9 +21,34 @@ import java.util.*;
  * @since 0.0.1
  */
 @Service
-@RequiredArgsConstructor
 public class SchemaMockBuilder {
     private final DummyDataGenerator generator;
+    private final Random random;    // null = ThreadLocalRandom
+
+    @Autowired
+    public SchemaMockBuilder(DummyDataGenerator generator) {
+        this(generator, null);
+    }
+
+    private SchemaMockBuilder(DummyDataGenerator generator, Random random) {
+        this.generator = generator;
+        this.random = random;
+    }
+
+    /**
+     * Creates a builder whose generated values depend only on the seed.
+     * <p>
+     * The returned builder owns its Faker instance and is not thread-safe; it is meant for a
+     * single producer such as a mock message stream.
+     *
+     * @param seed random seed
+     * @return a new, reproducible builder
+     */
+    public static SchemaMockBuilder seeded(long seed) {
+        Random random = new Random(seed);
+        Faker faker = new Faker(Locale.US, random);
+        return new SchemaMockBuilder(new DummyDataGenerator(faker, new FakerExpressionParser(faker)), random);
+    }
 
     /**
      * Recursively builds a mock object from a JSON schema.
@@ -74,7 +100,7 @@ public class SchemaMockBuilder {
                     maxItems = ((Number) maxObj).intValue();
                 }
 
-                int size = ThreadLocalRandom.current().nextInt(minItems, maxItems + 1);
+                int size = (random != null ? random : ThreadLocalRandom.current()).nextInt(minItems, maxItems + 1);
                 List<Object> arr = new ArrayList<>(size);
 
                 for (int i = 0; i < size; i++) {
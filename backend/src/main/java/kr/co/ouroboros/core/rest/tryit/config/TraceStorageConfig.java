@@ -2,12 +2,21 @@ package kr.co.ouroboros.core.rest.tryit.config;
 
 import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
+import kr.co.ouroboros.core.rest.tryit.config.properties.OtlpReceiverProperties;
 import kr.co.ouroboros.core.rest.tryit.config.properties.TempoProperties;
+import kr.co.ouroboros.core.rest.tryit.config.properties.TraceBufferProperties;
+import kr.co.ouroboros.core.rest.tryit.config.properties.TraceCompletionProperties;
+import kr.co.ouroboros.core.rest.tryit.config.properties.TraceAggregateProperties;
+import kr.co.ouroboros.core.rest.tryit.config.properties.TraceDiskProperties;
 import kr.co.ouroboros.core.rest.tryit.infrastructure.instrumentation.sampler.TryOnlySampler;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.buffer.TrySpanIngestBuffer;
 import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.processor.InMemoryTrySpanProcessor;
 import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.tempo.processor.TempoTrySpanProcessor;
 import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceStorage;
+import kr.co.ouroboros.core.rest.tryit.trace.aggregate.TryAggregateRegistry;
+import kr.co.ouroboros.core.rest.tryit.trace.completion.TryCompletionTracker;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.autoconfigure.tracing.OpenTelemetryTracingAutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
@@ -26,6 +35,11 @@ import org.springframework.context.annotation.Primary;
  * <b>Configuration Properties:</b>
  * <ul>
  *   <li>{@link TempoProperties} - Tempo storage configuration</li>
+ *   <li>{@link TraceAggregateProperties} - Cross-try aggregate profiling configuration</li>
+ *   <li>{@link TraceDiskProperties} - Disk-backed trace archive configuration</li>
+ *   <li>{@link OtlpReceiverProperties} - Embedded OTLP/HTTP receiver configuration</li>
+ *   <li>{@link TraceBufferProperties} - Asynchronous span ingestion configuration</li>
+ *   <li>{@link TraceCompletionProperties} - Trace completion detection configuration</li>
  * </ul>
  * <p>
  * <b>Beans:</b>
@@ -44,7 +58,8 @@ import org.springframework.context.annotation.Primary;
 @AutoConfiguration
 @AutoConfigureBefore(OpenTelemetryTracingAutoConfiguration.class)
 @ConditionalOnProperty(prefix = "ouroboros", name = "enabled", havingValue = "true", matchIfMissing = true)
-@EnableConfigurationProperties(TempoProperties.class)
+@EnableConfigurationProperties({TempoProperties.class, TraceAggregateProperties.class, TraceDiskProperties.class,
+        OtlpReceiverProperties.class, TraceBufferProperties.class, TraceCompletionProperties.class})
 public class TraceStorageConfig {
     
     /**
@@ -71,15 +86,23 @@ public class TraceStorageConfig {
      * The processor attaches try identifiers to spans and stores them in the provided
      * TraceStorage for later retrieval.
      *
-     * @param traceStorage the TraceStorage used to persist spans in memory
+     * @param traceStorage the TraceStorage used to persist spans (in memory, or on disk when the disk archive is enabled)
+     * @param aggregateRegistry provider of the cross-try aggregate registry (absent when aggregation is disabled)
+     * @param ingestBuffer provider of the asynchronous ingest buffer (absent when {@code ouroboros.trace-buffer.enabled=false})
+     * @param completionTracker provider of the trace completion tracker (absent when {@code ouroboros.trace-completion.enabled=false})
      * @return the created InMemoryTrySpanProcessor as a `SpanProcessor`
      */
     @Bean(name = "trySpanProcessor")
     @ConditionalOnMissingBean(name = "trySpanProcessor")
     @ConditionalOnProperty(name = "ouroboros.tempo.enabled", havingValue = "false", matchIfMissing = true)
-    public SpanProcessor inMemoryTrySpanProcessor(TraceStorage traceStorage) {
+    public SpanProcessor inMemoryTrySpanProcessor(TraceStorage traceStorage,
+                                                  ObjectProvider<TryAggregateRegistry> aggregateRegistry,
+                                                  ObjectProvider<TrySpanIngestBuffer> ingestBuffer,
+                                                  ObjectProvider<TryCompletionTracker> completionTracker) {
         log.info("Creating InMemoryTrySpanProcessor bean (Tempo disabled)");
-        InMemoryTrySpanProcessor processor = new InMemoryTrySpanProcessor(traceStorage);
+        InMemoryTrySpanProcessor processor = new InMemoryTrySpanProcessor(
+                traceStorage, aggregateRegistry.getIfAvailable(), ingestBuffer.getIfAvailable(),
+                completionTracker.getIfAvailable());
         log.info("InMemoryTrySpanProcessor bean created successfully");
         return processor;
     }
@@ -89,7 +112,8 @@ public class TraceStorageConfig {
      * <p>
      * This sampler prevents span creation for non-Try requests, reducing
      * tracing overhead and Tempo storage usage. Only requests with
-     * X-Ouroboros-Try: on header will be traced.
+     * X-Ouroboros-Try: on header will be traced; the header is checked once by
+     * TryFilter and the sampler reads the resulting Try context.
      * <p>
      * <b>Important:</b> This bean does NOT use @ConditionalOnMissingBean to ensure
      * it always overrides Spring Boot's default Sampler. The property
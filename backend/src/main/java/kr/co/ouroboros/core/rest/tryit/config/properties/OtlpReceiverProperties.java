@@ -0,0 +1,42 @@
+package kr.co.ouroboros.core.rest.tryit.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the embedded OTLP/HTTP trace receiver.
+ * <p>
+ * When enabled, other services on the same machine can export their spans to
+ * {@code POST /ouro/otlp/v1/traces} instead of to Tempo. Received spans are stored
+ * next to the spans of this application, so a Try spanning several services can be
+ * analyzed without external tracing infrastructure. The receiver is only useful when
+ * Tempo is disabled (local storage mode).
+ * <p>
+ * <b>Configuration Properties:</b>
+ * <ul>
+ *   <li>{@code ouroboros.otlp-receiver.enabled} - Enable/disable the receiver endpoint (default: false)</li>
+ *   <li>{@code ouroboros.otlp-receiver.max-request-size-kb} - Maximum (decompressed) request body size (default: 8192)</li>
+ * </ul>
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Data
+@ConfigurationProperties(prefix = "ouroboros.otlp-receiver")
+public class OtlpReceiverProperties {
+
+    /**
+     * Whether the embedded OTLP/HTTP receiver endpoint is enabled.
+     * <p>
+     * Default: false
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum request body size in kilobytes, after gzip decompression.
+     * Larger requests are rejected with 413.
+     * <p>
+     * Default: 8192 (8 MB)
+     */
+    private int maxRequestSizeKb = 8192;
+}
@@ -16,6 +16,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *   <li>{@code ouroboros.tempo.query-timeout-seconds} - Query timeout in seconds (default: 30)</li>
  *   <li>{@code ouroboros.tempo.poll-interval-millis} - Poll interval in milliseconds (default: 1000)</li>
  *   <li>{@code ouroboros.tempo.max-poll-attempts} - Maximum poll attempts (default: 10)</li>
+ *   <li>{@code ouroboros.tempo.attribute-allow-list} - Span attribute keys kept when decoding traces (default: keys used by analysis)</li>
+ *   <li>{@code ouroboros.tempo.pool.*} - Pooled HTTP connection settings (see {@link Pool})</li>
+ *   <li>{@code ouroboros.tempo.cache.*} - Trace lookup cache settings (see {@link Cache})</li>
  * </ul>
  * <p>
  * <b>Usage:</b>
@@ -25,6 +28,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * ouroboros.tempo.query-timeout-seconds=30
  * ouroboros.tempo.poll-interval-millis=1000
  * ouroboros.tempo.max-poll-attempts=10
+ * ouroboros.tempo.pool.max-total=20
+ * ouroboros.tempo.cache.ttl-seconds=300
  * }</pre>
  * <p>
  * Configured via {@code ouroboros.tempo.*} prefix in application.properties.
@@ -91,5 +96,121 @@ public class TempoProperties {
      * Default: 10 attempts
      */
     private int maxPollAttempts = 10;
+    
+    /**
+     * Span attribute keys kept when decoding trace payloads.
+     * <p>
+     * Entries ending with {@code *} match by prefix (e.g. {@code db.*}); a single
+     * {@code *} keeps every attribute. Attributes not matching are skipped while
+     * streaming the payload and never materialized.
+     * <p>
+     * Default: empty, which uses
+     * {@link kr.co.ouroboros.core.rest.tryit.trace.converter.TraceSpanStreamDecoder#DEFAULT_ATTRIBUTE_ALLOW_LIST}
+     */
+    private java.util.List<String> attributeAllowList = new java.util.ArrayList<>();
+    
+    /**
+     * Pooled HTTP connection settings for requests to Tempo.
+     */
+    private Pool pool = new Pool();
+    
+    /**
+     * Cache settings for resolved trace IDs and parsed trace spans.
+     */
+    private Cache cache = new Cache();
+    
+    /**
+     * Connection pool configuration for the Tempo HTTP client.
+     * <p>
+     * Connections are kept alive and reused across search and fetch calls
+     * instead of opening a new connection per request.
+     *
+     * @author Ouroboros Team
+     * @since 1.0.6
+     */
+    @Data
+    public static class Pool {
+        
+        /**
+         * Maximum number of pooled connections in total.
+         * <p>
+         * Default: 20
+         */
+        private int maxTotal = 20;
+        
+        /**
+         * Maximum number of pooled connections per route (Tempo host).
+         * <p>
+         * Default: 10
+         */
+        private int maxPerRoute = 10;
+        
+        /**
+         * Connect timeout in milliseconds.
+         * <p>
+         * Default: 5000ms
+         */
+        private long connectTimeoutMillis = 5000;
+        
+        /**
+         * How long an idle connection is kept alive when Tempo does not send a Keep-Alive header.
+         * <p>
+         * Default: 30 seconds
+         */
+        private long keepAliveSeconds = 30;
+        
+        /**
+         * Idle connections older than this are evicted from the pool by a background thread.
+         * <p>
+         * Default: 60 seconds
+         */
+        private long idleEvictSeconds = 60;
+    }
+    
+    /**
+     * Cache configuration for Tempo lookups.
+     * <p>
+     * Two size-bounded caches with a TTL are kept: tryId to traceId and
+     * traceId to parsed spans. A completed trace in Tempo is immutable, so a
+     * cached result can be served to repeated UI calls for the same tryId
+     * without searching and downloading the trace again. Spans are only cached
+     * once the trace has settled (see {@link #ingestionDelaySeconds}).
+     *
+     * @author Ouroboros Team
+     * @since 1.0.6
+     */
+    @Data
+    public static class Cache {
+        
+        /**
+         * Whether lookup caching is enabled.
+         * <p>
+         * Default: true
+         */
+        private boolean enabled = true;
+        
+        /**
+         * Maximum number of entries per cache. Least recently used entries are evicted first.
+         * <p>
+         * Default: 256
+         */
+        private int maxEntries = 256;
+        
+        /**
+         * Time-to-live of a cache entry in seconds.
+         * <p>
+         * Default: 300 seconds (5 minutes)
+         */
+        private long ttlSeconds = 300;
+        
+        /**
+         * Time in seconds after the newest span end before a trace is considered settled.
+         * <p>
+         * Spans are only cached when the trace has a root span and its newest span ended
+         * at least this long ago, so spans still being ingested by Tempo are not cut off.
+         * <p>
+         * Default: 10 seconds
+         */
+        private long ingestionDelaySeconds = 10;
+    }
 }
-
@@ -0,0 +1,60 @@
+package kr.co.ouroboros.core.rest.tryit.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for cross-try aggregate profiling.
+ * <p>
+ * Aggregates total and self time of Try spans per endpoint and per traced method
+ * across all tries. Memory use is bounded by the number of tracked keys: every key
+ * holds two fixed-size histograms, and keys beyond the limit are merged into a
+ * single {@code (other)} entry.
+ * <p>
+ * <b>Configuration Properties:</b>
+ * <ul>
+ *   <li>{@code ouroboros.trace-aggregate.enabled} - Enable/disable aggregation (default: true)</li>
+ *   <li>{@code ouroboros.trace-aggregate.max-endpoints} - Maximum tracked (HTTP method, route) keys (default: 200)</li>
+ *   <li>{@code ouroboros.trace-aggregate.max-methods} - Maximum tracked method keys (default: 1000)</li>
+ *   <li>{@code ouroboros.trace-aggregate.max-pending-traces} - Maximum traces tracked concurrently for self-time calculation (default: 1024)</li>
+ * </ul>
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Data
+@ConfigurationProperties(prefix = "ouroboros.trace-aggregate")
+public class TraceAggregateProperties {
+
+    /**
+     * Whether cross-try aggregation is enabled.
+     * <p>
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of (HTTP method, route) keys.
+     * <p>
+     * Default: 200
+     */
+    private int maxEndpoints = 200;
+
+    /**
+     * Maximum number of traced method keys.
+     * <p>
+     * Default: 1000
+     */
+    private int maxMethods = 1000;
+
+    /**
+     * Maximum number of in-flight traces whose child intervals are tracked to
+     * calculate self time. Beyond this limit the oldest trace is dropped, and its
+     * remaining spans are recorded with self time equal to total time. The same
+     * number of recently completed traces is remembered so that children ending
+     * after their local root are ignored.
+     * <p>
+     * Default: 1024
+     */
+    private int maxPendingTraces = 1024;
+}
@@ -0,0 +1,81 @@
+package kr.co.ouroboros.core.rest.tryit.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for asynchronous Try span ingestion.
+ * <p>
+ * When enabled (and Tempo is disabled), ended Try spans are published to a bounded
+ * lock-free ring buffer and stored by a background thread in batches, instead of being
+ * stored on the application thread that ended the span.
+ * <p>
+ * <b>Configuration Properties:</b>
+ * <ul>
+ *   <li>{@code ouroboros.trace-buffer.enabled} - Enable/disable asynchronous ingestion (default: true)</li>
+ *   <li>{@code ouroboros.trace-buffer.capacity} - Ring buffer capacity, rounded up to a power of two (default: 8192)</li>
+ *   <li>{@code ouroboros.trace-buffer.overflow-policy} - {@code DROP} or {@code BLOCK} when the buffer is full (default: DROP)</li>
+ *   <li>{@code ouroboros.trace-buffer.block-timeout-ms} - Maximum wait with {@code BLOCK} before the span is dropped (default: 100)</li>
+ *   <li>{@code ouroboros.trace-buffer.drain-interval-ms} - Idle wait of the drain thread (default: 10)</li>
+ * </ul>
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Data
+@ConfigurationProperties(prefix = "ouroboros.trace-buffer")
+public class TraceBufferProperties {
+
+    /**
+     * Whether ended spans are stored asynchronously through the ring buffer.
+     * <p>
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Ring buffer capacity (number of spans). Rounded up to a power of two.
+     * <p>
+     * Default: 8192
+     */
+    private int capacity = 8192;
+
+    /**
+     * What an application thread does when the buffer is full.
+     * <p>
+     * Default: DROP
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+    /**
+     * Maximum time an application thread waits for free space with {@link OverflowPolicy#BLOCK}.
+     * The span is dropped (and counted) when the wait times out.
+     * <p>
+     * Default: 100
+     */
+    private long blockTimeoutMs = 100;
+
+    /**
+     * Time the drain thread waits before polling an empty buffer again.
+     * Readers flush pending spans before querying, so this only bounds the
+     * delay for spans nobody has asked for yet.
+     * <p>
+     * Default: 10
+     */
+    private long drainIntervalMs = 10;
+
+    /**
+     * Behavior when the ring buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Drop the span immediately and count it. The traced code is never slowed down.
+         */
+        DROP,
+
+        /**
+         * Wait for the drain thread to free space, up to {@code block-timeout-ms}.
+         */
+        BLOCK
+    }
+}
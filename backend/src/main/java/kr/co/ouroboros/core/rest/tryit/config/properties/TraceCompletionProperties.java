@@ -0,0 +1,68 @@
+package kr.co.ouroboros.core.rest.tryit.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for Try trace completion detection.
+ * <p>
+ * When enabled (and Tempo is disabled), the open spans of every try are counted as they
+ * start and end. A try is complete once its local root span has ended, no span is open and
+ * no span activity happened for the grace period. Completion precomputes the try summary
+ * and notifies subscribers, so clients do not need to poll for the trace.
+ * <p>
+ * <b>Configuration Properties:</b>
+ * <ul>
+ *   <li>{@code ouroboros.trace-completion.enabled} - Enable/disable completion detection (default: true)</li>
+ *   <li>{@code ouroboros.trace-completion.grace-period-ms} - Quiet time after the last span before a try is complete (default: 300)</li>
+ *   <li>{@code ouroboros.trace-completion.max-wait-ms} - Time after the root span ended after which a try is complete even with open spans (default: 30000)</li>
+ *   <li>{@code ouroboros.trace-completion.max-tracked-tries} - Maximum number of in-flight and completed tries remembered (default: 1024)</li>
+ *   <li>{@code ouroboros.trace-completion.max-cached-summaries} - Maximum number of precomputed summaries kept (default: 256)</li>
+ * </ul>
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Data
+@ConfigurationProperties(prefix = "ouroboros.trace-completion")
+public class TraceCompletionProperties {
+
+    /**
+     * Whether try trace completion is detected and pushed to subscribers.
+     * <p>
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Time without span activity, after the root span ended and no span is open,
+     * before the try is considered complete. Covers spans started right after the
+     * root span ended (e.g. async work handed off at the end of the request).
+     * <p>
+     * Default: 300
+     */
+    private long gracePeriodMs = 300;
+
+    /**
+     * Time after the root span ended after which the try is considered complete even
+     * though spans are still open (leaked or very long running async spans).
+     * <p>
+     * Default: 30000
+     */
+    private long maxWaitMs = 30_000;
+
+    /**
+     * Maximum number of tries tracked at the same time, and of completed tries remembered.
+     * Tries started beyond the limit are not tracked and fall back to on-demand analysis.
+     * <p>
+     * Default: 1024
+     */
+    private int maxTrackedTries = 1024;
+
+    /**
+     * Maximum number of precomputed try summaries kept. The oldest summary is evicted first.
+     * <p>
+     * Default: 256
+     */
+    private int maxCachedSummaries = 256;
+}
@@ -0,0 +1,72 @@
+package kr.co.ouroboros.core.rest.tryit.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the disk-backed Try trace archive.
+ * <p>
+ * When enabled (and Tempo is disabled), Try spans are appended to rolling segment
+ * files instead of being kept on the heap, so tries survive application restarts
+ * without an external tracing backend.
+ * <p>
+ * <b>Configuration Properties:</b>
+ * <ul>
+ *   <li>{@code ouroboros.trace-disk.enabled} - Enable/disable the disk archive (default: false)</li>
+ *   <li>{@code ouroboros.trace-disk.directory} - Directory holding segment files (default: .ouroboros/traces)</li>
+ *   <li>{@code ouroboros.trace-disk.segment-size-mb} - Size at which the active segment is rolled (default: 16)</li>
+ *   <li>{@code ouroboros.trace-disk.max-total-size-mb} - Total size above which the oldest segments are deleted (default: 512)</li>
+ *   <li>{@code ouroboros.trace-disk.retention-hours} - Age after which segments are deleted (default: 72)</li>
+ * </ul>
+ * <p>
+ * <b>Usage:</b>
+ * <pre>{@code
+ * ouroboros.tempo.enabled=false
+ * ouroboros.trace-disk.enabled=true
+ * ouroboros.trace-disk.directory=/var/tmp/ouroboros-traces
+ * }</pre>
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Data
+@ConfigurationProperties(prefix = "ouroboros.trace-disk")
+public class TraceDiskProperties {
+
+    /**
+     * Whether the disk-backed trace archive is enabled.
+     * <p>
+     * Default: false
+     */
+    private boolean enabled = false;
+
+    /**
+     * Directory holding segment files. Created if it does not exist.
+     * <p>
+     * Default: .ouroboros/traces (relative to the working directory)
+     */
+    private String directory = ".ouroboros/traces";
+
+    /**
+     * Segment size in megabytes. The active segment is closed and a new one is
+     * started once it reaches this size. Capped at 1024.
+     * <p>
+     * Default: 16
+     */
+    private int segmentSizeMb = 16;
+
+    /**
+     * Maximum total size of all segments in megabytes. The oldest segments are
+     * deleted (with all tries they contain) when the limit is exceeded.
+     * <p>
+     * Default: 512
+     */
+    private int maxTotalSizeMb = 512;
+
+    /**
+     * Retention in hours. Segments whose last write is older are deleted.
+     * <p>
+     * Default: 72
+     */
+    private int retentionHours = 72;
+}
@@ -7,7 +7,12 @@
  * <b>Components:</b>
  * <ul>
  *   <li>{@link kr.co.ouroboros.core.rest.tryit.config.properties.MethodTracingProperties} - Configuration properties for method tracing</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.config.properties.OtlpReceiverProperties} - Configuration properties for the embedded OTLP/HTTP trace receiver</li>
  *   <li>{@link kr.co.ouroboros.core.rest.tryit.config.properties.TempoProperties} - Configuration properties for Tempo</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.config.properties.TraceAggregateProperties} - Configuration properties for cross-try aggregate profiling</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.config.properties.TraceBufferProperties} - Configuration properties for asynchronous span ingestion</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.config.properties.TraceCompletionProperties} - Configuration properties for trace completion detection</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.config.properties.TraceDiskProperties} - Configuration properties for the disk-backed trace archive</li>
  * </ul>
  *
  * @since 0.0.1
@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
  * <b>Handled Exceptions:</b>
  * <ul>
  *   <li>{@link InvalidTryIdException} - 400 Bad Request (package-specific)</li>
+ *   <li>{@link TryNotFoundException} - 404 Not Found (package-specific)</li>
  * </ul>
  * <p>
  * Common exceptions ({@link IllegalArgumentException}, {@link Exception}) are handled by
@@ -56,5 +57,27 @@ public class TryExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * Handles tryIds without trace data.
+     * <p>
+     * Returns 404 Not Found when the try is unknown or its trace has expired.
+     *
+     * @param ex the try not found exception
+     * @return response entity with 404 status and error details
+     */
+    @ExceptionHandler(TryNotFoundException.class)
+    public ResponseEntity<GlobalApiResponse<Void>> handleTryNotFound(TryNotFoundException ex) {
+        log.debug("Try not found: {}", ex.getMessage());
+
+        GlobalApiResponse<Void> response = GlobalApiResponse.error(
+                HttpStatus.NOT_FOUND.value(),
+                "Try not found",
+                "TRY_NOT_FOUND",
+                ex.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
 }
 
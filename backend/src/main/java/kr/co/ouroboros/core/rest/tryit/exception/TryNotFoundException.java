@@ -0,0 +1,40 @@
+package kr.co.ouroboros.core.rest.tryit.exception;
+
+/**
+ * Exception thrown when no trace data exists for a tryId.
+ * <p>
+ * This exception is thrown when a Try session is unknown, its trace has
+ * expired or been deleted, or trace retrieval is not available.
+ * <p>
+ * Handled by {@link TryExceptionHandler} which converts it to a 404 Not Found
+ * response with error code "TRY_NOT_FOUND".
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+public class TryNotFoundException extends RuntimeException {
+
+    /**
+     * The tryId without trace data.
+     */
+    private final String tryId;
+
+    /**
+     * Creates an exception representing a Try session without trace data.
+     *
+     * @param tryId the tryId whose trace was not found
+     */
+    public TryNotFoundException(String tryId) {
+        super(String.format("No trace found for tryId '%s'. The try is unknown or its trace has expired.", tryId));
+        this.tryId = tryId;
+    }
+
+    /**
+     * Retrieve the tryId whose trace was not found.
+     *
+     * @return the tryId string
+     */
+    public String getTryId() {
+        return tryId;
+    }
+}
@@ -9,6 +9,7 @@
  * <b>Exception Types:</b>
  * <ul>
  *   <li>{@link kr.co.ouroboros.core.rest.tryit.exception.InvalidTryIdException} - Invalid tryId format</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.exception.TryNotFoundException} - No trace data for a tryId</li>
  * </ul>
  *
  * @since 0.0.1
@@ -24,9 +24,10 @@ import java.util.UUID;
  * <b>Behavior:</b>
  * <ol>
  *   <li>If X-Ouroboros-Try header equals "on", generate tryId (UUID)</li>
- *   <li>Set tryId in TryContext (returns Scope for cleanup)</li>
+ *   <li>Set tryId in TryContext (returns Scope for cleanup); TryOnlySampler reads only this context</li>
  *   <li>Set tryId in response header early (as safety net)</li>
  *   <li>Store tryId as request attribute for downstream dispatches (e.g., ERROR)</li>
+ *   <li>On ERROR dispatch of a Try request, restore TryContext from the request attribute</li>
  *   <li>In finally block, ensure header is set if tryId exists (from context or attribute)</li>
  *   <li>Close Scope to clean up context</li>
  *   <li>If missing or not "on", process as normal request</li>
@@ -66,13 +67,20 @@ public class TryFilter extends OncePerRequestFilter {
         boolean isTryRequest = TRY_VALUE.equalsIgnoreCase(tryHeader);
         Scope tryScope = null;
 
-        if (isTryRequest && request.getDispatcherType() == jakarta.servlet.DispatcherType.REQUEST) {
-            UUID tryId = UUID.randomUUID();
-            log.debug("Try request detected, generating tryId: {}", tryId);
+        if (isTryRequest) {
+            UUID tryId;
+            if (request.getDispatcherType() == jakarta.servlet.DispatcherType.REQUEST) {
+                tryId = UUID.randomUUID();
+                log.debug("Try request detected, generating tryId: {}", tryId);
+                // Set header early to cover cases where response may be committed within the chain (e.g., 404 basic error)
+                response.setHeader(RESPONSE_TRY_ID_HEADER, tryId.toString());
+                request.setAttribute(REQUEST_TRY_ID_ATTR, tryId.toString());
+            } else {
+                // ERROR dispatch runs after the REQUEST scope was closed; re-enter the same Try context
+                tryId = parseTryIdAttribute(request);
+            }
+            // The sampler only checks this context, so the Try decision is made here once per request
             tryScope = TryContext.setTryId(tryId);
-            // Set header early to cover cases where response may be committed within the chain (e.g., 404 basic error)
-            response.setHeader(RESPONSE_TRY_ID_HEADER, tryId.toString());
-            request.setAttribute(REQUEST_TRY_ID_ATTR, tryId.toString());
         }
 
         try {
@@ -97,6 +105,19 @@ public class TryFilter extends OncePerRequestFilter {
         }
     }
 
+    private UUID parseTryIdAttribute(HttpServletRequest request) {
+        Object value = request.getAttribute(REQUEST_TRY_ID_ATTR);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(String.valueOf(value));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid tryId format in request attribute: {}", value);
+            return null;
+        }
+    }
+
     /**
      * Determines whether this filter should not filter error dispatches.
      * <p>
@@ -1,5 +1,7 @@
 package kr.co.ouroboros.core.rest.tryit.infrastructure.instrumentation.aspect;
 
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
 import kr.co.ouroboros.core.rest.tryit.config.properties.MethodTracingProperties;
@@ -9,9 +11,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodClassKey;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * AOP MethodInterceptor for automatic method-level tracing using Micrometer Observation.
@@ -30,8 +36,13 @@ import java.lang.reflect.Parameter;
  *   <li>Extracts method parameters with type and name information</li>
  *   <li>Creates observation spans with low cardinality key-value attributes</li>
  *   <li>Handles errors and propagates them while recording in observation</li>
+ *   <li>Caches span name, namespace and key-values per method and target class on first call</li>
  * </ul>
  * <p>
+ * <b>Hot path:</b> after the first traced call of a method, an invocation only looks up the
+ * cached {@link MethodMetadata}, starts an observation and attaches the precomputed key-values.
+ * Class name resolution, parameter reflection and key concatenation are not repeated.
+ * <p>
  * This interceptor is configured by {@link kr.co.ouroboros.core.rest.tryit.config.MethodTracingConfig}
  * and only applies to classes in allowed packages as specified in
  * {@link MethodTracingProperties}.
@@ -48,25 +59,42 @@ public class MethodTracingMethodInterceptor implements MethodInterceptor {
     private final MethodTracingProperties properties; // reserved for future toggles
 
     /**
-     * Gets or creates ObservationRegistry for creating observations.
+     * Per method and target class metadata, built on the first traced call.
+     */
+    private final ConcurrentHashMap<MethodClassKey, MethodMetadata> metadataCache = new ConcurrentHashMap<>();
+
+    /**
+     * ObservationRegistry resolved from the Spring context, cached after the first successful lookup.
+     */
+    private volatile ObservationRegistry observationRegistry;
+
+    /**
+     * Gets the ObservationRegistry for creating observations.
      * <p>
-     * Attempts to get ObservationRegistry from Spring context;
-     * creates a new one if not available.
+     * Resolves the ObservationRegistry from the Spring context once and caches it;
+     * falls back to {@link ObservationRegistry#NOOP} while none is available.
      *
      * @return ObservationRegistry instance
      */
     private ObservationRegistry registry() {
-        ObservationRegistry reg = observationRegistryProvider.getIfAvailable();
-        return (reg != null) ? reg : ObservationRegistry.create();
+        ObservationRegistry reg = observationRegistry;
+        if (reg == null) {
+            reg = observationRegistryProvider.getIfAvailable();
+            if (reg == null) {
+                return ObservationRegistry.NOOP;
+            }
+            observationRegistry = reg;
+        }
+        return reg;
     }
 
     /**
      * Intercepts a method invocation and wraps it in a Micrometer Observation when a Try context is present.
      *
      * <p>If no Try id is present (TryContext.hasTryId() is false), the invocation proceeds without instrumentation.
-     * When instrumented, the Observation is started with attributes for the declaring class and method, attempts to
-     * record parameter types and names, records any thrown error on the Observation, and stops the Observation
-     * when the invocation completes.</p>
+     * When instrumented, the Observation is started with the cached attributes for the declaring class, method and
+     * parameters, records any thrown error on the Observation, and stops the Observation when the invocation
+     * completes.</p>
      *
      * @param invocation the intercepted method invocation
      * @return the result produced by the intercepted method
@@ -78,45 +106,102 @@ public class MethodTracingMethodInterceptor implements MethodInterceptor {
         if(!TryContext.hasTryId()){
             return invocation.proceed();
         }
-        Class<?> declaringType = invocation.getMethod().getDeclaringClass();
-        String declaringTypeName = declaringType.getName();
+        Method method = invocation.getMethod();
+        Object target = invocation.getThis();
+        Class<?> targetClass = target != null ? target.getClass() : null;
+        MethodMetadata metadata = metadataCache.computeIfAbsent(
+                new MethodClassKey(method, targetClass),
+                key -> buildMetadata(method, targetClass));
+
+        KeyValues keyValues = metadata.keyValues;
+        if (metadata.erasedParameterIndexes.length > 0) {
+            // If erased to Object (e.g., CrudRepository<ID>), prefer runtime argument type
+            Object[] args = invocation.getArguments();
+            for (int i : metadata.erasedParameterIndexes) {
+                if (args != null && i < args.length && args[i] != null) {
+                    keyValues = keyValues.and(metadata.parameterTypeKeys[i], args[i].getClass().getSimpleName());
+                }
+            }
+        }
+
+        Observation observation = Observation.createNotStarted(metadata.spanName, registry())
+                .lowCardinalityKeyValues(keyValues)
+                .start();
+
+        try (Observation.Scope ignored = observation.openScope()) {
+            return invocation.proceed();
+        } catch (Throwable t) {
+            observation.error(t);
+            throw t;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * Builds the cached tracing metadata for a method invoked on a target class.
+     * <p>
+     * Resolves the effective class name, span name and the static key-values
+     * (namespace, function, parameter count, parameter names and types). Parameter
+     * types erased to {@code Object} are left out of the static key-values and recorded
+     * as erased indexes so that the runtime argument type can be attached per call.
+     *
+     * @param method      the invoked method
+     * @param targetClass the runtime class of the invocation target, may be {@code null}
+     * @return metadata to reuse for every subsequent traced call
+     */
+    private MethodMetadata buildMetadata(Method method, Class<?> targetClass) {
         // Prefer user-defined repository/service/controller interface/class name for className
-        String effectiveClassName = resolveEffectiveClassName(invocation, declaringTypeName);
-        String methodName = invocation.getMethod().getName();
+        String effectiveClassName = resolveEffectiveClassName(targetClass, method.getDeclaringClass().getName());
+        String methodName = method.getName();
         String spanName = simpleName(effectiveClassName) + "." + methodName;
 
-        Observation observation = Observation.start(spanName, registry())
-                .lowCardinalityKeyValue("code.namespace", effectiveClassName)
-                .lowCardinalityKeyValue("code.function", methodName);
+        List<KeyValue> keyValues = new ArrayList<>();
+        keyValues.add(KeyValue.of("code.namespace", effectiveClassName));
+        keyValues.add(KeyValue.of("code.function", methodName));
 
         // 파라미터 메타데이터(타입/이름)
+        String[] parameterTypeKeys = new String[0];
+        int[] erasedIndexes = new int[0];
         try {
-            Method method = invocation.getMethod();
             Parameter[] params = method.getParameters();
-            Object[] args = invocation.getArguments();
-            observation.lowCardinalityKeyValue("code.parameters.count", String.valueOf(params.length));
+            parameterTypeKeys = new String[params.length];
+            List<Integer> erased = new ArrayList<>();
+            keyValues.add(KeyValue.of("code.parameters.count", String.valueOf(params.length)));
             for (int i = 0; i < params.length; i++) {
                 Class<?> pt = params[i].getType();
-                String typeName = pt.getSimpleName();
-                // If erased to Object (e.g., CrudRepository<ID>), prefer runtime argument type
-                if ((pt == Object.class || "Object".equals(typeName)) && args != null && i < args.length && args[i] != null) {
-                    typeName = args[i].getClass().getSimpleName();
+                String typeKey = "code.parameter." + i + ".type";
+                parameterTypeKeys[i] = typeKey;
+                // Object 타입은 호출 시 실제 인자 타입으로 대체 (없으면 Object 유지)
+                keyValues.add(KeyValue.of(typeKey, pt.getSimpleName()));
+                if (pt == Object.class) {
+                    erased.add(i);
                 }
-                String paramName = params[i].getName();
-                observation.lowCardinalityKeyValue("code.parameter." + i + ".type", typeName);
-                observation.lowCardinalityKeyValue("code.parameter." + i + ".name", paramName);
+                keyValues.add(KeyValue.of("code.parameter." + i + ".name", params[i].getName()));
             }
+            erasedIndexes = erased.stream().mapToInt(Integer::intValue).toArray();
         } catch (Throwable t) {
             log.debug("Failed to enrich parameters for {}: {}", spanName, t.getMessage());
         }
 
-        try (Observation.Scope ignored = observation.openScope()) {
-            return invocation.proceed();
-        } catch (Throwable t) {
-            observation.error(t);
-            throw t;
-        } finally {
-            observation.stop();
+        return new MethodMetadata(spanName, KeyValues.of(keyValues), parameterTypeKeys, erasedIndexes);
+    }
+
+    /**
+     * Cached tracing metadata for a method and target class.
+     */
+    private static final class MethodMetadata {
+        private final String spanName;
+        private final KeyValues keyValues;
+        private final String[] parameterTypeKeys;
+        private final int[] erasedParameterIndexes;
+
+        private MethodMetadata(String spanName, KeyValues keyValues, String[] parameterTypeKeys,
+                               int[] erasedParameterIndexes) {
+            this.spanName = spanName;
+            this.keyValues = keyValues;
+            this.parameterTypeKeys = parameterTypeKeys;
+            this.erasedParameterIndexes = erasedParameterIndexes;
         }
     }
 
@@ -124,14 +209,13 @@ public class MethodTracingMethodInterceptor implements MethodInterceptor {
      * Determine the effective class name to attribute method traces to, preferring user-defined
      * interfaces or superclasses from configured package prefixes over proxy class names.
      *
-     * @param invocation    the method invocation containing the target instance (may be a proxy)
+     * @param targetClass   the runtime class of the invocation target (may be a proxy), or {@code null}
      * @param fallbackFqcn  the fully qualified class name to return if no user-defined class is found
      * @return the fully qualified name of a user-defined interface or superclass from allowed packages,
      *         or {@code fallbackFqcn} if none is found
      */
-    private String resolveEffectiveClassName(MethodInvocation invocation, String fallbackFqcn) {
+    private String resolveEffectiveClassName(Class<?> targetClass, String fallbackFqcn) {
         // Prefer user-defined interface/class under allowed packages if present on proxy
-        Class<?> targetClass = invocation.getThis() != null ? invocation.getThis().getClass() : null;
         if (targetClass != null) {
             // Check interfaces first (JDK dynamic proxies for repositories)
             for (Class<?> itf : targetClass.getInterfaces()) {
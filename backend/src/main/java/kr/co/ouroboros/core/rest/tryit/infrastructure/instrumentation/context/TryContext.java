@@ -2,6 +2,8 @@ package kr.co.ouroboros.core.rest.tryit.infrastructure.instrumentation.context;
 
 import io.opentelemetry.api.baggage.Baggage;
 import io.opentelemetry.api.baggage.BaggageBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.context.Scope;
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,6 +29,13 @@ import java.util.UUID;
  *   <li>Standard OpenTelemetry mechanism for context propagation</li>
  *   <li>Automatically propagated through OpenTelemetry Context</li>
  * </ul>
+ * <p>
+ * <b>Fast lookup:</b>
+ * Besides the Baggage entry (which is what crosses process boundaries), the parsed
+ * {@link UUID} is stored under a dedicated {@link ContextKey}. {@link #hasTryId()} and
+ * {@link #getTryId()} are therefore a plain context lookup on the hot path
+ * (method interceptor, sampler, span processor). The Baggage entry is only parsed when
+ * the tryId arrived via Baggage alone, e.g. propagated from an upstream service.
  *
  * @author Ouroboros Team
  * @since 0.0.1
@@ -35,9 +44,15 @@ import java.util.UUID;
 public class TryContext {
     
     private static final String BAGGAGE_KEY = "ouro.try_id";
+
+    /**
+     * Context key holding the already parsed tryId.
+     */
+    private static final ContextKey<UUID> TRY_ID_KEY = ContextKey.named("ouro.try_id");
     
     /**
-     * Store the given try session UUID in OpenTelemetry Baggage so it is propagated across threads and async boundaries.
+     * Store the given try session UUID in OpenTelemetry Baggage and under the dedicated context key,
+     * so it is propagated across threads and async boundaries.
      * <p>
      * Returns a {@link Scope} that should be closed when the try session ends to clean up the context.
      * If `tryId` is null, returns null.
@@ -48,11 +63,13 @@ public class TryContext {
     public static Scope setTryId(UUID tryId) {
         if (tryId != null) {
             try {
-                Baggage currentBaggage = Baggage.current();
-                BaggageBuilder builder = currentBaggage.toBuilder();
+                Context current = Context.current();
+                BaggageBuilder builder = Baggage.fromContext(current).toBuilder();
                 builder.put(BAGGAGE_KEY, tryId.toString());
                 Baggage updatedBaggage = builder.build();
-                Scope scope = updatedBaggage.makeCurrent();
+                Scope scope = current.with(updatedBaggage)
+                        .with(TRY_ID_KEY, tryId)
+                        .makeCurrent();
                 log.debug("Set tryId in baggage: {}", tryId);
                 return scope;
             } catch (Exception e) {
@@ -67,39 +84,70 @@ public class TryContext {
     }
     
     /**
-     * Retrieve the current try session ID from OpenTelemetry Baggage.
-     *
-     * If a value is present and parses as a UUID, returns that UUID; otherwise returns `null`.
+     * Retrieve the current try session ID.
+     * <p>
+     * Reads the parsed tryId from the current {@link Context}. If only a Baggage entry is present
+     * (tryId propagated from another process), it is parsed; invalid values yield {@code null}.
      *
      * @return the `UUID` of the current try session if present and valid, `null` otherwise
      */
     public static UUID getTryId() {
-        try {
-            String id = Baggage.current().getEntryValue(BAGGAGE_KEY);
-            if (id != null) {
-                try {
-                    return UUID.fromString(id);
-                } catch (IllegalArgumentException e) {
-                    log.warn("Invalid tryId format in baggage: {}", id);
-                    return null;
-                }
-            }
-        } catch (Exception e) {
-            // OpenTelemetry Baggage not available
+        return getTryId(Context.current());
+    }
+
+    /**
+     * Retrieve the try session ID from the given context.
+     *
+     * @param context the OpenTelemetry context to read from
+     * @return the `UUID` of the try session if present and valid, `null` otherwise
+     */
+    public static UUID getTryId(Context context) {
+        if (context == null) {
             return null;
         }
-        return null;
+        UUID tryId = context.get(TRY_ID_KEY);
+        if (tryId != null) {
+            return tryId;
+        }
+        return getTryIdFromBaggage(context);
     }
-    
+
     /**
      * Checks if there is a tryId in the current context.
      * <p>
-     * Determines whether a tryId is currently set in OpenTelemetry Baggage.
+     * For regular (non-Try) traffic this is a context lookup without any string handling.
      *
      * @return true if tryId is set, false otherwise
      */
     public static boolean hasTryId() {
-        return getTryId() != null;
+        return getTryId(Context.current()) != null;
+    }
+
+    /**
+     * Checks if there is a tryId in the given context.
+     *
+     * @param context the OpenTelemetry context to check
+     * @return true if tryId is set, false otherwise
+     */
+    public static boolean hasTryId(Context context) {
+        return getTryId(context) != null;
+    }
+
+    private static UUID getTryIdFromBaggage(Context context) {
+        Baggage baggage = Baggage.fromContextOrNull(context);
+        if (baggage == null) {
+            return null;
+        }
+        String id = baggage.getEntryValue(BAGGAGE_KEY);
+        if (id == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid tryId format in baggage: {}", id);
+            return null;
+        }
     }
     
     /**
@@ -6,7 +6,7 @@
  * <p>
  * <b>Components:</b>
  * <ul>
- *   <li>{@link kr.co.ouroboros.core.rest.tryit.infrastructure.instrumentation.context.TryContext} - Utility for managing tryId in OpenTelemetry Baggage</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.infrastructure.instrumentation.context.TryContext} - Utility for managing tryId in OpenTelemetry Baggage and a dedicated context key</li>
  * </ul>
  *
  * @since 0.0.1
@@ -7,33 +7,31 @@ import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.opentelemetry.sdk.trace.samplers.SamplingResult;
 import kr.co.ouroboros.core.rest.tryit.infrastructure.instrumentation.context.TryContext;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
-import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 
 /**
  * OpenTelemetry Sampler that only samples spans for Try requests.
  * <p>
- * This sampler checks if the current request has the X-Ouroboros-Try: on header
- * and only samples those spans. Non-Try requests are dropped, preventing span creation entirely.
- * <p>
- * <b>Behavior:</b>
+ * The Try decision is made once per request at the entry point and carried in the
+ * OpenTelemetry {@link Context}:
  * <ul>
- *   <li>If X-Ouroboros-Try header equals "on" → RECORD_AND_SAMPLE (create span)</li>
- *   <li>If header is missing or not "on" → DROP (no span created, no Tempo export)</li>
- *   <li>Fallback: If no HTTP request context, checks TryContext.hasTryId() (for internal spans)</li>
+ *   <li>HTTP: {@link kr.co.ouroboros.core.rest.tryit.identification.TryFilter} checks the
+ *       X-Ouroboros-Try header and sets the tryId via {@link TryContext}</li>
+ *   <li>STOMP: {@code TryStompChannelInterceptor} does the same for inbound frames</li>
  * </ul>
+ * The sampler itself only checks the context, so the cost per span is constant and does not
+ * depend on request depth (method spans, JDBC spans, HTTP client spans).
  * <p>
- * <b>Why check header directly instead of TryContext?</b>
+ * <b>Behavior:</b>
  * <ul>
- *   <li>Sampler may execute BEFORE TryFilter sets the tryId in TryContext</li>
- *   <li>HTTP span creation happens during OpenTelemetry's ServerHttpObservationFilter</li>
- *   <li>Direct header check ensures accurate sampling decision at the earliest moment</li>
+ *   <li>If the parent context or the current context carries a tryId → RECORD_AND_SAMPLE (create span)</li>
+ *   <li>Otherwise → DROP (no span created, no Tempo export)</li>
  * </ul>
  * <p>
+ * TryFilter runs with highest precedence, before the observation filter that creates the
+ * HTTP server span, so the tryId is already in the context when the root span is sampled.
+ * <p>
  * <b>Why Sampler instead of SpanProcessor?</b>
  * <ul>
  *   <li>Sampler runs BEFORE span creation - can prevent span creation entirely</li>
@@ -46,14 +44,13 @@ import java.util.List;
  * @author Ouroboros Team
  * @since 0.0.1
  */
-@Slf4j
 public class TryOnlySampler implements Sampler {
 
-    private static final String HEADER_NAME = "X-Ouroboros-Try";
-    private static final String TRY_VALUE = "on";
-
     /**
-     * Determines if a span should be sampled by checking the X-Ouroboros-Try HTTP header and, when no HTTP context is available, falling back to TryContext.
+     * Determines if a span should be sampled by checking for a tryId in the OpenTelemetry context.
+     * <p>
+     * The parent context is checked first. The current context is checked as well because some
+     * span builders start root spans with an explicit empty parent while the Try scope is active.
      *
      * @param parentContext the parent context that may contain a parent span
      * @param traceId the trace identifier
@@ -70,53 +67,19 @@ public class TryOnlySampler implements Sampler {
                                        SpanKind spanKind,
                                        Attributes attributes,
                                        List<LinkData> parentLinks) {
-
-        log.debug("shouldSample called for span: {}", name);
-        boolean isTryRequest = false;
-
-        // Priority 1: Check HTTP header directly (for HTTP spans)
-        try {
-            ServletRequestAttributes attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            log.debug("RequestContextHolder attributes: {}", attrs != null ? "present" : "null");
-
-            if (attrs != null) {
-                HttpServletRequest request = attrs.getRequest();
-                String tryHeader = request.getHeader(HEADER_NAME);
-                log.debug("X-Ouroboros-Try header value: {}", tryHeader);
-                isTryRequest = TRY_VALUE.equalsIgnoreCase(tryHeader);
-
-                if (isTryRequest) {
-                    log.debug("Try request detected via header - sampling span: {}", name);
-                } else {
-                    log.trace("Non-Try request (header check) - dropping span: {}", name);
-                }
-
-                return isTryRequest ? SamplingResult.recordAndSample() : SamplingResult.drop();
-            }
-        } catch (Exception e) {
-            log.trace("Exception checking HTTP request context: {}", e.getMessage());
-        }
-
-        // Priority 2: Fallback to TryContext (for internal/child spans)
-        isTryRequest = TryContext.hasTryId();
-        log.trace("TryContext.hasTryId(): {}", isTryRequest);
-
-        if (isTryRequest) {
-            log.debug("Try request detected via TryContext - sampling span: {}", name);
+        if (TryContext.hasTryId(parentContext) || TryContext.hasTryId()) {
             return SamplingResult.recordAndSample();
-        } else {
-            log.trace("Non-Try request (TryContext check) - dropping span: {}", name);
-            return SamplingResult.drop();
         }
+        return SamplingResult.drop();
     }
 
     /**
-     * Identifies this sampler as one that samples only Try requests via the X-Ouroboros-Try header.
+     * Identifies this sampler as one that samples only Try requests via the Try context.
      *
-     * @return the description string indicating the sampler samples only Try requests via the X-Ouroboros-Try header
+     * @return the description string indicating the sampler samples only Try requests
      */
     @Override
     public String getDescription() {
-        return "TryOnlySampler{samples only Try requests via X-Ouroboros-Try header}";
+        return "TryOnlySampler{samples only Try requests via Try context}";
     }
-}
\ No newline at end of file
+}
@@ -18,12 +18,11 @@
  * <p>
  * <b>How TryOnlySampler Works:</b>
  * <ol>
- *   <li>HTTP request arrives</li>
- *   <li>Sampler.shouldSample() called (before TryFilter)</li>
- *   <li>Checks X-Ouroboros-Try header directly</li>
- *   <li>If "on" → RECORD_AND_SAMPLE (creates span)</li>
- *   <li>If missing → DROP (no span created, no Tempo storage)</li>
- *   <li>Fallback: Checks TryContext for internal spans</li>
+ *   <li>HTTP request arrives, TryFilter (highest precedence) checks X-Ouroboros-Try once</li>
+ *   <li>If "on" → tryId is stored in the OpenTelemetry Context via TryContext</li>
+ *   <li>Sampler.shouldSample() is called for every span and only checks the context</li>
+ *   <li>tryId present → RECORD_AND_SAMPLE (creates span)</li>
+ *   <li>tryId missing → DROP (no span created, no Tempo storage)</li>
  * </ol>
  * <p>
  * <b>Configuration:</b>
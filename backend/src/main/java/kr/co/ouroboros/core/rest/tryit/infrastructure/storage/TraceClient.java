@@ -1,5 +1,9 @@
 package kr.co.ouroboros.core.rest.tryit.infrastructure.storage;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -13,6 +17,7 @@ import java.util.List;
  *   <li>Query traces by tryId or TraceQL</li>
  *   <li>Poll for trace availability with timeout</li>
  *   <li>Fetch trace data by trace ID</li>
+ *   <li>Stream trace data by trace ID to a reader</li>
  *   <li>Check if the storage backend is enabled and available</li>
  * </ul>
  * <p>
@@ -55,6 +60,29 @@ public interface TraceClient {
      */
     String getTrace(String traceId);
     
+    /**
+     * Fetch the trace for the specified trace ID and hand its payload stream to the given reader.
+     * <p>
+     * Unlike {@link #getTrace(String)}, implementations backed by a remote service should pass the
+     * response body stream directly to the reader so the payload is never buffered as a {@code String}.
+     * The default implementation wraps the result of {@link #getTrace(String)}.
+     *
+     * @param traceId the trace ID to fetch
+     * @param reader  reader consuming the trace payload (typically JSON)
+     * @param <T>     result type produced by the reader
+     * @return the reader's result, or {@code null} if no trace was found
+     * @throws IOException if the reader fails to consume the payload
+     */
+    default <T> T readTrace(String traceId, TraceBodyReader<T> reader) throws IOException {
+        String traceData = getTrace(traceId);
+        if (traceData == null) {
+            return null;
+        }
+        try (InputStream body = new ByteArrayInputStream(traceData.getBytes(StandardCharsets.UTF_8))) {
+            return reader.read(body);
+        }
+    }
+    
     /**
      * Polls for traces matching the query until a trace is found or a timeout is reached.
      * <p>
@@ -72,5 +100,22 @@ public interface TraceClient {
      * @return `true` if the storage backend is configured and available, `false` otherwise
      */
     boolean isEnabled();
+    
+    /**
+     * Callback that consumes a trace payload stream.
+     *
+     * @param <T> result type
+     */
+    @FunctionalInterface
+    interface TraceBodyReader<T> {
+        
+        /**
+         * Reads the trace payload.
+         *
+         * @param body trace payload stream; closed by the caller
+         * @return the read result
+         * @throws IOException if reading fails
+         */
+        T read(InputStream body) throws IOException;
+    }
 }
-
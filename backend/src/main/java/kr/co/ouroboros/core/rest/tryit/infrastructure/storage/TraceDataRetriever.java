@@ -1,11 +1,11 @@
 package kr.co.ouroboros.core.rest.tryit.infrastructure.storage;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.model.TraceDTO;
-import kr.co.ouroboros.core.rest.tryit.trace.converter.TraceSpanConverter;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.tempo.cache.TempoTraceCache;
+import kr.co.ouroboros.core.rest.tryit.trace.converter.TraceSpanStreamDecoder;
 import kr.co.ouroboros.core.rest.tryit.trace.dto.TraceSpanInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -21,9 +21,9 @@ import java.util.Optional;
  * <b>Features:</b>
  * <ul>
  *   <li>Trace querying by tryId</li>
- *   <li>Trace data parsing from JSON</li>
- *   <li>TraceDTO to TraceSpanInfo conversion</li>
+ *   <li>Streaming decode of trace JSON directly into TraceSpanInfo</li>
  *   <li>Trace client enabled check</li>
+ *   <li>Cached traceId and span lookups when Tempo is enabled ({@link TempoTraceCache})</li>
  * </ul>
  *
  * @author Ouroboros Team
@@ -35,8 +35,8 @@ import java.util.Optional;
 public class TraceDataRetriever {
     
     private final TraceClient traceClient;
-    private final ObjectMapper objectMapper;
-    private final TraceSpanConverter traceSpanConverter;
+    private final TraceSpanStreamDecoder traceSpanStreamDecoder;
+    private final ObjectProvider<TempoTraceCache> traceCacheProvider;
     
     /**
      * Checks if the trace client is enabled.
@@ -53,10 +53,12 @@ public class TraceDataRetriever {
      * This method performs the following steps:
      * <ol>
      *   <li>Queries for trace with the given tryId</li>
-     *   <li>Fetches trace data from storage</li>
-     *   <li>Parses trace data from JSON</li>
-     *   <li>Converts TraceDTO to TraceSpanInfo list</li>
+     *   <li>Streams trace data from storage</li>
+     *   <li>Decodes the stream directly into a TraceSpanInfo list</li>
      * </ol>
+     * <p>
+     * When a {@link TempoTraceCache} is available, the traceId and parsed spans are
+     * served from the cache and the search/fetch steps are skipped on a hit.
      *
      * @param tryIdStr Try session ID as a UUID string
      * @return Optional containing TraceDataResult with traceId and spans if found, empty otherwise
@@ -69,29 +71,39 @@ public class TraceDataRetriever {
             return Optional.empty();
         }
         
+        TempoTraceCache cache = traceCacheProvider.getIfAvailable();
+        
         try {
             // Query for trace with this tryId
-            String query = String.format("{ span.ouro.try_id = \"%s\" }", tryIdStr);
-            String traceId = traceClient.pollForTrace(query);
-            
+            String traceId = cache != null ? cache.getTraceId(tryIdStr) : null;
             if (traceId == null) {
-                log.debug("Trace not found for tryId: {}", tryIdStr);
-                return Optional.empty();
+                String query = String.format("{ span.ouro.try_id = \"%s\" }", tryIdStr);
+                traceId = traceClient.pollForTrace(query);
+                
+                if (traceId == null) {
+                    log.debug("Trace not found for tryId: {}", tryIdStr);
+                    return Optional.empty();
+                }
+                if (cache != null) {
+                    cache.putTraceId(tryIdStr, traceId);
+                }
             }
             
-            // Fetch trace data
-            String traceDataJson = traceClient.getTrace(traceId);
+            List<TraceSpanInfo> cachedSpans = cache != null ? cache.getSpans(traceId) : null;
+            if (cachedSpans != null) {
+                return Optional.of(new TraceDataResult(traceId, cachedSpans));
+            }
             
-            if (traceDataJson == null) {
+            // Fetch and decode trace data without buffering the payload
+            List<TraceSpanInfo> spans = traceClient.readTrace(traceId, traceSpanStreamDecoder::decode);
+            
+            if (spans == null) {
                 log.warn("Trace data is null for traceId: {}", traceId);
                 return Optional.empty();
             }
-            
-            // Parse trace data
-            TraceDTO traceData = objectMapper.readValue(traceDataJson, TraceDTO.class);
-            
-            // Convert to TraceSpanInfo
-            List<TraceSpanInfo> spans = traceSpanConverter.convert(traceData);
+            if (cache != null) {
+                cache.putSpans(traceId, spans);
+            }
             
             return Optional.of(new TraceDataResult(traceId, spans));
             
@@ -101,6 +113,20 @@ public class TraceDataRetriever {
         }
     }
     
+    /**
+     * Drops cached trace data for the given tryId.
+     * <p>
+     * Does nothing when no {@link TempoTraceCache} is available.
+     *
+     * @param tryIdStr Try session ID as a UUID string
+     */
+    public void invalidate(String tryIdStr) {
+        TempoTraceCache cache = traceCacheProvider.getIfAvailable();
+        if (cache != null) {
+            cache.invalidate(tryIdStr);
+        }
+    }
+    
     /**
      * Result class containing trace ID and converted spans.
      */
@@ -3,6 +3,8 @@ package kr.co.ouroboros.core.rest.tryit.infrastructure.storage;
 import io.opentelemetry.sdk.trace.ReadableSpan;
 import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.model.TraceDTO;
 
+import java.util.List;
+
 /**
  * Common interface for trace storage backends.
  * <p>
@@ -11,7 +13,7 @@ import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.model.TraceDTO;
  * <p>
  * <b>Responsibilities:</b>
  * <ul>
- *   <li>Store spans for a given tryId</li>
+ *   <li>Store spans for a given tryId (recorded locally or received from other services)</li>
  *   <li>Retrieve trace data by tryId or traceId</li>
  *   <li>Check if a trace exists</li>
  * </ul>
@@ -19,6 +21,7 @@ import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.model.TraceDTO;
  * <b>Implementations:</b>
  * <ul>
  *   <li>{@link kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.InMemoryTraceStorage} - In-memory storage</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.infrastructure.storage.disk.DiskTraceStorage} - Disk storage (segment files)</li>
  *   <li>Future: DatabaseTraceStorage - Database storage</li>
  * </ul>
  *
@@ -37,6 +40,30 @@ public interface TraceStorage {
      */
     void addSpan(ReadableSpan span);
     
+    /**
+     * Adds a batch of spans that all belong to the given tryId.
+     * <p>
+     * Used by the asynchronous span ingest buffer. Implementations can override this to
+     * look up the try and publish the spans once per batch instead of once per span.
+     *
+     * @param tryId The try ID all spans belong to
+     * @param spans The spans to store
+     */
+    default void addSpans(String tryId, List<ReadableSpan> spans) {
+        spans.forEach(this::addSpan);
+    }
+    
+    /**
+     * Adds a span received from another service to the storage for the given tryId.
+     * <p>
+     * Used by the embedded OTLP receiver. The span is stored next to the spans
+     * recorded in this JVM, so the stored trace covers every service of the try.
+     *
+     * @param tryId The try ID the span belongs to
+     * @param span  The received span
+     */
+    void addSpan(String tryId, TraceDTO.SpanDTO span);
+    
     /**
      * Retrieves trace data by tryId.
      *
@@ -69,6 +96,14 @@ public interface TraceStorage {
      */
     String getTraceId(String tryId);
     
+    /**
+     * Gets the tryId for a given trace ID.
+     *
+     * @param traceId The trace ID to look up
+     * @return Try ID if found, null otherwise
+     */
+    String getTryId(String traceId);
+    
     /**
      * Deletes trace data for the given tryId.
      *
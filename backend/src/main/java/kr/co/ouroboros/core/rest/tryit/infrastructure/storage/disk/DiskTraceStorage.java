@@ -0,0 +1,528 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.disk;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import kr.co.ouroboros.core.rest.tryit.config.properties.TraceDiskProperties;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceStorage;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.model.TraceDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Disk-backed implementation of TraceStorage interface.
+ * <p>
+ * Appends compact binary span records ({@link SpanRecordCodec}) to rolling segment
+ * files and reads them back through memory-mapped I/O, so stored tries survive
+ * restarts and do not occupy the heap. Only a small index is kept in memory:
+ * tryId to the traceId and the (segment, offset) location of each of its spans.
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ *   <li>Rolling segments of {@code ouroboros.trace-disk.segment-size-mb}</li>
+ *   <li>Index rebuilt on startup by scanning record headers; a record torn by a crash is truncated</li>
+ *   <li>Deletes are persisted as tombstone records</li>
+ *   <li>Retention by total size and age; whole segments are dropped together with every try they contain</li>
+ * </ul>
+ * <p>
+ * Enabled with {@code ouroboros.trace-disk.enabled=true}; it then replaces
+ * {@link kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.InMemoryTraceStorage}
+ * as the primary {@link TraceStorage} used by the in-memory span processor and trace client
+ * (Tempo disabled).
+ * <p>
+ * Retention is checked on startup, before the first write after a segment is rolled, and at
+ * most once a minute before writes.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@Component
+@Primary
+@ConditionalOnProperty(name = "ouroboros.trace-disk.enabled", havingValue = "true")
+public class DiskTraceStorage implements TraceStorage, DisposableBean {
+    
+    private static final AttributeKey<String> TRY_ID_ATTRIBUTE = AttributeKey.stringKey("ouro.try_id");
+    
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+    private static final long MAX_SEGMENT_BYTES = 1024L * BYTES_PER_MB;
+    private static final long RETENTION_CHECK_INTERVAL_MILLIS = 60_000L;
+    
+    private final Path directory;
+    private final long segmentSizeBytes;
+    private final long maxTotalBytes;
+    private final long retentionMillis;
+    private final LongSupplier clock;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    /**
+     * Segments by id, oldest first. The last one is the active segment.
+     */
+    private final NavigableMap<Integer, TraceSegment> segments = new TreeMap<>();
+    
+    /**
+     * Index: tryId -> traceId and span record locations
+     */
+    private final Map<String, TryEntry> index = new HashMap<>();
+    
+    /**
+     * Mapping: traceId -> tryId (for reverse lookup)
+     */
+    private final Map<String, String> traceIdToTryId = new HashMap<>();
+    
+    private TraceSegment active;
+    private long totalBytes;
+    private long lastRetentionCheckMillis;
+    private boolean retentionDue;
+    
+    /**
+     * Opens (or creates) the archive in the configured directory and rebuilds the index.
+     *
+     * @param properties disk archive configuration properties
+     */
+    public DiskTraceStorage(TraceDiskProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+    
+    /**
+     * Opens the archive with an explicit clock.
+     *
+     * @param properties disk archive configuration properties
+     * @param clock      wall clock in milliseconds, used for retention
+     */
+    DiskTraceStorage(TraceDiskProperties properties, LongSupplier clock) {
+        this.directory = Paths.get(properties.getDirectory());
+        this.segmentSizeBytes = Math.min(MAX_SEGMENT_BYTES, Math.max(1L, properties.getSegmentSizeMb()) * BYTES_PER_MB);
+        this.maxTotalBytes = Math.max(1L, properties.getMaxTotalSizeMb()) * BYTES_PER_MB;
+        this.retentionMillis = Math.max(1L, properties.getRetentionHours()) * 3_600_000L;
+        this.clock = clock;
+        try {
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open trace archive at " + directory.toAbsolutePath(), e);
+        }
+    }
+    
+    /**
+     * Appends the span to the active segment and indexes it by tryId.
+     * <p>
+     * Spans without a tryId attribute are ignored. I/O failures are logged and the span is dropped.
+     *
+     * @param span The span to store
+     */
+    @Override
+    public void addSpan(ReadableSpan span) {
+        String tryId = span.getAttribute(TRY_ID_ATTRIBUTE);
+        if (tryId == null) {
+            log.debug("Span does not have tryId attribute, skipping");
+            return;
+        }
+        store(tryId, span.getSpanContext().getTraceId(), span.getSpanContext().getSpanId(),
+                SpanRecordCodec.encodeSpan(tryId, span));
+    }
+    
+    /**
+     * Appends a batch of spans of one try under a single lock acquisition.
+     *
+     * @param tryId The try ID all spans belong to
+     * @param spans The spans to store
+     */
+    @Override
+    public void addSpans(String tryId, List<ReadableSpan> spans) {
+        if (tryId == null || spans.isEmpty()) {
+            return;
+        }
+        List<byte[]> records = new ArrayList<>(spans.size());
+        for (ReadableSpan span : spans) {
+            records.add(SpanRecordCodec.encodeSpan(tryId, span));
+        }
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < records.size(); i++) {
+                ReadableSpan span = spans.get(i);
+                store(tryId, span.getSpanContext().getTraceId(), span.getSpanContext().getSpanId(), records.get(i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Appends a span received from another service and indexes it by tryId.
+     *
+     * @param tryId The try ID the span belongs to
+     * @param span  The received span
+     */
+    @Override
+    public void addSpan(String tryId, TraceDTO.SpanDTO span) {
+        store(tryId, span.getTraceId(), span.getSpanId(), SpanRecordCodec.encodeSpan(tryId, span));
+    }
+    
+    /**
+     * Retrieves trace data by tryId, decoding its spans from the mapped segments.
+     *
+     * @param tryId The try ID to look up
+     * @return TraceDTO if found, null otherwise
+     */
+    @Override
+    public TraceDTO getTraceByTryId(String tryId) {
+        lock.readLock().lock();
+        try {
+            TryEntry entry = index.get(tryId);
+            if (entry == null) {
+                return null;
+            }
+            List<TraceDTO.SpanDTO> spans = new ArrayList<>(entry.size);
+            for (int i = 0; i < entry.size; i++) {
+                long location = entry.locations[i];
+                TraceSegment segment = segments.get(segmentId(location));
+                if (segment == null) {
+                    continue;
+                }
+                ByteBuffer payload = segment.payloadAt(offset(location));
+                spans.add(SpanRecordCodec.decodeSpan(payload));
+            }
+            return toTraceDTO(spans);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to read trace from archive: tryId={}", tryId, e);
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Retrieves trace data by traceId.
+     *
+     * @param traceId The trace ID to look up
+     * @return TraceDTO if found, null otherwise
+     */
+    @Override
+    public TraceDTO getTraceByTraceId(String traceId) {
+        String tryId;
+        lock.readLock().lock();
+        try {
+            tryId = traceIdToTryId.get(traceId);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return tryId != null ? getTraceByTryId(tryId) : null;
+    }
+    
+    /**
+     * Checks if a trace exists for the given tryId.
+     *
+     * @param tryId The try ID to check
+     * @return true if trace exists, false otherwise
+     */
+    @Override
+    public boolean hasTrace(String tryId) {
+        lock.readLock().lock();
+        try {
+            return index.containsKey(tryId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Gets the trace ID for a given tryId.
+     *
+     * @param tryId The try ID to look up
+     * @return Trace ID if found, null otherwise
+     */
+    @Override
+    public String getTraceId(String tryId) {
+        lock.readLock().lock();
+        try {
+            TryEntry entry = index.get(tryId);
+            return entry != null ? entry.traceId : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Gets the tryId for a given trace ID.
+     *
+     * @param traceId The trace ID to look up
+     * @return Try ID if found, null otherwise
+     */
+    @Override
+    public String getTryId(String traceId) {
+        lock.readLock().lock();
+        try {
+            return traceIdToTryId.get(traceId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Deletes trace data for the given tryId.
+     * <p>
+     * The try is removed from the index and a tombstone is appended so that it stays
+     * deleted after a restart. The span records are reclaimed when their segment expires.
+     *
+     * @param tryId The try ID to delete
+     * @return true if trace was found and deleted, false otherwise
+     */
+    @Override
+    public boolean deleteTraceByTryId(String tryId) {
+        lock.writeLock().lock();
+        try {
+            if (!removeTry(tryId)) {
+                log.debug("Trace not found for deletion: tryId={}", tryId);
+                return false;
+            }
+            log.info("Deleted trace from disk storage: tryId={}", tryId);
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to persist deletion of tryId={}; it may reappear after restart", tryId, e);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Flushes and closes all segment files.
+     */
+    @Override
+    public void destroy() {
+        lock.writeLock().lock();
+        try {
+            for (TraceSegment segment : segments.values()) {
+                try {
+                    segment.force();
+                    segment.close();
+                } catch (IOException e) {
+                    log.warn("Failed to close trace segment {}", segment.getId(), e);
+                }
+            }
+            log.info("Closed trace archive: {} tries in {} segments", index.size(), segments.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void store(String tryId, String traceId, String spanId, byte[] record) {
+        lock.writeLock().lock();
+        try {
+            maybeEnforceRetention();
+            long offset = append(record);
+            index.computeIfAbsent(tryId, k -> new TryEntry(traceId)).add(location(active.getId(), offset));
+            active.getTryIds().add(tryId);
+            traceIdToTryId.put(traceId, tryId);
+        } catch (IOException e) {
+            log.warn("Failed to append span to trace archive: tryId={}, spanId={}", tryId, spanId, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Opens existing segments in id order, rebuilds the index and starts the active segment.
+     */
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> TraceSegment.parseId(path) >= 0)
+                    .sorted((a, b) -> Integer.compare(TraceSegment.parseId(a), TraceSegment.parseId(b)))
+                    .toList();
+        }
+        for (Path file : files) {
+            TraceSegment segment = TraceSegment.open(file, TraceSegment.parseId(file));
+            scan(segment);
+            segments.put(segment.getId(), segment);
+            totalBytes += segment.getSize();
+        }
+        
+        TraceSegment last = segments.isEmpty() ? null : segments.lastEntry().getValue();
+        if (last == null || last.getSize() >= segmentSizeBytes) {
+            roll();
+        } else {
+            active = last;
+        }
+        enforceRetention();
+        log.info("Opened trace archive at {}: {} tries in {} segments ({} bytes)",
+                directory.toAbsolutePath(), index.size(), segments.size(), totalBytes);
+    }
+    
+    /**
+     * Indexes all valid records of a segment, truncating it at the first torn or corrupt record.
+     */
+    private void scan(TraceSegment segment) throws IOException {
+        long size = segment.getSize();
+        ByteBuffer buffer = segment.mapping(size);
+        long position = 0;
+        while (position + SpanRecordCodec.HEADER_BYTES <= size) {
+            int length = buffer.getInt((int) position);
+            int checksum = buffer.getInt((int) position + 4);
+            if (length <= 0 || position + SpanRecordCodec.HEADER_BYTES + length > size) {
+                break;
+            }
+            ByteBuffer payload = buffer.slice((int) position + SpanRecordCodec.HEADER_BYTES, length);
+            if (SpanRecordCodec.checksum(payload) != checksum) {
+                break;
+            }
+            SpanRecordCodec.RecordKey key = SpanRecordCodec.readKey(payload);
+            if (key.type() == SpanRecordCodec.TYPE_SPAN) {
+                index.computeIfAbsent(key.tryId(), k -> new TryEntry(key.traceId()))
+                        .add(location(segment.getId(), position));
+                traceIdToTryId.put(key.traceId(), key.tryId());
+                segment.getTryIds().add(key.tryId());
+            } else if (key.type() == SpanRecordCodec.TYPE_DELETE) {
+                TryEntry removed = index.remove(key.tryId());
+                if (removed != null) {
+                    traceIdToTryId.remove(removed.traceId);
+                }
+            }
+            position += SpanRecordCodec.HEADER_BYTES + length;
+        }
+        if (position < size) {
+            log.warn("Truncating trace segment {} at {} of {} bytes (torn or corrupt record)",
+                    segment.getId(), position, size);
+            segment.truncate(position);
+        }
+    }
+    
+    private long append(byte[] record) throws IOException {
+        if (active.getSize() > 0 && active.getSize() + record.length > segmentSizeBytes) {
+            roll();
+        }
+        long offset = active.append(record, clock.getAsLong());
+        totalBytes += record.length;
+        return offset;
+    }
+    
+    private void roll() throws IOException {
+        int nextId = segments.isEmpty() ? 0 : segments.lastKey() + 1;
+        active = TraceSegment.create(directory, nextId, clock.getAsLong());
+        segments.put(nextId, active);
+        retentionDue = true;
+        log.debug("Started trace segment {}", nextId);
+    }
+    
+    private void maybeEnforceRetention() throws IOException {
+        if (retentionDue || clock.getAsLong() - lastRetentionCheckMillis >= RETENTION_CHECK_INTERVAL_MILLIS) {
+            enforceRetention();
+        }
+    }
+    
+    /**
+     * Deletes the oldest segments while the archive is over its size limit or the segments
+     * are older than the retention period. Every try with a record in a deleted segment is
+     * removed (a partial trace is not useful).
+     */
+    private void enforceRetention() throws IOException {
+        long now = clock.getAsLong();
+        lastRetentionCheckMillis = now;
+        retentionDue = false;
+        if (active.getSize() > 0 && now - active.getLastWriteMillis() > retentionMillis) {
+            roll();
+        }
+        while (segments.size() > 1) {
+            TraceSegment oldest = segments.firstEntry().getValue();
+            boolean overSize = totalBytes > maxTotalBytes;
+            boolean expired = now - oldest.getLastWriteMillis() > retentionMillis;
+            if (!overSize && !expired) {
+                break;
+            }
+            segments.remove(oldest.getId());
+            totalBytes -= oldest.getSize();
+            int removedTries = 0;
+            for (String tryId : oldest.getTryIds()) {
+                if (removeTry(tryId)) {
+                    removedTries++;
+                }
+            }
+            try {
+                oldest.delete();
+            } catch (IOException e) {
+                log.warn("Failed to delete trace segment {}", oldest.getId(), e);
+            }
+            log.info("Removed trace segment {} ({}): {} tries dropped",
+                    oldest.getId(), overSize ? "size limit" : "retention", removedTries);
+        }
+    }
+    
+    /**
+     * Removes a try from the index and appends a tombstone.
+     *
+     * @return true if the try was indexed
+     */
+    private boolean removeTry(String tryId) throws IOException {
+        TryEntry entry = index.remove(tryId);
+        if (entry == null) {
+            return false;
+        }
+        traceIdToTryId.remove(entry.traceId);
+        append(SpanRecordCodec.encodeDelete(tryId));
+        return true;
+    }
+    
+    private TraceDTO toTraceDTO(List<TraceDTO.SpanDTO> spans) {
+        TraceDTO traceDTO = new TraceDTO();
+        TraceDTO.BatchDTO batch = new TraceDTO.BatchDTO();
+        TraceDTO.ScopeSpanDTO scopeSpan = new TraceDTO.ScopeSpanDTO();
+        scopeSpan.setSpans(spans);
+        batch.setScopeSpans(List.of(scopeSpan));
+        traceDTO.setBatches(List.of(batch));
+        return traceDTO;
+    }
+    
+    private static long location(int segmentId, long offset) {
+        return ((long) segmentId << 32) | offset;
+    }
+    
+    private static int segmentId(long location) {
+        return (int) (location >>> 32);
+    }
+    
+    private static long offset(long location) {
+        return location & 0xFFFF_FFFFL;
+    }
+    
+    /**
+     * Index entry of one try: its traceId and the packed (segment id, offset) of each span record.
+     */
+    private static final class TryEntry {
+        private final String traceId;
+        private long[] locations = new long[8];
+        private int size;
+        
+        private TryEntry(String traceId) {
+            this.traceId = traceId;
+        }
+        
+        private void add(long location) {
+            if (size == locations.length) {
+                locations = Arrays.copyOf(locations, size * 2);
+            }
+            locations[size++] = location;
+        }
+    }
+}
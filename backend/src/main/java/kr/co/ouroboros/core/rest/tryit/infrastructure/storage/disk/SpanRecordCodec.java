@@ -0,0 +1,283 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.disk;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.model.TraceDTO;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Binary codec for records stored in trace segment files.
+ * <p>
+ * <b>Record layout</b> (big-endian):
+ * <pre>
+ * int    payload length
+ * int    CRC32 of the payload
+ * byte   record type (SPAN or DELETE)
+ * string tryId
+ * -- SPAN only --
+ * string traceId, spanId, parentSpanId (nullable), name
+ * byte   span kind ordinal
+ * long   start epoch nanos, end epoch nanos
+ * int    attribute count, then per attribute: string key, byte value type, value
+ * </pre>
+ * Strings are an int byte length ({@code -1} for null) followed by UTF-8 bytes.
+ * The checksum lets recovery detect a record torn by a crash.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+final class SpanRecordCodec {
+
+    /**
+     * Size of the length and checksum header preceding each payload.
+     */
+    static final int HEADER_BYTES = 8;
+
+    static final byte TYPE_SPAN = 1;
+    static final byte TYPE_DELETE = 2;
+
+    private static final byte VALUE_STRING = 0;
+    private static final byte VALUE_LONG = 1;
+    private static final byte VALUE_DOUBLE = 2;
+    private static final byte VALUE_BOOLEAN = 3;
+
+    private static final SpanKind[] SPAN_KINDS = SpanKind.values();
+
+    private SpanRecordCodec() {
+    }
+
+    /**
+     * Encodes a span record including its header.
+     *
+     * @param tryId try ID the span belongs to
+     * @param span  ended span
+     * @return record bytes
+     */
+    static byte[] encodeSpan(String tryId, ReadableSpan span) {
+        SpanData data = span.toSpanData();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeByte(TYPE_SPAN);
+            writeString(out, tryId);
+            writeString(out, span.getSpanContext().getTraceId());
+            writeString(out, span.getSpanContext().getSpanId());
+            writeString(out, span.getParentSpanContext().isValid() ? span.getParentSpanContext().getSpanId() : null);
+            writeString(out, span.getName());
+            out.writeByte(span.getKind() != null ? span.getKind().ordinal() : SpanKind.INTERNAL.ordinal());
+            out.writeLong(data.getStartEpochNanos());
+            out.writeLong(data.getEndEpochNanos());
+            out.writeInt(data.getAttributes().size());
+            data.getAttributes().forEach((key, value) -> writeAttribute(out, key.getKey(), value));
+        } catch (IOException e) {
+            // ByteArrayOutputStream does not throw
+            throw new UncheckedIOException(e);
+        }
+        return withHeader(bytes.toByteArray());
+    }
+
+    /**
+     * Encodes a span received from another service including its header.
+     *
+     * @param tryId try ID the span belongs to
+     * @param span  received span
+     * @return record bytes
+     */
+    static byte[] encodeSpan(String tryId, TraceDTO.SpanDTO span) {
+        List<TraceDTO.AttributeDTO> attributes = span.getAttributes() != null ? span.getAttributes() : List.of();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeByte(TYPE_SPAN);
+            writeString(out, tryId);
+            writeString(out, span.getTraceId());
+            writeString(out, span.getSpanId());
+            writeString(out, span.getParentSpanId());
+            writeString(out, span.getName());
+            out.writeByte(kindOrdinal(span.getKind()));
+            out.writeLong(span.getStartTimeUnixNano() != null ? span.getStartTimeUnixNano() : 0L);
+            out.writeLong(span.getEndTimeUnixNano() != null ? span.getEndTimeUnixNano() : 0L);
+            out.writeInt(attributes.size());
+            for (TraceDTO.AttributeDTO attribute : attributes) {
+                TraceDTO.ValueDTO value = attribute.getValue();
+                writeAttribute(out, attribute.getKey(), value == null ? null
+                        : value.getIntValue() != null ? value.getIntValue()
+                        : value.getDoubleValue() != null ? value.getDoubleValue()
+                        : value.getBoolValue() != null ? (Object) value.getBoolValue()
+                        : value.getStringValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return withHeader(bytes.toByteArray());
+    }
+
+    /**
+     * Encodes a delete record (tombstone) including its header.
+     *
+     * @param tryId deleted try ID
+     * @return record bytes
+     */
+    static byte[] encodeDelete(String tryId) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeByte(TYPE_DELETE);
+            writeString(out, tryId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return withHeader(bytes.toByteArray());
+    }
+
+    /**
+     * Computes the checksum of a payload without moving its position.
+     *
+     * @param payload record payload
+     * @return CRC32 value truncated to int
+     */
+    static int checksum(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Reads the type and keys of a record without decoding the span body.
+     *
+     * @param payload record payload
+     * @return record type, tryId and (for span records) traceId
+     */
+    static RecordKey readKey(ByteBuffer payload) {
+        ByteBuffer in = payload.duplicate();
+        byte type = in.get();
+        String tryId = readString(in);
+        String traceId = type == TYPE_SPAN ? readString(in) : null;
+        return new RecordKey(type, tryId, traceId);
+    }
+
+    /**
+     * Decodes a span record payload.
+     *
+     * @param payload record payload of a SPAN record
+     * @return span in the TraceDTO layout used by the in-memory storage
+     */
+    static TraceDTO.SpanDTO decodeSpan(ByteBuffer payload) {
+        ByteBuffer in = payload.duplicate();
+        in.get();
+        readString(in);
+
+        TraceDTO.SpanDTO span = new TraceDTO.SpanDTO();
+        span.setTraceId(readString(in));
+        span.setSpanId(readString(in));
+        span.setParentSpanId(readString(in));
+        span.setName(readString(in));
+        int kind = in.get();
+        span.setKind(kind >= 0 && kind < SPAN_KINDS.length ? "SPAN_KIND_" + SPAN_KINDS[kind].name() : "SPAN_KIND_UNSPECIFIED");
+        long start = in.getLong();
+        long end = in.getLong();
+        span.setStartTimeUnixNano(start);
+        span.setEndTimeUnixNano(end);
+        if (start != 0 && end != 0) {
+            span.setDurationNanos(end - start);
+        }
+
+        int attributeCount = in.getInt();
+        List<TraceDTO.AttributeDTO> attributes = new ArrayList<>(attributeCount);
+        for (int i = 0; i < attributeCount; i++) {
+            TraceDTO.AttributeDTO attribute = new TraceDTO.AttributeDTO();
+            attribute.setKey(readString(in));
+            TraceDTO.ValueDTO value = new TraceDTO.ValueDTO();
+            switch (in.get()) {
+                case VALUE_LONG -> value.setIntValue(in.getLong());
+                case VALUE_DOUBLE -> value.setDoubleValue(in.getDouble());
+                case VALUE_BOOLEAN -> value.setBoolValue(in.get() != 0);
+                default -> value.setStringValue(readString(in));
+            }
+            attribute.setValue(value);
+            attributes.add(attribute);
+        }
+        span.setAttributes(attributes);
+        return span;
+    }
+
+    private static int kindOrdinal(String kind) {
+        for (SpanKind candidate : SPAN_KINDS) {
+            if (("SPAN_KIND_" + candidate.name()).equals(kind)) {
+                return candidate.ordinal();
+            }
+        }
+        return SpanKind.INTERNAL.ordinal();
+    }
+
+    private static void writeAttribute(DataOutputStream out, String key, Object value) {
+        try {
+            writeString(out, key);
+            if (value instanceof Long longValue) {
+                out.writeByte(VALUE_LONG);
+                out.writeLong(longValue);
+            } else if (value instanceof Double doubleValue) {
+                out.writeByte(VALUE_DOUBLE);
+                out.writeDouble(doubleValue);
+            } else if (value instanceof Boolean booleanValue) {
+                out.writeByte(VALUE_BOOLEAN);
+                out.writeByte(booleanValue ? 1 : 0);
+            } else {
+                out.writeByte(VALUE_STRING);
+                // A missing value is stored as a null string, not as the text "null"
+                writeString(out, value != null ? value.toString() : null);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] withHeader(byte[] payload) {
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        record.putInt(payload.length);
+        record.putInt(checksum(ByteBuffer.wrap(payload)));
+        record.put(payload);
+        return record.array();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        // Mapped buffers have no backing array, so copy the bytes out
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Type and keys of a record.
+     *
+     * @param type    record type
+     * @param tryId   try ID
+     * @param traceId trace ID (span records only)
+     */
+    record RecordKey(byte type, String tryId, String traceId) {
+    }
+}
@@ -0,0 +1,196 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.disk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One segment file of the disk trace archive.
+ * <p>
+ * Records are appended with positional writes through a {@link FileChannel} and read
+ * back through a read-only memory mapping of the file. Only the active segment grows
+ * past its mapping: a read past the mapping remaps the file once it has at least doubled
+ * since the last mapping, and otherwise reads that record with a positional read. The
+ * file is remapped a logarithmic number of times as it grows, instead of on every
+ * read of a newly appended record.
+ * <p>
+ * Not thread-safe on its own; {@link DiskTraceStorage} guards appends, truncation and
+ * deletion with its write lock and reads with its read lock. Remapping is synchronized
+ * because concurrent readers may trigger it.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+final class TraceSegment {
+
+    private static final Pattern FILE_NAME = Pattern.compile("segment-(\\d{10})\\.seg");
+
+    private final int id;
+    private final Path path;
+    private final FileChannel channel;
+    private final Set<String> tryIds = new HashSet<>();
+    private long size;
+    private long lastWriteMillis;
+    private volatile MappedByteBuffer mapped;
+
+    private TraceSegment(int id, Path path, FileChannel channel, long size, long lastWriteMillis) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.size = size;
+        this.lastWriteMillis = lastWriteMillis;
+    }
+
+    /**
+     * Creates a new, empty segment file.
+     */
+    static TraceSegment create(Path directory, int id, long nowMillis) throws IOException {
+        Path path = directory.resolve(String.format("segment-%010d.seg", id));
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new TraceSegment(id, path, channel, 0L, nowMillis);
+    }
+
+    /**
+     * Opens an existing segment file.
+     */
+    static TraceSegment open(Path path, int id) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new TraceSegment(id, path, channel, channel.size(), Files.getLastModifiedTime(path).toMillis());
+    }
+
+    /**
+     * Parses the segment id from a segment file name.
+     *
+     * @return segment id, or -1 if the file is not a segment file
+     */
+    static int parseId(Path path) {
+        Matcher matcher = FILE_NAME.matcher(path.getFileName().toString());
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    /**
+     * Appends a record at the end of the segment.
+     *
+     * @return offset of the record
+     */
+    long append(byte[] record, long nowMillis) throws IOException {
+        long offset = size;
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, offset + buffer.position());
+        }
+        size += record.length;
+        lastWriteMillis = nowMillis;
+        return offset;
+    }
+
+    /**
+     * Returns the payload of the record at the given offset.
+     * <p>
+     * The payload is a slice of the mapping, or a heap copy read from the channel when
+     * the record lies in the unmapped tail of the file.
+     */
+    ByteBuffer payloadAt(long offset) throws IOException {
+        MappedByteBuffer current = mapped;
+        long mappedBytes = current != null ? current.capacity() : 0L;
+        if (offset + SpanRecordCodec.HEADER_BYTES > mappedBytes && size >= 2 * mappedBytes) {
+            current = mapping(size);
+        }
+        if (current != null && offset + SpanRecordCodec.HEADER_BYTES <= current.capacity()) {
+            int length = current.getInt((int) offset);
+            if (offset + SpanRecordCodec.HEADER_BYTES + length <= current.capacity()) {
+                return current.slice((int) offset + SpanRecordCodec.HEADER_BYTES, length);
+            }
+        }
+        return readPayload(offset);
+    }
+
+    /**
+     * Returns a read-only mapping covering at least {@code requiredBytes}.
+     */
+    MappedByteBuffer mapping(long requiredBytes) throws IOException {
+        MappedByteBuffer current = mapped;
+        if (current != null && current.capacity() >= requiredBytes) {
+            return current;
+        }
+        synchronized (this) {
+            if (mapped == null || mapped.capacity() < requiredBytes) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            return mapped;
+        }
+    }
+
+    /**
+     * Reads the record at the given offset with positional reads.
+     */
+    private ByteBuffer readPayload(long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        readFully(header, offset);
+        ByteBuffer payload = ByteBuffer.allocate(header.getInt(0));
+        readFully(payload, offset + SpanRecordCodec.HEADER_BYTES);
+        return payload.flip();
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of trace segment " + id + " at " + position);
+            }
+        }
+    }
+
+    /**
+     * Cuts off a torn tail found during recovery.
+     */
+    void truncate(long validSize) throws IOException {
+        channel.truncate(validSize);
+        size = validSize;
+        mapped = null;
+    }
+
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Closes and deletes the segment file.
+     */
+    void delete() throws IOException {
+        mapped = null;
+        channel.close();
+        Files.deleteIfExists(path);
+    }
+
+    int getId() {
+        return id;
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    long getLastWriteMillis() {
+        return lastWriteMillis;
+    }
+
+    /**
+     * Try IDs with at least one record in this segment.
+     */
+    Set<String> getTryIds() {
+        return tryIds;
+    }
+}
@@ -0,0 +1,26 @@
+/**
+ * Disk-backed trace storage components.
+ * <p>
+ * This package contains a {@link kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceStorage}
+ * that persists Try spans to rolling segment files, so tries survive application restarts
+ * without an external tracing backend such as Tempo.
+ * <p>
+ * <b>Components:</b>
+ * <ul>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.infrastructure.storage.disk.DiskTraceStorage} - Segment-based storage with an in-memory tryId index</li>
+ *   <li><b>TraceSegment</b> - Append-only segment file read through a memory mapping</li>
+ *   <li><b>SpanRecordCodec</b> - Binary span and tombstone record format</li>
+ * </ul>
+ * <p>
+ * <b>Configuration:</b>
+ * <pre>{@code
+ * ouroboros.tempo.enabled=false
+ * ouroboros.trace-disk.enabled=true
+ * ouroboros.trace-disk.directory=.ouroboros/traces
+ * ouroboros.trace-disk.max-total-size-mb=512
+ * ouroboros.trace-disk.retention-hours=72
+ * }</pre>
+ *
+ * @since 1.0.6
+ */
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.disk;
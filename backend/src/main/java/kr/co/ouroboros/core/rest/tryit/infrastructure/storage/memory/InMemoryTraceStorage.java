@@ -24,6 +24,8 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li>Thread-safe span storage using ConcurrentHashMap</li>
  *   <li>Automatic trace grouping by tryId</li>
+ *   <li>Batched inserts from the asynchronous ingest buffer (one list copy per batch)</li>
+ *   <li>Spans received from other services (embedded OTLP receiver) stored with local spans</li>
  *   <li>TraceDTO conversion for compatibility with existing code</li>
  *   <li>Memory-efficient span storage</li>
  * </ul>
@@ -73,6 +75,47 @@ public class InMemoryTraceStorage implements TraceStorage {
                   tryId, traceId, span.getSpanContext().getSpanId());
     }
     
+    /**
+     * Adds a batch of spans that all belong to the given tryId.
+     * <p>
+     * The try is looked up once and the spans are appended with a single copy of
+     * the span list.
+     *
+     * @param tryId The try ID all spans belong to
+     * @param spans The spans to store
+     */
+    @Override
+    public void addSpans(String tryId, List<ReadableSpan> spans) {
+        if (tryId == null || spans.isEmpty()) {
+            return;
+        }
+        
+        String traceId = spans.get(0).getSpanContext().getTraceId();
+        
+        traces.computeIfAbsent(tryId, k -> new TraceData(traceId))
+              .addSpans(spans);
+        
+        traceIdToTryId.put(traceId, tryId);
+        
+        log.debug("Added {} spans to in-memory storage: tryId={}, traceId={}", spans.size(), tryId, traceId);
+    }
+    
+    /**
+     * Adds a span received from another service for the given tryId.
+     *
+     * @param tryId The try ID the span belongs to
+     * @param span  The received span
+     */
+    public void addSpan(String tryId, TraceDTO.SpanDTO span) {
+        traces.computeIfAbsent(tryId, k -> new TraceData(span.getTraceId()))
+              .addReceivedSpan(span);
+        
+        traceIdToTryId.put(span.getTraceId(), tryId);
+        
+        log.debug("Added received span to in-memory storage: tryId={}, traceId={}, spanId={}",
+                  tryId, span.getTraceId(), span.getSpanId());
+    }
+    
     /**
      * Retrieves trace data by tryId.
      *
@@ -122,6 +165,16 @@ public class InMemoryTraceStorage implements TraceStorage {
         return traceData != null ? traceData.getTraceId() : null;
     }
     
+    /**
+     * Gets the tryId for a given trace ID.
+     *
+     * @param traceId The trace ID to look up
+     * @return Try ID if found, null otherwise
+     */
+    public String getTryId(String traceId) {
+        return traceIdToTryId.get(traceId);
+    }
+    
     /**
      * Deletes trace data for the given tryId.
      * <p>
@@ -157,6 +210,7 @@ public class InMemoryTraceStorage implements TraceStorage {
     private static class TraceData {
         private final String traceId;
         private final List<ReadableSpan> spans = new CopyOnWriteArrayList<>();
+        private final List<TraceDTO.SpanDTO> receivedSpans = new CopyOnWriteArrayList<>();
         
         public TraceData(String traceId) {
             this.traceId = traceId;
@@ -166,6 +220,14 @@ public class InMemoryTraceStorage implements TraceStorage {
             spans.add(span);
         }
         
+        public void addSpans(List<ReadableSpan> batch) {
+            spans.addAll(batch);
+        }
+        
+        public void addReceivedSpan(TraceDTO.SpanDTO span) {
+            receivedSpans.add(span);
+        }
+        
         public String getTraceId() {
             return traceId;
         }
@@ -181,6 +243,7 @@ public class InMemoryTraceStorage implements TraceStorage {
             List<TraceDTO.SpanDTO> spanDTOs = spans.stream()
                     .map(this::convertSpan)
                     .collect(Collectors.toList());
+            spanDTOs.addAll(receivedSpans);
             
             scopeSpan.setSpans(spanDTOs);
             batch.setScopeSpans(List.of(scopeSpan));
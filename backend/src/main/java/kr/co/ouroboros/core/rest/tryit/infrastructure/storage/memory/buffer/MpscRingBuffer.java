@@ -0,0 +1,115 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.buffer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free multi-producer / single-consumer ring buffer.
+ * <p>
+ * Each slot carries a sequence number (Vyukov's bounded queue). A producer claims a
+ * slot with a single CAS on the tail counter, stores the element and publishes it by
+ * advancing the slot sequence. The consumer reads published slots in order and hands
+ * them back to producers by advancing the sequence one lap further.
+ * <p>
+ * {@link #offer(Object)} may be called from any thread. {@link #drain(Consumer, int)}
+ * must only be called by one thread at a time; callers serialize it externally.
+ *
+ * @param <E> element type
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+final class MpscRingBuffer<E> {
+
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Next position to consume. Only touched by the (externally serialized) consumer.
+     */
+    private long head;
+
+    /**
+     * Creates a ring buffer.
+     *
+     * @param capacity requested capacity, rounded up to a power of two (at least 2)
+     */
+    MpscRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, Math.min(capacity, 1 << 30)) - 1) << 1;
+        this.elements = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Appends an element if a slot is free.
+     *
+     * @param element element to append (not null)
+     * @return false if the buffer is full
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes up to {@code limit} published elements in order.
+     * <p>
+     * Stops early at a slot that has been claimed but not yet published.
+     *
+     * @param consumer receives each element
+     * @param limit    maximum number of elements to remove
+     * @return number of elements removed
+     */
+    @SuppressWarnings("unchecked")
+    int drain(Consumer<E> consumer, int limit) {
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            E element = (E) elements[index];
+            elements[index] = null;
+            sequences.lazySet(index, head + mask + 1);
+            head++;
+            drained++;
+            consumer.accept(element);
+        }
+        return drained;
+    }
+
+    /**
+     * Returns an estimate of the number of buffered elements.
+     *
+     * @return approximate size
+     */
+    int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, elements.length));
+    }
+}
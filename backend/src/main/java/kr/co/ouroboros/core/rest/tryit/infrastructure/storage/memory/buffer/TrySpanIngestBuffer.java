@@ -0,0 +1,249 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.buffer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import kr.co.ouroboros.core.rest.tryit.config.properties.TraceBufferProperties;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceStorage;
+import kr.co.ouroboros.core.rest.tryit.trace.aggregate.TryAggregateRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Asynchronous ingestion of ended Try spans into the local {@link TraceStorage}.
+ * <p>
+ * Application threads publish spans to an {@link MpscRingBuffer} with a single CAS.
+ * A daemon drain thread removes them in batches, groups each batch by tryId and stores
+ * every group with one {@link TraceStorage#addSpans(String, List)} call. Spans are also
+ * recorded in the cross-try aggregate on the drain thread.
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ *   <li>Overflow policy: drop immediately, or block for a bounded time (see {@link TraceBufferProperties})</li>
+ *   <li>{@link #flush()} stores pending spans on the calling thread, so readers see every ended span</li>
+ *   <li>The drain thread is started on the first published span (never in Tempo mode)</li>
+ * </ul>
+ * <p>
+ * <b>Metrics:</b>
+ * <ul>
+ *   <li>{@code ouroboros.trace.buffer.dropped} - Spans dropped because the buffer was full</li>
+ *   <li>{@code ouroboros.trace.buffer.size} - Spans waiting to be stored</li>
+ * </ul>
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ouroboros.trace-buffer.enabled", havingValue = "true", matchIfMissing = true)
+public class TrySpanIngestBuffer implements DisposableBean {
+
+    private static final AttributeKey<String> TRY_ID_ATTRIBUTE = AttributeKey.stringKey("ouro.try_id");
+    private static final String METRIC_DROPPED = "ouroboros.trace.buffer.dropped";
+    private static final String METRIC_SIZE = "ouroboros.trace.buffer.size";
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final TraceStorage traceStorage;
+    private final ObjectProvider<TryAggregateRegistry> aggregateRegistryProvider;
+    private final MpscRingBuffer<ReadableSpan> ring;
+    private final TraceBufferProperties.OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final long drainIntervalNanos;
+
+    /**
+     * Serializes consumers: the drain thread and callers of {@link #flush()}.
+     */
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final LongAdder dropped = new LongAdder();
+    private long droppedReported;
+    private volatile boolean running = true;
+    private volatile Thread drainThread;
+
+    /**
+     * Creates the buffer and registers its metrics.
+     *
+     * @param properties                buffer configuration properties
+     * @param traceStorage              storage receiving the drained spans
+     * @param aggregateRegistryProvider provider of the cross-try aggregate registry (absent when aggregation is disabled)
+     * @param meterRegistryProvider     optional provider for the application's MeterRegistry
+     */
+    public TrySpanIngestBuffer(TraceBufferProperties properties,
+                               TraceStorage traceStorage,
+                               ObjectProvider<TryAggregateRegistry> aggregateRegistryProvider,
+                               ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.traceStorage = traceStorage;
+        this.aggregateRegistryProvider = aggregateRegistryProvider;
+        this.ring = new MpscRingBuffer<>(properties.getCapacity());
+        this.overflowPolicy = properties.getOverflowPolicy() != null
+                ? properties.getOverflowPolicy() : TraceBufferProperties.OverflowPolicy.DROP;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, properties.getBlockTimeoutMs()));
+        this.drainIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, properties.getDrainIntervalMs()));
+
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        FunctionCounter.builder(METRIC_DROPPED, dropped, LongAdder::sum)
+                .description("Try spans dropped because the ingest buffer was full")
+                .register(registry);
+        Gauge.builder(METRIC_SIZE, ring, MpscRingBuffer::size)
+                .description("Try spans waiting to be stored")
+                .register(registry);
+
+        log.info("TrySpanIngestBuffer initialized: capacity={}, overflowPolicy={}",
+                ring.capacity(), overflowPolicy);
+    }
+
+    /**
+     * Publishes an ended span for asynchronous storage.
+     * <p>
+     * Called on the application thread that ended the span.
+     *
+     * @param span ended span with a tryId attribute
+     * @return false if the span was dropped
+     */
+    public boolean publish(ReadableSpan span) {
+        if (!started.get()) {
+            startDrainThread();
+        }
+        if (ring.offer(span)) {
+            return true;
+        }
+        if (overflowPolicy == TraceBufferProperties.OverflowPolicy.BLOCK && running) {
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            do {
+                LockSupport.unpark(drainThread);
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                if (ring.offer(span)) {
+                    return true;
+                }
+            } while (running && System.nanoTime() - deadline < 0);
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * Stores all spans published so far on the calling thread.
+     */
+    public void flush() {
+        drainLock.lock();
+        try {
+            while (drainBatch() > 0) {
+                // keep draining until the buffer is empty
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to store buffered Try spans", e);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of spans dropped because the buffer was full.
+     *
+     * @return dropped span count since startup
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops the drain thread and stores the remaining spans.
+     */
+    @Override
+    public void destroy() {
+        running = false;
+        Thread thread = drainThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    private void startDrainThread() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(this::drainLoop, "ouroboros-span-ingest");
+        thread.setDaemon(true);
+        drainThread = thread;
+        thread.start();
+    }
+
+    private void drainLoop() {
+        while (running) {
+            int drained;
+            drainLock.lock();
+            try {
+                drained = drainBatch();
+            } catch (RuntimeException e) {
+                log.warn("Failed to store buffered Try spans", e);
+                drained = 0;
+            } finally {
+                drainLock.unlock();
+            }
+            if (drained == 0) {
+                reportDrops();
+                LockSupport.parkNanos(this, drainIntervalNanos);
+            }
+        }
+    }
+
+    /**
+     * Removes one batch from the ring and stores it grouped by tryId. Caller holds {@link #drainLock}.
+     *
+     * @return number of spans removed
+     */
+    private int drainBatch() {
+        Map<String, List<ReadableSpan>> spansByTryId = new LinkedHashMap<>();
+        int drained = ring.drain(span -> spansByTryId
+                .computeIfAbsent(span.getAttribute(TRY_ID_ATTRIBUTE), k -> new ArrayList<>())
+                .add(span), ring.capacity());
+        if (drained == 0) {
+            return 0;
+        }
+        TryAggregateRegistry aggregateRegistry = aggregateRegistryProvider.getIfAvailable();
+        for (Map.Entry<String, List<ReadableSpan>> entry : spansByTryId.entrySet()) {
+            // The batch is already out of the ring: one failing try must not lose the others
+            try {
+                traceStorage.addSpans(entry.getKey(), entry.getValue());
+                if (aggregateRegistry != null) {
+                    entry.getValue().forEach(aggregateRegistry::record);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to store {} buffered spans for tryId: {}", entry.getValue().size(), entry.getKey(), e);
+            }
+        }
+        log.debug("Stored {} buffered spans for {} tries", drained, spansByTryId.size());
+        return drained;
+    }
+
+    private void reportDrops() {
+        long total = dropped.sum();
+        if (total > droppedReported) {
+            log.warn("Dropped {} Try spans because the ingest buffer (capacity {}) was full; total dropped: {}",
+                    total - droppedReported, ring.capacity(), total);
+            droppedReported = total;
+        }
+    }
+}
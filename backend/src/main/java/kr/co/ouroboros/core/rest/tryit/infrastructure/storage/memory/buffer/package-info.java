@@ -0,0 +1,22 @@
+/**
+ * Asynchronous span ingestion components for local trace storage.
+ * <p>
+ * Ended Try spans are handed from application threads to a background thread through
+ * a bounded lock-free ring buffer, so storing them does not add latency to the traced code.
+ * <p>
+ * <b>Components:</b>
+ * <ul>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.buffer.TrySpanIngestBuffer} - Publishes spans and stores them in batches per try</li>
+ *   <li><b>MpscRingBuffer</b> - Bounded multi-producer / single-consumer ring buffer</li>
+ * </ul>
+ * <p>
+ * <b>Configuration:</b>
+ * <pre>{@code
+ * ouroboros.trace-buffer.enabled=true
+ * ouroboros.trace-buffer.capacity=8192
+ * ouroboros.trace-buffer.overflow-policy=DROP
+ * }</pre>
+ *
+ * @since 1.0.6
+ */
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.buffer;
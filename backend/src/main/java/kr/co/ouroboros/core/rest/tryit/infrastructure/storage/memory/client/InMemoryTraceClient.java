@@ -2,10 +2,12 @@ package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceClient;
-import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.InMemoryTraceStorage;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceStorage;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.buffer.TrySpanIngestBuffer;
 import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.model.TraceDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
@@ -22,9 +24,9 @@ import java.util.regex.Pattern;
  * <b>Features:</b>
  * <ul>
  *   <li>Implements TraceClient interface for compatibility</li>
- *   <li>Retrieves traces from InMemoryTraceStorage</li>
+ *   <li>Retrieves traces from the primary local TraceStorage (InMemoryTraceStorage, or DiskTraceStorage when enabled)</li>
  *   <li>Supports TraceQL query parsing (simple tryId extraction)</li>
- *   <li>No polling delay (traces are immediately available)</li>
+ *   <li>No polling delay (spans still in the ingest buffer are flushed before each lookup)</li>
  * </ul>
  * <p>
  * This client is used when Tempo is disabled (ouroboros.tempo.enabled=false).
@@ -43,8 +45,9 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 public class InMemoryTraceClient implements TraceClient {
     
-    private final InMemoryTraceStorage traceStorage;
+    private final TraceStorage traceStorage;
     private final ObjectMapper objectMapper;
+    private final ObjectProvider<TrySpanIngestBuffer> ingestBuffer;
     
     /**
      * Pattern to extract tryId from TraceQL query: { span.ouro.try_id = "tryId" }
@@ -63,6 +66,7 @@ public class InMemoryTraceClient implements TraceClient {
      */
     @Override
     public List<String> searchTraces(String query) {
+        flushPendingSpans();
         String tryId = extractTryIdFromQuery(query);
         if (tryId == null) {
             log.debug("Could not extract tryId from query: {}", query);
@@ -87,6 +91,7 @@ public class InMemoryTraceClient implements TraceClient {
      */
     @Override
     public String getTrace(String traceId) {
+        flushPendingSpans();
         TraceDTO traceData = traceStorage.getTraceByTraceId(traceId);
         if (traceData == null) {
             log.debug("Trace not found in memory: traceId={}", traceId);
@@ -133,6 +138,16 @@ public class InMemoryTraceClient implements TraceClient {
         return true;
     }
     
+    /**
+     * Stores spans that have ended but are still in the ingest buffer.
+     */
+    private void flushPendingSpans() {
+        TrySpanIngestBuffer buffer = ingestBuffer.getIfAvailable();
+        if (buffer != null) {
+            buffer.flush();
+        }
+    }
+    
     /**
      * Extracts tryId from TraceQL query string.
      * <p>
@@ -14,6 +14,7 @@
  * <b>Subpackages:</b>
  * <ul>
  *   <li><b>client</b> - TraceClient implementations for in-memory storage</li>
+ *   <li><b>buffer</b> - Asynchronous span ingestion through a lock-free ring buffer</li>
  * </ul>
  * <p>
  * <b>Usage:</b>
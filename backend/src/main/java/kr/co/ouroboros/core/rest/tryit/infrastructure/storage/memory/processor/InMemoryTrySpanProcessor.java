@@ -1,9 +1,15 @@
 package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.processor;
 
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
 import io.opentelemetry.sdk.trace.ReadableSpan;
 import kr.co.ouroboros.core.rest.tryit.infrastructure.instrumentation.processor.AbstractTrySpanProcessor;
 import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceStorage;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.buffer.TrySpanIngestBuffer;
+import kr.co.ouroboros.core.rest.tryit.trace.aggregate.TryAggregateRegistry;
+import kr.co.ouroboros.core.rest.tryit.trace.completion.TryCompletionTracker;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -16,7 +22,10 @@ import lombok.extern.slf4j.Slf4j;
  * <ul>
  *   <li>Runs on span start to add tryId attribute</li>
  *   <li>Runs on span end to collect spans in memory</li>
+ *   <li>Hands spans to the {@link TrySpanIngestBuffer} when present, so the ending thread only pays one CAS</li>
  *   <li>Only collects spans that have a tryId attribute</li>
+ *   <li>Records collected spans in the cross-try aggregate, if enabled</li>
+ *   <li>Reports span starts and ends to the {@link TryCompletionTracker}, if enabled</li>
  *   <li>Thread-safe span collection</li>
  * </ul>
  * <p>
@@ -31,19 +40,83 @@ public class InMemoryTrySpanProcessor extends AbstractTrySpanProcessor {
     
     private final TraceStorage traceStorage;
     
+    private final TryAggregateRegistry aggregateRegistry;
+    
+    private final TrySpanIngestBuffer ingestBuffer;
+    
+    private final TryCompletionTracker completionTracker;
+    
     /**
      * Creates a new InMemoryTrySpanProcessor with the given storage.
      *
      * @param traceStorage The trace storage to use (typically InMemoryTraceStorage)
      */
     public InMemoryTrySpanProcessor(TraceStorage traceStorage) {
+        this(traceStorage, null);
+    }
+    
+    /**
+     * Creates a new InMemoryTrySpanProcessor with the given storage and aggregate registry.
+     *
+     * @param traceStorage The trace storage to use (typically InMemoryTraceStorage)
+     * @param aggregateRegistry Cross-try aggregate registry, or null if aggregation is disabled
+     */
+    public InMemoryTrySpanProcessor(TraceStorage traceStorage, TryAggregateRegistry aggregateRegistry) {
+        this(traceStorage, aggregateRegistry, null);
+    }
+    
+    /**
+     * Creates a new InMemoryTrySpanProcessor that stores spans asynchronously.
+     *
+     * @param traceStorage The trace storage to use (typically InMemoryTraceStorage)
+     * @param aggregateRegistry Cross-try aggregate registry, or null if aggregation is disabled
+     * @param ingestBuffer Asynchronous ingest buffer, or null to store spans on the ending thread
+     */
+    public InMemoryTrySpanProcessor(TraceStorage traceStorage, TryAggregateRegistry aggregateRegistry,
+                                    TrySpanIngestBuffer ingestBuffer) {
+        this(traceStorage, aggregateRegistry, ingestBuffer, null);
+    }
+    
+    /**
+     * Creates a new InMemoryTrySpanProcessor that also reports span progress for completion detection.
+     *
+     * @param traceStorage The trace storage to use (typically InMemoryTraceStorage)
+     * @param aggregateRegistry Cross-try aggregate registry, or null if aggregation is disabled
+     * @param ingestBuffer Asynchronous ingest buffer, or null to store spans on the ending thread
+     * @param completionTracker Trace completion tracker, or null if completion detection is disabled
+     */
+    public InMemoryTrySpanProcessor(TraceStorage traceStorage, TryAggregateRegistry aggregateRegistry,
+                                    TrySpanIngestBuffer ingestBuffer, TryCompletionTracker completionTracker) {
         this.traceStorage = traceStorage;
+        this.aggregateRegistry = aggregateRegistry;
+        this.ingestBuffer = ingestBuffer;
+        this.completionTracker = completionTracker;
+    }
+    
+    /**
+     * Adds the tryId attribute and reports the span start to the completion tracker.
+     *
+     * @param parentContext The parent context
+     * @param span The span to modify
+     */
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        super.onStart(parentContext, span);
+        if (completionTracker == null) {
+            return;
+        }
+        String tryId = span.getAttribute(AbstractTrySpanProcessor.TRY_ID_ATTRIBUTE);
+        if (tryId != null) {
+            completionTracker.onSpanStart(tryId);
+        }
     }
     
     /**
      * Collects the span in memory storage when it ends.
      * <p>
-     * Only collects spans that have a tryId attribute.
+     * Only collects spans that have a tryId attribute. With an ingest buffer the span is
+     * only published here; storage and aggregation happen on the buffer's drain thread.
+     * The span end is reported to the completion tracker after the span was handed off.
      *
      * @param span The span that has ended
      */
@@ -54,9 +127,21 @@ public class InMemoryTrySpanProcessor extends AbstractTrySpanProcessor {
             return;
         }
         
-        traceStorage.addSpan(span);
-        log.debug("Collected span in memory: tryId={}, spanId={}", 
-                  tryId, span.getSpanContext().getSpanId());
+        if (ingestBuffer != null) {
+            ingestBuffer.publish(span);
+        } else {
+            traceStorage.addSpan(span);
+            if (aggregateRegistry != null) {
+                aggregateRegistry.record(span);
+            }
+            log.debug("Collected span in memory: tryId={}, spanId={}", 
+                      tryId, span.getSpanContext().getSpanId());
+        }
+        
+        if (completionTracker != null) {
+            SpanContext parent = span.getParentSpanContext();
+            completionTracker.onSpanEnd(tryId, !parent.isValid() || parent.isRemote());
+        }
     }
     
     /**
@@ -77,17 +162,23 @@ public class InMemoryTrySpanProcessor extends AbstractTrySpanProcessor {
     @Override
     public CompletableResultCode shutdown() {
         log.debug("Shutting down InMemoryTrySpanProcessor");
+        if (ingestBuffer != null) {
+            ingestBuffer.flush();
+        }
         return CompletableResultCode.ofSuccess();
     }
     
     /**
-     * Forces a flush of any buffered spans.
+     * Forces a flush of any buffered spans into the storage.
      *
      * @return CompletableResultCode indicating success
      */
     @Override
     public CompletableResultCode forceFlush() {
         log.debug("Force flushing InMemoryTrySpanProcessor");
+        if (ingestBuffer != null) {
+            ingestBuffer.flush();
+        }
         return CompletableResultCode.ofSuccess();
     }
 }
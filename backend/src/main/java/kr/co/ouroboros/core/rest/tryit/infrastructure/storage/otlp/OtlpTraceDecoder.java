@@ -0,0 +1,360 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.otlp;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.model.TraceDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Decodes OTLP trace export requests ({@code ExportTraceServiceRequest}) into spans.
+ * <p>
+ * Both OTLP/HTTP encodings are supported:
+ * <ul>
+ *   <li>{@code application/x-protobuf} - decoded with {@link ProtobufReader}, without generated classes</li>
+ *   <li>{@code application/json} - OTLP JSON mapping (hex IDs, string or numeric 64-bit integers)</li>
+ * </ul>
+ * <p>
+ * Spans are converted to {@link TraceDTO.SpanDTO}, the layout the local trace storages
+ * return. The {@code service.name} resource attribute is copied onto each span so the
+ * originating service stays visible after spans of several services are merged.
+ * Array and key-value list attribute values are flattened to strings.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Component
+@RequiredArgsConstructor
+public class OtlpTraceDecoder {
+
+    static final String SERVICE_NAME_ATTRIBUTE = "service.name";
+
+    private static final String[] SPAN_KINDS = {
+            "SPAN_KIND_UNSPECIFIED",
+            "SPAN_KIND_INTERNAL",
+            "SPAN_KIND_SERVER",
+            "SPAN_KIND_CLIENT",
+            "SPAN_KIND_PRODUCER",
+            "SPAN_KIND_CONSUMER"
+    };
+
+    private static final int VARINT = ProtobufReader.WIRE_VARINT;
+    private static final int FIXED64 = ProtobufReader.WIRE_FIXED64;
+    private static final int LENGTH_DELIMITED = ProtobufReader.WIRE_LENGTH_DELIMITED;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Decodes a protobuf-encoded export request.
+     *
+     * @param body request body (decompressed)
+     * @return received spans
+     * @throws IllegalArgumentException if the payload is not a valid protobuf message
+     */
+    public List<TraceDTO.SpanDTO> decodeProtobuf(byte[] body) {
+        List<TraceDTO.SpanDTO> spans = new ArrayList<>();
+        ProtobufReader request = new ProtobufReader(body);
+        while (request.hasRemaining()) {
+            int tag = request.readTag();
+            if (isMessage(tag, 1)) {
+                readResourceSpans(request.readMessage(), spans);
+            } else {
+                request.skip(tag);
+            }
+        }
+        return spans;
+    }
+
+    /**
+     * Decodes a JSON-encoded export request.
+     *
+     * @param body request body (decompressed)
+     * @return received spans
+     * @throws IllegalArgumentException if the payload is not valid JSON
+     */
+    public List<TraceDTO.SpanDTO> decodeJson(byte[] body) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed OTLP JSON payload", e);
+        }
+        List<TraceDTO.SpanDTO> spans = new ArrayList<>();
+        if (root == null) {
+            return spans;
+        }
+        for (JsonNode resourceSpans : root.path("resourceSpans")) {
+            String serviceName = null;
+            for (JsonNode attribute : resourceSpans.path("resource").path("attributes")) {
+                if (SERVICE_NAME_ATTRIBUTE.equals(attribute.path("key").asText())) {
+                    serviceName = attribute.path("value").path("stringValue").asText(null);
+                }
+            }
+            int first = spans.size();
+            for (JsonNode scopeSpans : resourceSpans.path("scopeSpans")) {
+                for (JsonNode span : scopeSpans.path("spans")) {
+                    spans.add(readJsonSpan(span));
+                }
+            }
+            applyServiceName(spans, first, serviceName);
+        }
+        return spans;
+    }
+
+    // ---- protobuf ----
+
+    private void readResourceSpans(ProtobufReader resourceSpans, List<TraceDTO.SpanDTO> spans) {
+        String serviceName = null;
+        int first = spans.size();
+        while (resourceSpans.hasRemaining()) {
+            int tag = resourceSpans.readTag();
+            if (isMessage(tag, 1)) {
+                serviceName = readServiceName(resourceSpans.readMessage());
+            } else if (isMessage(tag, 2)) {
+                readScopeSpans(resourceSpans.readMessage(), spans);
+            } else {
+                resourceSpans.skip(tag);
+            }
+        }
+        applyServiceName(spans, first, serviceName);
+    }
+
+    private String readServiceName(ProtobufReader resource) {
+        String serviceName = null;
+        while (resource.hasRemaining()) {
+            int tag = resource.readTag();
+            if (isMessage(tag, 1)) {
+                TraceDTO.AttributeDTO attribute = readKeyValue(resource.readMessage());
+                if (SERVICE_NAME_ATTRIBUTE.equals(attribute.getKey())) {
+                    serviceName = attribute.getValue().getStringValue();
+                }
+            } else {
+                resource.skip(tag);
+            }
+        }
+        return serviceName;
+    }
+
+    private void readScopeSpans(ProtobufReader scopeSpans, List<TraceDTO.SpanDTO> spans) {
+        while (scopeSpans.hasRemaining()) {
+            int tag = scopeSpans.readTag();
+            if (isMessage(tag, 2)) {
+                spans.add(readSpan(scopeSpans.readMessage()));
+            } else {
+                scopeSpans.skip(tag);
+            }
+        }
+    }
+
+    private TraceDTO.SpanDTO readSpan(ProtobufReader reader) {
+        TraceDTO.SpanDTO span = new TraceDTO.SpanDTO();
+        List<TraceDTO.AttributeDTO> attributes = new ArrayList<>();
+        span.setKind(SPAN_KINDS[0]);
+        while (reader.hasRemaining()) {
+            int tag = reader.readTag();
+            switch (tag) {
+                case 1 << 3 | LENGTH_DELIMITED -> span.setTraceId(reader.readHex());
+                case 2 << 3 | LENGTH_DELIMITED -> span.setSpanId(reader.readHex());
+                case 4 << 3 | LENGTH_DELIMITED -> span.setParentSpanId(reader.readHex());
+                case 5 << 3 | LENGTH_DELIMITED -> span.setName(reader.readString());
+                case 6 << 3 | VARINT -> span.setKind(spanKind(reader.readVarint()));
+                case 7 << 3 | FIXED64 -> span.setStartTimeUnixNano(reader.readFixed64());
+                case 8 << 3 | FIXED64 -> span.setEndTimeUnixNano(reader.readFixed64());
+                case 9 << 3 | LENGTH_DELIMITED -> attributes.add(readKeyValue(reader.readMessage()));
+                default -> reader.skip(tag);
+            }
+        }
+        span.setAttributes(attributes);
+        setDuration(span);
+        return span;
+    }
+
+    private TraceDTO.AttributeDTO readKeyValue(ProtobufReader keyValue) {
+        TraceDTO.AttributeDTO attribute = new TraceDTO.AttributeDTO();
+        attribute.setValue(new TraceDTO.ValueDTO());
+        while (keyValue.hasRemaining()) {
+            int tag = keyValue.readTag();
+            if (isMessage(tag, 1)) {
+                attribute.setKey(keyValue.readString());
+            } else if (isMessage(tag, 2)) {
+                attribute.setValue(readAnyValue(keyValue.readMessage()));
+            } else {
+                keyValue.skip(tag);
+            }
+        }
+        return attribute;
+    }
+
+    private TraceDTO.ValueDTO readAnyValue(ProtobufReader anyValue) {
+        TraceDTO.ValueDTO value = new TraceDTO.ValueDTO();
+        while (anyValue.hasRemaining()) {
+            int tag = anyValue.readTag();
+            switch (tag) {
+                case 1 << 3 | LENGTH_DELIMITED -> value.setStringValue(anyValue.readString());
+                case 2 << 3 | VARINT -> value.setBoolValue(anyValue.readVarint() != 0);
+                case 3 << 3 | VARINT -> value.setIntValue(anyValue.readVarint());
+                case 4 << 3 | FIXED64 -> value.setDoubleValue(anyValue.readDouble());
+                case 5 << 3 | LENGTH_DELIMITED -> value.setStringValue(readArrayValue(anyValue.readMessage()));
+                case 6 << 3 | LENGTH_DELIMITED -> value.setStringValue(readKeyValueList(anyValue.readMessage()));
+                case 7 << 3 | LENGTH_DELIMITED -> value.setStringValue(Base64.getEncoder().encodeToString(anyValue.readBytes()));
+                default -> anyValue.skip(tag);
+            }
+        }
+        return value;
+    }
+
+    private String readArrayValue(ProtobufReader arrayValue) {
+        StringJoiner text = new StringJoiner(", ", "[", "]");
+        while (arrayValue.hasRemaining()) {
+            int tag = arrayValue.readTag();
+            if (isMessage(tag, 1)) {
+                text.add(toText(readAnyValue(arrayValue.readMessage())));
+            } else {
+                arrayValue.skip(tag);
+            }
+        }
+        return text.toString();
+    }
+
+    private String readKeyValueList(ProtobufReader keyValueList) {
+        StringJoiner text = new StringJoiner(", ", "{", "}");
+        while (keyValueList.hasRemaining()) {
+            int tag = keyValueList.readTag();
+            if (isMessage(tag, 1)) {
+                TraceDTO.AttributeDTO entry = readKeyValue(keyValueList.readMessage());
+                text.add(entry.getKey() + "=" + toText(entry.getValue()));
+            } else {
+                keyValueList.skip(tag);
+            }
+        }
+        return text.toString();
+    }
+
+    private static boolean isMessage(int tag, int fieldNumber) {
+        return tag == (fieldNumber << 3 | LENGTH_DELIMITED);
+    }
+
+    // ---- JSON ----
+
+    private TraceDTO.SpanDTO readJsonSpan(JsonNode node) {
+        TraceDTO.SpanDTO span = new TraceDTO.SpanDTO();
+        span.setTraceId(id(node.path("traceId")));
+        span.setSpanId(id(node.path("spanId")));
+        span.setParentSpanId(id(node.path("parentSpanId")));
+        span.setName(node.path("name").asText(null));
+        JsonNode kind = node.path("kind");
+        span.setKind(kind.isTextual() ? kind.asText() : spanKind(kind.asLong(0)));
+        span.setStartTimeUnixNano(longValue(node.path("startTimeUnixNano")));
+        span.setEndTimeUnixNano(longValue(node.path("endTimeUnixNano")));
+
+        List<TraceDTO.AttributeDTO> attributes = new ArrayList<>();
+        for (JsonNode attributeNode : node.path("attributes")) {
+            TraceDTO.AttributeDTO attribute = new TraceDTO.AttributeDTO();
+            attribute.setKey(attributeNode.path("key").asText(null));
+            attribute.setValue(readJsonValue(attributeNode.path("value")));
+            attributes.add(attribute);
+        }
+        span.setAttributes(attributes);
+        setDuration(span);
+        return span;
+    }
+
+    private TraceDTO.ValueDTO readJsonValue(JsonNode node) {
+        TraceDTO.ValueDTO value = new TraceDTO.ValueDTO();
+        if (node.has("stringValue")) {
+            value.setStringValue(node.get("stringValue").asText());
+        } else if (node.has("intValue")) {
+            value.setIntValue(longValue(node.get("intValue")));
+        } else if (node.has("doubleValue")) {
+            value.setDoubleValue(node.get("doubleValue").asDouble());
+        } else if (node.has("boolValue")) {
+            value.setBoolValue(node.get("boolValue").asBoolean());
+        } else if (node.has("arrayValue")) {
+            StringJoiner text = new StringJoiner(", ", "[", "]");
+            for (JsonNode element : node.get("arrayValue").path("values")) {
+                text.add(toText(readJsonValue(element)));
+            }
+            value.setStringValue(text.toString());
+        } else if (node.has("kvlistValue")) {
+            StringJoiner text = new StringJoiner(", ", "{", "}");
+            for (JsonNode entry : node.get("kvlistValue").path("values")) {
+                text.add(entry.path("key").asText() + "=" + toText(readJsonValue(entry.path("value"))));
+            }
+            value.setStringValue(text.toString());
+        } else if (node.has("bytesValue")) {
+            value.setStringValue(node.get("bytesValue").asText());
+        }
+        return value;
+    }
+
+    private static String id(JsonNode node) {
+        String text = node.asText("");
+        return text.isEmpty() ? null : text.toLowerCase();
+    }
+
+    private static Long longValue(JsonNode node) {
+        if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        if (node.isNumber()) {
+            return node.asLong();
+        }
+        try {
+            return Long.parseLong(node.asText());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed integer value: " + node.asText(), e);
+        }
+    }
+
+    // ---- common ----
+
+    private static String spanKind(long kind) {
+        return kind >= 0 && kind < SPAN_KINDS.length ? SPAN_KINDS[(int) kind] : SPAN_KINDS[0];
+    }
+
+    private static void setDuration(TraceDTO.SpanDTO span) {
+        Long start = span.getStartTimeUnixNano();
+        Long end = span.getEndTimeUnixNano();
+        if (start != null && end != null && start != 0 && end != 0) {
+            span.setDurationNanos(end - start);
+        }
+    }
+
+    private static void applyServiceName(List<TraceDTO.SpanDTO> spans, int from, String serviceName) {
+        if (serviceName == null) {
+            return;
+        }
+        for (int i = from; i < spans.size(); i++) {
+            TraceDTO.SpanDTO span = spans.get(i);
+            boolean present = span.getAttributes().stream()
+                    .anyMatch(attribute -> SERVICE_NAME_ATTRIBUTE.equals(attribute.getKey()));
+            if (!present) {
+                TraceDTO.ValueDTO value = new TraceDTO.ValueDTO();
+                value.setStringValue(serviceName);
+                TraceDTO.AttributeDTO attribute = new TraceDTO.AttributeDTO();
+                attribute.setKey(SERVICE_NAME_ATTRIBUTE);
+                attribute.setValue(value);
+                span.getAttributes().add(attribute);
+            }
+        }
+    }
+
+    private static String toText(TraceDTO.ValueDTO value) {
+        if (value.getStringValue() != null) {
+            return value.getStringValue();
+        }
+        if (value.getIntValue() != null) {
+            return String.valueOf(value.getIntValue());
+        }
+        if (value.getDoubleValue() != null) {
+            return String.valueOf(value.getDoubleValue());
+        }
+        return String.valueOf(value.getBoolValue());
+    }
+}
@@ -0,0 +1,108 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.otlp;
+
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceStorage;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.buffer.TrySpanIngestBuffer;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.model.TraceDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores spans received over OTLP in the local {@link TraceStorage}, indexed by tryId.
+ * <p>
+ * A received span is assigned to a try by, in order:
+ * <ol>
+ *   <li>its own {@code ouro.try_id} attribute (services running the Ouroboros SDK add it)</li>
+ *   <li>the {@code ouro.try_id} attribute of another span of the same trace in the same request</li>
+ *   <li>the try already stored for its traceId (spans of this application or earlier requests)</li>
+ * </ol>
+ * Local spans that ended but are still in the {@link TrySpanIngestBuffer} are flushed before
+ * the first traceId lookup of a request, so remote spans arriving right after them are matched.
+ * Spans that match no try are dropped, so services that export all of their traffic
+ * to the receiver only add the spans belonging to tries.
+ * <p>
+ * Do not point the OTLP exporter of this application itself at the receiver: its spans
+ * are already stored by the span processor and would be stored twice.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ouroboros.otlp-receiver.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class OtlpTraceReceiver {
+
+    private static final String TRY_ID_ATTRIBUTE = "ouro.try_id";
+
+    private final TraceStorage traceStorage;
+    private final ObjectProvider<TrySpanIngestBuffer> ingestBuffer;
+
+    /**
+     * Stores the spans that belong to a try.
+     *
+     * @param spans decoded spans of one export request
+     * @return number of spans stored
+     */
+    public int receive(List<TraceDTO.SpanDTO> spans) {
+        Map<String, String> tryIdsByTraceId = new HashMap<>();
+        for (TraceDTO.SpanDTO span : spans) {
+            String tryId = tryIdAttribute(span);
+            if (tryId != null && span.getTraceId() != null) {
+                tryIdsByTraceId.putIfAbsent(span.getTraceId(), tryId);
+            }
+        }
+
+        int stored = 0;
+        boolean flushed = false;
+        for (TraceDTO.SpanDTO span : spans) {
+            String traceId = span.getTraceId();
+            if (traceId == null || span.getSpanId() == null) {
+                continue;
+            }
+            String tryId = tryIdAttribute(span);
+            if (tryId == null) {
+                if (!flushed) {
+                    flushPendingSpans();
+                    flushed = true;
+                }
+                tryId = tryIdsByTraceId.computeIfAbsent(traceId, traceStorage::getTryId);
+            }
+            if (tryId == null) {
+                continue;
+            }
+            traceStorage.addSpan(tryId, span);
+            stored++;
+        }
+        log.debug("Received {} spans over OTLP, stored {}", spans.size(), stored);
+        return stored;
+    }
+
+    /**
+     * Stores local spans that have ended but are still in the ingest buffer.
+     */
+    private void flushPendingSpans() {
+        TrySpanIngestBuffer buffer = ingestBuffer.getIfAvailable();
+        if (buffer != null) {
+            buffer.flush();
+        }
+    }
+
+    private static String tryIdAttribute(TraceDTO.SpanDTO span) {
+        if (span.getAttributes() == null) {
+            return null;
+        }
+        for (TraceDTO.AttributeDTO attribute : span.getAttributes()) {
+            if (TRY_ID_ATTRIBUTE.equals(attribute.getKey()) && attribute.getValue() != null) {
+                return attribute.getValue().getStringValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,160 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.otlp;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal reader for the protobuf wire format.
+ * <p>
+ * Reads only what the OTLP trace messages need (varint, fixed32/64 and
+ * length-delimited fields), so the receiver does not depend on generated
+ * protobuf classes. Nested messages are read through a child reader over
+ * the same buffer without copying.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+final class ProtobufReader {
+
+    static final int WIRE_VARINT = 0;
+    static final int WIRE_FIXED64 = 1;
+    static final int WIRE_LENGTH_DELIMITED = 2;
+    static final int WIRE_FIXED32 = 5;
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    ProtobufReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+
+    private ProtobufReader(byte[] buffer, int position, int limit) {
+        this.buffer = buffer;
+        this.position = position;
+        this.limit = limit;
+    }
+
+    boolean hasRemaining() {
+        return position < limit;
+    }
+
+    /**
+     * Reads the next field tag.
+     *
+     * @return tag (field number {@code << 3 | wire type})
+     */
+    int readTag() {
+        return (int) readVarint();
+    }
+
+    static int wireType(int tag) {
+        return tag & 0x7;
+    }
+
+    long readVarint() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            require(1);
+            byte b = buffer[position++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    long readFixed64() {
+        require(8);
+        long result = 0;
+        for (int i = 0; i < 8; i++) {
+            result |= (buffer[position++] & 0xFFL) << (8 * i);
+        }
+        return result;
+    }
+
+    double readDouble() {
+        return Double.longBitsToDouble(readFixed64());
+    }
+
+    String readString() {
+        int length = readLength();
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    /**
+     * Reads a length-delimited bytes field as lowercase hex (trace and span IDs).
+     *
+     * @return hex string, or null when the field is empty
+     */
+    String readHex() {
+        int length = readLength();
+        if (length == 0) {
+            return null;
+        }
+        char[] hex = new char[length * 2];
+        for (int i = 0; i < length; i++) {
+            int b = buffer[position + i] & 0xFF;
+            hex[i * 2] = Character.forDigit(b >>> 4, 16);
+            hex[i * 2 + 1] = Character.forDigit(b & 0xF, 16);
+        }
+        position += length;
+        return new String(hex);
+    }
+
+    byte[] readBytes() {
+        int length = readLength();
+        byte[] bytes = new byte[length];
+        System.arraycopy(buffer, position, bytes, 0, length);
+        position += length;
+        return bytes;
+    }
+
+    /**
+     * Returns a reader over the next length-delimited field and skips it in this reader.
+     *
+     * @return reader over the embedded message
+     */
+    ProtobufReader readMessage() {
+        int length = readLength();
+        ProtobufReader message = new ProtobufReader(buffer, position, position + length);
+        position += length;
+        return message;
+    }
+
+    /**
+     * Skips the value of a field whose tag has just been read.
+     *
+     * @param tag field tag
+     */
+    void skip(int tag) {
+        switch (wireType(tag)) {
+            case WIRE_VARINT -> readVarint();
+            case WIRE_FIXED64 -> skipBytes(8);
+            case WIRE_LENGTH_DELIMITED -> skipBytes(readLength());
+            case WIRE_FIXED32 -> skipBytes(4);
+            default -> throw new IllegalArgumentException("Unsupported wire type: " + wireType(tag));
+        }
+    }
+
+    private int readLength() {
+        long length = readVarint();
+        if (length < 0 || length > limit - position) {
+            throw new IllegalArgumentException("Malformed length: " + length);
+        }
+        return (int) length;
+    }
+
+    private void skipBytes(int count) {
+        require(count);
+        position += count;
+    }
+
+    private void require(int count) {
+        if (limit - position < count) {
+            throw new IllegalArgumentException("Truncated protobuf message");
+        }
+    }
+}
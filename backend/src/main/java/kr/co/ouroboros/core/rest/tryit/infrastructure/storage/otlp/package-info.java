@@ -0,0 +1,29 @@
+/**
+ * Embedded OTLP/HTTP trace receiver components.
+ * <p>
+ * This package lets other local services export their spans to this application
+ * instead of to Tempo. Received spans are stored in the local
+ * {@link kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceStorage} next to
+ * the spans recorded in this JVM, so {@code TraceDataRetriever} returns a Try trace
+ * that covers every service without external tracing infrastructure.
+ * <p>
+ * <b>Components:</b>
+ * <ul>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.infrastructure.storage.otlp.OtlpTraceDecoder} - Decodes protobuf and JSON export requests</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.infrastructure.storage.otlp.OtlpTraceReceiver} - Assigns received spans to tries and stores them</li>
+ *   <li><b>ProtobufReader</b> - Minimal protobuf wire format reader</li>
+ * </ul>
+ * <p>
+ * <b>Configuration:</b>
+ * <pre>{@code
+ * # this application
+ * ouroboros.tempo.enabled=false
+ * ouroboros.otlp-receiver.enabled=true
+ *
+ * # other services
+ * OTEL_EXPORTER_OTLP_TRACES_ENDPOINT=http://localhost:8080/ouro/otlp/v1/traces
+ * }</pre>
+ *
+ * @since 1.0.6
+ */
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.otlp;
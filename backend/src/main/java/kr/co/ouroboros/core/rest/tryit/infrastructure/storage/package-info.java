@@ -19,7 +19,9 @@
  * <ul>
  *   <li><b>model</b> - Common trace data models (TraceDTO)</li>
  *   <li><b>memory</b> - In-memory storage implementation</li>
+ *   <li><b>disk</b> - Disk-backed storage implementation (memory-mapped segment files)</li>
  *   <li><b>tempo</b> - Tempo (distributed tracing backend) integration</li>
+ *   <li><b>otlp</b> - Embedded OTLP/HTTP receiver storing spans of other local services</li>
  * </ul>
  * <p>
  * <b>Design:</b>
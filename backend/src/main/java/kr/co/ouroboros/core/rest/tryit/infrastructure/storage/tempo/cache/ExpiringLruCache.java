@@ -0,0 +1,125 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.tempo.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Size-bounded LRU cache whose entries expire after a fixed time-to-live.
+ * <p>
+ * Backed by an access-ordered {@link LinkedHashMap}. When the cache grows beyond
+ * {@code maxEntries}, the least recently used entry is evicted. Expired entries
+ * are removed lazily on lookup.
+ * <p>
+ * All operations are synchronized; the cache is intended for small working sets
+ * (hundreds of entries) where lock contention is negligible compared to the
+ * HTTP round trip it replaces.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    /**
+     * Creates a cache using {@link System#nanoTime()} as clock.
+     *
+     * @param maxEntries maximum number of entries kept; must be positive
+     * @param ttlMillis  time-to-live of an entry in milliseconds
+     */
+    public ExpiringLruCache(int maxEntries, long ttlMillis) {
+        this(maxEntries, ttlMillis, System::nanoTime);
+    }
+
+    /**
+     * Creates a cache with a custom nanosecond clock (for tests).
+     *
+     * @param maxEntries maximum number of entries kept; must be positive
+     * @param ttlMillis  time-to-live of an entry in milliseconds
+     * @param nanoClock  monotonic clock returning nanoseconds
+     */
+    public ExpiringLruCache(int maxEntries, long ttlMillis, LongSupplier nanoClock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for the key, or {@code null} if absent or expired.
+     *
+     * @param key the cache key
+     * @return cached value, or {@code null}
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (nanoClock.getAsLong() - entry.createdAtNanos >= ttlNanos) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Stores a value, replacing any previous value and resetting its TTL.
+     *
+     * @param key   the cache key
+     * @param value the value to cache; {@code null} values are ignored
+     */
+    public synchronized void put(K key, V value) {
+        if (key == null || value == null) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, nanoClock.getAsLong()));
+    }
+
+    /**
+     * Removes the entry for the key if present.
+     *
+     * @param key the cache key
+     */
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of entries currently held, including not-yet-evicted expired entries.
+     *
+     * @return entry count
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long createdAtNanos;
+
+        private Entry(V value, long createdAtNanos) {
+            this.value = value;
+            this.createdAtNanos = createdAtNanos;
+        }
+    }
+}
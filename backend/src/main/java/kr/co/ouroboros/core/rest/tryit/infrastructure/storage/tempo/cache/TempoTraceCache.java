@@ -0,0 +1,205 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.tempo.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.ouroboros.core.rest.tryit.config.properties.TempoProperties;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.TraceSpanInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches Tempo lookups for Try traces.
+ * <p>
+ * Keeps two size-bounded caches with a TTL:
+ * <ul>
+ *   <li>tryId → traceId (skips the TraceQL search and its polling loop)</li>
+ *   <li>traceId → parsed spans (skips downloading and parsing the trace JSON)</li>
+ * </ul>
+ * <p>
+ * A completed trace in Tempo is immutable, so repeated UI calls for the same tryId
+ * (summary, methods, trace, issues) can share a single fetch. Spans are only cached
+ * once the trace has settled: its root span is present and its newest span ended at
+ * least {@code ouroboros.tempo.cache.ingestion-delay-seconds} ago. A trace that is
+ * still being ingested is fetched again on the next call.
+ * <p>
+ * <b>Metrics:</b>
+ * <ul>
+ *   <li>{@code ouroboros.tempo.cache.requests{cache=trace-id|spans, result=hit|miss}} - Lookup counters</li>
+ *   <li>{@code ouroboros.tempo.cache.size{cache=trace-id|spans}} - Current entry count</li>
+ * </ul>
+ * <p>
+ * Only active when Tempo is enabled and {@code ouroboros.tempo.cache.enabled} is not {@code false}.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ouroboros.tempo.enabled", havingValue = "true", matchIfMissing = false)
+public class TempoTraceCache {
+
+    private static final String METRIC_REQUESTS = "ouroboros.tempo.cache.requests";
+    private static final String METRIC_SIZE = "ouroboros.tempo.cache.size";
+    private static final String CACHE_TRACE_ID = "trace-id";
+    private static final String CACHE_SPANS = "spans";
+
+    private final boolean enabled;
+    private final long ingestionDelayNanos;
+    private final LongSupplier epochNanosClock;
+    private final ExpiringLruCache<String, String> traceIdsByTryId;
+    private final ExpiringLruCache<String, List<TraceSpanInfo>> spansByTraceId;
+
+    private final Counter traceIdHits;
+    private final Counter traceIdMisses;
+    private final Counter spansHits;
+    private final Counter spansMisses;
+
+    /**
+     * Creates the cache from Tempo cache properties and registers hit/miss metrics.
+     *
+     * @param properties               Tempo configuration properties
+     * @param meterRegistryProvider    optional provider for the application's MeterRegistry
+     */
+    @Autowired
+    public TempoTraceCache(TempoProperties properties, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this(properties, meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new),
+                () -> TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()));
+    }
+
+    TempoTraceCache(TempoProperties properties, MeterRegistry registry, LongSupplier epochNanosClock) {
+        TempoProperties.Cache cacheProps = properties.getCache();
+        long ttlMillis = cacheProps.getTtlSeconds() * 1000L;
+        int maxEntries = Math.max(1, cacheProps.getMaxEntries());
+
+        this.enabled = cacheProps.isEnabled();
+        this.ingestionDelayNanos = TimeUnit.SECONDS.toNanos(Math.max(0, cacheProps.getIngestionDelaySeconds()));
+        this.epochNanosClock = epochNanosClock;
+        this.traceIdsByTryId = new ExpiringLruCache<>(maxEntries, ttlMillis);
+        this.spansByTraceId = new ExpiringLruCache<>(maxEntries, ttlMillis);
+
+        this.traceIdHits = counter(registry, CACHE_TRACE_ID, "hit");
+        this.traceIdMisses = counter(registry, CACHE_TRACE_ID, "miss");
+        this.spansHits = counter(registry, CACHE_SPANS, "hit");
+        this.spansMisses = counter(registry, CACHE_SPANS, "miss");
+        Gauge.builder(METRIC_SIZE, traceIdsByTryId, ExpiringLruCache::size)
+                .tag("cache", CACHE_TRACE_ID)
+                .register(registry);
+        Gauge.builder(METRIC_SIZE, spansByTraceId, ExpiringLruCache::size)
+                .tag("cache", CACHE_SPANS)
+                .register(registry);
+
+        log.info("TempoTraceCache initialized: enabled={}, maxEntries={}, ttlSeconds={}, ingestionDelaySeconds={}",
+                enabled, maxEntries, cacheProps.getTtlSeconds(), cacheProps.getIngestionDelaySeconds());
+    }
+
+    /**
+     * Returns the cached traceId for a tryId.
+     *
+     * @param tryId Try session ID
+     * @return cached traceId, or {@code null} on miss or when caching is disabled
+     */
+    public String getTraceId(String tryId) {
+        if (!enabled) {
+            return null;
+        }
+        String traceId = traceIdsByTryId.get(tryId);
+        (traceId != null ? traceIdHits : traceIdMisses).increment();
+        return traceId;
+    }
+
+    /**
+     * Returns the cached parsed spans for a traceId.
+     *
+     * @param traceId trace ID
+     * @return cached spans, or {@code null} on miss or when caching is disabled
+     */
+    public List<TraceSpanInfo> getSpans(String traceId) {
+        if (!enabled) {
+            return null;
+        }
+        List<TraceSpanInfo> spans = spansByTraceId.get(traceId);
+        (spans != null ? spansHits : spansMisses).increment();
+        return spans;
+    }
+
+    /**
+     * Caches the tryId → traceId mapping.
+     *
+     * @param tryId   Try session ID
+     * @param traceId trace ID resolved from Tempo
+     */
+    public void putTraceId(String tryId, String traceId) {
+        if (enabled) {
+            traceIdsByTryId.put(tryId, traceId);
+        }
+    }
+
+    /**
+     * Caches parsed spans for a traceId once the trace has settled.
+     * <p>
+     * A trace is settled when it contains a root span and its newest span ended at least
+     * the configured ingestion delay ago. Empty or unsettled span lists are not cached so
+     * that a trace that is still being ingested by Tempo is fetched again on the next call.
+     *
+     * @param traceId trace ID
+     * @param spans   parsed spans
+     */
+    public void putSpans(String traceId, List<TraceSpanInfo> spans) {
+        if (enabled && spans != null && isSettled(spans)) {
+            spansByTraceId.put(traceId, List.copyOf(spans));
+        }
+    }
+
+    /**
+     * Drops all cached entries for a tryId.
+     * <p>
+     * Called when the trace of a Try is deleted so that later lookups do not serve it.
+     *
+     * @param tryId Try session ID
+     */
+    public void invalidate(String tryId) {
+        String traceId = traceIdsByTryId.get(tryId);
+        traceIdsByTryId.invalidate(tryId);
+        if (traceId != null) {
+            spansByTraceId.invalidate(traceId);
+        }
+    }
+
+    /**
+     * Checks whether a trace has a root span and no span ended within the ingestion delay.
+     *
+     * @param spans parsed spans of one trace
+     * @return true if the spans can be cached
+     */
+    private boolean isSettled(List<TraceSpanInfo> spans) {
+        boolean hasRoot = false;
+        long newestEndNanos = Long.MIN_VALUE;
+        for (TraceSpanInfo span : spans) {
+            if (span.getParentSpanId() == null || span.getParentSpanId().isEmpty()) {
+                hasRoot = true;
+            }
+            if (span.getEndTimeNanos() == null) {
+                return false;
+            }
+            newestEndNanos = Math.max(newestEndNanos, span.getEndTimeNanos());
+        }
+        return hasRoot && newestEndNanos <= epochNanosClock.getAsLong() - ingestionDelayNanos;
+    }
+
+    private static Counter counter(MeterRegistry registry, String cache, String result) {
+        return Counter.builder(METRIC_REQUESTS)
+                .description("Tempo trace cache lookups")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(registry);
+    }
+}
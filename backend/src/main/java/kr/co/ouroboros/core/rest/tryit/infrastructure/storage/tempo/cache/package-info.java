@@ -0,0 +1,15 @@
+/**
+ * Caching for Tempo trace lookups.
+ * <p>
+ * This package contains size-bounded, time-limited caches that avoid repeated
+ * Tempo searches and trace downloads for the same Try.
+ * <p>
+ * <b>Components:</b>
+ * <ul>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.infrastructure.storage.tempo.cache.TempoTraceCache} - tryId/traceId/spans cache with hit and miss metrics</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.infrastructure.storage.tempo.cache.ExpiringLruCache} - Generic LRU cache with TTL</li>
+ * </ul>
+ *
+ * @since 1.0.6
+ */
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.tempo.cache;
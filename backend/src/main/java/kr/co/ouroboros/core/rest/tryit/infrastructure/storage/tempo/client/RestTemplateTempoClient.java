@@ -5,8 +5,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.co.ouroboros.core.rest.tryit.config.properties.TempoProperties;
 import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceClient;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriUtils;
@@ -33,6 +42,7 @@ import java.util.List;
  * <b>Features:</b>
  * <ul>
  *   <li>Configurable timeout from TempoProperties</li>
+ *   <li>Pooled keep-alive connections (Apache HttpClient 5) configured via {@code ouroboros.tempo.pool.*}</li>
  *   <li>Automatic query parameter encoding</li>
  *   <li>Polling support with configurable interval and max attempts</li>
  *   <li>JSON response parsing</li>
@@ -50,30 +60,74 @@ import java.util.List;
         havingValue = "true", 
         matchIfMissing = false
 )
-public class RestTemplateTempoClient implements TraceClient {
+public class RestTemplateTempoClient implements TraceClient, DisposableBean {
     
     private final TempoProperties properties;
+    private final CloseableHttpClient httpClient;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     
     /**
      * Create a RestTemplateTempoClient configured with the provided TempoProperties and RestTemplateBuilder.
      *
-     * Configures the underlying RestTemplate with a 5-second connect timeout and a read timeout taken from
+     * Configures the underlying RestTemplate with a pooled Apache HttpClient (keep-alive and idle eviction from
+     * {@code ouroboros.tempo.pool.*}), the pool's connect timeout and a read timeout taken from
      * the properties' queryTimeoutSeconds.
      *
-     * @param properties Tempo configuration properties used to obtain the query timeout
+     * @param properties Tempo configuration properties used to obtain the timeouts and pool settings
      * @param builder RestTemplateBuilder used to build the configured RestTemplate
      */
     public RestTemplateTempoClient(TempoProperties properties, RestTemplateBuilder builder) {
         this.properties = properties;
+        this.httpClient = createPooledHttpClient(properties);
         this.restTemplate = builder
-                .connectTimeout(Duration.ofSeconds(5))
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .connectTimeout(Duration.ofMillis(properties.getPool().getConnectTimeoutMillis()))
                 .readTimeout(Duration.ofSeconds(properties.getQueryTimeoutSeconds()))
                 .build();
         this.objectMapper = new ObjectMapper();
     }
     
+    /**
+     * Build a pooled HttpClient for Tempo requests.
+     * <p>
+     * Connections are reused between search, poll and fetch calls. Idle and expired connections are
+     * evicted in the background so a restarted Tempo instance does not leave stale sockets in the pool.
+     *
+     * @param properties Tempo configuration properties containing pool settings
+     * @return a pooled HttpClient
+     */
+    private static CloseableHttpClient createPooledHttpClient(TempoProperties properties) {
+        TempoProperties.Pool pool = properties.getPool();
+        
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.getMaxTotal())
+                .setMaxConnPerRoute(pool.getMaxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(pool.getConnectTimeoutMillis()))
+                        .setSocketTimeout(Timeout.ofSeconds(properties.getQueryTimeoutSeconds()))
+                        .build())
+                .build();
+        
+        TimeValue keepAlive = TimeValue.ofSeconds(pool.getKeepAliveSeconds());
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(pool.getIdleEvictSeconds()))
+                .build();
+    }
+    
+    /**
+     * Closes the pooled HttpClient and releases its connections.
+     *
+     * @throws Exception if closing the client fails
+     */
+    @Override
+    public void destroy() throws Exception {
+        httpClient.close();
+    }
+    
     /**
      * Search Tempo for traces matching the given TraceQL query and return their trace IDs.
      *
@@ -153,6 +207,38 @@ public class RestTemplateTempoClient implements TraceClient {
         }
     }
     
+    /**
+     * Stream the full trace for a given trace ID from Tempo to the given reader.
+     * <p>
+     * The HTTP response body is passed to the reader as it arrives and is never buffered as a {@code String}.
+     *
+     * @param traceId the trace ID to fetch
+     * @param reader  reader consuming the response body
+     * @return the reader's result, or `null` if Tempo is disabled, the trace is not found, or an error occurs
+     */
+    @Override
+    public <T> T readTrace(String traceId, TraceBodyReader<T> reader) {
+        if (!isEnabled()) {
+            log.debug("Tempo is disabled, skipping trace fetch");
+            return null;
+        }
+        
+        try {
+            String url = properties.getBaseUrl() + "/api/traces/" + traceId;
+            log.debug("Streaming trace from Tempo: {}", url);
+            
+            return restTemplate.execute(
+                    URI.create(url),
+                    HttpMethod.GET,
+                    request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                    response -> response.getStatusCode().is2xxSuccessful() ? reader.read(response.getBody()) : null
+            );
+        } catch (Exception e) {
+            log.warn("Failed to fetch trace from Tempo: {}", e.getMessage());
+            return null;
+        }
+    }
+    
     /**
      * Polls Tempo for a trace matching the given TraceQL query until one is found or polling attempts are exhausted.
      *
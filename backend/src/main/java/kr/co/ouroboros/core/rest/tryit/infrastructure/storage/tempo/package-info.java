@@ -8,6 +8,7 @@
  * <ul>
  *   <li><b>client</b> - Tempo REST API client implementations</li>
  *   <li><b>processor</b> - OpenTelemetry SpanProcessor for Tempo-enabled environments</li>
+ *   <li><b>cache</b> - Caches for resolved trace IDs and parsed spans</li>
  * </ul>
  * <p>
  * <b>Notes:</b>
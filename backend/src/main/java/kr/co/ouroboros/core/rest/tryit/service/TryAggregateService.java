@@ -0,0 +1,101 @@
+package kr.co.ouroboros.core.rest.tryit.service;
+
+import kr.co.ouroboros.core.rest.tryit.trace.aggregate.LatencyHistogram;
+import kr.co.ouroboros.core.rest.tryit.trace.aggregate.TryAggregateRegistry;
+import kr.co.ouroboros.ui.rest.tryit.dto.TryAggregateResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service for retrieving latency aggregated across all tries.
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ *   <li>p50/p95/p99 of total and self time per endpoint (HTTP method, route)</li>
+ *   <li>Call counts per endpoint and method</li>
+ *   <li>Traced methods with the largest cumulative self time</li>
+ * </ul>
+ * <p>
+ * Aggregation is fed by the in-memory span processor (Tempo disabled) and can be
+ * turned off with {@code ouroboros.trace-aggregate.enabled=false}, in which case an
+ * empty response is returned.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TryAggregateService {
+    
+    private final ObjectProvider<TryAggregateRegistry> aggregateRegistryProvider;
+    
+    /**
+     * Returns the current cross-try aggregate.
+     *
+     * @param top maximum number of methods to include in the top self-time list
+     * @return aggregated endpoint and method latencies
+     */
+    public TryAggregateResponse getAggregate(int top) {
+        TryAggregateRegistry registry = aggregateRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            log.debug("Try aggregation is disabled");
+            return TryAggregateResponse.builder()
+                    .enabled(false)
+                    .endpoints(List.of())
+                    .topSelfTimeMethods(List.of())
+                    .build();
+        }
+        
+        return TryAggregateResponse.builder()
+                .enabled(true)
+                .endpoints(toEntries(registry.endpointSnapshots()))
+                .topSelfTimeMethods(toEntries(registry.topSelfTimeMethods(top)))
+                .build();
+    }
+    
+    /**
+     * Clears aggregated data.
+     *
+     * @return true if aggregation is enabled and data was cleared, false otherwise
+     */
+    public boolean reset() {
+        TryAggregateRegistry registry = aggregateRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            return false;
+        }
+        registry.reset();
+        return true;
+    }
+    
+    private List<TryAggregateResponse.Entry> toEntries(List<TryAggregateRegistry.Snapshot> snapshots) {
+        return snapshots.stream()
+                .map(snapshot -> TryAggregateResponse.Entry.builder()
+                        .name(snapshot.key())
+                        .count(snapshot.count())
+                        .total(toLatency(snapshot.total()))
+                        .self(toLatency(snapshot.self()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+    
+    private TryAggregateResponse.Latency toLatency(LatencyHistogram histogram) {
+        return TryAggregateResponse.Latency.builder()
+                .p50Ms(round2(histogram.getPercentileMs(50)))
+                .p95Ms(round2(histogram.getPercentileMs(95)))
+                .p99Ms(round2(histogram.getPercentileMs(99)))
+                .meanMs(round2(histogram.getMeanMs()))
+                .maxMs(round2(histogram.getMaxMs()))
+                .sumMs(round2(histogram.getSumMs()))
+                .build();
+    }
+    
+    private double round2(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
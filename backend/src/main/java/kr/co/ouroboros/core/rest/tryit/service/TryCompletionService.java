@@ -0,0 +1,159 @@
+package kr.co.ouroboros.core.rest.tryit.service;
+
+import kr.co.ouroboros.core.rest.tryit.trace.completion.TryCompletedEvent;
+import kr.co.ouroboros.core.rest.tryit.trace.completion.TryCompletionTracker;
+import kr.co.ouroboros.ui.rest.tryit.dto.TrySummaryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Service pushing Try trace completion to clients over Server-Sent Events.
+ * <p>
+ * Clients subscribe right after a Try request returned its tryId. When the
+ * {@link TryCompletionTracker} reports the trace as complete, the summary is precomputed
+ * (and cached by {@link TrySummaryService}) and sent to every subscriber as a
+ * {@value #EVENT_COMPLETED} event, after which the stream is closed.
+ * <p>
+ * <b>Events:</b>
+ * <ul>
+ *   <li>{@value #EVENT_COMPLETED} - The trace is complete; data is the {@link TrySummaryResponse}</li>
+ *   <li>{@value #EVENT_UNAVAILABLE} - Completion is not tracked for the try (Tempo mode, completion detection
+ *       disabled, or the try is unknown); data is the tryId and the client should fetch the results directly</li>
+ * </ul>
+ * A try that already completed is answered immediately.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TryCompletionService {
+
+    static final String EVENT_COMPLETED = "completed";
+    static final String EVENT_UNAVAILABLE = "unavailable";
+
+    /**
+     * Time after which an unanswered subscription is closed.
+     */
+    private static final long EMITTER_TIMEOUT_MS = 60_000L;
+
+    private final TrySummaryService trySummaryService;
+    private final ObjectProvider<TryCompletionTracker> completionTrackerProvider;
+
+    /**
+     * tryId -> emitters waiting for its completion
+     */
+    private final Map<String, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * Subscribes to the completion of a try.
+     *
+     * @param tryId Try session ID
+     * @return emitter receiving exactly one event before it completes
+     */
+    public SseEmitter subscribe(String tryId) {
+        SseEmitter emitter = createEmitter();
+        TryCompletionTracker tracker = completionTrackerProvider.getIfAvailable();
+        TrySummaryResponse cached = trySummaryService.getCachedSummary(tryId);
+        if (cached != null) {
+            send(emitter, EVENT_COMPLETED, cached);
+            return emitter;
+        }
+
+        TryCompletionTracker.Status status = tracker != null ? tracker.getStatus(tryId) : TryCompletionTracker.Status.UNKNOWN;
+        if (status == TryCompletionTracker.Status.COMPLETED) {
+            send(emitter, EVENT_COMPLETED, trySummaryService.getSummary(tryId));
+            return emitter;
+        }
+        if (status == TryCompletionTracker.Status.UNKNOWN) {
+            send(emitter, EVENT_UNAVAILABLE, tryId);
+            return emitter;
+        }
+
+        subscribers.computeIfAbsent(tryId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+        Runnable unsubscribe = () -> unsubscribe(tryId, emitter);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+
+        // The try may have completed between the status check and the registration
+        if (tracker.getStatus(tryId) != TryCompletionTracker.Status.IN_PROGRESS) {
+            List<SseEmitter> waiting = subscribers.remove(tryId);
+            if (waiting != null) {
+                TrySummaryResponse summary = trySummaryService.getSummary(tryId);
+                waiting.forEach(subscriber -> send(subscriber, EVENT_COMPLETED, summary));
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * Precomputes the summary of a completed try and notifies its subscribers.
+     * <p>
+     * Runs on the completion tracker's scheduler thread.
+     *
+     * @param event completion event
+     */
+    @EventListener
+    public void onTryCompleted(TryCompletedEvent event) {
+        String tryId = event.tryId();
+        TrySummaryResponse summary = trySummaryService.precompute(tryId);
+        List<SseEmitter> waiting = subscribers.remove(tryId);
+        if (waiting != null) {
+            waiting.forEach(subscriber -> send(subscriber, EVENT_COMPLETED, summary));
+        }
+        log.debug("Try completion pushed: tryId={}, subscribers={}", tryId, waiting != null ? waiting.size() : 0);
+    }
+
+    /**
+     * Forgets the completion state and cached summary of a try, e.g. after its trace was deleted.
+     *
+     * @param tryId Try session ID
+     */
+    public void forget(String tryId) {
+        trySummaryService.evict(tryId);
+        TryCompletionTracker tracker = completionTrackerProvider.getIfAvailable();
+        if (tracker != null) {
+            tracker.forget(tryId);
+        }
+    }
+
+    /**
+     * Creates the emitter of one subscription.
+     *
+     * @return a new emitter closed after {@link #EMITTER_TIMEOUT_MS}
+     */
+    SseEmitter createEmitter() {
+        return new SseEmitter(EMITTER_TIMEOUT_MS);
+    }
+
+    private void unsubscribe(String tryId, SseEmitter emitter) {
+        subscribers.computeIfPresent(tryId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private void send(SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data, MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already timed out
+            log.debug("Failed to send try completion event: {}", e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+}
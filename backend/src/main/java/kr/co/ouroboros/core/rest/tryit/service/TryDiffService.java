@@ -0,0 +1,98 @@
+package kr.co.ouroboros.core.rest.tryit.service;
+
+import kr.co.ouroboros.core.rest.tryit.exception.TryNotFoundException;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceDataRetriever;
+import kr.co.ouroboros.core.rest.tryit.trace.builder.TraceTreeBuilder;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.SpanDiffNode;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.SpanNode;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.TraceSpanInfo;
+import kr.co.ouroboros.core.rest.tryit.trace.util.TraceDurationCalculator;
+import kr.co.ouroboros.core.rest.tryit.trace.util.TraceTreeDiffer;
+import kr.co.ouroboros.ui.rest.tryit.dto.TryDiffResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Service for comparing the traces of two tries.
+ * <p>
+ * Typically used to compare a try fired before an optimization (baseline)
+ * with a try fired after it (target).
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ *   <li>Builds both trace trees with {@link TraceTreeBuilder}</li>
+ *   <li>Aligns spans by call path (className, methodName from the root)</li>
+ *   <li>Reports per-path deltas in duration, self duration and call count</li>
+ *   <li>Reports call paths added or removed in the target</li>
+ * </ul>
+ * <p>
+ * Both tries must have trace data; an unknown or expired tryId is reported with
+ * {@link TryNotFoundException} instead of being compared as an empty trace.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TryDiffService {
+    
+    private final TraceDataRetriever traceDataRetriever;
+    private final TraceTreeBuilder traceTreeBuilder;
+    private final TraceTreeDiffer traceTreeDiffer;
+    
+    /**
+     * Compares the traces of two tries.
+     *
+     * @param baselineTryId Try session ID of the baseline (before) try
+     * @param targetTryId   Try session ID of the target (after) try
+     * @return TryDiffResponse with totals, status counts and aligned call paths
+     * @throws TryNotFoundException if either try has no trace data
+     */
+    public TryDiffResponse getDiff(String baselineTryId, String targetTryId) {
+        log.info("Diffing tries: baseline={}, target={}", baselineTryId, targetTryId);
+        
+        List<TraceSpanInfo> baselineSpans = loadSpans(baselineTryId);
+        List<TraceSpanInfo> targetSpans = loadSpans(targetTryId);
+        long baselineTotal = TraceDurationCalculator.calculateTotalDuration(baselineSpans);
+        long targetTotal = TraceDurationCalculator.calculateTotalDuration(targetSpans);
+        
+        List<SpanNode> baselineTree = traceTreeBuilder.buildTree(baselineSpans, baselineTotal);
+        List<SpanNode> targetTree = traceTreeBuilder.buildTree(targetSpans, targetTotal);
+        List<SpanDiffNode> nodes = traceTreeDiffer.diff(baselineTree, targetTree);
+        
+        int added = 0;
+        int removed = 0;
+        int changed = 0;
+        for (SpanDiffNode node : nodes) {
+            switch (node.getStatus()) {
+                case ADDED -> added++;
+                case REMOVED -> removed++;
+                case CHANGED -> changed++;
+                default -> {
+                }
+            }
+        }
+        
+        return TryDiffResponse.builder()
+                .baselineTryId(baselineTryId)
+                .targetTryId(targetTryId)
+                .baselineTotalDurationMs(baselineTotal)
+                .targetTotalDurationMs(targetTotal)
+                .totalDurationDeltaMs(targetTotal - baselineTotal)
+                .addedCount(added)
+                .removedCount(removed)
+                .changedCount(changed)
+                .nodes(nodes)
+                .build();
+    }
+    
+    private List<TraceSpanInfo> loadSpans(String tryId) {
+        return traceDataRetriever.getTraceData(tryId)
+                .map(TraceDataRetriever.TraceDataResult::getSpans)
+                .orElseThrow(() -> new TryNotFoundException(tryId));
+    }
+}
@@ -0,0 +1,86 @@
+package kr.co.ouroboros.core.rest.tryit.service;
+
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceDataRetriever;
+import kr.co.ouroboros.core.rest.tryit.trace.builder.TraceTreeBuilder;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.SpanNode;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.TraceSpanInfo;
+import kr.co.ouroboros.core.rest.tryit.trace.util.FlameGraphBuilder;
+import kr.co.ouroboros.core.rest.tryit.trace.util.TraceDurationCalculator;
+import kr.co.ouroboros.ui.rest.tryit.dto.TryFlameGraphResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Service for exporting a Try trace as a flame graph.
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ *   <li>Folded (collapsed) stacks for standard flame graph tooling</li>
+ *   <li>Merged flame graph JSON for cheap rendering of large traces in the UI</li>
+ * </ul>
+ * <p>
+ * If no trace data is found, an empty flame graph (or empty folded output) is returned.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TryFlameGraphService {
+    
+    /**
+     * Unit of flame graph values.
+     */
+    private static final String UNIT_NANOSECONDS = "ns";
+    
+    private final TraceDataRetriever traceDataRetriever;
+    private final TraceTreeBuilder traceTreeBuilder;
+    private final FlameGraphBuilder flameGraphBuilder;
+    
+    /**
+     * Retrieve the merged flame graph for a Try.
+     *
+     * @param tryIdStr Try session ID; expected to be a UUID string
+     * @return TryFlameGraphResponse containing the tryId, traceId (or null) and the merged frames
+     */
+    public TryFlameGraphResponse getFlameGraph(String tryIdStr) {
+        log.info("Retrieving flame graph for tryId: {}", tryIdStr);
+        
+        return traceDataRetriever.getTraceData(tryIdStr)
+                .map(result -> TryFlameGraphResponse.builder()
+                        .tryId(tryIdStr)
+                        .traceId(result.getTraceId())
+                        .unit(UNIT_NANOSECONDS)
+                        .root(flameGraphBuilder.buildFlameGraph(buildTree(result.getSpans())))
+                        .build())
+                .orElse(TryFlameGraphResponse.builder()
+                        .tryId(tryIdStr)
+                        .traceId(null)
+                        .unit(UNIT_NANOSECONDS)
+                        .root(flameGraphBuilder.buildFlameGraph(List.of()))
+                        .build());
+    }
+    
+    /**
+     * Retrieve the folded (collapsed) stacks for a Try.
+     *
+     * @param tryIdStr Try session ID; expected to be a UUID string
+     * @return folded stacks ({@code a;b;c self_ns} per line), empty if no trace is available
+     */
+    public String getFoldedStacks(String tryIdStr) {
+        log.info("Retrieving folded stacks for tryId: {}", tryIdStr);
+        
+        return traceDataRetriever.getTraceData(tryIdStr)
+                .map(result -> flameGraphBuilder.buildFoldedStacks(buildTree(result.getSpans())))
+                .orElse("");
+    }
+    
+    private List<SpanNode> buildTree(List<TraceSpanInfo> spans) {
+        long totalDurationMs = TraceDurationCalculator.calculateTotalDuration(spans);
+        return traceTreeBuilder.buildTree(spans, totalDurationMs);
+    }
+}
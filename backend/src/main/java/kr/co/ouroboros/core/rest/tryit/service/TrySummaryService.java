@@ -1,15 +1,22 @@
 package kr.co.ouroboros.core.rest.tryit.service;
 
+import kr.co.ouroboros.core.rest.tryit.config.properties.TraceCompletionProperties;
 import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceDataRetriever;
 import kr.co.ouroboros.core.rest.tryit.trace.analyzer.IssueAnalyzer;
+import kr.co.ouroboros.core.rest.tryit.trace.completion.TryCompletionTracker;
 import kr.co.ouroboros.core.rest.tryit.trace.dto.AnalysisStatus;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.StompStageLatency;
+import kr.co.ouroboros.core.rest.tryit.trace.util.StompLatencyCalculator;
 import kr.co.ouroboros.core.rest.tryit.trace.util.TraceDurationCalculator;
 import kr.co.ouroboros.ui.rest.tryit.dto.TrySummaryResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service for retrieving Try summary information without trace spans or issues.
@@ -24,6 +31,8 @@ import java.util.List;
  *   <li>Calculates total duration and span count</li>
  *   <li>Detects issues without full trace tree building</li>
  *   <li>Extracts HTTP status code from trace spans</li>
+ *   <li>Breaks down STOMP tries into queue and handle latency per stage and destination</li>
+ *   <li>Caches summaries precomputed on trace completion; returns PENDING without analysis while a try is in flight</li>
  * </ul>
  *
  * @author Ouroboros Team
@@ -31,20 +40,100 @@ import java.util.List;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TrySummaryService {
     
     private final TraceDataRetriever traceDataRetriever;
     private final IssueAnalyzer issueAnalyzer;
+    private final ObjectProvider<TryCompletionTracker> completionTrackerProvider;
+    
+    /**
+     * Summaries precomputed on trace completion, oldest evicted first.
+     */
+    private final Map<String, TrySummaryResponse> completedSummaries;
+    
+    /**
+     * Creates the service.
+     *
+     * @param traceDataRetriever        retriever for trace data of a try
+     * @param issueAnalyzer             analyzer counting the issues of a trace
+     * @param completionTrackerProvider provider of the trace completion tracker (absent when completion detection is disabled)
+     * @param completionProperties      completion configuration properties (summary cache size)
+     */
+    public TrySummaryService(TraceDataRetriever traceDataRetriever,
+                             IssueAnalyzer issueAnalyzer,
+                             ObjectProvider<TryCompletionTracker> completionTrackerProvider,
+                             TraceCompletionProperties completionProperties) {
+        this.traceDataRetriever = traceDataRetriever;
+        this.issueAnalyzer = issueAnalyzer;
+        this.completionTrackerProvider = completionTrackerProvider;
+        int maxCachedSummaries = Math.max(0, completionProperties.getMaxCachedSummaries());
+        this.completedSummaries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TrySummaryResponse> eldest) {
+                return size() > maxCachedSummaries;
+            }
+        });
+    }
     
     /**
      * Retrieve a compact summary for a Try session without returning trace spans or full issue details.
+     * <p>
+     * A summary precomputed on trace completion is returned as is. While the completion tracker
+     * reports the try as in progress, PENDING is returned without reading or analyzing the trace.
      *
      * @param tryIdStr Try session ID as a UUID string used to locate the corresponding trace.
      * @return a TrySummaryResponse containing tryId, traceId (if found), analysis status (PENDING, COMPLETED, or FAILED),
      *         HTTP status code, totalDurationMs, spanCount, issueCount, and an error message when retrieval fails.
      */
     public TrySummaryResponse getSummary(String tryIdStr) {
+        TrySummaryResponse cached = completedSummaries.get(tryIdStr);
+        if (cached != null) {
+            return cached;
+        }
+        TryCompletionTracker tracker = completionTrackerProvider.getIfAvailable();
+        if (tracker != null && tracker.getStatus(tryIdStr) == TryCompletionTracker.Status.IN_PROGRESS) {
+            log.debug("Try still in progress, skipping analysis: tryId={}", tryIdStr);
+            return buildEmptySummary(tryIdStr);
+        }
+        return analyze(tryIdStr);
+    }
+    
+    /**
+     * Analyzes a completed try and caches its summary for later {@link #getSummary(String)} calls.
+     * <p>
+     * Only COMPLETED summaries are cached; a try whose trace is not found yet is analyzed again on request.
+     *
+     * @param tryIdStr completed Try session ID
+     * @return the computed summary
+     */
+    public TrySummaryResponse precompute(String tryIdStr) {
+        TrySummaryResponse summary = analyze(tryIdStr);
+        if (summary.getStatus() == AnalysisStatus.COMPLETED) {
+            completedSummaries.put(tryIdStr, summary);
+        }
+        return summary;
+    }
+    
+    /**
+     * Returns the summary cached for a try, if it was precomputed.
+     *
+     * @param tryIdStr Try session ID
+     * @return cached summary, or null
+     */
+    public TrySummaryResponse getCachedSummary(String tryIdStr) {
+        return completedSummaries.get(tryIdStr);
+    }
+    
+    /**
+     * Removes the cached summary of a try, e.g. after its trace was deleted.
+     *
+     * @param tryIdStr Try session ID
+     */
+    public void evict(String tryIdStr) {
+        completedSummaries.remove(tryIdStr);
+    }
+    
+    private TrySummaryResponse analyze(String tryIdStr) {
         log.info("Retrieving summary for tryId: {}", tryIdStr);
         
         return traceDataRetriever.getTraceData(tryIdStr)
@@ -62,6 +151,9 @@ public class TrySummaryService {
                     // Extract HTTP status code
                     Integer statusCode = extractHttpStatusCode(spans);
                     
+                    // STOMP stage breakdown (empty for HTTP tries)
+                    List<StompStageLatency> stompLatency = StompLatencyCalculator.calculate(spans);
+                    
                     return TrySummaryResponse.builder()
                             .tryId(tryIdStr)
                             .traceId(traceId)
@@ -70,6 +162,7 @@ public class TrySummaryService {
                             .totalDurationMs(totalDurationMs)
                             .spanCount(spans.size())
                             .issueCount(issueCount)
+                            .stompLatency(stompLatency.isEmpty() ? null : stompLatency)
                             .build();
                 })
                 .orElse(buildEmptySummary(tryIdStr));
@@ -4,6 +4,7 @@ import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceDataRetriever
 import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceStorage;
 import kr.co.ouroboros.core.rest.tryit.trace.builder.TraceTreeBuilder;
 import kr.co.ouroboros.core.rest.tryit.trace.dto.SpanNode;
+import kr.co.ouroboros.core.rest.tryit.trace.util.CriticalPathCalculator;
 import kr.co.ouroboros.core.rest.tryit.trace.util.TraceDurationCalculator;
 import kr.co.ouroboros.ui.rest.tryit.dto.TryTraceResponse;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ import java.util.List;
  *   <li>Retrieves full call trace with hierarchical spans</li>
  *   <li>Builds trace tree structure</li>
  *   <li>Calculates total duration</li>
+ *   <li>Calculates the critical path</li>
  *   <li>Skips issue detection for performance</li>
  * </ul>
  *
@@ -45,7 +47,7 @@ public class TryTraceService {
      * <p>If Tempo is disabled or no trace data is found, an empty TryTraceResponse is returned.
      *
      * @param tryIdStr Try session ID; expected to be a UUID string
-     * @return TryTraceResponse containing the tryId, the found traceId (or null), totalDurationMs, and a hierarchical span tree; an empty response is returned when no trace is available
+     * @return TryTraceResponse containing the tryId, the found traceId (or null), totalDurationMs, a hierarchical span tree, and the critical path; an empty response is returned when no trace is available
      */
     public TryTraceResponse getTrace(String tryIdStr) {
         log.info("Retrieving trace for tryId: {}", tryIdStr);
@@ -66,6 +68,7 @@ public class TryTraceService {
                             .traceId(traceId)
                             .totalDurationMs(totalDurationMs)
                             .spans(spanTree)
+                            .criticalPath(CriticalPathCalculator.calculate(spans))
                             .build();
                 })
                 .orElse(buildEmptyResponse(tryIdStr));
@@ -75,7 +78,7 @@ public class TryTraceService {
      * Deletes trace data for the given tryId from trace storage.
      * <p>
      * This method removes the trace data stored in the trace storage (e.g., in-memory storage)
-     * for the specified tryId.
+     * for the specified tryId, and drops any cached Tempo lookups for it.
      *
      * @param tryIdStr Try session ID as a UUID string
      * @return true if trace was found and deleted, false otherwise
@@ -83,6 +86,7 @@ public class TryTraceService {
     public boolean deleteTrace(String tryIdStr) {
         log.info("Deleting trace for tryId: {}", tryIdStr);
         boolean deleted = traceStorage.deleteTraceByTryId(tryIdStr);
+        traceDataRetriever.invalidate(tryIdStr);
         if (deleted) {
             log.info("Successfully deleted trace for tryId: {}", tryIdStr);
         } else {
@@ -103,6 +107,7 @@ public class TryTraceService {
                 .traceId(null)
                 .totalDurationMs(0L)
                 .spans(List.of())
+                .criticalPath(List.of())
                 .build();
     }
 }
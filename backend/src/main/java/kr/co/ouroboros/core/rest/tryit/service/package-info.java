@@ -11,6 +11,10 @@
  *   <li>{@link kr.co.ouroboros.core.rest.tryit.service.TryMethodListService} - Retrieves paginated method list</li>
  *   <li>{@link kr.co.ouroboros.core.rest.tryit.service.TryTraceService} - Retrieves full call trace</li>
  *   <li>{@link kr.co.ouroboros.core.rest.tryit.service.TryIssuesService} - Retrieves detected issues</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.service.TryAggregateService} - Retrieves latency aggregated across tries</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.service.TryDiffService} - Compares the traces of two tries</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.service.TryFlameGraphService} - Exports a trace as folded stacks or flame graph</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.service.TryCompletionService} - Pushes trace completion over Server-Sent Events</li>
  * </ul>
  * <p>
  * <b>Note:</b> TraceDataRetriever is located in
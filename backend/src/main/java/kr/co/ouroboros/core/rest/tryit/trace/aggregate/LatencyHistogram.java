@@ -0,0 +1,122 @@
+package kr.co.ouroboros.core.rest.tryit.trace.aggregate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, thread-safe latency histogram with log-linear buckets.
+ * <p>
+ * Follows the HDR histogram layout: values (in microseconds) below 16 get one bucket
+ * each, larger values are split into 16 linear sub-buckets per power of two. This keeps
+ * the relative error of reported percentiles below about 6% from 1µs up to 2<sup>40</sup>µs
+ * (about 12 days) with 608 counters, independent of how many values are recorded.
+ * <p>
+ * Count, sum, min and max are tracked exactly.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+
+    /**
+     * Number of buckets.
+     */
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sumMicros = new AtomicLong();
+    private final AtomicLong minMicros = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Records a value.
+     *
+     * @param nanos value in nanoseconds; negative values are recorded as 0
+     */
+    public void recordNanos(long nanos) {
+        long micros = Math.max(0L, nanos / 1_000L);
+        counts.incrementAndGet(bucketIndex(micros));
+        count.incrementAndGet();
+        sumMicros.addAndGet(micros);
+        minMicros.accumulateAndGet(micros, Math::min);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * @return number of recorded values
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return sum of recorded values in milliseconds
+     */
+    public double getSumMs() {
+        return sumMicros.get() / 1_000.0;
+    }
+
+    /**
+     * @return largest recorded value in milliseconds, 0 if empty
+     */
+    public double getMaxMs() {
+        return maxMicros.get() / 1_000.0;
+    }
+
+    /**
+     * @return mean of recorded values in milliseconds, 0 if empty
+     */
+    public double getMeanMs() {
+        long n = count.get();
+        return n > 0 ? sumMicros.get() / 1_000.0 / n : 0;
+    }
+
+    /**
+     * Returns the value at the given percentile.
+     *
+     * @param percentile percentile in (0, 100]
+     * @return value in milliseconds (bucket midpoint clamped to min/max), 0 if empty
+     */
+    public double getPercentileMs(double percentile) {
+        long n = count.get();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                long value = Math.min(Math.max(bucketMidpoint(i), minMicros.get()), maxMicros.get());
+                return value / 1_000.0;
+            }
+        }
+        return maxMicros.get() / 1_000.0;
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) ((micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketMidpoint(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + ((1L << shift) >> 1);
+    }
+}
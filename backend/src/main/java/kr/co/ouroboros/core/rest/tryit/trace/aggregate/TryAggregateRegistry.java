@@ -0,0 +1,297 @@
+package kr.co.ouroboros.core.rest.tryit.trace.aggregate;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import kr.co.ouroboros.core.rest.tryit.config.properties.TraceAggregateProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aggregates Try span latencies across all tries.
+ * <p>
+ * Ended Try spans are recorded into streaming histograms of total and self time:
+ * <ul>
+ *   <li>per endpoint: SERVER spans keyed by HTTP method and route</li>
+ *   <li>per traced method: spans with {@code code.namespace}/{@code code.function} attributes</li>
+ * </ul>
+ * <p>
+ * Self time is the span's duration minus the union of its children's intervals. Children
+ * end before their parent, so their intervals are collected per trace while the trace is in
+ * flight and consumed when the parent ends; the trace's entries are dropped when its local
+ * root span ends. Children that end after their parent (fire-and-forget async work) are not
+ * subtracted; children ending after their trace's local root are ignored, since the traceId
+ * is remembered among the recently completed traces.
+ * <p>
+ * <b>Bounded memory:</b> each key holds two fixed-size {@link LatencyHistogram}s. The number
+ * of keys is capped by {@link TraceAggregateProperties}; values for new keys beyond the cap are
+ * recorded under {@value #OTHER_KEY}. The number of in-flight traces tracked for self time is
+ * capped as well; beyond the cap the oldest trace is dropped (e.g. one whose root never ended),
+ * so new traces always get their self time.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ouroboros.trace-aggregate.enabled", havingValue = "true", matchIfMissing = true)
+public class TryAggregateRegistry {
+
+    /**
+     * Key under which values for keys beyond the configured limit are recorded.
+     */
+    public static final String OTHER_KEY = "(other)";
+
+    private static final AttributeKey<String> CODE_NAMESPACE = AttributeKey.stringKey("code.namespace");
+    private static final AttributeKey<String> CODE_FUNCTION = AttributeKey.stringKey("code.function");
+    private static final AttributeKey<String> METHOD = AttributeKey.stringKey("method");
+    private static final AttributeKey<String> HTTP_METHOD = AttributeKey.stringKey("http.method");
+    private static final AttributeKey<String> HTTP_REQUEST_METHOD = AttributeKey.stringKey("http.request.method");
+    private static final AttributeKey<String> URI = AttributeKey.stringKey("uri");
+    private static final AttributeKey<String> HTTP_ROUTE = AttributeKey.stringKey("http.route");
+
+    private final int maxEndpoints;
+    private final int maxMethods;
+    private final int maxPendingTraces;
+
+    private final Map<String, Aggregate> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, Aggregate> methods = new ConcurrentHashMap<>();
+
+    /**
+     * traceId -> parent spanId -> ended child intervals, oldest trace evicted first
+     */
+    private final Map<String, Map<String, List<long[]>>> pendingChildren;
+
+    /**
+     * traceIds whose local root ended recently, oldest evicted first
+     */
+    private final Set<String> completedTraces;
+
+    /**
+     * Creates the registry with limits from the aggregate properties.
+     *
+     * @param properties aggregate configuration properties
+     */
+    public TryAggregateRegistry(TraceAggregateProperties properties) {
+        this.maxEndpoints = Math.max(1, properties.getMaxEndpoints());
+        this.maxMethods = Math.max(1, properties.getMaxMethods());
+        this.maxPendingTraces = Math.max(0, properties.getMaxPendingTraces());
+        this.pendingChildren = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, List<long[]>>> eldest) {
+                return size() > maxPendingTraces;
+            }
+        });
+        this.completedTraces = Collections.newSetFromMap(Collections.synchronizedMap(
+                new LinkedHashMap<>(16, 0.75f, false) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                        return size() > maxPendingTraces;
+                    }
+                }));
+        log.info("TryAggregateRegistry initialized: maxEndpoints={}, maxMethods={}, maxPendingTraces={}",
+                maxEndpoints, maxMethods, maxPendingTraces);
+    }
+
+    /**
+     * Records an ended Try span.
+     *
+     * @param span the ended span
+     */
+    public void record(ReadableSpan span) {
+        SpanData data = span.toSpanData();
+        long start = data.getStartEpochNanos();
+        long end = data.getEndEpochNanos();
+        if (end < start) {
+            return;
+        }
+        String traceId = span.getSpanContext().getTraceId();
+        String spanId = span.getSpanContext().getSpanId();
+        SpanContext parent = span.getParentSpanContext();
+        boolean localRoot = !parent.isValid() || parent.isRemote();
+
+        // Consume own children first, then register this span as a child of its parent
+        long selfNanos = (end - start) - childCoverage(traceId, spanId, start, end);
+        if (localRoot) {
+            completedTraces.add(traceId);
+            pendingChildren.remove(traceId);
+        } else {
+            addPendingChild(traceId, parent.getSpanId(), start, end);
+        }
+
+        String methodKey = methodKey(span);
+        if (methodKey != null) {
+            aggregate(methods, maxMethods, methodKey).record(end - start, selfNanos);
+        }
+        if (span.getKind() == SpanKind.SERVER) {
+            aggregate(endpoints, maxEndpoints, endpointKey(span)).record(end - start, selfNanos);
+        }
+    }
+
+    /**
+     * Returns per-endpoint snapshots ordered by call count (largest first).
+     *
+     * @return endpoint snapshots
+     */
+    public List<Snapshot> endpointSnapshots() {
+        List<Snapshot> snapshots = snapshots(endpoints);
+        snapshots.sort(Comparator.comparingLong(Snapshot::count).reversed());
+        return snapshots;
+    }
+
+    /**
+     * Returns the methods with the largest cumulative self time.
+     *
+     * @param limit maximum number of methods to return
+     * @return method snapshots ordered by cumulative self time (largest first)
+     */
+    public List<Snapshot> topSelfTimeMethods(int limit) {
+        List<Snapshot> snapshots = snapshots(methods);
+        snapshots.sort(Comparator.comparingDouble((Snapshot s) -> s.self().getSumMs()).reversed());
+        return snapshots.size() > limit ? new ArrayList<>(snapshots.subList(0, limit)) : snapshots;
+    }
+
+    /**
+     * Clears all aggregated data.
+     */
+    public void reset() {
+        endpoints.clear();
+        methods.clear();
+        pendingChildren.clear();
+        completedTraces.clear();
+        log.info("Cleared aggregated Try latencies");
+    }
+
+    private long childCoverage(String traceId, String spanId, long start, long end) {
+        Map<String, List<long[]>> trace = pendingChildren.get(traceId);
+        List<long[]> children = trace != null ? trace.remove(spanId) : null;
+        if (children == null || children.isEmpty()) {
+            return 0;
+        }
+        List<long[]> intervals;
+        synchronized (children) {
+            intervals = new ArrayList<>(children);
+        }
+        intervals.sort(Comparator.comparingLong(interval -> interval[0]));
+        long covered = 0;
+        long runStart = 0;
+        long runEnd = Long.MIN_VALUE;
+        for (long[] interval : intervals) {
+            long childStart = Math.max(interval[0], start);
+            long childEnd = Math.min(interval[1], end);
+            if (childEnd <= childStart) {
+                continue;
+            }
+            if (childStart > runEnd) {
+                if (runEnd > runStart) {
+                    covered += runEnd - runStart;
+                }
+                runStart = childStart;
+                runEnd = childEnd;
+            } else if (childEnd > runEnd) {
+                runEnd = childEnd;
+            }
+        }
+        if (runEnd > runStart) {
+            covered += runEnd - runStart;
+        }
+        return covered;
+    }
+
+    private void addPendingChild(String traceId, String parentSpanId, long start, long end) {
+        if (maxPendingTraces == 0 || completedTraces.contains(traceId)) {
+            // The local root already ended: nothing will consume this interval
+            return;
+        }
+        Map<String, List<long[]>> trace = pendingChildren.get(traceId);
+        if (trace == null) {
+            trace = pendingChildren.computeIfAbsent(traceId, k -> new ConcurrentHashMap<>());
+        }
+        List<long[]> children = trace.computeIfAbsent(parentSpanId, k -> new ArrayList<>());
+        synchronized (children) {
+            children.add(new long[]{start, end});
+        }
+    }
+
+    private Aggregate aggregate(Map<String, Aggregate> map, int maxKeys, String key) {
+        Aggregate aggregate = map.get(key);
+        if (aggregate != null) {
+            return aggregate;
+        }
+        String effectiveKey = map.size() >= maxKeys ? OTHER_KEY : key;
+        return map.computeIfAbsent(effectiveKey, k -> new Aggregate());
+    }
+
+    private String methodKey(ReadableSpan span) {
+        String function = span.getAttribute(CODE_FUNCTION);
+        if (function == null) {
+            return null;
+        }
+        String namespace = span.getAttribute(CODE_NAMESPACE);
+        if (namespace == null) {
+            return function;
+        }
+        int lastDot = namespace.lastIndexOf('.');
+        return (lastDot >= 0 ? namespace.substring(lastDot + 1) : namespace) + "." + function;
+    }
+
+    private String endpointKey(ReadableSpan span) {
+        String method = firstNonNull(span.getAttribute(METHOD), span.getAttribute(HTTP_METHOD),
+                span.getAttribute(HTTP_REQUEST_METHOD));
+        String route = firstNonNull(span.getAttribute(URI), span.getAttribute(HTTP_ROUTE));
+        if (method == null || route == null) {
+            return span.getName();
+        }
+        return method.toUpperCase(Locale.ROOT) + " " + route;
+    }
+
+    private static String firstNonNull(String... values) {
+        for (String value : values) {
+            if (value != null && !value.isEmpty()) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static List<Snapshot> snapshots(Map<String, Aggregate> map) {
+        List<Snapshot> snapshots = new ArrayList<>(map.size());
+        map.forEach((key, aggregate) -> snapshots.add(
+                new Snapshot(key, aggregate.total.getCount(), aggregate.total, aggregate.self)));
+        return snapshots;
+    }
+
+    /**
+     * Read view of one aggregated key.
+     *
+     * @param key   endpoint ("GET /api/users/{id}") or method ("UserService.find") key
+     * @param count number of recorded spans
+     * @param total histogram of total (wall) time
+     * @param self  histogram of self time
+     */
+    public record Snapshot(String key, long count, LatencyHistogram total, LatencyHistogram self) {
+    }
+
+    private static final class Aggregate {
+        private final LatencyHistogram total = new LatencyHistogram();
+        private final LatencyHistogram self = new LatencyHistogram();
+
+        private void record(long totalNanos, long selfNanos) {
+            total.recordNanos(totalNanos);
+            self.recordNanos(selfNanos);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * Cross-try aggregate profiling.
+ * <p>
+ * This package contains components that aggregate Try span latencies across all
+ * tries, so that an endpoint's or method's latency can be compared against its
+ * own history instead of a single try.
+ * <p>
+ * <b>Components:</b>
+ * <ul>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.aggregate.TryAggregateRegistry} - Records total and self time per endpoint and per method</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.aggregate.LatencyHistogram} - Fixed-size log-linear latency histogram</li>
+ * </ul>
+ *
+ * @since 1.0.6
+ */
+package kr.co.ouroboros.core.rest.tryit.trace.aggregate;
@@ -0,0 +1,297 @@
+package kr.co.ouroboros.core.rest.tryit.trace.analyzer;
+
+import kr.co.ouroboros.core.rest.tryit.trace.dto.Issue;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.TraceSpanInfo;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Detects repeated-call patterns among sibling spans.
+ * <p>
+ * Where {@link IssueAnalyzer} looks at spans one by one, this detector groups the
+ * direct children of each span by a normalized call key and reports groups that
+ * indicate a loop around a remote or database call.
+ * <p>
+ * <b>Call key (first match wins):</b>
+ * <ul>
+ *   <li>Database statement ({@code db.statement} / {@code db.query.text}) with literals replaced by {@code ?}</li>
+ *   <li>HTTP client call: method and URL path with numeric/UUID segments replaced by {@code {id}}</li>
+ *   <li>Traced method: {@code code.namespace} + {@code code.function}</li>
+ *   <li>Span name</li>
+ * </ul>
+ * <p>
+ * <b>Detected Patterns (one issue per group, in this priority):</b>
+ * <ul>
+ *   <li>{@link Issue.Type#N_PLUS_ONE} - same database call ≥5 times under one parent</li>
+ *   <li>{@link Issue.Type#REPEATED_HTTP_CALL} - identical HTTP call (method + full URL) ≥2 times under one parent</li>
+ *   <li>{@link Issue.Type#SEQUENTIAL_CALLS} - same call ≥3 times, strictly one after another</li>
+ * </ul>
+ * <p>
+ * Each issue carries the call count, the cumulative duration and the parent span.
+ * Grouping is a single pass over the spans plus a sort of each reported group.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+public class CallPatternDetector {
+
+    static final int N_PLUS_ONE_MIN_CALLS = 5;
+    static final int REPEATED_HTTP_MIN_CALLS = 2;
+    static final int SEQUENTIAL_MIN_CALLS = 3;
+
+    private static final Pattern SQL_STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern SQL_NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern SQL_IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PATH_ID_SEGMENT = Pattern.compile(
+            "/(?:\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(?=/|$)");
+
+    /**
+     * Detects repeated-call patterns in the trace.
+     *
+     * @param spans           all spans of the trace
+     * @param totalDurationMs total duration of the trace in milliseconds
+     * @return detected pattern issues, ordered by cumulative duration (largest first)
+     */
+    public List<Issue> detect(List<TraceSpanInfo> spans, long totalDurationMs) {
+        if (spans == null || spans.size() < REPEATED_HTTP_MIN_CALLS) {
+            return new ArrayList<>();
+        }
+
+        Map<String, TraceSpanInfo> spanById = new HashMap<>(spans.size() * 4 / 3 + 1);
+        for (TraceSpanInfo span : spans) {
+            if (span.getSpanId() != null) {
+                spanById.put(span.getSpanId(), span);
+            }
+        }
+
+        // parentSpanId -> call key -> sibling spans
+        Map<String, Map<CallKey, List<TraceSpanInfo>>> groups = new LinkedHashMap<>();
+        for (TraceSpanInfo span : spans) {
+            String parentId = span.getParentSpanId();
+            if (parentId == null || !spanById.containsKey(parentId)) {
+                continue;
+            }
+            groups.computeIfAbsent(parentId, k -> new LinkedHashMap<>())
+                    .computeIfAbsent(callKey(span), k -> new ArrayList<>())
+                    .add(span);
+        }
+
+        List<Issue> issues = new ArrayList<>();
+        for (Map.Entry<String, Map<CallKey, List<TraceSpanInfo>>> parentEntry : groups.entrySet()) {
+            TraceSpanInfo parent = spanById.get(parentEntry.getKey());
+            for (Map.Entry<CallKey, List<TraceSpanInfo>> group : parentEntry.getValue().entrySet()) {
+                List<TraceSpanInfo> calls = group.getValue();
+                if (calls.size() < REPEATED_HTTP_MIN_CALLS) {
+                    continue;
+                }
+                Issue issue = detectGroup(parent, group.getKey(), calls, totalDurationMs);
+                if (issue != null) {
+                    issues.add(issue);
+                }
+            }
+        }
+
+        issues.sort((a, b) -> Long.compare(b.getCumulativeDurationMs(), a.getCumulativeDurationMs()));
+        log.debug("Detected {} call pattern issues", issues.size());
+        return issues;
+    }
+
+    private Issue detectGroup(TraceSpanInfo parent, CallKey key, List<TraceSpanInfo> calls, long totalDurationMs) {
+        if (key.category() == Category.DATABASE && calls.size() >= N_PLUS_ONE_MIN_CALLS) {
+            return buildIssue(Issue.Type.N_PLUS_ONE, parent, key, calls, totalDurationMs,
+                    "Same database call executed %d times under %s (%dms total)",
+                    "Fetch the data in a single query (join fetch, IN clause or batch loading) instead of once per item");
+        }
+
+        if (key.category() == Category.HTTP) {
+            List<TraceSpanInfo> identical = largestIdenticalHttpGroup(calls);
+            if (identical.size() >= REPEATED_HTTP_MIN_CALLS) {
+                return buildIssue(Issue.Type.REPEATED_HTTP_CALL, parent, key, identical, totalDurationMs,
+                        "Identical HTTP call executed %d times under %s (%dms total)",
+                        "Reuse the first response or cache it for the duration of the request");
+            }
+        }
+
+        if (calls.size() >= SEQUENTIAL_MIN_CALLS && isSequential(calls)) {
+            return buildIssue(Issue.Type.SEQUENTIAL_CALLS, parent, key, calls, totalDurationMs,
+                    "Same call executed sequentially %d times under %s (%dms total)",
+                    key.category() == Category.INTERNAL
+                            ? "Batch the calls into one operation or run them in parallel"
+                            : "Use a batch API or run the independent calls in parallel");
+        }
+        return null;
+    }
+
+    private Issue buildIssue(Issue.Type type, TraceSpanInfo parent, CallKey key, List<TraceSpanInfo> calls,
+                             long totalDurationMs, String summaryFormat, String recommendation) {
+        long cumulativeMs = 0;
+        long maxMs = 0;
+        for (TraceSpanInfo call : calls) {
+            long durationMs = durationMs(call);
+            cumulativeMs += durationMs;
+            maxMs = Math.max(maxMs, durationMs);
+        }
+        double percentage = totalDurationMs > 0 ? (cumulativeMs * 100.0 / totalDurationMs) : 0;
+
+        List<String> evidence = new ArrayList<>();
+        evidence.add("count: " + calls.size());
+        evidence.add("cumulative duration: " + cumulativeMs + "ms");
+        evidence.add("average duration: " + (cumulativeMs / calls.size()) + "ms");
+        evidence.add("max duration: " + maxMs + "ms");
+        evidence.add("parent: " + parent.getName());
+        evidence.add("call: " + key.value());
+
+        return Issue.builder()
+                .type(type)
+                .severity(determineSeverity(type, percentage, calls.size()))
+                .summary(String.format(summaryFormat, calls.size(), parent.getName(), cumulativeMs))
+                .spanName(calls.get(0).getName())
+                .durationMs(cumulativeMs)
+                .count(calls.size())
+                .cumulativeDurationMs(cumulativeMs)
+                .parentSpanId(parent.getSpanId())
+                .parentSpanName(parent.getName())
+                .evidence(evidence)
+                .recommendation(recommendation)
+                .build();
+    }
+
+    /**
+     * Severity by share of total time; loops with many round trips are at least MEDIUM
+     * because they grow with data size even when the current trace is fast.
+     */
+    private Issue.Severity determineSeverity(Issue.Type type, double percentage, int count) {
+        Issue.Severity severity;
+        if (percentage >= 75) {
+            severity = Issue.Severity.CRITICAL;
+        } else if (percentage >= 50) {
+            severity = Issue.Severity.HIGH;
+        } else if (percentage >= 25) {
+            severity = Issue.Severity.MEDIUM;
+        } else {
+            severity = Issue.Severity.LOW;
+        }
+        if (type != Issue.Type.SEQUENTIAL_CALLS && count >= 10 && severity == Issue.Severity.LOW) {
+            severity = Issue.Severity.MEDIUM;
+        }
+        return severity;
+    }
+
+    private List<TraceSpanInfo> largestIdenticalHttpGroup(List<TraceSpanInfo> calls) {
+        Map<String, List<TraceSpanInfo>> byUrl = new HashMap<>();
+        List<TraceSpanInfo> largest = List.of();
+        for (TraceSpanInfo call : calls) {
+            String url = firstAttribute(call, "http.url", "url.full");
+            if (url == null) {
+                continue;
+            }
+            String identity = firstAttribute(call, "http.method", "http.request.method", "method") + " " + url;
+            List<TraceSpanInfo> group = byUrl.computeIfAbsent(identity, k -> new ArrayList<>());
+            group.add(call);
+            if (group.size() > largest.size()) {
+                largest = group;
+            }
+        }
+        return largest;
+    }
+
+    /**
+     * Returns true if no two calls overlap in time.
+     */
+    private boolean isSequential(List<TraceSpanInfo> calls) {
+        List<TraceSpanInfo> ordered = new ArrayList<>(calls.size());
+        for (TraceSpanInfo call : calls) {
+            if (call.getStartTimeNanos() == null || call.getEndTimeNanos() == null) {
+                return false;
+            }
+            ordered.add(call);
+        }
+        ordered.sort((a, b) -> Long.compare(a.getStartTimeNanos(), b.getStartTimeNanos()));
+        for (int i = 1; i < ordered.size(); i++) {
+            if (ordered.get(i).getStartTimeNanos() < ordered.get(i - 1).getEndTimeNanos()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private CallKey callKey(TraceSpanInfo span) {
+        String statement = firstAttribute(span, "db.statement", "db.query.text");
+        if (statement != null) {
+            return new CallKey(Category.DATABASE, normalizeSql(statement));
+        }
+
+        String namespace = firstAttribute(span, "code.namespace");
+        String function = firstAttribute(span, "code.function");
+        String url = firstAttribute(span, "http.url", "url.full");
+        if (url != null && "CLIENT".equals(span.getKind())) {
+            String method = firstAttribute(span, "http.method", "http.request.method", "method");
+            return new CallKey(Category.HTTP, (method != null ? method.toUpperCase(Locale.ROOT) : "HTTP")
+                    + " " + normalizePath(url));
+        }
+
+        String name = span.getName() != null ? span.getName() : "";
+        String call = (namespace != null && function != null) ? namespace + "." + function : name;
+        String lower = call.toLowerCase(Locale.ROOT);
+        boolean database = lower.contains("repository") || lower.contains("jdbc")
+                || firstAttribute(span, "db.system") != null;
+        return new CallKey(database ? Category.DATABASE : Category.INTERNAL, call);
+    }
+
+    static String normalizeSql(String statement) {
+        String normalized = SQL_STRING_LITERAL.matcher(statement).replaceAll("?");
+        normalized = SQL_NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = SQL_IN_LIST.matcher(normalized).replaceAll("(?)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    static String normalizePath(String url) {
+        String path = url;
+        int scheme = path.indexOf("://");
+        if (scheme >= 0) {
+            int pathStart = path.indexOf('/', scheme + 3);
+            path = pathStart >= 0 ? path.substring(pathStart) : "/";
+        }
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        return PATH_ID_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    private static String firstAttribute(TraceSpanInfo span, String... keys) {
+        Map<String, String> attributes = span.getAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        for (String key : keys) {
+            String value = attributes.get(key);
+            if (value != null && !value.isEmpty()) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static long durationMs(TraceSpanInfo span) {
+        return span.getDurationNanos() != null ? span.getDurationNanos() / 1_000_000 : 0;
+    }
+
+    private enum Category {
+        DATABASE,
+        HTTP,
+        INTERNAL
+    }
+
+    private record CallKey(Category category, String value) {
+    }
+}
@@ -19,6 +19,8 @@ import java.util.List;
  *   <li>Slow database queries (>50% of total time and >500ms)</li>
  *   <li>Slow HTTP calls (>30% of total time and >300ms)</li>
  *   <li>Slow spans (>20% of total time and >100ms)</li>
+ *   <li>Repeated-call patterns among sibling spans (N+1 queries, repeated identical HTTP calls,
+ *       sequential calls that could be batched), see {@link CallPatternDetector}</li>
  * </ul>
  * <p>
  * Each detected issue includes type, severity, evidence, and recommendations.
@@ -30,6 +32,11 @@ import java.util.List;
 @Component
 public class IssueAnalyzer {
     
+    /**
+     * Detector for repeated-call patterns among sibling spans.
+     */
+    private final CallPatternDetector callPatternDetector = new CallPatternDetector();
+    
     /**
      * Detects performance issues in the trace.
      * <p>
@@ -40,6 +47,8 @@ public class IssueAnalyzer {
      *   <li>Span type (database, HTTP, general)</li>
      * </ul>
      * <p>
+     * Then runs a pattern pass over sibling spans to detect repeated calls.
+     * <p>
      * Returns a list of detected issues with severity, evidence, and recommendations.
      *
      * @param spans List of trace spans to analyze
@@ -98,6 +107,9 @@ public class IssueAnalyzer {
             }
         }
         
+        // Detect repeated-call patterns (N+1, repeated HTTP calls, sequential calls)
+        issues.addAll(callPatternDetector.detect(spans, totalDurationMs));
+        
         log.debug("Detected {} issues in trace", issues.size());
         return issues;
     }
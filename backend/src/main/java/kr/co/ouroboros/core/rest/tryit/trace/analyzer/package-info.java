@@ -8,6 +8,7 @@
  * <b>Components:</b>
  * <ul>
  *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.analyzer.IssueAnalyzer} - Analyzes spans and detects performance issues</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.analyzer.CallPatternDetector} - Detects N+1 and other repeated-call patterns among sibling spans</li>
  * </ul>
  *
  * @since 0.0.1
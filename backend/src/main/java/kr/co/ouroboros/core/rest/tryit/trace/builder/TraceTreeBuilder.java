@@ -4,13 +4,14 @@ import kr.co.ouroboros.core.rest.tryit.trace.dto.SpanMethodInfo;
 import kr.co.ouroboros.core.rest.tryit.trace.dto.SpanNode;
 import kr.co.ouroboros.core.rest.tryit.trace.dto.TraceSpanInfo;
 import kr.co.ouroboros.core.rest.tryit.trace.parser.SpanMethodParser;
+import kr.co.ouroboros.core.rest.tryit.trace.util.SpanIndexSorter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,7 +25,7 @@ import java.util.stream.Collectors;
  * <p>
  * <b>Features:</b>
  * <ul>
- *   <li>Builds parent-child relationships between spans</li>
+ *   <li>Builds parent-child relationships between spans iteratively (no recursion depth limit)</li>
  *   <li>Calculates total and self duration for each span</li>
  *   <li>Calculates percentage of total trace time</li>
  *   <li>Parses method information from span names</li>
@@ -50,6 +51,21 @@ public class TraceTreeBuilder {
      * Root spans are those with no parent, an empty or "0" parent ID, or whose parent is not present
      * in the provided list. Child relationships, durations, self-durations, and percentages are
      * computed for each node; method information and display names are derived for presentation.
+     * <p>
+     * The tree is built iteratively in linear time (plus a single sort by start time), so very
+     * deep traces such as recursive repository loops cannot overflow the call stack:
+     * <ol>
+     *   <li>Spans are indexed and their parent, start time and duration are copied into primitive arrays</li>
+     *   <li>Span indexes are sorted once by start time (stable, so ties keep input order)</li>
+     *   <li>Children are bucketed per parent index in that order (CSR layout: offsets + one index array)</li>
+     *   <li>Nodes are created in pre-order from an explicit stack; self duration is computed from the
+     *       bucketed children when the node is created</li>
+     * </ol>
+     * <p>
+     * Self duration is the span's duration minus the union of its children's time intervals
+     * (clipped to the span), so children running in parallel are not subtracted twice. Children
+     * are already in start-time order, so the union is a single linear merge per span and the
+     * whole tree stays O(n log n).
      *
      * @param spans flat list of trace spans (may be null or empty)
      * @param totalDurationMs total duration of the entire trace in milliseconds used to compute percentages
@@ -60,84 +76,179 @@ public class TraceTreeBuilder {
             log.debug("Empty spans list, returning empty tree");
             return new ArrayList<>();
         }
-        
-        // Group spans by parentSpanId
-        Map<String, List<TraceSpanInfo>> childrenMap = new HashMap<>();
-        Map<String, TraceSpanInfo> spanMap = new HashMap<>();
-        
-        for (TraceSpanInfo span : spans) {
-            spanMap.put(span.getSpanId(), span);
-            
-            String parentId = span.getParentSpanId();
-            if (parentId == null || parentId.isEmpty() || parentId.equals("0")) {
-                parentId = "ROOT";
+
+        int spanCount = spans.size();
+        TraceSpanInfo[] spanArray = spans.toArray(new TraceSpanInfo[0]);
+        long[] startTimes = new long[spanCount];
+        long[] endTimes = new long[spanCount];
+        boolean[] timed = new boolean[spanCount];
+        long[] durations = new long[spanCount];
+        int[] parents = new int[spanCount];
+
+        Map<String, Integer> indexBySpanId = new HashMap<>(spanCount * 4 / 3 + 1);
+        for (int i = 0; i < spanCount; i++) {
+            TraceSpanInfo span = spanArray[i];
+            indexBySpanId.put(span.getSpanId(), i);
+            startTimes[i] = span.getStartTimeNanos() != null ? span.getStartTimeNanos() : Long.MAX_VALUE;
+            timed[i] = span.getStartTimeNanos() != null && span.getEndTimeNanos() != null
+                    && span.getEndTimeNanos() >= span.getStartTimeNanos();
+            endTimes[i] = timed[i] ? span.getEndTimeNanos() : startTimes[i];
+            durations[i] = span.getDurationMs() != null ? span.getDurationMs() : 0L;
+        }
+
+        // Resolve parent index; -1 marks a root (no parent, "0", or parent not in trace)
+        int[] childCounts = new int[spanCount + 1];
+        for (int i = 0; i < spanCount; i++) {
+            String parentId = spanArray[i].getParentSpanId();
+            Integer parentIndex = (parentId == null || parentId.isEmpty() || parentId.equals("0"))
+                    ? null
+                    : indexBySpanId.get(parentId);
+            // A span referencing itself is treated as a root instead of a cycle
+            parents[i] = (parentIndex == null || parentIndex == i) ? -1 : parentIndex;
+            childCounts[parents[i] + 1]++;
+        }
+
+        // Sort once by start time to preserve call order for all sibling groups
+        int[] order = SpanIndexSorter.sortAscending(startTimes);
+
+        // Bucket children by parent index in start-time order.
+        // Bucket 0 holds the roots, bucket (i + 1) holds the children of span i.
+        int[] offsets = new int[spanCount + 2];
+        for (int b = 0; b <= spanCount; b++) {
+            offsets[b + 1] = offsets[b] + childCounts[b];
+        }
+        int[] cursor = Arrays.copyOf(offsets, spanCount + 1);
+        int[] bucketed = new int[spanCount];
+        for (int i : order) {
+            bucketed[cursor[parents[i] + 1]++] = i;
+        }
+
+        List<SpanNode> tree = new ArrayList<>(childCounts[0]);
+        SpanNode[] nodes = new SpanNode[spanCount];
+
+        // Pre-order traversal with an explicit stack; children are pushed in reverse
+        // so that they are popped (and appended to their parent) in start-time order.
+        int[] stack = new int[spanCount];
+        int top = 0;
+        for (int k = offsets[1] - 1; k >= offsets[0]; k--) {
+            stack[top++] = bucketed[k];
+        }
+        while (top > 0) {
+            int i = stack[--top];
+            int childStart = offsets[i + 1];
+            int childEnd = offsets[i + 2];
+
+            long selfDurationNanos;
+            long selfDurationMs;
+            if (timed[i]) {
+                selfDurationNanos = selfNanosFromIntervals(
+                        i, bucketed, childStart, childEnd, startTimes, endTimes, timed, durations);
+                selfDurationMs = Math.min(durations[i], Math.round(selfDurationNanos / 1_000_000.0));
+            } else {
+                selfDurationMs = selfDurationFromSum(i, bucketed, childStart, childEnd, durations);
+                selfDurationNanos = selfDurationMs * 1_000_000L;
+            }
+            SpanNode node = buildSpanNode(spanArray[i], durations[i], selfDurationMs, selfDurationNanos,
+                    new ArrayList<>(childEnd - childStart), totalDurationMs);
+            nodes[i] = node;
+
+            if (parents[i] < 0) {
+                tree.add(node);
+            } else {
+                nodes[parents[i]].getChildren().add(node);
+            }
+
+            for (int k = childEnd - 1; k >= childStart; k--) {
+                stack[top++] = bucketed[k];
             }
-            childrenMap.computeIfAbsent(parentId, k -> new ArrayList<>()).add(span);
         }
-        
-        // Find root spans (spans with no parent or parent not in trace)
-        // Sort by startTimeNanos to preserve call order
-        List<TraceSpanInfo> rootSpans = spans.stream()
-                .filter(s -> s.getParentSpanId() == null || s.getParentSpanId().isEmpty() || 
-                           s.getParentSpanId().equals("0") || !spanMap.containsKey(s.getParentSpanId()))
-                .sorted(Comparator.comparing(
-                    (TraceSpanInfo s) -> s.getStartTimeNanos() != null ? s.getStartTimeNanos() : Long.MAX_VALUE,
-                    Comparator.nullsLast(Comparator.naturalOrder())
-                ))
-                .collect(Collectors.toList());
-        
-        // Build tree recursively
-        List<SpanNode> tree = rootSpans.stream()
-                .map(span -> buildSpanNode(span, spanMap, childrenMap, totalDurationMs))
-                .collect(Collectors.toList());
-        
+
         log.debug("Built tree with {} root spans", tree.size());
         return tree;
     }
-    
+
     /**
-     * Recursively constructs a SpanNode for the given span, including its nested children, computed durations, percentages, parsed method info, and formatted display name.
+     * Computes self duration as span duration minus the union of the children's intervals.
+     * <p>
+     * Children are in start-time order, so overlapping intervals are merged in one pass.
+     * Children without timestamps are subtracted by their duration.
      *
-     * <p>Self duration is calculated as (span duration - sum of children durations); this is an approximation and may overestimate self time if children execute in parallel.</p>
+     * @return self duration in nanoseconds, never negative and never above the span's duration
+     */
+    private long selfNanosFromIntervals(int span, int[] bucketed, int from, int to,
+                                           long[] startTimes, long[] endTimes, boolean[] timed, long[] durations) {
+        long spanStart = startTimes[span];
+        long spanEnd = endTimes[span];
+        long covered = 0;
+        long untimedMs = 0;
+        long runStart = 0;
+        long runEnd = Long.MIN_VALUE;
+        for (int k = from; k < to; k++) {
+            int child = bucketed[k];
+            if (!timed[child]) {
+                untimedMs += durations[child];
+                continue;
+            }
+            long start = Math.max(startTimes[child], spanStart);
+            long end = Math.min(endTimes[child], spanEnd);
+            if (end <= start) {
+                continue;
+            }
+            if (start > runEnd) {
+                if (runEnd > runStart) {
+                    covered += runEnd - runStart;
+                }
+                runStart = start;
+                runEnd = end;
+            } else if (end > runEnd) {
+                runEnd = end;
+            }
+        }
+        if (runEnd > runStart) {
+            covered += runEnd - runStart;
+        }
+        return Math.max(0L, (spanEnd - spanStart) - covered - untimedMs * 1_000_000L);
+    }
+
+    /**
+     * Computes self duration as span duration minus the sum of the children's durations.
+     * Used for spans without timestamps, where intervals are unknown.
+     *
+     * @return self duration in milliseconds, never negative
+     */
+    private long selfDurationFromSum(int span, int[] bucketed, int from, int to, long[] durations) {
+        long childrenDuration = 0;
+        for (int k = from; k < to; k++) {
+            childrenDuration += durations[bucketed[k]];
+        }
+        return Math.max(0, durations[span] - childrenDuration);
+    }
+
+    /**
+     * Constructs a SpanNode for the given span with computed durations, percentages, parsed method info,
+     * and formatted display name. Children are appended to the given list by the caller.
      *
      * @param span the TraceSpanInfo to convert into a SpanNode
-     * @param spanMap map of span ID to TraceSpanInfo for lookup
-     * @param childrenMap map of parent span ID to its child TraceSpanInfo list
+     * @param durationMs duration of the span in milliseconds
+     * @param selfDurationMs self duration of the span in milliseconds
+     * @param selfDurationNanos self duration of the span in nanoseconds
+     * @param children list that will hold the child nodes
      * @param totalDurationMs total duration of the trace in milliseconds (used to compute percentages)
-     * @return the constructed SpanNode with children and computed metrics
+     * @return the constructed SpanNode with computed metrics
      */
     private SpanNode buildSpanNode(
             TraceSpanInfo span,
-            Map<String, TraceSpanInfo> spanMap,
-            Map<String, List<TraceSpanInfo>> childrenMap,
+            long durationMs,
+            long selfDurationMs,
+            long selfDurationNanos,
+            List<SpanNode> children,
             long totalDurationMs
     ) {
-        long durationMs = span.getDurationMs() != null ? span.getDurationMs() : 0;
         double percentage = totalDurationMs > 0 ? (durationMs * 100.0 / totalDurationMs) : 0;
         
         // Parse class name and method signature
         SpanMethodInfo methodInfo = spanMethodParser.parse(span);
         
-        // Get children and sort by startTimeNanos to preserve call order
-        List<SpanNode> children = new ArrayList<>();
-        if (childrenMap.containsKey(span.getSpanId())) {
-            children = childrenMap.get(span.getSpanId()).stream()
-                    .sorted(Comparator.comparing(
-                        (TraceSpanInfo s) -> s.getStartTimeNanos() != null ? s.getStartTimeNanos() : Long.MAX_VALUE,
-                        Comparator.nullsLast(Comparator.naturalOrder())
-                    ))
-                    .map(child -> buildSpanNode(child, spanMap, childrenMap, totalDurationMs))
-                    .collect(Collectors.toList());
-        }
-        
-        // Calculate self duration (total duration - sum of children durations)
-        // Note: This is an approximation. If children execute in parallel,
-        // the actual self duration might be less than (total - sum of children).
-        long childrenDuration = children.stream()
-                .mapToLong(child -> child.getDurationMs() != null ? child.getDurationMs() : 0)
-                .sum();
-        long selfDurationMs = Math.max(0, durationMs - childrenDuration);
-        
         // Calculate self percentage
         double selfPercentage = totalDurationMs > 0 ? (selfDurationMs * 100.0 / totalDurationMs) : 0;
         
@@ -163,13 +274,14 @@ public class TraceTreeBuilder {
                 .parameters(parameters)
                 .durationMs(durationMs)
                 .selfDurationMs(selfDurationMs)
+                .selfDurationNanos(selfDurationNanos)
                 .percentage(round2(percentage))
                 .selfPercentage(round2(selfPercentage))
                 .kind(span.getKind())
                 .children(children)
                 .build();
     }
-    
+
     /**
      * Builds display name for the span.
      * <p>
@@ -0,0 +1,13 @@
+package kr.co.ouroboros.core.rest.tryit.trace.completion;
+
+/**
+ * Published by {@link TryCompletionTracker} when the trace of a try is complete.
+ * <p>
+ * Listeners run on the tracker's scheduler thread, never on an application thread.
+ *
+ * @param tryId completed try ID
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+public record TryCompletedEvent(String tryId) {
+}
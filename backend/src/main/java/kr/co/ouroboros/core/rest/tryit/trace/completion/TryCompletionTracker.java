@@ -0,0 +1,225 @@
+package kr.co.ouroboros.core.rest.tryit.trace.completion;
+
+import kr.co.ouroboros.core.rest.tryit.config.properties.TraceCompletionProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Detects when the trace of a try is complete.
+ * <p>
+ * The span processor reports every Try span start and end. Per try, the tracker counts the
+ * open spans and remembers the last span activity. A try is complete when:
+ * <ul>
+ *   <li>its local root span (the SERVER span of the try request) has ended,</li>
+ *   <li>no span of the try is open, and</li>
+ *   <li>no span started or ended during the grace period.</li>
+ * </ul>
+ * A try whose root span ended more than {@code max-wait-ms} ago is complete even with open
+ * spans, so a leaked span cannot hold it forever.
+ * <p>
+ * Checks are scheduled on a single daemon thread only when a root span ends; nothing runs
+ * while no try is in flight. On completion a {@link TryCompletedEvent} is published on that
+ * thread.
+ * <p>
+ * <b>Bounded memory:</b> at most {@code max-tracked-tries} tries are tracked at once (tries
+ * beyond the limit are not tracked and report {@link Status#UNKNOWN}), and the same number of
+ * completed tries is remembered.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ouroboros.trace-completion.enabled", havingValue = "true", matchIfMissing = true)
+public class TryCompletionTracker implements DisposableBean {
+
+    /**
+     * Completion status of a try as seen by the tracker.
+     */
+    public enum Status {
+        /**
+         * Spans of the try are open or the grace period has not elapsed yet.
+         */
+        IN_PROGRESS,
+
+        /**
+         * The trace of the try is complete.
+         */
+        COMPLETED,
+
+        /**
+         * The try is not tracked (never seen, forgotten, or beyond the tracking limit).
+         */
+        UNKNOWN
+    }
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final long gracePeriodNanos;
+    private final long maxWaitNanos;
+    private final int maxTrackedTries;
+
+    private final Map<String, Progress> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> completed;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * Creates the tracker. The scheduler thread is started on the first scheduled check.
+     *
+     * @param properties     completion configuration properties
+     * @param eventPublisher publisher for {@link TryCompletedEvent}
+     */
+    public TryCompletionTracker(TraceCompletionProperties properties, ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        this.gracePeriodNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, properties.getGracePeriodMs()));
+        this.maxWaitNanos = Math.max(gracePeriodNanos, TimeUnit.MILLISECONDS.toNanos(properties.getMaxWaitMs()));
+        this.maxTrackedTries = Math.max(1, properties.getMaxTrackedTries());
+        this.completed = Collections.newSetFromMap(Collections.synchronizedMap(
+                new LinkedHashMap<>(16, 0.75f, false) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                        return size() > maxTrackedTries;
+                    }
+                }));
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "ouroboros-try-completion");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        log.info("TryCompletionTracker initialized: gracePeriodMs={}, maxTrackedTries={}",
+                properties.getGracePeriodMs(), maxTrackedTries);
+    }
+
+    /**
+     * Records the start of a Try span.
+     *
+     * @param tryId try ID of the span
+     */
+    public void onSpanStart(String tryId) {
+        Progress progress = inFlight.get(tryId);
+        if (progress == null) {
+            if (completed.contains(tryId) || inFlight.size() >= maxTrackedTries) {
+                return;
+            }
+            progress = inFlight.computeIfAbsent(tryId, id -> new Progress());
+        }
+        progress.open.incrementAndGet();
+        progress.lastActivityNanos = System.nanoTime();
+    }
+
+    /**
+     * Records the end of a Try span.
+     *
+     * @param tryId     try ID of the span
+     * @param localRoot whether the span has no parent in this process (no parent or a remote parent)
+     */
+    public void onSpanEnd(String tryId, boolean localRoot) {
+        Progress progress = inFlight.get(tryId);
+        if (progress == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        progress.open.decrementAndGet();
+        progress.lastActivityNanos = now;
+        if (localRoot && !progress.rootEnded) {
+            progress.rootEnded = true;
+            progress.rootEndedNanos = now;
+            schedule(tryId, gracePeriodNanos);
+        }
+    }
+
+    /**
+     * Returns the completion status of a try.
+     *
+     * @param tryId try ID
+     * @return completion status
+     */
+    public Status getStatus(String tryId) {
+        if (completed.contains(tryId)) {
+            return Status.COMPLETED;
+        }
+        return inFlight.containsKey(tryId) ? Status.IN_PROGRESS : Status.UNKNOWN;
+    }
+
+    /**
+     * Forgets a try, e.g. after its trace was deleted.
+     *
+     * @param tryId try ID
+     */
+    public void forget(String tryId) {
+        inFlight.remove(tryId);
+        completed.remove(tryId);
+    }
+
+    /**
+     * Stops the scheduler thread. Pending checks are discarded.
+     */
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private void schedule(String tryId, long delayNanos) {
+        try {
+            scheduler.schedule(() -> check(tryId), Math.max(0, delayNanos), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Completion check rejected after shutdown: tryId={}", tryId);
+        }
+    }
+
+    /**
+     * Completes the try if it settled, otherwise checks again once the grace period can have elapsed.
+     */
+    private void check(String tryId) {
+        Progress progress = inFlight.get(tryId);
+        if (progress == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long quietNanos = now - progress.lastActivityNanos;
+        long waitedNanos = now - progress.rootEndedNanos;
+        boolean settled = progress.open.get() <= 0 && quietNanos >= gracePeriodNanos;
+        if (settled || waitedNanos >= maxWaitNanos) {
+            complete(tryId, progress);
+            return;
+        }
+        long nextDelay = progress.open.get() <= 0 ? gracePeriodNanos - quietNanos : gracePeriodNanos;
+        schedule(tryId, Math.min(nextDelay, maxWaitNanos - waitedNanos));
+    }
+
+    private void complete(String tryId, Progress progress) {
+        if (!inFlight.remove(tryId, progress)) {
+            return;
+        }
+        completed.add(tryId);
+        log.debug("Try trace completed: tryId={}, openSpans={}", tryId, progress.open.get());
+        try {
+            eventPublisher.publishEvent(new TryCompletedEvent(tryId));
+        } catch (RuntimeException e) {
+            log.warn("Failed to handle try completion: tryId={}", tryId, e);
+        }
+    }
+
+    /**
+     * Span progress of one in-flight try.
+     */
+    private static final class Progress {
+        private final AtomicInteger open = new AtomicInteger();
+        private volatile long lastActivityNanos = System.nanoTime();
+        private volatile boolean rootEnded;
+        private volatile long rootEndedNanos;
+    }
+}
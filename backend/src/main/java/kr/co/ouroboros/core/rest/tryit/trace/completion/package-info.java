@@ -0,0 +1,15 @@
+/**
+ * Try trace completion detection.
+ * <p>
+ * This package contains components that detect when the trace of a try is complete,
+ * so that its analysis can be precomputed and pushed to clients instead of being polled.
+ * <p>
+ * <b>Components:</b>
+ * <ul>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.completion.TryCompletionTracker} - Counts open spans per try and detects completion</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.completion.TryCompletedEvent} - Application event published on completion</li>
+ * </ul>
+ *
+ * @since 1.0.6
+ */
+package kr.co.ouroboros.core.rest.tryit.trace.completion;
@@ -153,7 +153,7 @@ public class TraceSpanConverter {
      * @param kind Span kind string from Tempo (OpenTelemetry format)
      * @return Internal span kind representation (simplified format)
      */
-    private String mapSpanKind(String kind) {
+    static String mapSpanKind(String kind) {
         if (kind == null) {
             return "INTERNAL";
         }
@@ -0,0 +1,316 @@
+package kr.co.ouroboros.core.rest.tryit.trace.converter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.ouroboros.core.rest.tryit.config.properties.TempoProperties;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.TraceSpanInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming decoder from Tempo/OTLP trace JSON to TraceSpanInfo.
+ * <p>
+ * Reads the trace payload token by token with a Jackson {@link JsonParser} and
+ * creates {@link TraceSpanInfo} records directly, without materializing a
+ * {@link kr.co.ouroboros.core.rest.tryit.infrastructure.storage.model.TraceDTO}
+ * tree or an intermediate JSON string. This keeps allocation proportional to the
+ * data we actually use, which matters for traces with tens of thousands of spans.
+ * <p>
+ * <b>Supported layouts:</b>
+ * <ul>
+ *   <li>Tempo v1: {@code {"batches":[{"scopeSpans":[{"spans":[...]}]}]}}</li>
+ *   <li>OTLP JSON: {@code {"resourceSpans":[{"scopeSpans":[{"spans":[...]}]}]}}</li>
+ *   <li>Tempo v2: {@code {"trace":{"resourceSpans":[...]}}}</li>
+ *   <li>Legacy {@code instrumentationLibrarySpans} instead of {@code scopeSpans}</li>
+ * </ul>
+ * <p>
+ * <b>Attribute filtering:</b>
+ * Only attributes matching the allow-list are decoded; values of all other
+ * attributes are skipped without being read into strings. The allow-list is taken
+ * from {@code ouroboros.tempo.attribute-allow-list}. Entries ending with {@code *}
+ * match by prefix, a single {@code *} keeps every attribute. When the property is
+ * empty, {@link #DEFAULT_ATTRIBUTE_ALLOW_LIST} (the keys read by the trace analysis
+ * components) is used.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@Component
+public class TraceSpanStreamDecoder {
+
+    /**
+     * Attribute keys and prefixes used by the trace analysis components.
+     */
+    public static final List<String> DEFAULT_ATTRIBUTE_ALLOW_LIST = List.of(
+            "code.*",
+            "http.*",
+            "url.*",
+            "db.*",
+            "messaging.*",
+            "ouro.*",
+            "service.name",
+            "method",
+            "uri",
+            "status",
+            "outcome",
+            "exception",
+            "error"
+    );
+
+    private final JsonFactory jsonFactory;
+    private final boolean allowAllAttributes;
+    private final Set<String> allowedKeys = new HashSet<>();
+    private final List<String> allowedPrefixes = new ArrayList<>();
+
+    /**
+     * Creates a decoder using the application's JSON factory and configured attribute allow-list.
+     *
+     * @param objectMapper    ObjectMapper whose {@link JsonFactory} is used to create parsers
+     * @param tempoProperties Tempo properties providing the optional attribute allow-list
+     */
+    public TraceSpanStreamDecoder(ObjectMapper objectMapper, TempoProperties tempoProperties) {
+        this(objectMapper.getFactory(), tempoProperties.getAttributeAllowList());
+    }
+
+    /**
+     * Creates a decoder with an explicit attribute allow-list.
+     *
+     * @param jsonFactory         factory used to create parsers
+     * @param attributeAllowList  attribute keys/prefixes to keep; {@code null} or empty uses the defaults
+     */
+    public TraceSpanStreamDecoder(JsonFactory jsonFactory, List<String> attributeAllowList) {
+        this.jsonFactory = jsonFactory;
+        List<String> entries = (attributeAllowList == null || attributeAllowList.isEmpty())
+                ? DEFAULT_ATTRIBUTE_ALLOW_LIST
+                : attributeAllowList;
+        boolean allowAll = false;
+        for (String entry : entries) {
+            if (entry == null || entry.isBlank()) {
+                continue;
+            }
+            String trimmed = entry.trim();
+            if ("*".equals(trimmed)) {
+                allowAll = true;
+            } else if (trimmed.endsWith("*")) {
+                allowedPrefixes.add(trimmed.substring(0, trimmed.length() - 1));
+            } else {
+                allowedKeys.add(trimmed);
+            }
+        }
+        this.allowAllAttributes = allowAll;
+    }
+
+    /**
+     * Decodes a trace JSON stream into a flat list of spans.
+     * <p>
+     * The stream is not closed by this method.
+     *
+     * @param body trace JSON payload
+     * @return decoded spans, empty if the payload has no spans
+     * @throws IOException if the payload is not valid JSON
+     */
+    public List<TraceSpanInfo> decode(InputStream body) throws IOException {
+        List<TraceSpanInfo> spans = new ArrayList<>();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                readTraceObject(parser, spans);
+            }
+        }
+        log.debug("Decoded {} spans from trace stream", spans.size());
+        return spans;
+    }
+
+    /**
+     * Returns whether the attribute key passes the allow-list.
+     *
+     * @param key attribute key
+     * @return true if the attribute is decoded
+     */
+    public boolean isAttributeAllowed(String key) {
+        if (allowAllAttributes || allowedKeys.contains(key)) {
+            return true;
+        }
+        for (String prefix : allowedPrefixes) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void readTraceObject(JsonParser parser, List<TraceSpanInfo> spans) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (("batches".equals(field) || "resourceSpans".equals(field)) && token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    readResourceSpans(parser, spans);
+                }
+            } else if ("trace".equals(field) && token == JsonToken.START_OBJECT) {
+                readTraceObject(parser, spans);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readResourceSpans(JsonParser parser, List<TraceSpanInfo> spans) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (("scopeSpans".equals(field) || "instrumentationLibrarySpans".equals(field))
+                    && token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    readScopeSpans(parser, spans);
+                }
+            } else {
+                // resource attributes are not used by the analysis
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readScopeSpans(JsonParser parser, List<TraceSpanInfo> spans) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("spans".equals(field) && token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    spans.add(readSpan(parser));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private TraceSpanInfo readSpan(JsonParser parser) throws IOException {
+        TraceSpanInfo info = new TraceSpanInfo();
+        Map<String, String> attributes = new HashMap<>();
+        String kind = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "spanId" -> info.setSpanId(readText(parser, token));
+                case "parentSpanId" -> info.setParentSpanId(readText(parser, token));
+                case "name" -> info.setName(readText(parser, token));
+                case "kind" -> kind = readKind(parser, token);
+                case "startTimeUnixNano" -> info.setStartTimeNanos(readLong(parser, token));
+                case "endTimeUnixNano" -> info.setEndTimeNanos(readLong(parser, token));
+                case "durationNanos" -> info.setDurationNanos(readLong(parser, token));
+                case "attributes" -> {
+                    if (token == JsonToken.START_ARRAY) {
+                        readAttributes(parser, attributes);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        info.setKind(TraceSpanConverter.mapSpanKind(kind));
+
+        // Compute duration if not provided
+        if (info.getDurationNanos() == null && info.getStartTimeNanos() != null && info.getEndTimeNanos() != null) {
+            info.setDurationNanos(Math.max(0L, info.getEndTimeNanos() - info.getStartTimeNanos()));
+        }
+        info.setDurationMs(info.getDurationNanos() != null ? info.getDurationNanos() / 1_000_000 : 0L);
+        info.setAttributes(attributes);
+        return info;
+    }
+
+    private void readAttributes(JsonParser parser, Map<String, String> attributes) throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String key = null;
+            String value = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("key".equals(field)) {
+                    key = readText(parser, token);
+                } else if ("value".equals(field) && token == JsonToken.START_OBJECT
+                        && (key == null || isAttributeAllowed(key))) {
+                    value = readAnyValue(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (key != null && value != null && isAttributeAllowed(key)) {
+                attributes.put(key, value);
+            }
+        }
+    }
+
+    /**
+     * Reads an OTLP AnyValue object, returning scalar values as strings.
+     * Array and key-value list values are skipped.
+     */
+    private String readAnyValue(JsonParser parser) throws IOException {
+        String value = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "stringValue" -> value = parser.getText();
+                case "intValue" -> value = String.valueOf(parser.getValueAsLong());
+                case "doubleValue" -> value = String.valueOf(parser.getValueAsDouble());
+                case "boolValue" -> value = String.valueOf(parser.getValueAsBoolean());
+                default -> parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    private String readKind(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            // OTLP JSON may encode SpanKind as its enum number
+            return switch (parser.getIntValue()) {
+                case 1 -> "SPAN_KIND_INTERNAL";
+                case 2 -> "SPAN_KIND_SERVER";
+                case 3 -> "SPAN_KIND_CLIENT";
+                case 4 -> "SPAN_KIND_PRODUCER";
+                case 5 -> "SPAN_KIND_CONSUMER";
+                default -> "SPAN_KIND_UNSPECIFIED";
+            };
+        }
+        return readText(parser, token);
+    }
+
+    private String readText(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isScalarValue()) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private Long readLong(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_STRING) {
+            // OTLP JSON encodes 64-bit integers as strings
+            return parser.getValueAsLong();
+        }
+        parser.skipChildren();
+        return null;
+    }
+}
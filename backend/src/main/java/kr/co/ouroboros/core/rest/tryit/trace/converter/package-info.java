@@ -7,6 +7,7 @@
  * <b>Components:</b>
  * <ul>
  *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.converter.TraceSpanConverter} - Converts Tempo TraceDTO to TraceSpanInfo</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.converter.TraceSpanStreamDecoder} - Streams trace JSON directly into TraceSpanInfo</li>
  * </ul>
  *
  * @since 0.0.1
@@ -0,0 +1,54 @@
+package kr.co.ouroboros.core.rest.tryit.trace.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Segment of the critical path of a trace.
+ * <p>
+ * A segment is a time window during which the given span itself (not one of its
+ * children) was what the request was waiting on. The segments of a critical path
+ * are contiguous and together cover the wall time of the root span.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Data
+@Builder
+public class CriticalPathSegment {
+
+    /**
+     * Span ID of the span on the critical path.
+     */
+    private String spanId;
+
+    /**
+     * Span name.
+     */
+    private String name;
+
+    /**
+     * Span kind (e.g., SERVER, CLIENT, INTERNAL).
+     */
+    private String kind;
+
+    /**
+     * Segment start time in nanoseconds since epoch.
+     */
+    private Long startTimeNanos;
+
+    /**
+     * Segment end time in nanoseconds since epoch.
+     */
+    private Long endTimeNanos;
+
+    /**
+     * Exclusive time of this segment in milliseconds.
+     */
+    private Double durationMs;
+
+    /**
+     * Percentage of the root span's wall time.
+     */
+    private Double percentage;
+}
@@ -0,0 +1,47 @@
+package kr.co.ouroboros.core.rest.tryit.trace.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Frame of a merged flame graph.
+ * <p>
+ * Identical call stacks are merged into one frame, so a method called many times
+ * from the same stack appears once with its summed time. The layout follows the
+ * common flame graph JSON format ({@code name}, {@code value}, {@code children})
+ * understood by d3-flame-graph and similar tools.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Data
+@Builder
+public class FlameGraphNode {
+
+    /**
+     * Frame name (e.g., "OrderService.findOrder").
+     */
+    private String name;
+
+    /**
+     * Total time of this frame including its children, in nanoseconds.
+     */
+    private Long value;
+
+    /**
+     * Self time of this frame excluding its children, in nanoseconds.
+     */
+    private Long selfValue;
+
+    /**
+     * Number of spans merged into this frame.
+     */
+    private Integer count;
+
+    /**
+     * Child frames.
+     */
+    private List<FlameGraphNode> children;
+}
@@ -43,6 +43,26 @@ public class Issue {
      */
     private Long durationMs;
     
+    /**
+     * Number of calls involved (repeated-call patterns only).
+     */
+    private Integer count;
+    
+    /**
+     * Cumulative duration of all involved calls in milliseconds (repeated-call patterns only).
+     */
+    private Long cumulativeDurationMs;
+    
+    /**
+     * ID of the parent span under which the calls were made (repeated-call patterns only).
+     */
+    private String parentSpanId;
+    
+    /**
+     * Name of the parent span under which the calls were made (repeated-call patterns only).
+     */
+    private String parentSpanName;
+    
     /**
      * Evidence supporting the issue detection.
      */
@@ -90,7 +110,17 @@ public class Issue {
         /**
          * High latency detected.
          */
-        HIGH_LATENCY
+        HIGH_LATENCY,
+        
+        /**
+         * Identical HTTP call repeated under the same parent span.
+         */
+        REPEATED_HTTP_CALL,
+        
+        /**
+         * Same call executed sequentially several times; candidate for batching or parallelization.
+         */
+        SEQUENTIAL_CALLS
     }
     
     /**
@@ -0,0 +1,130 @@
+package kr.co.ouroboros.core.rest.tryit.trace.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Aligned node of a diff between two trace trees.
+ * <p>
+ * Spans of both traces are aligned by call path: the chain of (className, methodName)
+ * from the root. Sibling spans with the same class and method (e.g. a repository method
+ * called in a loop) are merged into one node, so {@link #baselineCount}/{@link #targetCount}
+ * report how often the call happened at that path.
+ * <p>
+ * Nodes are returned as a flat list in pre-order; {@link #parentId} refers to the
+ * {@link #id} of the parent node ({@code null} for roots).
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Data
+@Builder
+public class SpanDiffNode {
+
+    /**
+     * Diff status of an aligned node.
+     */
+    public enum Status {
+        /**
+         * Call path only exists in the target trace.
+         */
+        ADDED,
+        /**
+         * Call path only exists in the baseline trace.
+         */
+        REMOVED,
+        /**
+         * Call path exists in both traces with different call count or duration.
+         */
+        CHANGED,
+        /**
+         * Call path exists in both traces with identical call count and duration.
+         */
+        UNCHANGED
+    }
+
+    /**
+     * Index of this node in the diff list.
+     */
+    private Integer id;
+
+    /**
+     * Index of the parent node, {@code null} for roots.
+     */
+    private Integer parentId;
+
+    /**
+     * Depth in the tree (0 for roots).
+     */
+    private Integer depth;
+
+    /**
+     * Span name (e.g., "OrderController.getOrder").
+     */
+    private String name;
+
+    /**
+     * Class name where this span/method is located.
+     */
+    private String className;
+
+    /**
+     * Method name.
+     */
+    private String methodName;
+
+    /**
+     * Span kind (e.g., SERVER, CLIENT, INTERNAL).
+     */
+    private String kind;
+
+    /**
+     * Diff status.
+     */
+    private Status status;
+
+    /**
+     * Number of calls at this path in the baseline trace.
+     */
+    private Integer baselineCount;
+
+    /**
+     * Number of calls at this path in the target trace.
+     */
+    private Integer targetCount;
+
+    /**
+     * Summed duration in the baseline trace in milliseconds.
+     */
+    private Long baselineDurationMs;
+
+    /**
+     * Summed duration in the target trace in milliseconds.
+     */
+    private Long targetDurationMs;
+
+    /**
+     * Summed self duration in the baseline trace in milliseconds.
+     */
+    private Long baselineSelfDurationMs;
+
+    /**
+     * Summed self duration in the target trace in milliseconds.
+     */
+    private Long targetSelfDurationMs;
+
+    /**
+     * Target minus baseline call count.
+     */
+    private Integer countDelta;
+
+    /**
+     * Target minus baseline duration in milliseconds.
+     */
+    private Long durationDeltaMs;
+
+    /**
+     * Target minus baseline self duration in milliseconds.
+     */
+    private Long selfDurationDeltaMs;
+}
@@ -77,6 +77,12 @@ public class SpanNode {
      */
     private Long selfDurationMs;
     
+    /**
+     * Self duration in nanoseconds (excluding children execution time).
+     * Unlike {@link #selfDurationMs} it is not rounded, so sub-millisecond spans keep their time.
+     */
+    private Long selfDurationNanos;
+    
     /**
      * Percentage of total trace duration (including children).
      */
@@ -0,0 +1,54 @@
+package kr.co.ouroboros.core.rest.tryit.trace.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Latency of one STOMP stage for one destination within a try.
+ * <p>
+ * Queue time is the time messages waited in the channel executor before a handler picked
+ * them up; handle time is the time handlers spent on them. On the outbound stage every
+ * delivery to a subscriber session counts as one message.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Data
+@Builder
+public class StompStageLatency {
+
+    /**
+     * Channel stage: inbound, broker or outbound.
+     */
+    private String stage;
+
+    /**
+     * Message destination, or null for frames without one (e.g. CONNECT).
+     */
+    private String destination;
+
+    /**
+     * Number of handler invocations (deliveries on the outbound stage).
+     */
+    private Integer count;
+
+    /**
+     * Total queue time in milliseconds.
+     */
+    private Double queueMs;
+
+    /**
+     * Longest single queue time in milliseconds.
+     */
+    private Double maxQueueMs;
+
+    /**
+     * Total handle time in milliseconds.
+     */
+    private Double handleMs;
+
+    /**
+     * Longest single handle time in milliseconds.
+     */
+    private Double maxHandleMs;
+}
@@ -8,6 +8,10 @@
  * <ul>
  *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.dto.TraceSpanInfo} - Span information extracted from TraceDTO</li>
  *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.dto.SpanNode} - Hierarchical span node with children</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.dto.CriticalPathSegment} - Exclusive segment of the trace's critical path</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.dto.StompStageLatency} - Queue and handle latency of a STOMP stage and destination</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.dto.SpanDiffNode} - Aligned node of a diff between two trace trees</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.dto.FlameGraphNode} - Frame of a merged flame graph</li>
  *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.dto.SpanMethodInfo} - Parsed method information from span</li>
  *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.dto.Issue} - Detected performance issue</li>
  *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.dto.AnalysisStatus} - Analysis status enumeration</li>
@@ -7,8 +7,10 @@
  * <p>
  * <b>Components:</b>
  * <ul>
+ *   <li><b>Aggregate</b> - Cross-try latency aggregation</li>
  *   <li><b>Analyzer</b> - Performance issue detection</li>
  *   <li><b>Builder</b> - Hierarchical trace tree construction</li>
+ *   <li><b>Completion</b> - Trace completion detection</li>
  *   <li><b>Converter</b> - Trace data format conversion</li>
  *   <li><b>DTOs</b> - Data transfer objects for trace data</li>
  *   <li><b>Parser</b> - Method and class name parsing</li>
@@ -0,0 +1,202 @@
+package kr.co.ouroboros.core.rest.tryit.trace.util;
+
+import kr.co.ouroboros.core.rest.tryit.trace.dto.CriticalPathSegment;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.TraceSpanInfo;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class for calculating the critical path of a trace.
+ * <p>
+ * The critical path is the chain of spans that actually bounded the wall time of the
+ * request. Starting at the end of the root span and walking backwards in time, the
+ * calculator repeatedly descends into the child that finished last before the current
+ * point in time; the time in between is attributed to the parent itself. Children that
+ * ran in parallel with an already selected child, and therefore did not delay the
+ * request, are not on the path.
+ * <p>
+ * The result is an exclusive breakdown: every segment is time spent in exactly one
+ * span, and the segments together cover the root span's wall time.
+ * <p>
+ * Spans without both start and end timestamps are ignored. The walk uses an explicit
+ * stack and a single sort by end time, so it runs in O(n log n) for any trace depth.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+public class CriticalPathCalculator {
+
+    /**
+     * Calculates the critical path of the trace rooted at its longest root span.
+     *
+     * @param spans List of trace span information
+     * @return critical path segments in chronological order, or an empty list if no span has timestamps
+     */
+    public static List<CriticalPathSegment> calculate(List<TraceSpanInfo> spans) {
+        if (spans == null || spans.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<TraceSpanInfo> timed = new ArrayList<>(spans.size());
+        for (TraceSpanInfo span : spans) {
+            if (span.getStartTimeNanos() != null && span.getEndTimeNanos() != null
+                    && span.getEndTimeNanos() >= span.getStartTimeNanos()) {
+                timed.add(span);
+            }
+        }
+        int n = timed.size();
+        if (n == 0) {
+            return new ArrayList<>();
+        }
+
+        long[] starts = new long[n];
+        long[] ends = new long[n];
+        Map<String, Integer> indexBySpanId = new HashMap<>(n * 4 / 3 + 1);
+        for (int i = 0; i < n; i++) {
+            TraceSpanInfo span = timed.get(i);
+            starts[i] = span.getStartTimeNanos();
+            ends[i] = span.getEndTimeNanos();
+            indexBySpanId.put(span.getSpanId(), i);
+        }
+
+        // Resolve parents and pick the longest root span (earliest start on ties)
+        int[] parents = new int[n];
+        int[] childCounts = new int[n];
+        int root = -1;
+        for (int i = 0; i < n; i++) {
+            String parentId = timed.get(i).getParentSpanId();
+            Integer parentIndex = parentId != null ? indexBySpanId.get(parentId) : null;
+            parents[i] = (parentIndex == null || parentIndex == i) ? -1 : parentIndex;
+            if (parents[i] >= 0) {
+                childCounts[parents[i]]++;
+            } else if (root < 0 || ends[i] - starts[i] > ends[root] - starts[root]
+                    || (ends[i] - starts[i] == ends[root] - starts[root] && starts[i] < starts[root])) {
+                root = i;
+            }
+        }
+        if (root < 0) {
+            return new ArrayList<>();
+        }
+
+        // Bucket children per parent, latest end time first
+        long[] negatedEnds = new long[n];
+        for (int i = 0; i < n; i++) {
+            negatedEnds[i] = -ends[i];
+        }
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] = offsets[i] + childCounts[i];
+        }
+        int[] fill = new int[n];
+        System.arraycopy(offsets, 0, fill, 0, n);
+        int[] bucketed = new int[n];
+        for (int i : SpanIndexSorter.sortAscending(negatedEnds)) {
+            if (parents[i] >= 0) {
+                bucketed[fill[parents[i]]++] = i;
+            }
+        }
+
+        // Walk backwards in time with an explicit stack of frames.
+        // Segments are collected latest first and reversed at the end.
+        List<long[]> reversed = new ArrayList<>();
+        int[] frameSpan = new int[n];
+        long[] frameWindowStart = new long[n];
+        long[] frameCursor = new long[n];
+        int[] framePos = new int[n];
+        int top = 0;
+        frameSpan[top] = root;
+        frameWindowStart[top] = starts[root];
+        frameCursor[top] = ends[root];
+        framePos[top] = offsets[root];
+        top++;
+
+        while (top > 0) {
+            int f = top - 1;
+            int spanIndex = frameSpan[f];
+            long windowStart = frameWindowStart[f];
+            long cursor = frameCursor[f];
+            boolean descended = false;
+
+            while (framePos[f] < offsets[spanIndex + 1] && cursor > windowStart) {
+                int child = bucketed[framePos[f]++];
+                // Children that outlive their parent only count until the parent ended
+                long childEnd = Math.min(ends[child], ends[spanIndex]);
+                if (childEnd <= windowStart) {
+                    // Remaining children ended even earlier
+                    framePos[f] = offsets[spanIndex + 1];
+                    break;
+                }
+                if (childEnd > cursor || starts[child] >= childEnd) {
+                    // Ran in parallel with an already selected child, or empty
+                    continue;
+                }
+                if (childEnd < cursor) {
+                    addSegment(reversed, spanIndex, childEnd, cursor);
+                }
+                long childStart = Math.max(starts[child], windowStart);
+                frameCursor[f] = childStart;
+
+                frameSpan[top] = child;
+                frameWindowStart[top] = childStart;
+                frameCursor[top] = childEnd;
+                framePos[top] = offsets[child];
+                top++;
+                descended = true;
+                break;
+            }
+            if (descended) {
+                continue;
+            }
+            if (frameCursor[f] > windowStart) {
+                addSegment(reversed, spanIndex, windowStart, frameCursor[f]);
+            }
+            top--;
+        }
+
+        long rootDurationNanos = ends[root] - starts[root];
+        List<CriticalPathSegment> path = new ArrayList<>(reversed.size());
+        for (long[] segment : reversed) {
+            TraceSpanInfo span = timed.get((int) segment[0]);
+            long durationNanos = segment[2] - segment[1];
+            double percentage = rootDurationNanos > 0 ? durationNanos * 100.0 / rootDurationNanos : 0;
+            path.add(CriticalPathSegment.builder()
+                    .spanId(span.getSpanId())
+                    .name(span.getName())
+                    .kind(span.getKind())
+                    .startTimeNanos(segment[1])
+                    .endTimeNanos(segment[2])
+                    .durationMs(round2(durationNanos / 1_000_000.0))
+                    .percentage(round2(percentage))
+                    .build());
+        }
+        Collections.reverse(path);
+
+        log.debug("Calculated critical path with {} segments for {} spans", path.size(), n);
+        return path;
+    }
+
+    /**
+     * Adds a segment {spanIndex, start, end}, merging it with the previously added
+     * (later) segment when both belong to the same span and touch.
+     */
+    private static void addSegment(List<long[]> reversed, int spanIndex, long start, long end) {
+        if (!reversed.isEmpty()) {
+            long[] last = reversed.get(reversed.size() - 1);
+            if (last[0] == spanIndex && last[1] == end) {
+                last[1] = start;
+                return;
+            }
+        }
+        reversed.add(new long[]{spanIndex, start, end});
+    }
+
+    private static double round2(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
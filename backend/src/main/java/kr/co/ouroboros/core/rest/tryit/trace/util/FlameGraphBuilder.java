@@ -0,0 +1,218 @@
+package kr.co.ouroboros.core.rest.tryit.trace.util;
+
+import kr.co.ouroboros.core.rest.tryit.trace.dto.FlameGraphNode;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.SpanNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds flame graph exports from a hierarchical span tree.
+ * <p>
+ * <b>Formats:</b>
+ * <ul>
+ *   <li>Folded (collapsed) stacks: one line per unique stack, {@code a;b;c self_ns},
+ *       the input format of flamegraph.pl, speedscope and similar tools</li>
+ *   <li>Merged flame graph JSON: a {@link FlameGraphNode} tree in which identical
+ *       stacks are merged, so the UI renders one frame per unique stack instead of
+ *       one node per span</li>
+ * </ul>
+ * <p>
+ * Frame names are the span display names produced by
+ * {@link kr.co.ouroboros.core.rest.tryit.trace.builder.TraceTreeBuilder} from
+ * {@link kr.co.ouroboros.core.rest.tryit.trace.parser.SpanMethodParser} output
+ * (e.g. "OrderService.findOrder"), so stacks do not depend on spanIds or parameters.
+ * <p>
+ * The span tree is visited once with {@link SpanFlattener#traverse}; the current
+ * stack is tracked by depth, so the build is linear in the number of spans.
+ * Self times are the span tree's nanosecond self durations; nodes without one
+ * fall back to their millisecond self duration.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FlameGraphBuilder {
+
+    /**
+     * Name of the synthetic root frame that holds all root spans.
+     */
+    public static final String ROOT_FRAME = "root";
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final SpanFlattener spanFlattener;
+
+    /**
+     * Builds the merged flame graph.
+     *
+     * @param spanTree root spans of the trace (may be null or empty)
+     * @return synthetic root frame holding the merged stacks
+     */
+    public FlameGraphNode buildFlameGraph(List<SpanNode> spanTree) {
+        Frame root = merge(spanTree);
+        FlameGraphNode result = toFlameGraphNode(root);
+        log.debug("Built flame graph with total value {}ns", result.getValue());
+        return result;
+    }
+
+    /**
+     * Builds folded (collapsed) stacks.
+     * <p>
+     * Identical stacks are merged and stacks without self time are omitted.
+     * Lines appear in depth-first order of the first occurrence of each stack.
+     *
+     * @param spanTree root spans of the trace (may be null or empty)
+     * @return folded stacks, one {@code frame;frame;frame self_ns} line per stack
+     */
+    public String buildFoldedStacks(List<SpanNode> spanTree) {
+        Frame root = merge(spanTree);
+        StringBuilder out = new StringBuilder();
+        StringBuilder stack = new StringBuilder();
+
+        // Pre-order over the merged frames; prefix lengths per depth restore the stack text
+        List<Frame> pending = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>();
+        int[] prefixLengths = new int[16];
+        pushChildren(pending, depths, root, 0);
+        while (!pending.isEmpty()) {
+            int last = pending.size() - 1;
+            Frame frame = pending.remove(last);
+            int depth = depths.remove(last);
+            if (depth >= prefixLengths.length) {
+                prefixLengths = Arrays.copyOf(prefixLengths, prefixLengths.length * 2);
+            }
+
+            int prefixLength = depth == 0 ? 0 : prefixLengths[depth - 1];
+            stack.setLength(prefixLength);
+            if (depth > 0) {
+                stack.append(';');
+            }
+            stack.append(frame.name);
+            prefixLengths[depth] = stack.length();
+
+            if (frame.selfNanos > 0) {
+                out.append(stack).append(' ').append(frame.selfNanos).append('\n');
+            }
+            pushChildren(pending, depths, frame, depth + 1);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Merges identical stacks of the span tree into a frame tree under a synthetic root.
+     */
+    private Frame merge(List<SpanNode> spanTree) {
+        Frame root = new Frame(ROOT_FRAME);
+        Frame[][] path = {new Frame[16]};
+        spanFlattener.traverse(spanTree, (node, depth) -> {
+            if (depth >= path[0].length) {
+                path[0] = Arrays.copyOf(path[0], path[0].length * 2);
+            }
+            Frame parent = depth == 0 ? root : path[0][depth - 1];
+            Frame frame = parent.child(frameName(node));
+            frame.count++;
+            frame.selfNanos += selfNanos(node);
+            path[0][depth] = frame;
+        });
+        return root;
+    }
+
+    private long selfNanos(SpanNode node) {
+        if (node.getSelfDurationNanos() != null) {
+            return node.getSelfDurationNanos();
+        }
+        return node.getSelfDurationMs() != null ? node.getSelfDurationMs() * NANOS_PER_MILLI : 0L;
+    }
+
+    /**
+     * Converts the frame tree to DTOs, computing total values bottom-up (post-order, no recursion).
+     */
+    private FlameGraphNode toFlameGraphNode(Frame root) {
+        List<Frame> order = new ArrayList<>();
+        List<Frame> pending = new ArrayList<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            Frame frame = pending.remove(pending.size() - 1);
+            order.add(frame);
+            if (frame.children != null) {
+                pending.addAll(frame.children.values());
+            }
+        }
+
+        // Reverse pre-order visits every child before its parent
+        Map<Frame, FlameGraphNode> nodes = new HashMap<>(order.size() * 4 / 3 + 1);
+        for (int i = order.size() - 1; i >= 0; i--) {
+            Frame frame = order.get(i);
+            List<FlameGraphNode> children = new ArrayList<>();
+            long value = frame.selfNanos;
+            if (frame.children != null) {
+                for (Frame child : frame.children.values()) {
+                    FlameGraphNode childNode = nodes.remove(child);
+                    children.add(childNode);
+                    value += childNode.getValue();
+                }
+            }
+            nodes.put(frame, FlameGraphNode.builder()
+                    .name(frame.name)
+                    .value(value)
+                    .selfValue(frame.selfNanos)
+                    .count(frame.count)
+                    .children(children)
+                    .build());
+        }
+        return nodes.get(root);
+    }
+
+    private void pushChildren(List<Frame> pending, List<Integer> depths, Frame frame, int depth) {
+        if (frame.children == null) {
+            return;
+        }
+        List<Frame> children = new ArrayList<>(frame.children.values());
+        for (int i = children.size() - 1; i >= 0; i--) {
+            pending.add(children.get(i));
+            depths.add(depth);
+        }
+    }
+
+    /**
+     * Frame name of a span; characters that are separators in the folded format are replaced.
+     */
+    private String frameName(SpanNode node) {
+        String name = node.getName();
+        if (name == null || name.isEmpty()) {
+            name = node.getMethodName() != null ? node.getMethodName() : "unknown";
+        }
+        return name.replace(';', ':').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    /**
+     * Mutable frame of the merged stack tree.
+     */
+    private static final class Frame {
+        private final String name;
+        private Map<String, Frame> children;
+        private long selfNanos;
+        private int count;
+
+        private Frame(String name) {
+            this.name = name;
+        }
+
+        private Frame child(String childName) {
+            if (children == null) {
+                children = new LinkedHashMap<>();
+            }
+            return children.computeIfAbsent(childName, Frame::new);
+        }
+    }
+}
@@ -4,8 +4,12 @@ import kr.co.ouroboros.core.rest.tryit.trace.dto.SpanNode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
+import java.util.function.ObjIntConsumer;
 
 /**
  * Utility class for flattening hierarchical span tree into a flat list.
@@ -29,8 +33,7 @@ public class SpanFlattener {
      * Traverses the hierarchical tree structure starting from root spans,
      * collecting all spans (including nested children) into a single flat list.
      * <p>
-     * Order: Root spans are processed first, followed by their children
-     * recursively in depth-first order.
+     * Order: Each span is followed by its children in depth-first (pre-order) order.
      *
      * @param spanTree List of root span nodes with hierarchical children
      * @return Flat list containing all spans from the tree
@@ -41,36 +44,60 @@ public class SpanFlattener {
         }
         
         List<SpanNode> flatList = new ArrayList<>();
-        
-        for (SpanNode root : spanTree) {
-            flattenRecursive(root, flatList);
-        }
+        traverse(spanTree, (node, depth) -> flatList.add(node));
         
         log.debug("Flattened {} root spans into {} total spans", spanTree.size(), flatList.size());
         return flatList;
     }
     
     /**
-     * Flatten a SpanNode subtree into a flat list in depth-first order.
-     *
-     * Adds the given node followed by all of its descendants to the provided list.
+     * Visits every span of a hierarchical span tree in depth-first pre-order.
+     * <p>
+     * The visitor receives each node together with its depth (0 for root spans).
+     * Because nodes arrive in pre-order, the ancestors of a node are exactly the
+     * most recently visited nodes at depths {@code 0..depth-1}, which lets callers
+     * track the current call stack without parent pointers.
      *
-     * @param node the root of the subtree to flatten; if null this method returns immediately
-     * @param flatList the list to append nodes to; must be non-null
+     * @param spanTree List of root span nodes with hierarchical children (may be null)
+     * @param visitor  callback receiving each node and its depth
      */
-    private void flattenRecursive(SpanNode node, List<SpanNode> flatList) {
-        if (node == null) {
+    public void traverse(List<SpanNode> spanTree, ObjIntConsumer<SpanNode> visitor) {
+        if (spanTree == null || spanTree.isEmpty()) {
             return;
         }
         
-        // Add current node
-        flatList.add(node);
-        
-        // Process children recursively
-        if (node.getChildren() != null) {
-            for (SpanNode child : node.getChildren()) {
-                flattenRecursive(child, flatList);
+        // Explicit stack instead of recursion so that very deep traces cannot overflow the call stack.
+        // Nodes are pushed in reverse so that they are popped in their original order.
+        Deque<SpanNode> stack = new ArrayDeque<>();
+        int[] depths = new int[16];
+        for (int i = spanTree.size() - 1; i >= 0; i--) {
+            depths = pushIfPresent(stack, depths, spanTree.get(i), 0);
+        }
+        while (!stack.isEmpty()) {
+            int depth = depths[stack.size() - 1];
+            SpanNode node = stack.pop();
+            visitor.accept(node, depth);
+            List<SpanNode> children = node.getChildren();
+            if (children != null) {
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    depths = pushIfPresent(stack, depths, children.get(i), depth + 1);
+                }
             }
         }
     }
+    
+    /**
+     * Pushes a non-null node and records its depth at the matching stack position.
+     *
+     * @return the depth array, grown if needed
+     */
+    private int[] pushIfPresent(Deque<SpanNode> stack, int[] depths, SpanNode node, int depth) {
+        if (node == null) {
+            return depths;
+        }
+        int[] result = stack.size() < depths.length ? depths : Arrays.copyOf(depths, depths.length * 2);
+        result[stack.size()] = depth;
+        stack.push(node);
+        return result;
+    }
 }
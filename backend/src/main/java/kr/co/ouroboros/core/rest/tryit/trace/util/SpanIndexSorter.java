@@ -0,0 +1,56 @@
+package kr.co.ouroboros.core.rest.tryit.trace.util;
+
+/**
+ * Sorts span indexes by a primitive key.
+ * <p>
+ * Used by the trace tree and critical path calculations to order spans by start
+ * or end time without boxing each value into a {@code Comparator}.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+public final class SpanIndexSorter {
+
+    private SpanIndexSorter() {
+    }
+
+    /**
+     * Returns the indexes {@code 0..keys.length-1} ordered by ascending key.
+     * <p>
+     * Bottom-up merge sort, so the order is stable: indexes with equal keys keep their
+     * input order. Runs in O(n log n) and allocates two {@code int[]} of size n.
+     *
+     * @param keys sort key per index
+     * @return indexes sorted by key
+     */
+    public static int[] sortAscending(long[] keys) {
+        int n = keys.length;
+        int[] src = new int[n];
+        for (int i = 0; i < n; i++) {
+            src[i] = i;
+        }
+        int[] dst = new int[n];
+        for (int width = 1; width < n; width *= 2) {
+            for (int lo = 0; lo < n; lo += 2 * width) {
+                int mid = Math.min(lo + width, n);
+                int hi = Math.min(lo + 2 * width, n);
+                int left = lo;
+                int right = mid;
+                int out = lo;
+                while (left < mid && right < hi) {
+                    dst[out++] = keys[src[right]] < keys[src[left]] ? src[right++] : src[left++];
+                }
+                while (left < mid) {
+                    dst[out++] = src[left++];
+                }
+                while (right < hi) {
+                    dst[out++] = src[right++];
+                }
+            }
+            int[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+        return src;
+    }
+}
@@ -0,0 +1,108 @@
+package kr.co.ouroboros.core.rest.tryit.trace.util;
+
+import kr.co.ouroboros.core.rest.tryit.trace.dto.StompStageLatency;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.TraceSpanInfo;
+import kr.co.ouroboros.core.websocket.tryit.common.TryStompSpanAttributes;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class for breaking down the latency of a STOMP try per stage and destination.
+ * <p>
+ * Uses the queue and handle spans created by the STOMP Try tracing interceptor, identified by
+ * their {@code ouro.stomp.stage} and {@code ouro.stomp.phase} attributes. Other spans are
+ * ignored, so the result is empty for HTTP tries.
+ * <p>
+ * Entries are ordered by stage (inbound, broker, outbound), then by first occurrence.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+public class StompLatencyCalculator {
+
+    private static final List<String> STAGE_ORDER = List.of(
+            TryStompSpanAttributes.STAGE_INBOUND,
+            TryStompSpanAttributes.STAGE_BROKER,
+            TryStompSpanAttributes.STAGE_OUTBOUND
+    );
+
+    /**
+     * Calculates queue and handle latency per stage and destination.
+     *
+     * @param spans List of trace span information
+     * @return latency per stage and destination, or an empty list if the trace has no STOMP stage spans
+     */
+    public static List<StompStageLatency> calculate(List<TraceSpanInfo> spans) {
+        if (spans == null || spans.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, Totals> totalsByKey = new LinkedHashMap<>();
+        for (TraceSpanInfo span : spans) {
+            Map<String, String> attributes = span.getAttributes();
+            if (attributes == null || span.getStartTimeNanos() == null || span.getEndTimeNanos() == null) {
+                continue;
+            }
+            String stage = attributes.get(TryStompSpanAttributes.STOMP_STAGE);
+            String phase = attributes.get(TryStompSpanAttributes.STOMP_PHASE);
+            if (stage == null || phase == null) {
+                continue;
+            }
+            String destination = attributes.get(TryStompSpanAttributes.MESSAGING_DESTINATION);
+            Totals totals = totalsByKey.computeIfAbsent(stage + '\n' + destination, key -> new Totals(stage, destination));
+            long nanos = Math.max(0, span.getEndTimeNanos() - span.getStartTimeNanos());
+            if (TryStompSpanAttributes.PHASE_QUEUE.equals(phase)) {
+                totals.queueNanos += nanos;
+                totals.maxQueueNanos = Math.max(totals.maxQueueNanos, nanos);
+            } else if (TryStompSpanAttributes.PHASE_HANDLE.equals(phase)) {
+                totals.count++;
+                totals.handleNanos += nanos;
+                totals.maxHandleNanos = Math.max(totals.maxHandleNanos, nanos);
+            }
+        }
+
+        List<StompStageLatency> result = new ArrayList<>(totalsByKey.size());
+        for (String stage : STAGE_ORDER) {
+            for (Totals totals : totalsByKey.values()) {
+                if (stage.equals(totals.stage)) {
+                    result.add(totals.toLatency());
+                }
+            }
+        }
+        return result;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class Totals {
+        private final String stage;
+        private final String destination;
+        private int count;
+        private long queueNanos;
+        private long maxQueueNanos;
+        private long handleNanos;
+        private long maxHandleNanos;
+
+        private Totals(String stage, String destination) {
+            this.stage = stage;
+            this.destination = destination;
+        }
+
+        private StompStageLatency toLatency() {
+            return StompStageLatency.builder()
+                    .stage(stage)
+                    .destination(destination)
+                    .count(count)
+                    .queueMs(toMillis(queueNanos))
+                    .maxQueueMs(toMillis(maxQueueNanos))
+                    .handleMs(toMillis(handleNanos))
+                    .maxHandleMs(toMillis(maxHandleNanos))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package kr.co.ouroboros.core.rest.tryit.trace.util;
+
+import kr.co.ouroboros.core.rest.tryit.trace.dto.SpanDiffNode;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.SpanNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the diff between two span trees built by
+ * {@link kr.co.ouroboros.core.rest.tryit.trace.builder.TraceTreeBuilder}.
+ * <p>
+ * <b>Alignment:</b>
+ * <ol>
+ *   <li>Each tree is folded into a call-path tree: sibling spans with the same
+ *       (className, methodName) are merged, summing call count, duration and self duration</li>
+ *   <li>Both call-path trees are walked together; children are matched by their
+ *       (className, methodName) key with a hash lookup under an already matched parent</li>
+ *   <li>Paths present on only one side are reported as ADDED/REMOVED with their whole subtree</li>
+ * </ol>
+ * <p>
+ * Both phases visit every node once with an explicit stack, so the diff runs in
+ * O(n + m) time for traces with n and m spans and cannot overflow the call stack
+ * on very deep traces.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@Component
+public class TraceTreeDiffer {
+
+    /**
+     * Diffs two span trees.
+     *
+     * @param baseline root spans of the baseline (before) trace
+     * @param target   root spans of the target (after) trace
+     * @return aligned nodes as a flat pre-order list; roots first, children follow their parent
+     */
+    public List<SpanDiffNode> diff(List<SpanNode> baseline, List<SpanNode> target) {
+        PathNode baselineRoot = fold(baseline);
+        PathNode targetRoot = fold(target);
+
+        List<SpanDiffNode> result = new ArrayList<>();
+        Deque<Frame> stack = new ArrayDeque<>();
+        pushChildren(stack, baselineRoot, targetRoot, null, 0);
+        while (!stack.isEmpty()) {
+            Frame frame = stack.pop();
+            int id = result.size();
+            result.add(toDiffNode(id, frame));
+            pushChildren(stack, frame.baseline, frame.target, id, frame.depth + 1);
+        }
+
+        log.debug("Diffed {} baseline and {} target call paths into {} nodes",
+                baselineRoot.size, targetRoot.size, result.size());
+        return result;
+    }
+
+    /**
+     * Folds a span tree into a call-path tree under a virtual root.
+     */
+    private PathNode fold(List<SpanNode> roots) {
+        PathNode virtualRoot = new PathNode(null);
+        if (roots == null) {
+            return virtualRoot;
+        }
+        Deque<SpanNode> nodes = new ArrayDeque<>();
+        Deque<PathNode> parents = new ArrayDeque<>();
+        for (int i = roots.size() - 1; i >= 0; i--) {
+            if (roots.get(i) != null) {
+                nodes.push(roots.get(i));
+                parents.push(virtualRoot);
+            }
+        }
+        while (!nodes.isEmpty()) {
+            SpanNode node = nodes.pop();
+            PathNode parent = parents.pop();
+            PathNode path = parent.child(node);
+            path.count++;
+            path.durationMs += node.getDurationMs() != null ? node.getDurationMs() : 0L;
+            path.selfDurationMs += node.getSelfDurationMs() != null ? node.getSelfDurationMs() : 0L;
+            virtualRoot.size++;
+
+            List<SpanNode> children = node.getChildren();
+            if (children != null) {
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    if (children.get(i) != null) {
+                        nodes.push(children.get(i));
+                        parents.push(path);
+                    }
+                }
+            }
+        }
+        return virtualRoot;
+    }
+
+    /**
+     * Pushes the aligned children of a node pair so that they are popped in order:
+     * baseline order first, then paths only present in the target.
+     */
+    private void pushChildren(Deque<Frame> stack, PathNode baseline, PathNode target, Integer parentId, int depth) {
+        Map<String, PathNode> baselineChildren = baseline != null ? baseline.children : null;
+        Map<String, PathNode> targetChildren = target != null ? target.children : null;
+        if (baselineChildren == null && targetChildren == null) {
+            return;
+        }
+
+        List<Frame> frames = new ArrayList<>();
+        if (baselineChildren != null) {
+            for (Map.Entry<String, PathNode> entry : baselineChildren.entrySet()) {
+                PathNode matched = targetChildren != null ? targetChildren.get(entry.getKey()) : null;
+                frames.add(new Frame(entry.getValue(), matched, parentId, depth));
+            }
+        }
+        if (targetChildren != null) {
+            for (Map.Entry<String, PathNode> entry : targetChildren.entrySet()) {
+                if (baselineChildren == null || !baselineChildren.containsKey(entry.getKey())) {
+                    frames.add(new Frame(null, entry.getValue(), parentId, depth));
+                }
+            }
+        }
+        for (int i = frames.size() - 1; i >= 0; i--) {
+            stack.push(frames.get(i));
+        }
+    }
+
+    private SpanDiffNode toDiffNode(int id, Frame frame) {
+        PathNode baseline = frame.baseline;
+        PathNode target = frame.target;
+        SpanNode representative = target != null ? target.representative : baseline.representative;
+
+        int baselineCount = baseline != null ? baseline.count : 0;
+        int targetCount = target != null ? target.count : 0;
+        long baselineDuration = baseline != null ? baseline.durationMs : 0L;
+        long targetDuration = target != null ? target.durationMs : 0L;
+        long baselineSelf = baseline != null ? baseline.selfDurationMs : 0L;
+        long targetSelf = target != null ? target.selfDurationMs : 0L;
+
+        SpanDiffNode.Status status;
+        if (baseline == null) {
+            status = SpanDiffNode.Status.ADDED;
+        } else if (target == null) {
+            status = SpanDiffNode.Status.REMOVED;
+        } else if (baselineCount == targetCount && baselineDuration == targetDuration && baselineSelf == targetSelf) {
+            status = SpanDiffNode.Status.UNCHANGED;
+        } else {
+            status = SpanDiffNode.Status.CHANGED;
+        }
+
+        return SpanDiffNode.builder()
+                .id(id)
+                .parentId(frame.parentId)
+                .depth(frame.depth)
+                .name(representative.getName())
+                .className(representative.getClassName())
+                .methodName(representative.getMethodName())
+                .kind(representative.getKind())
+                .status(status)
+                .baselineCount(baselineCount)
+                .targetCount(targetCount)
+                .baselineDurationMs(baselineDuration)
+                .targetDurationMs(targetDuration)
+                .baselineSelfDurationMs(baselineSelf)
+                .targetSelfDurationMs(targetSelf)
+                .countDelta(targetCount - baselineCount)
+                .durationDeltaMs(targetDuration - baselineDuration)
+                .selfDurationDeltaMs(targetSelf - baselineSelf)
+                .build();
+    }
+
+    /**
+     * Alignment key of a span: class and method when parsed, the span name otherwise.
+     */
+    private static String callKey(SpanNode node) {
+        if (node.getClassName() == null && node.getMethodName() == null) {
+            return node.getName();
+        }
+        return node.getClassName() + "#" + node.getMethodName();
+    }
+
+    /**
+     * Node of a call-path tree; aggregates all sibling spans with the same call key.
+     */
+    private static final class PathNode {
+        private final SpanNode representative;
+        private Map<String, PathNode> children;
+        private int count;
+        private long durationMs;
+        private long selfDurationMs;
+        /**
+         * Total number of folded spans, only maintained on the virtual root.
+         */
+        private int size;
+
+        private PathNode(SpanNode representative) {
+            this.representative = representative;
+        }
+
+        private PathNode child(SpanNode node) {
+            if (children == null) {
+                children = new LinkedHashMap<>();
+            }
+            return children.computeIfAbsent(callKey(node), key -> new PathNode(node));
+        }
+    }
+
+    private record Frame(PathNode baseline, PathNode target, Integer parentId, int depth) {
+    }
+}
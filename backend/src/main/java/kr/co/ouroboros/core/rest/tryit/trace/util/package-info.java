@@ -8,6 +8,11 @@
  * <ul>
  *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.util.SpanFlattener} - Flattens hierarchical span tree into flat list</li>
  *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.util.TraceDurationCalculator} - Calculates total duration from span timestamps</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.util.CriticalPathCalculator} - Calculates the critical path of a trace</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.util.StompLatencyCalculator} - Breaks down STOMP try latency per stage and destination</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.util.SpanIndexSorter} - Sorts span indexes by primitive time keys</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.util.TraceTreeDiffer} - Aligns two span trees by call path and computes deltas</li>
+ *   <li>{@link kr.co.ouroboros.core.rest.tryit.trace.util.FlameGraphBuilder} - Builds folded stacks and merged flame graphs</li>
  * </ul>
  *
  * @since 0.0.1
@@ -1,10 +1,14 @@
 package kr.co.ouroboros.core.websocket.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import java.util.Map;
 import kr.co.ouroboros.core.global.spec.OuroApiSpec;
+import kr.co.ouroboros.core.websocket.common.schema.SchemaHashIndex;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 /**
  * AsyncAPI specification data transfer object.
@@ -27,6 +31,17 @@ public class OuroWebSocketApiSpec implements OuroApiSpec {
     private Components components;
     private Map<String, Operation> operations;
 
+    /**
+     * Structural hashes of {@code components.schemas}, attached by the scanner so they are computed
+     * once per scanned document.
+     * <p>
+     * Not part of the specification; never serialized.
+     */
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient SchemaHashIndex schemaHashes;
+
     /**
      * Provide the API protocol identifier.
      *
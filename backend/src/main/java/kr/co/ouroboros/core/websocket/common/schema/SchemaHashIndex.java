@@ -0,0 +1,213 @@
+package kr.co.ouroboros.core.websocket.common.schema;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import kr.co.ouroboros.core.websocket.common.dto.Schema;
+
+/**
+ * Canonical structural hashes of the component schemas of a WebSocket API specification.
+ * <p>
+ * Two schemas get the same hash when they are structurally equal:
+ * <ul>
+ *   <li>Same title, type, format, enum values and required fields</li>
+ *   <li>Same {@code $ref} after reducing component schema references to simple class names
+ *       (e.g., "#/components/schemas/com.example.Foo" and "#/components/schemas/Foo")</li>
+ *   <li>Structurally equal items and properties, regardless of property order</li>
+ * </ul>
+ * Examples are not part of the structure.
+ * <p>
+ * Hashes are computed bottom-up in a single pass, each schema instance once. They are the first
+ * 128 bits of a SHA-256 digest over the canonical encoding, so equal hashes are treated as equal schemas.
+ *
+ * @since 1.0.6
+ */
+public final class SchemaHashIndex {
+
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+
+    private final Map<String, StructuralHash> hashes;
+
+    private SchemaHashIndex(Map<String, StructuralHash> hashes) {
+        this.hashes = Collections.unmodifiableMap(hashes);
+    }
+
+    /**
+     * Compute the structural hash of every schema in the given map.
+     *
+     * @param schemas schema name to Schema map (e.g., {@code components.schemas}); may be null
+     * @return the index keyed by the original schema names
+     */
+    public static SchemaHashIndex of(Map<String, Schema> schemas) {
+        Map<String, StructuralHash> hashes = new LinkedHashMap<>();
+        if (schemas != null) {
+            Hasher hasher = new Hasher();
+            for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+                hashes.put(entry.getKey(), hasher.hash(entry.getValue()));
+            }
+        }
+        return new SchemaHashIndex(hashes);
+    }
+
+    /**
+     * Structural hashes by schema name.
+     *
+     * @return unmodifiable map of original schema name to hash
+     */
+    public Map<String, StructuralHash> hashes() {
+        return hashes;
+    }
+
+    /**
+     * Check whether this index was computed for a schema map with the given names.
+     *
+     * @param schemas the schema map to check; may be null
+     * @return true if the index holds exactly the names of {@code schemas}
+     */
+    public boolean covers(Map<String, Schema> schemas) {
+        Set<String> names = schemas != null ? schemas.keySet() : Collections.emptySet();
+        return hashes.keySet().equals(names);
+    }
+
+    /**
+     * Extracts the simple class name from a fully-qualified class name.
+     *
+     * @param fullClassName the fully-qualified class name (may be null)
+     * @return the substring after the last '.', the original string if it contains no '.', or {@code null}
+     */
+    public static String simpleName(String fullClassName) {
+        if (fullClassName == null) {
+            return null;
+        }
+        int lastDotIndex = fullClassName.lastIndexOf('.');
+        return lastDotIndex == -1 ? fullClassName : fullClassName.substring(lastDotIndex + 1);
+    }
+
+    /**
+     * Normalize a component schema reference to use a simple class name.
+     *
+     * @param ref the reference string to normalize (may be null)
+     * @return the normalized reference, the original {@code ref} if it is not a component schema reference,
+     *         or {@code null} if {@code ref} is null
+     */
+    public static String normalizeRef(String ref) {
+        if (ref == null || !ref.startsWith(SCHEMA_REF_PREFIX)) {
+            return ref;
+        }
+        return SCHEMA_REF_PREFIX + simpleName(ref.substring(SCHEMA_REF_PREFIX.length()));
+    }
+
+    /**
+     * 128-bit structural hash of a schema.
+     *
+     * @param high first 64 bits of the digest
+     * @param low  next 64 bits of the digest
+     */
+    public record StructuralHash(long high, long low) {
+    }
+
+    /**
+     * Computes hashes for one index; shared schema instances are hashed once.
+     */
+    private static final class Hasher {
+
+        private static final int NULL_LENGTH = -1;
+
+        private final MessageDigest digest = sha256();
+        private final Map<Schema, StructuralHash> computed = new IdentityHashMap<>();
+
+        private StructuralHash hash(Schema schema) {
+            if (schema == null) {
+                return null;
+            }
+            StructuralHash cached = computed.get(schema);
+            if (cached != null) {
+                return cached;
+            }
+
+            // Children first: the digest is shared and must only hold the current schema
+            StructuralHash items = hash(schema.getItems());
+            Map<String, StructuralHash> properties = null;
+            if (schema.getProperties() != null) {
+                properties = new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+                for (Map.Entry<String, Schema> entry : schema.getProperties().entrySet()) {
+                    properties.put(entry.getKey(), hash(entry.getValue()));
+                }
+            }
+
+            putString(schema.getTitle());
+            putString(schema.getType());
+            putString(schema.getFormat());
+            putString(normalizeRef(schema.getRef()));
+            putStrings(schema.getEnumValues());
+            putStrings(schema.getRequired());
+            putHash(items);
+            if (properties == null) {
+                putInt(NULL_LENGTH);
+            } else {
+                putInt(properties.size());
+                for (Map.Entry<String, StructuralHash> entry : properties.entrySet()) {
+                    putString(entry.getKey());
+                    putHash(entry.getValue());
+                }
+            }
+
+            ByteBuffer result = ByteBuffer.wrap(digest.digest());
+            StructuralHash hash = new StructuralHash(result.getLong(), result.getLong());
+            computed.put(schema, hash);
+            return hash;
+        }
+
+        private void putStrings(List<String> values) {
+            if (values == null) {
+                putInt(NULL_LENGTH);
+                return;
+            }
+            putInt(values.size());
+            for (String value : values) {
+                putString(value);
+            }
+        }
+
+        private void putString(String value) {
+            if (value == null) {
+                putInt(NULL_LENGTH);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            digest.update(bytes);
+        }
+
+        private void putHash(StructuralHash hash) {
+            if (hash == null) {
+                digest.update((byte) 0);
+                return;
+            }
+            digest.update((byte) 1);
+            digest.update(ByteBuffer.allocate(2 * Long.BYTES).putLong(hash.high()).putLong(hash.low()).array());
+        }
+
+        private void putInt(int value) {
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(value).array());
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                // Every Java platform is required to support SHA-256
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
+}
@@ -10,11 +10,13 @@ import java.util.Map;
 import kr.co.ouroboros.core.global.Protocol;
 import kr.co.ouroboros.core.global.handler.OuroProtocolHandler;
 import kr.co.ouroboros.core.global.spec.OuroApiSpec;
+import kr.co.ouroboros.core.websocket.common.dto.Components;
 import kr.co.ouroboros.core.websocket.common.dto.OuroWebSocketApiSpec;
+import kr.co.ouroboros.core.websocket.common.schema.SchemaHashIndex;
 import kr.co.ouroboros.core.websocket.config.WebSocketPrefixProperties;
 import kr.co.ouroboros.core.websocket.handler.helper.ChannelAddressNormalizer;
+import kr.co.ouroboros.core.websocket.handler.helper.ChannelPrefixRules;
 import kr.co.ouroboros.core.websocket.handler.pipeline.WebSocketSpecSyncPipeline;
-import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
@@ -33,6 +35,10 @@ import org.yaml.snakeyaml.Yaml;
  * When active, this handler takes priority over {@link BasicWebSocketHandler} via {@code @Primary}.
  * If Springwolf is not configured, users should set {@code springwolf.enabled=false}
  * to use {@link BasicWebSocketHandler} without Springwolf dependencies.
+ * <p>
+ * The prefix rules of {@link WebSocketPrefixProperties} are compiled once. The normalized spec of the
+ * last scanned AsyncAPI document is memoized together with the structural hashes of its schemas, so
+ * repeated scans of an unchanged document skip channel address normalization and schema hashing.
  *
  * @see BasicWebSocketHandler
  * @since 0.1.0
@@ -41,15 +47,33 @@ import org.yaml.snakeyaml.Yaml;
 @Primary
 @ConditionalOnClass(name = "io.github.springwolf.core.asyncapi.AsyncApiService")
 @ConditionalOnProperty(prefix = "springwolf", name = "enabled", havingValue = "true", matchIfMissing = false)
-@RequiredArgsConstructor
 public class OuroWebSocketHandler implements OuroProtocolHandler {
 
     private final AsyncApiService asyncApiService;
     private final WebSocketSpecSyncPipeline pipeline;
-    private final WebSocketPrefixProperties prefixProperties;
+    private final ChannelPrefixRules prefixRules;
     private static final ObjectMapper mapper = new ObjectMapper()
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
 
+    /**
+     * Normalization result of the last scanned AsyncAPI document.
+     */
+    private volatile NormalizedScan lastScan;
+
+    /**
+     * Creates the handler and compiles the destination prefix rules.
+     *
+     * @param asyncApiService  Springwolf service providing the scanned AsyncAPI document
+     * @param pipeline         pipeline synchronizing the scanned spec into the file spec
+     * @param prefixProperties detected STOMP destination prefixes
+     */
+    public OuroWebSocketHandler(AsyncApiService asyncApiService, WebSocketSpecSyncPipeline pipeline,
+                                WebSocketPrefixProperties prefixProperties) {
+        this.asyncApiService = asyncApiService;
+        this.pipeline = pipeline;
+        this.prefixRules = ChannelPrefixRules.compile(prefixProperties);
+    }
+
     /**
      * Indicates that this handler targets the WebSocket protocol.
      *
@@ -78,6 +102,10 @@ public class OuroWebSocketHandler implements OuroProtocolHandler {
      * captures only the {@code @MessageMapping} path (e.g., "/chat/send") without the
      * application destination prefix, so this method adds the configured prefix
      * (e.g., "/app") to produce the full STOMP destination (e.g., "/app/chat/send").
+     * <p>
+     * If the scanned document is unchanged since the last scan, the memoized normalized spec is
+     * deserialized instead. Every call returns a new spec instance, since synchronization modifies it.
+     * The returned spec carries the structural hashes of its schemas (see {@link SchemaHashIndex}).
      *
      * @return an OuroApiSpec representing the current AsyncAPI state with normalized channel addresses
      * @throws RuntimeException if the AsyncAPI cannot be serialized or converted to the websocket spec
@@ -87,11 +115,24 @@ public class OuroWebSocketHandler implements OuroProtocolHandler {
         try {
             AsyncAPI asyncAPI = asyncApiService.getAsyncAPI();
             String json = Json31.mapper().writeValueAsString(asyncAPI);
+
+            NormalizedScan cached = lastScan;
+            if (cached != null && cached.asyncApiJson().equals(json)) {
+                OuroWebSocketApiSpec spec = mapper.readValue(cached.normalizedJson(), OuroWebSocketApiSpec.class);
+                spec.setSchemaHashes(cached.schemaHashes());
+                return spec;
+            }
+
             OuroWebSocketApiSpec spec = mapper.readValue(json, OuroWebSocketApiSpec.class);
 
             // Normalize channel addresses by adding appropriate prefixes
-            ChannelAddressNormalizer.normalizeChannelAddresses(spec, prefixProperties);
+            ChannelAddressNormalizer.normalizeChannelAddresses(spec, prefixRules);
+
+            Components components = spec.getComponents();
+            SchemaHashIndex schemaHashes = SchemaHashIndex.of(components != null ? components.getSchemas() : null);
+            spec.setSchemaHashes(schemaHashes);
 
+            lastScan = new NormalizedScan(json, mapper.writeValueAsString(spec), schemaHashes);
             return spec;
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
@@ -133,4 +174,10 @@ public class OuroWebSocketHandler implements OuroProtocolHandler {
     public void saveYaml(OuroApiSpec specToSave) {
     
     }
+
+    /**
+     * Scanned AsyncAPI document and its normalized spec, both as JSON, with the structural hashes of its schemas.
+     */
+    private record NormalizedScan(String asyncApiJson, String normalizedJson, SchemaHashIndex schemaHashes) {
+    }
 }
\ No newline at end of file
@@ -3,6 +3,9 @@ package kr.co.ouroboros.core.websocket.handler.comparator;
 import kr.co.ouroboros.core.websocket.common.dto.Components;
 import kr.co.ouroboros.core.websocket.common.dto.OuroWebSocketApiSpec;
 import kr.co.ouroboros.core.websocket.common.dto.Schema;
+import kr.co.ouroboros.core.websocket.common.schema.SchemaHashIndex;
+import kr.co.ouroboros.core.websocket.common.schema.SchemaHashIndex.StructuralHash;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
@@ -11,6 +14,15 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * Compares the component schemas of a file-based WebSocket API spec with a scanned spec.
+ * <p>
+ * Schemas are compared by their canonical structural hash ({@link SchemaHashIndex}). A spec's index is
+ * taken from {@link OuroWebSocketApiSpec#getSchemaHashes()} when the scanner attached one for an
+ * unchanged document, and computed in a single pass otherwise. A recursive comparison only runs for
+ * schemas whose hashes differ, to log where they differ.
+ */
+@Slf4j
 @Component
 public class WebSocketSchemaComparator {
 
@@ -18,8 +30,8 @@ public class WebSocketSchemaComparator {
      * Compare schemas between a file-based WebSocket API spec and a scanned spec and report per-schema equality.
      *
      * Compares schema definitions from the provided fileSpec and scanSpec (scan spec keys are normalized to simple
-     * class names). For each schema name present in either spec, records whether the two schemas are structurally equal.
-     * If a schema is missing from either spec, it is considered unequal.
+     * class names). For each schema name present in either spec, records whether the two schemas are structurally equal,
+     * i.e. whether their structural hashes are equal. If a schema is missing from either spec, it is considered unequal.
      *
      * @param fileSpec the WebSocket API specification loaded from the file (may be null)
      * @param scanSpec the WebSocket API specification obtained from scanning (may be null); keys are normalized before comparison
@@ -30,6 +42,8 @@ public class WebSocketSchemaComparator {
 
         Map<String, Schema> fileSchemas = extractSchemas(fileSpec);
         Map<String, Schema> scanSchemas = extractAndNormalizeSchemas(scanSpec);
+        Map<String, StructuralHash> fileHashes = schemaHashes(fileSpec).hashes();
+        Map<String, StructuralHash> scanHashes = normalizeKeys(schemaHashes(scanSpec).hashes());
 
         // 모든 스키마 이름을 수집 (File과 Scan 모두)
         Set<String> allSchemaNames = new HashSet<>();
@@ -47,8 +61,11 @@ public class WebSocketSchemaComparator {
                 continue;
             }
 
-            // 두 스키마를 재귀적으로 비교
-            boolean isEqual = schemasEqual(fileSchema, scanSchema);
+            // 구조 해시 비교 (다를 때만 재귀 비교로 차이 위치를 기록)
+            boolean isEqual = Objects.equals(fileHashes.get(schemaName), scanHashes.get(schemaName));
+            if (!isEqual && log.isDebugEnabled()) {
+                log.debug("Schema {} differs at {}", schemaName, findDifference(fileSchema, scanSchema, schemaName));
+            }
             result.put(schemaName, isEqual);
         }
 
@@ -77,187 +94,145 @@ public class WebSocketSchemaComparator {
     }
 
     /**
-     * Extracts schemas from the given WebSocket API spec and normalizes each schema's key to its simple class name.
-     *
-     * @param spec the WebSocket API specification to extract schemas from; may be null
-     * @return a map whose keys are simple class names (substring after the last '.') corresponding to the original schema names
-     *         (or `null` if an original name was null) and whose values are the original Schema instances; returns an empty map if the spec contains no schemas
-     */
-    private Map<String, Schema> extractAndNormalizeSchemas(OuroWebSocketApiSpec spec) {
-        Map<String, Schema> originalSchemas = extractSchemas(spec);
-        Map<String, Schema> normalizedSchemas = new HashMap<>();
-
-        for (Map.Entry<String, Schema> entry : originalSchemas.entrySet()) {
-            String originalKey = entry.getKey();
-            String normalizedKey = extractSimpleClassName(originalKey);
-            normalizedSchemas.put(normalizedKey, entry.getValue());
-        }
-
-        return normalizedSchemas;
-    }
-
-    /**
-     * Extracts the simple class name from a fully-qualified class name.
+     * Return the structural hash index of the spec's schemas.
+     * <p>
+     * Uses the index attached to the spec if it still covers the spec's schema names, otherwise computes it.
      *
-     * @param fullClassName the fully-qualified class name (may be null)
-     * @return the substring after the last '.' if present, the original string if it contains no '.', or {@code null} if {@code fullClassName} is {@code null}
+     * @param spec the WebSocket API specification; may be null
+     * @return the schema hash index keyed by the original schema names
      */
-    private String extractSimpleClassName(String fullClassName) {
-        if (fullClassName == null) {
-            return null;
+    private SchemaHashIndex schemaHashes(OuroWebSocketApiSpec spec) {
+        Map<String, Schema> schemas = extractSchemas(spec);
+        SchemaHashIndex attached = spec != null ? spec.getSchemaHashes() : null;
+        if (attached != null && attached.covers(schemas)) {
+            return attached;
         }
-        int lastDotIndex = fullClassName.lastIndexOf('.');
-        if (lastDotIndex == -1) {
-            return fullClassName;
-        }
-        return fullClassName.substring(lastDotIndex + 1);
+        return SchemaHashIndex.of(schemas);
     }
 
     /**
-     * Determines whether two schema reference strings refer to the same schema after normalization.
-     *
-     * Normalization will canonicalize component schema references (for example converting
-     * "#/components/schemas/com.example.Foo" to "#/components/schemas/Foo"). Null references are treated as unequal.
+     * Extracts schemas from the given WebSocket API spec and normalizes each schema's key to its simple class name.
      *
-     * @param fileRef the reference string from the file specification, or null
-     * @param scanRef the reference string from the scanned specification, or null
-     * @return `true` if the normalized references are equal, `false` otherwise
+     * @param spec the WebSocket API specification to extract schemas from; may be null
+     * @return a map whose keys are simple class names (substring after the last '.') corresponding to the original schema names
+     *         (or `null` if an original name was null) and whose values are the original Schema instances; returns an empty map if the spec contains no schemas
      */
-    private boolean refsEqual(String fileRef, String scanRef) {
-        if (fileRef == scanRef) {
-            return true;
-        }
-        if (fileRef == null || scanRef == null) {
-            return false;
-        }
-
-        String normalizedFileRef = normalizeRef(fileRef);
-        String normalizedScanRef = normalizeRef(scanRef);
-
-        return normalizedFileRef.equals(normalizedScanRef);
+    private Map<String, Schema> extractAndNormalizeSchemas(OuroWebSocketApiSpec spec) {
+        return normalizeKeys(extractSchemas(spec));
     }
 
     /**
-     * Normalize a component schema reference to use the canonical components/schemas prefix with a simple class name.
-     *
-     * If `ref` is null, returns null. If `ref` does not start with "#/components/schemas/", returns `ref` unchanged.
-     * When `ref` uses the components schemas prefix, the substring after the prefix is reduced to its simple class name
-     * (text after the last dot) and returned prefixed with "#/components/schemas/".
+     * Re-key a map by simple class names.
      *
-     * @param ref the reference string to normalize, may be a full component reference or any other string
-     * @return the normalized component schema reference, the original `ref` if not a component schema reference, or null if `ref` is null
+     * @param byOriginalName map keyed by original (possibly fully-qualified) schema names
+     * @param <V>            value type
+     * @return a map keyed by simple class names; on duplicate simple names the last entry wins
      */
-    private String normalizeRef(String ref) {
-        if (ref == null) {
-            return null;
-        }
-
-        final String prefix = "#/components/schemas/";
-        if (!ref.startsWith(prefix)) {
-            return ref;
+    private <V> Map<String, V> normalizeKeys(Map<String, V> byOriginalName) {
+        Map<String, V> normalized = new HashMap<>();
+        for (Map.Entry<String, V> entry : byOriginalName.entrySet()) {
+            normalized.put(SchemaHashIndex.simpleName(entry.getKey()), entry.getValue());
         }
-
-        String schemaName = ref.substring(prefix.length());
-        String simpleSchemaName = extractSimpleClassName(schemaName);
-        return prefix + simpleSchemaName;
+        return normalized;
     }
 
     /**
-     * Determine whether two Schema objects represent the same schema structure.
-     *
+     * Find the first place where two Schema objects differ structurally.
+     * <p>
      * Compares title, type, format, `$ref` (after normalization), enum values, required fields,
-     * items (recursively), and properties (recursively).
+     * items (recursively), and properties (recursively), the same fields that make up the structural hash.
      *
      * @param fileSchema the schema from the file specification to compare
      * @param scanSchema the schema from the scanned specification to compare
-     * @return `true` if the two schemas are equivalent across the compared fields, `false` otherwise
+     * @param path       path of the compared schemas, used in the result
+     * @return the path of the first differing field, or {@code null} if the schemas are equivalent
      */
-    private boolean schemasEqual(Schema fileSchema, Schema scanSchema) {
+    private String findDifference(Schema fileSchema, Schema scanSchema, String path) {
         if (fileSchema == scanSchema) {
-            return true;
+            return null;
         }
         if (fileSchema == null || scanSchema == null) {
-            return false;
+            return path;
         }
 
         // title 비교
         if (!Objects.equals(fileSchema.getTitle(), scanSchema.getTitle())) {
-            return false;
+            return path + ".title";
         }
 
         // type 비교
         if (!Objects.equals(fileSchema.getType(), scanSchema.getType())) {
-            return false;
+            return path + ".type";
         }
 
         // format 비교
         if (!Objects.equals(fileSchema.getFormat(), scanSchema.getFormat())) {
-            return false;
+            return path + ".format";
         }
 
         // $ref 비교 (패키지 경로 정규화 후 비교)
-        if (!refsEqual(fileSchema.getRef(), scanSchema.getRef())) {
-            return false;
+        if (!Objects.equals(SchemaHashIndex.normalizeRef(fileSchema.getRef()),
+                SchemaHashIndex.normalizeRef(scanSchema.getRef()))) {
+            return path + ".$ref";
         }
 
         // enum 값 비교
         if (!Objects.equals(fileSchema.getEnumValues(), scanSchema.getEnumValues())) {
-            return false;
+            return path + ".enum";
         }
 
         // required 필드 비교
         if (!Objects.equals(fileSchema.getRequired(), scanSchema.getRequired())) {
-            return false;
+            return path + ".required";
         }
 
         // items 비교 (재귀)
-        if (!schemasEqual(fileSchema.getItems(), scanSchema.getItems())) {
-            return false;
+        String itemsDifference = findDifference(fileSchema.getItems(), scanSchema.getItems(), path + ".items");
+        if (itemsDifference != null) {
+            return itemsDifference;
         }
 
         // properties 비교 (재귀)
-        return propertiesEqual(fileSchema.getProperties(), scanSchema.getProperties());
+        return findPropertiesDifference(fileSchema.getProperties(), scanSchema.getProperties(), path + ".properties");
     }
 
     /**
-     * Compare two property maps for deep structural equality of their Schema values.
-     *
-     * The maps are considered equal only if they are the same object, or if both are non-null,
-     * have the same size, contain identical key sets, and each corresponding Schema is equal
-     * according to {@code schemasEqual}.
+     * Find the first property that differs between two property maps.
      *
      * @param fileProp property name to Schema map from the file specification
      * @param scanProp property name to Schema map from the scanned specification
-     * @return `true` if both maps have identical keys and corresponding Schema values are deeply equal, `false` otherwise
+     * @param path     path of the compared property maps, used in the result
+     * @return the path of the first differing property, or {@code null} if both maps have identical keys and
+     *         equivalent Schema values
      */
-    private boolean propertiesEqual(Map<String, Schema> fileProp, Map<String, Schema> scanProp) {
+    private String findPropertiesDifference(Map<String, Schema> fileProp, Map<String, Schema> scanProp, String path) {
         if (fileProp == scanProp) {
-            return true;
+            return null;
         }
         if (fileProp == null || scanProp == null) {
-            return false;
+            return path;
         }
 
-        // 키 개수 비교
-        if (fileProp.size() != scanProp.size()) {
-            return false;
+        // 한쪽에만 있는 키 확인
+        for (String key : fileProp.keySet()) {
+            if (!scanProp.containsKey(key)) {
+                return path + "." + key;
+            }
         }
-
-        // 모든 키가 동일한지 확인
-        if (!fileProp.keySet().equals(scanProp.keySet())) {
-            return false;
+        for (String key : scanProp.keySet()) {
+            if (!fileProp.containsKey(key)) {
+                return path + "." + key;
+            }
         }
 
         // 각 property를 재귀적으로 비교
         for (String key : fileProp.keySet()) {
-            Schema schema1 = fileProp.get(key);
-            Schema schema2 = scanProp.get(key);
-
-            if (!schemasEqual(schema1, schema2)) {
-                return false;
+            String difference = findDifference(fileProp.get(key), scanProp.get(key), path + "." + key);
+            if (difference != null) {
+                return difference;
             }
         }
 
-        return true;
+        return null;
     }
-}
\ No newline at end of file
+}
@@ -35,6 +35,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ChannelAddressNormalizer {
 
+    private static final String CHANNEL_REF_PREFIX = "#/channels/";
+
     /**
      * Prevents instantiation of this utility class.
      */
@@ -77,6 +79,22 @@ public class ChannelAddressNormalizer {
         if (spec == null || properties == null) {
             return;
         }
+        normalizeChannelAddresses(spec, ChannelPrefixRules.compile(properties));
+    }
+
+    /**
+     * Normalize all channel addresses in the API specification using precompiled prefix rules.
+     * <p>
+     * Same as {@link #normalizeChannelAddresses(OuroWebSocketApiSpec, WebSocketPrefixProperties)}, for callers
+     * that normalize repeatedly and compile the rules once.
+     *
+     * @param spec  the WebSocket API specification to normalize
+     * @param rules the compiled prefix rules
+     */
+    public static void normalizeChannelAddresses(OuroWebSocketApiSpec spec, ChannelPrefixRules rules) {
+        if (spec == null || rules == null) {
+            return;
+        }
 
         Map<String, Operation> operations = spec.getOperations();
         Map<String, Channel> channels = spec.getChannels();
@@ -113,7 +131,7 @@ public class ChannelAddressNormalizer {
             String action = operation.getAction();
 
             // Check if address already has a known prefix - if so, skip normalization
-            if (hasKnownPrefix(originalAddress, properties)) {
+            if (rules.hasKnownPrefix(originalAddress)) {
                 log.debug("Channel {} already has prefix, skipping normalization", originalChannelName);
                 continue;
             }
@@ -124,19 +142,18 @@ public class ChannelAddressNormalizer {
 
             if ("receive".equalsIgnoreCase(action)) {
                 // @MessageMapping -> application destination prefix
-                prefix = properties.getApplicationDestinationPrefix();
-                prefixLabel = prefix.replace("/", ""); // Remove all slashes for label
+                prefix = rules.applicationPrefix();
+                prefixLabel = rules.applicationLabel();
             } else if ("send".equalsIgnoreCase(action)) {
                 // @SendTo -> /topic prefix (use first broker prefix)
-                List<String> brokerPrefixes = properties.getBrokerPrefixes();
-                if (brokerPrefixes == null || brokerPrefixes.isEmpty()) {
-                    continue;
-                }
-                prefix = brokerPrefixes.get(0);
-                prefixLabel = prefix.replace("/", ""); // Remove all slashes for label
+                prefix = rules.brokerPrefix();
+                prefixLabel = rules.brokerLabel();
             } else {
                 continue;
             }
+            if (prefix == null) {
+                continue;
+            }
 
             // Create new channel name: prefix_originalName (e.g., "app_chat_send", "topic_chat_send")
             String newChannelName = createPrefixedChannelName(prefixLabel, originalChannelName);
@@ -155,14 +172,14 @@ public class ChannelAddressNormalizer {
             }
 
             // Update operation's channel reference to point to the new channel
-            operation.getChannel().setRef("#/channels/" + newChannelName);
+            operation.getChannel().setRef(CHANNEL_REF_PREFIX + newChannelName);
 
             // Update message references to use the new channel
             updateMessageReferences(operation.getMessages(), originalChannelName, newChannelName);
 
             // Process reply channel if present
             if (operation.getReply() != null && operation.getReply().getChannel() != null) {
-                processReplyChannel(operation.getReply(), channels, newChannels, properties);
+                processReplyChannel(operation.getReply(), channels, newChannels, rules);
                 // Update reply message references
                 updateMessageReferences(operation.getReply().getMessages(), originalChannelName, newChannelName);
             }
@@ -181,11 +198,11 @@ public class ChannelAddressNormalizer {
      * @param reply       the reply object containing the channel reference
      * @param channels    the existing channels map
      * @param newChannels the map to store newly created channels
-     * @param properties  the WebSocket prefix configuration
+     * @param rules       the compiled prefix rules
      */
     private static void processReplyChannel(Reply reply, Map<String, Channel> channels,
                                            Map<String, Channel> newChannels,
-                                           WebSocketPrefixProperties properties) {
+                                           ChannelPrefixRules rules) {
         String replyChannelRef = reply.getChannel().getRef();
         if (replyChannelRef == null) {
             return;
@@ -218,7 +235,7 @@ public class ChannelAddressNormalizer {
         String replyAddress = replyChannel.getAddress();
 
         // Check if address already has broker prefix
-        if (hasKnownPrefix(replyAddress, properties)) {
+        if (rules.hasKnownPrefix(replyAddress)) {
             // Address already has prefix, create channel as-is
             if (!newChannels.containsKey(replyChannelName)) {
                 newChannels.put(replyChannelName, replyChannel);
@@ -228,13 +245,12 @@ public class ChannelAddressNormalizer {
         }
 
         // Add broker prefix to address
-        List<String> brokerPrefixes = properties.getBrokerPrefixes();
-        if (brokerPrefixes == null || brokerPrefixes.isEmpty()) {
+        String brokerPrefix = rules.brokerPrefix();
+        if (brokerPrefix == null) {
             return;
         }
 
-        String brokerPrefix = brokerPrefixes.get(0);
-        String prefixLabel = brokerPrefix.replace("/", ""); // Remove all slashes for label
+        String prefixLabel = rules.brokerLabel();
 
         // Create new channel with broker prefix
         String newReplyChannelName = createPrefixedChannelName(prefixLabel, replyChannelName);
@@ -248,7 +264,7 @@ public class ChannelAddressNormalizer {
             newChannels.put(newReplyChannelName, newReplyChannel);
 
             // Update reply channel reference
-            reply.getChannel().setRef("#/channels/" + newReplyChannelName);
+            reply.getChannel().setRef(CHANNEL_REF_PREFIX + newReplyChannelName);
 
             log.debug("Created reply channel: {} with address: {}", newReplyChannelName, newReplyChannel.getAddress());
         }
@@ -269,18 +285,19 @@ public class ChannelAddressNormalizer {
             return;
         }
 
+        String originalChannelPrefix = CHANNEL_REF_PREFIX + originalChannelName + "/";
+        String newChannelPrefix = CHANNEL_REF_PREFIX + newChannelName + "/";
         for (MessageReference messageRef : messages) {
             if (messageRef == null || messageRef.getRef() == null) {
                 continue;
             }
 
             String ref = messageRef.getRef();
-            String originalChannelPrefix = "#/channels/" + originalChannelName + "/";
 
             // Check if this reference points to the original channel
             if (ref.startsWith(originalChannelPrefix)) {
                 // Replace the channel name in the reference
-                String newRef = ref.replace(originalChannelPrefix, "#/channels/" + newChannelName + "/");
+                String newRef = newChannelPrefix + ref.substring(originalChannelPrefix.length());
                 messageRef.setRef(newRef);
                 log.debug("Updated message reference: {} -> {}", ref, newRef);
             }
@@ -296,69 +313,37 @@ public class ChannelAddressNormalizer {
      *   <li><b>send</b>: Server sends to client ({@code @SendTo}) → verify broker prefix presence</li>
      * </ul>
      *
-     * @param address    the original channel address (may or may not have a prefix)
-     * @param action     the operation action type ("send" or "receive" from server's perspective)
-     * @param properties the WebSocket prefix configuration
+     * @param address the original channel address (may or may not have a prefix)
+     * @param action  the operation action type ("send" or "receive" from server's perspective)
+     * @param rules   the compiled prefix rules
      * @return the normalized address with the appropriate prefix
      */
-    private static String normalizeAddress(String address, String action, WebSocketPrefixProperties properties) {
+    private static String normalizeAddress(String address, String action, ChannelPrefixRules rules) {
         if (address == null || address.isEmpty()) {
             return address;
         }
 
         // Check if address already has a known prefix
-        if (hasKnownPrefix(address, properties)) {
+        if (rules.hasKnownPrefix(address)) {
             return address;
         }
 
         // For "receive" operations (@MessageMapping), add application destination prefix
         // Client sends to: /app/path → Server receives from this destination
         if ("receive".equalsIgnoreCase(action)) {
-            String prefix = properties.getApplicationDestinationPrefix();
-            return ensurePrefix(address, prefix);
+            return ensurePrefix(address, rules.applicationPrefix());
         }
 
         // For "send" operations (@SendTo), add default broker prefix if missing
         // Server sends to: /topic/path → Client receives from this destination
         if ("send".equalsIgnoreCase(action)) {
             // Use first broker prefix as default (typically "/topic")
-            List<String> brokerPrefixes = properties.getBrokerPrefixes();
-            if (brokerPrefixes != null && !brokerPrefixes.isEmpty()) {
-                String defaultBrokerPrefix = brokerPrefixes.get(0);
-                return ensurePrefix(address, defaultBrokerPrefix);
-            }
+            return ensurePrefix(address, rules.brokerPrefix());
         }
 
         return address;
     }
 
-    /**
-     * Check if the address already starts with a known prefix (application or broker).
-     *
-     * @param address    the channel address to check
-     * @param properties the WebSocket prefix configuration
-     * @return true if the address starts with a known prefix, false otherwise
-     */
-    private static boolean hasKnownPrefix(String address, WebSocketPrefixProperties properties) {
-        // Check application destination prefix
-        String appPrefix = properties.getApplicationDestinationPrefix();
-        if (appPrefix != null && address.startsWith(appPrefix + "/")) {
-            return true;
-        }
-
-        // Check broker prefixes
-        List<String> brokerPrefixes = properties.getBrokerPrefixes();
-        if (brokerPrefixes != null) {
-            for (String brokerPrefix : brokerPrefixes) {
-                if (brokerPrefix != null && address.startsWith(brokerPrefix + "/")) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
-    }
-
     /**
      * Ensure the address starts with the given prefix.
      * <p>
@@ -396,9 +381,8 @@ public class ChannelAddressNormalizer {
             return null;
         }
 
-        String prefix = "#/channels/";
-        if (ref.startsWith(prefix)) {
-            return ref.substring(prefix.length());
+        if (ref.startsWith(CHANNEL_REF_PREFIX)) {
+            return ref.substring(CHANNEL_REF_PREFIX.length());
         }
 
         // Fallback: find last slash
@@ -0,0 +1,144 @@
+package kr.co.ouroboros.core.websocket.handler.helper;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import kr.co.ouroboros.core.websocket.config.WebSocketPrefixProperties;
+
+/**
+ * STOMP destination prefix rules compiled from {@link WebSocketPrefixProperties}.
+ * <p>
+ * Compiled once and reused by {@link ChannelAddressNormalizer} for every channel of every scan:
+ * <ul>
+ *   <li>Known prefixes (application and broker prefixes, each followed by {@code /}) are stored in a
+ *       character trie, so checking an address walks it once instead of testing every prefix</li>
+ *   <li>The prefixes used for {@code receive} and {@code send} operations and their channel name labels
+ *       are resolved up front</li>
+ * </ul>
+ *
+ * @since 1.0.6
+ */
+public final class ChannelPrefixRules {
+
+    private final TrieNode knownPrefixes;
+    private final String applicationPrefix;
+    private final String applicationLabel;
+    private final String brokerPrefix;
+    private final String brokerLabel;
+
+    private ChannelPrefixRules(TrieNode knownPrefixes, String applicationPrefix, String brokerPrefix) {
+        this.knownPrefixes = knownPrefixes;
+        this.applicationPrefix = applicationPrefix;
+        this.applicationLabel = label(applicationPrefix);
+        this.brokerPrefix = brokerPrefix;
+        this.brokerLabel = label(brokerPrefix);
+    }
+
+    /**
+     * Compile the prefix rules of the given configuration.
+     * <p>
+     * The first broker prefix is used as the default broker prefix (typically "/topic").
+     *
+     * @param properties the WebSocket prefix configuration containing application and broker prefixes
+     * @return the compiled rules
+     */
+    public static ChannelPrefixRules compile(WebSocketPrefixProperties properties) {
+        TrieNode root = new TrieNode();
+        String appPrefix = properties.getApplicationDestinationPrefix();
+        if (appPrefix != null) {
+            root.insert(appPrefix + "/");
+        }
+
+        String defaultBrokerPrefix = null;
+        List<String> brokerPrefixes = properties.getBrokerPrefixes();
+        if (brokerPrefixes != null) {
+            for (String prefix : brokerPrefixes) {
+                if (prefix != null) {
+                    root.insert(prefix + "/");
+                }
+            }
+            if (!brokerPrefixes.isEmpty()) {
+                defaultBrokerPrefix = brokerPrefixes.get(0);
+            }
+        }
+
+        return new ChannelPrefixRules(root, appPrefix, defaultBrokerPrefix);
+    }
+
+    /**
+     * Check if the address already starts with a known prefix (application or broker) followed by a slash.
+     *
+     * @param address the channel address to check
+     * @return true if the address starts with a known prefix, false otherwise
+     */
+    public boolean hasKnownPrefix(String address) {
+        if (address == null) {
+            return false;
+        }
+        TrieNode node = knownPrefixes;
+        for (int i = 0; i < address.length(); i++) {
+            node = node.children.get(address.charAt(i));
+            if (node == null) {
+                return false;
+            }
+            if (node.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Application destination prefix added to {@code receive} operations (e.g., "/app").
+     *
+     * @return the prefix, or null if none is configured
+     */
+    public String applicationPrefix() {
+        return applicationPrefix;
+    }
+
+    /**
+     * Channel name label of the application destination prefix (e.g., "app").
+     *
+     * @return the label, or null if no prefix is configured
+     */
+    public String applicationLabel() {
+        return applicationLabel;
+    }
+
+    /**
+     * Default broker prefix added to {@code send} operations and replies (e.g., "/topic").
+     *
+     * @return the prefix, or null if no broker prefix is configured
+     */
+    public String brokerPrefix() {
+        return brokerPrefix;
+    }
+
+    /**
+     * Channel name label of the default broker prefix (e.g., "topic").
+     *
+     * @return the label, or null if no broker prefix is configured
+     */
+    public String brokerLabel() {
+        return brokerLabel;
+    }
+
+    private static String label(String prefix) {
+        // Remove all slashes for label
+        return prefix != null ? prefix.replace("/", "") : null;
+    }
+
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private boolean terminal;
+
+        private void insert(String key) {
+            TrieNode node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new TrieNode());
+            }
+            node.terminal = true;
+        }
+    }
+}
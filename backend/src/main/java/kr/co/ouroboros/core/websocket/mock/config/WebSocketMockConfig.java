@@ -0,0 +1,42 @@
+package kr.co.ouroboros.core.websocket.mock.config;
+
+import kr.co.ouroboros.core.websocket.mock.interceptor.WebSocketMockChannelInterceptor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * Configuration for the STOMP mock module.
+ * <p>
+ * Registers {@link WebSocketMockChannelInterceptor} on the client inbound channel of the
+ * application's existing message broker configuration, and enables
+ * {@link WebSocketMockStreamProperties}.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@RequiredArgsConstructor
+@ConditionalOnClass(SimpAnnotationMethodMessageHandler.class)
+@EnableConfigurationProperties(WebSocketMockStreamProperties.class)
+public class WebSocketMockConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final WebSocketMockChannelInterceptor webSocketMockChannelInterceptor;
+
+    /**
+     * Registers the mock interceptor so client SEND frames to mock destinations are answered.
+     *
+     * @param registration the inbound channel registration to attach the interceptor to
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        log.info("Registering WebSocketMockChannelInterceptor for inbound channel");
+        registration.interceptors(webSocketMockChannelInterceptor);
+    }
+}
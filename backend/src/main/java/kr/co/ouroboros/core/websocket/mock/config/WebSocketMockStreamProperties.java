@@ -0,0 +1,65 @@
+package kr.co.ouroboros.core.websocket.mock.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for rate-controlled mock message streams ({@code x-ouroboros-stream}).
+ * <p>
+ * All streams are driven by one shared timer wheel on a single daemon thread. The per-tick
+ * message budget bounds how much mock traffic is handed to the broker, so real traffic keeps
+ * its share even when streams are configured with high rates.
+ * <p>
+ * <b>Configuration Properties:</b>
+ * <ul>
+ *   <li>{@code ouroboros.mock-stream.enabled} - Enable/disable mock streams (default: true)</li>
+ *   <li>{@code ouroboros.mock-stream.tick-ms} - Timer wheel tick duration (default: 10)</li>
+ *   <li>{@code ouroboros.mock-stream.wheel-size} - Number of timer wheel slots (default: 512)</li>
+ *   <li>{@code ouroboros.mock-stream.max-messages-per-tick} - Messages published per tick across all streams (default: 500)</li>
+ *   <li>{@code ouroboros.mock-stream.max-streams} - Maximum number of concurrently running streams (default: 64)</li>
+ * </ul>
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Data
+@ConfigurationProperties(prefix = "ouroboros.mock-stream")
+public class WebSocketMockStreamProperties {
+
+    /**
+     * Whether {@code x-ouroboros-stream} operations are streamed to subscribers.
+     * <p>
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Timer wheel tick duration in milliseconds. Streams are served at most once per tick;
+     * higher rates are reached by publishing several messages per tick.
+     * <p>
+     * Default: 10
+     */
+    private long tickMs = 10;
+
+    /**
+     * Number of timer wheel slots. Delays longer than one wheel turn are counted in rounds.
+     * <p>
+     * Default: 512
+     */
+    private int wheelSize = 512;
+
+    /**
+     * Maximum number of messages published per tick across all streams. Messages that do not
+     * fit stay in the stream backlog (up to its burst) and are published on later ticks.
+     * <p>
+     * Default: 500
+     */
+    private int maxMessagesPerTick = 500;
+
+    /**
+     * Maximum number of concurrently running streams. Subscriptions beyond the limit are not streamed.
+     * <p>
+     * Default: 64
+     */
+    private int maxStreams = 64;
+}
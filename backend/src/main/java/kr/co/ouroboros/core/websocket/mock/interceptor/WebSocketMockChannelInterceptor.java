@@ -0,0 +1,219 @@
+package kr.co.ouroboros.core.websocket.mock.interceptor;
+
+import kr.co.ouroboros.core.global.Protocol;
+import kr.co.ouroboros.core.global.manager.OuroApiSpecManager;
+import kr.co.ouroboros.core.global.mock.service.SchemaMockBuilder;
+import kr.co.ouroboros.core.global.spec.OuroApiSpec;
+import kr.co.ouroboros.core.websocket.mock.model.WebSocketMockOperation;
+import kr.co.ouroboros.core.websocket.mock.model.WebSocketMockStreamDefinition;
+import kr.co.ouroboros.core.websocket.mock.registry.WebSocketMockRegistry;
+import kr.co.ouroboros.core.websocket.mock.service.WebSocketMockLoaderService;
+import kr.co.ouroboros.core.websocket.mock.stream.MockStreamScheduler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.messaging.Message;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Inbound channel interceptor that answers client SEND frames for mock STOMP operations.
+ * <p>
+ * When a client sends to a destination declared by a {@code receive} operation with
+ * {@code x-ouroboros-progress: mock}, a reply payload is generated from the reply message
+ * schema with {@link SchemaMockBuilder} and published to the reply channel through the broker,
+ * so subscribers receive it as if a {@code @MessageMapping} handler had answered.
+ * <p>
+ * Replies are generated in {@link #afterMessageHandled}, on the inbound channel's executor
+ * thread after the annotation method handler processed the frame, so schema mock generation
+ * and the broker send never run on the WebSocket transport thread.
+ * <p>
+ * SUBSCRIBE frames to a destination with an {@code x-ouroboros-stream} definition start (or join)
+ * a rate-controlled stream on {@link MockStreamScheduler}; UNSUBSCRIBE and DISCONNECT frames end it.
+ * <p>
+ * The inbound message is always passed on unchanged. Frames that do not match a mock operation
+ * or stream only cost a few header reads and one index lookup.
+ * <p>
+ * The mock operations are reloaded from ourowebsocket.yml whenever the cached WebSocket
+ * spec instance changes (startup, spec edits through the API). Running streams keep their
+ * definition until their last subscriber leaves.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnClass(SimpAnnotationMethodMessageHandler.class)
+public class WebSocketMockChannelInterceptor implements ExecutorChannelInterceptor {
+
+    private static final String USER_DESTINATION_PREFIX = "/user/";
+
+    private final WebSocketMockRegistry registry;
+    private final WebSocketMockLoaderService loaderService;
+    private final SchemaMockBuilder schemaMockBuilder;
+    private final OuroApiSpecManager specManager;
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
+    private final ObjectProvider<MockStreamScheduler> streamSchedulerProvider;
+
+    /**
+     * Spec instance the registry was last loaded from; compared by identity.
+     */
+    private volatile OuroApiSpec loadedSpec;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(headers);
+        if (messageType == SimpMessageType.SUBSCRIBE
+                || messageType == SimpMessageType.UNSUBSCRIBE
+                || messageType == SimpMessageType.DISCONNECT) {
+            handleSubscription(messageType, headers);
+        }
+        return message;
+    }
+
+    /**
+     * Answers SEND frames to mock destinations on the channel's executor thread.
+     * <p>
+     * Invoked once per subscribed handler; only the annotation method handler's callback replies,
+     * so each frame is answered once. The reply is sent whether or not an application handler
+     * failed, since mock operations usually have no working handler yet.
+     */
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+                                    @Nullable Exception ex) {
+        if (!(handler instanceof SimpAnnotationMethodMessageHandler)) {
+            return;
+        }
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) {
+            return;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null) {
+            return;
+        }
+
+        try {
+            refreshIfSpecChanged();
+            WebSocketMockOperation operation = registry.match(destination);
+            if (operation == null || operation.getReplyDestination() == null) {
+                return;
+            }
+            reply(operation, SimpMessageHeaderAccessor.getSessionId(headers));
+        } catch (Exception e) {
+            // Mock replies must never break the inbound flow of the host application
+            log.warn("Failed to send mock STOMP reply for {}: {}", destination, e.getMessage());
+        }
+    }
+
+    /**
+     * Starts, joins or leaves mock streams for subscription frames.
+     */
+    private void handleSubscription(SimpMessageType messageType, MessageHeaders headers) {
+        MockStreamScheduler scheduler = streamSchedulerProvider.getIfAvailable();
+        if (scheduler == null) {
+            return;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        if (sessionId == null) {
+            return;
+        }
+        if (messageType == SimpMessageType.DISCONNECT) {
+            scheduler.disconnect(sessionId);
+            return;
+        }
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+        if (messageType == SimpMessageType.UNSUBSCRIBE) {
+            scheduler.unsubscribe(sessionId, subscriptionId);
+            return;
+        }
+
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null) {
+            return;
+        }
+        refreshIfSpecChanged();
+        WebSocketMockStreamDefinition stream = registry.matchStream(destination);
+        if (stream != null) {
+            scheduler.subscribe(sessionId, subscriptionId, destination, stream);
+        }
+    }
+
+    /**
+     * Publishes a generated payload to the reply destination of the operation.
+     * <p>
+     * {@code /user/...} reply destinations are sent to the session that sent the frame.
+     */
+    private void reply(WebSocketMockOperation operation, String sessionId) {
+        SimpMessagingTemplate messagingTemplate = messagingTemplateProvider.getIfAvailable();
+        if (messagingTemplate == null) {
+            log.warn("Cannot send mock STOMP reply: SimpMessagingTemplate is not available");
+            return;
+        }
+
+        Map<String, Object> schema = operation.getReplySchema();
+        Object payload = schema == null || schema.isEmpty() ? Map.of() : schemaMockBuilder.build(schema);
+        if (payload == null) {
+            payload = Map.of();
+        }
+
+        String replyDestination = operation.getReplyDestination();
+        if (replyDestination.startsWith(USER_DESTINATION_PREFIX)) {
+            if (sessionId == null) {
+                log.debug("Cannot send mock STOMP user reply: session ID is missing. destination={}", replyDestination);
+                return;
+            }
+            String userDestination = replyDestination.substring(USER_DESTINATION_PREFIX.length() - 1);
+            messagingTemplate.convertAndSendToUser(sessionId, userDestination, payload, createHeaders(sessionId));
+        } else {
+            messagingTemplate.convertAndSend(replyDestination, payload);
+        }
+        log.debug("Sent mock STOMP reply: {} -> {}", operation.getDestination(), replyDestination);
+    }
+
+    /**
+     * Reloads the registry when the cached WebSocket spec instance changed since the last load.
+     */
+    private void refreshIfSpecChanged() {
+        OuroApiSpec current;
+        try {
+            current = specManager.getApiSpec(Protocol.WEB_SOCKET);
+        } catch (Exception e) {
+            log.trace("WebSocket spec is not available: {}", e.getMessage());
+            return;
+        }
+        if (current == loadedSpec) {
+            return;
+        }
+        synchronized (this) {
+            if (current != loadedSpec) {
+                registry.registerAll(loaderService.loadFromYaml());
+                registry.registerStreams(loaderService.loadStreamsFromYaml());
+                loadedSpec = current;
+            }
+        }
+    }
+
+    /**
+     * Creates message headers targeting a single session, as required for session-addressed user destinations.
+     */
+    private Map<String, Object> createHeaders(String sessionId) {
+        SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headerAccessor.setSessionId(sessionId);
+        headerAccessor.setLeaveMutable(true);
+        return headerAccessor.getMessageHeaders();
+    }
+}
@@ -0,0 +1,30 @@
+package kr.co.ouroboros.core.websocket.mock.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Metadata of a mock STOMP operation loaded from ourowebsocket.yml.
+ * <p>
+ * A mock operation is a {@code receive} operation (the server receives a client SEND)
+ * marked with {@code x-ouroboros-progress: mock}. When a client sends to {@link #destination},
+ * a payload generated from {@link #replySchema} is published to {@link #replyDestination}.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WebSocketMockOperation {
+    private String id;                          // x-ouroboros-id
+    private String operationName;
+    private String destination;                 // SEND destination incl. application prefix (e.g. /app/chat/{roomId})
+    private String replyDestination;            // broker or user destination (null if the operation has no reply)
+    private Map<String, Object> replySchema;    // resolved reply payload schema ($ref expanded)
+}
@@ -0,0 +1,40 @@
+package kr.co.ouroboros.core.websocket.mock.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Rate-controlled mock message stream loaded from the {@code x-ouroboros-stream} extension
+ * of a {@code send} operation in ourowebsocket.yml.
+ * <p>
+ * While at least one client is subscribed to {@link #destination}, payloads generated from
+ * {@link #payloadSchema} are published at {@link #rate} messages per second.
+ * <pre>
+ * x-ouroboros-stream:
+ *   rate: 50        # messages per second
+ *   burst: 100      # messages that may be published at once to catch up
+ *   duration: 60s   # optional; number = seconds, or a duration string
+ *   seed: 42        # optional; reproducible payloads
+ * </pre>
+ *
+ * @since 1.0.6
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WebSocketMockStreamDefinition {
+    private String id;                          // x-ouroboros-id
+    private String operationName;
+    private String destination;                 // subscribed destination incl. broker prefix (e.g. /topic/prices/{symbol})
+    private Map<String, Object> payloadSchema;  // resolved message payload schema ($ref expanded)
+    private double rate;                        // messages per second (> 0)
+    private int burst;                          // maximum accumulated messages (>= 1)
+    private Duration duration;                  // null = until the last subscriber leaves
+    private Long seed;                          // null = non-deterministic payloads
+}
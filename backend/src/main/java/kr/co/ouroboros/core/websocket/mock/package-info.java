@@ -0,0 +1,21 @@
+/**
+ * Mock responder for STOMP operations declared in ourowebsocket.yml.
+ * <p>
+ * Client SEND frames to the destination of a {@code receive} operation marked with
+ * {@code x-ouroboros-progress: mock} are answered with a payload generated from the reply
+ * message schema, published to the reply channel through the application's broker.
+ * Subscriptions to the channel of a {@code send} operation with {@code x-ouroboros-stream}
+ * receive generated messages at the configured rate.
+ * <p>
+ * <b>Key Components:</b>
+ * <ul>
+ *   <li><b>Service</b> - Loads mock operations from the AsyncAPI document and resolves reply schemas</li>
+ *   <li><b>Registry</b> - Precompiled destination index matched on every inbound SEND</li>
+ *   <li><b>Interceptor</b> - Inbound channel interceptor that publishes mock replies and tracks stream subscriptions</li>
+ *   <li><b>Stream</b> - Token-bucket streams driven by one shared timer wheel, with per-stream metrics</li>
+ *   <li><b>Config</b> - Registers the interceptor with the message broker and holds the stream properties</li>
+ * </ul>
+ *
+ * @since 1.0.6
+ */
+package kr.co.ouroboros.core.websocket.mock;
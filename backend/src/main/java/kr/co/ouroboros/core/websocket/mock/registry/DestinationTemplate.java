@@ -0,0 +1,157 @@
+package kr.co.ouroboros.core.websocket.mock.registry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precompiled destination with {@code {param}} placeholders.
+ * <p>
+ * The template is split once into literal parts; a placeholder matches one or more characters
+ * other than {@code /}, like {@code [^/]+} in the REST mock registry. Matching walks the
+ * destination string directly, without regex or allocation.
+ * <pre>
+ * /app/chat.{roomId}/messages  →  literals ["/app/chat.", "/messages"], placeholder between them
+ * </pre>
+ * A placeholder ends at the first following occurrence of the next literal within the segment;
+ * there is no backtracking.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+final class DestinationTemplate {
+
+    private final String[] literals;
+
+    /**
+     * {@code true} if the template starts with a placeholder instead of a literal.
+     */
+    private final boolean leadingParam;
+
+    /**
+     * {@code true} if the template ends with a placeholder instead of a literal.
+     */
+    private final boolean trailingParam;
+
+    private final int literalLength;
+
+    /**
+     * Shortest destination that can match: literals plus one character per placeholder.
+     */
+    private final int minLength;
+
+    private DestinationTemplate(String[] literals, boolean leadingParam, boolean trailingParam) {
+        this.literals = literals;
+        this.leadingParam = leadingParam;
+        this.trailingParam = trailingParam;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+        int params = Math.max(0, literals.length - 1) + (leadingParam ? 1 : 0) + (trailingParam ? 1 : 0);
+        this.minLength = length + Math.max(1, params);
+    }
+
+    /**
+     * Checks whether a destination contains a placeholder.
+     *
+     * @param destination destination as written in the spec
+     * @return true if the destination has at least one {@code {param}}
+     */
+    static boolean isTemplate(String destination) {
+        int open = destination.indexOf('{');
+        return open >= 0 && destination.indexOf('}', open) > open;
+    }
+
+    /**
+     * Compiles a destination with placeholders.
+     *
+     * @param template destination as written in the spec, e.g. {@code /app/rooms/{roomId}}
+     * @return compiled template
+     */
+    static DestinationTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        boolean leadingParam = false;
+        boolean trailingParam = false;
+        int i = 0;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            int close = c == '{' ? template.indexOf('}', i) : -1;
+            if (close > i) {
+                if (literal.length() > 0) {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                } else if (literals.isEmpty()) {
+                    leadingParam = true;
+                }
+                // Adjacent placeholders collapse into one
+                trailingParam = true;
+                i = close + 1;
+            } else {
+                literal.append(c);
+                trailingParam = false;
+                i++;
+            }
+        }
+        if (literal.length() > 0) {
+            literals.add(literal.toString());
+        }
+        return new DestinationTemplate(literals.toArray(String[]::new), leadingParam, trailingParam);
+    }
+
+    /**
+     * Matches a concrete destination against this template.
+     *
+     * @param destination SEND destination
+     * @return true if the destination matches
+     */
+    boolean matches(String destination) {
+        if (destination.length() < minLength) {
+            return false;
+        }
+
+        int pos = 0;
+        for (int i = 0; i < literals.length; i++) {
+            String literal = literals[i];
+            boolean paramBefore = i > 0 || leadingParam;
+            if (!paramBefore) {
+                if (!destination.startsWith(literal, pos)) {
+                    return false;
+                }
+                pos += literal.length();
+                continue;
+            }
+            int next = findAfterParam(destination, pos, literal);
+            if (next < 0) {
+                return false;
+            }
+            pos = next + literal.length();
+        }
+
+        if (trailingParam) {
+            return pos < destination.length() && destination.indexOf('/', pos) < 0;
+        }
+        return pos == destination.length();
+    }
+
+    /**
+     * Number of literal characters, used to try more specific templates first.
+     *
+     * @return literal length
+     */
+    int literalLength() {
+        return literalLength;
+    }
+
+    /**
+     * Finds where {@code literal} starts after a placeholder beginning at {@code start}.
+     * The placeholder must be non-empty and must not span a {@code /}.
+     */
+    private static int findAfterParam(String destination, int start, String literal) {
+        int segmentEnd = destination.indexOf('/', start);
+        int limit = segmentEnd < 0 ? destination.length() : segmentEnd;
+        int found = destination.indexOf(literal, start + 1);
+        return found < 0 || found > limit ? -1 : found;
+    }
+}
@@ -0,0 +1,212 @@
+package kr.co.ouroboros.core.websocket.mock.registry;
+
+import kr.co.ouroboros.core.global.mock.registry.MockRegistryBase;
+import kr.co.ouroboros.core.websocket.mock.model.WebSocketMockOperation;
+import kr.co.ouroboros.core.websocket.mock.model.WebSocketMockStreamDefinition;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Thread-safe registry for mock STOMP operations with a precompiled destination index.
+ * <p>
+ * Lookups run on the inbound channel for every client SEND, so the index is an immutable
+ * snapshot rebuilt on registration and read without locking:
+ * <ol>
+ *   <li>Exact destinations: one hash lookup</li>
+ *   <li>Destinations with {@code {param}} placeholders: precompiled {@link DestinationTemplate}s,
+ *       most specific (longest literal part) first</li>
+ * </ol>
+ * A destination that matches no mock operation costs one hash miss and, only if templates
+ * are registered, a scan over the templates without regex or allocation.
+ * <p>
+ * Stream definitions ({@code x-ouroboros-stream}) are kept in a second index of the same kind
+ * and matched against SUBSCRIBE destinations.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Component
+public class WebSocketMockRegistry implements MockRegistryBase<WebSocketMockOperation> {
+
+    /**
+     * STOMP command of the frames that can trigger a mock operation.
+     */
+    public static final String SEND_COMMAND = "SEND";
+
+    private final Map<String, WebSocketMockOperation> operations = new LinkedHashMap<>();
+    private volatile DestinationIndex<WebSocketMockOperation> index = DestinationIndex.empty();
+    private volatile DestinationIndex<WebSocketMockStreamDefinition> streamIndex = DestinationIndex.empty();
+
+    @Override
+    public synchronized void register(WebSocketMockOperation meta) {
+        operations.put(normalizeDestination(meta.getDestination()), meta);
+        index = DestinationIndex.build(operations);
+    }
+
+    /**
+     * Replaces all registered operations and rebuilds the index once.
+     *
+     * @param metas operations loaded from the spec
+     */
+    public synchronized void registerAll(Collection<WebSocketMockOperation> metas) {
+        operations.clear();
+        for (WebSocketMockOperation meta : metas) {
+            operations.put(normalizeDestination(meta.getDestination()), meta);
+        }
+        index = DestinationIndex.build(operations);
+    }
+
+    /**
+     * Replaces all registered stream definitions and rebuilds the stream index once.
+     *
+     * @param streams stream definitions loaded from the spec
+     */
+    public synchronized void registerStreams(Collection<WebSocketMockStreamDefinition> streams) {
+        Map<String, WebSocketMockStreamDefinition> byDestination = new LinkedHashMap<>();
+        for (WebSocketMockStreamDefinition stream : streams) {
+            byDestination.put(normalizeDestination(stream.getDestination()), stream);
+        }
+        streamIndex = DestinationIndex.build(byDestination);
+    }
+
+    /**
+     * Finds the mock operation for a client frame.
+     *
+     * @param destination the STOMP destination (e.g. {@code /app/chat/42})
+     * @param command     the STOMP command; only {@value #SEND_COMMAND} frames are matched
+     * @return Optional containing the matched operation, or empty if not found
+     */
+    @Override
+    public Optional<WebSocketMockOperation> find(String destination, String command) {
+        if (!SEND_COMMAND.equalsIgnoreCase(command)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(match(destination));
+    }
+
+    /**
+     * Finds the mock operation for a SEND destination without wrapping the result.
+     *
+     * @param destination the STOMP destination
+     * @return matched operation, or null
+     */
+    public WebSocketMockOperation match(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        return index.match(normalizeDestination(destination));
+    }
+
+    /**
+     * Finds the stream definition for a SUBSCRIBE destination.
+     *
+     * @param destination the subscribed STOMP destination (e.g. {@code /topic/prices})
+     * @return matched stream definition, or null
+     */
+    public WebSocketMockStreamDefinition matchStream(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        return streamIndex.match(normalizeDestination(destination));
+    }
+
+    /**
+     * Checks whether any mock operation is registered.
+     *
+     * @return true if the registry has no operations
+     */
+    public boolean isEmpty() {
+        return index.isEmpty();
+    }
+
+    @Override
+    public synchronized void clear() {
+        operations.clear();
+        index = DestinationIndex.empty();
+        streamIndex = DestinationIndex.empty();
+    }
+
+    /**
+     * Remove a trailing '/' except when the destination is a single "/".
+     */
+    private static String normalizeDestination(String destination) {
+        if (destination.length() > 1 && destination.endsWith("/")) {
+            return destination.substring(0, destination.length() - 1);
+        }
+        return destination;
+    }
+
+    /**
+     * Immutable lookup structure built from the registered destinations.
+     */
+    private static final class DestinationIndex<T> {
+
+        private static final DestinationIndex<?> EMPTY = new DestinationIndex<>(Map.of(), new DestinationTemplate[0], new Object[0]);
+
+        private final Map<String, T> exact;
+        private final DestinationTemplate[] templates;
+        private final Object[] templateValues;
+
+        private DestinationIndex(Map<String, T> exact, DestinationTemplate[] templates, Object[] templateValues) {
+            this.exact = exact;
+            this.templates = templates;
+            this.templateValues = templateValues;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> DestinationIndex<T> empty() {
+            return (DestinationIndex<T>) EMPTY;
+        }
+
+        static <T> DestinationIndex<T> build(Map<String, T> values) {
+            if (values.isEmpty()) {
+                return empty();
+            }
+            Map<String, T> exact = new HashMap<>();
+            List<DestinationTemplate> templates = new ArrayList<>();
+            Map<DestinationTemplate, T> byTemplate = new HashMap<>();
+            values.forEach((destination, value) -> {
+                if (DestinationTemplate.isTemplate(destination)) {
+                    DestinationTemplate template = DestinationTemplate.compile(destination);
+                    templates.add(template);
+                    byTemplate.put(template, value);
+                } else {
+                    exact.put(destination, value);
+                }
+            });
+            templates.sort(Comparator.comparingInt(DestinationTemplate::literalLength).reversed());
+
+            Object[] templateValues = new Object[templates.size()];
+            for (int i = 0; i < templateValues.length; i++) {
+                templateValues[i] = byTemplate.get(templates.get(i));
+            }
+            return new DestinationIndex<>(exact, templates.toArray(DestinationTemplate[]::new), templateValues);
+        }
+
+        boolean isEmpty() {
+            return this == EMPTY;
+        }
+
+        @SuppressWarnings("unchecked")
+        T match(String destination) {
+            T exactMatch = exact.get(destination);
+            if (exactMatch != null) {
+                return exactMatch;
+            }
+            for (int i = 0; i < templates.length; i++) {
+                if (templates[i].matches(destination)) {
+                    return (T) templateValues[i];
+                }
+            }
+            return null;
+        }
+    }
+}
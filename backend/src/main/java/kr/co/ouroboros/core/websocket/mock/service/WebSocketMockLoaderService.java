@@ -0,0 +1,403 @@
+package kr.co.ouroboros.core.websocket.mock.service;
+
+import kr.co.ouroboros.core.websocket.common.yaml.WebSocketYamlParser;
+import kr.co.ouroboros.core.websocket.config.WebSocketPrefixProperties;
+import kr.co.ouroboros.core.websocket.mock.model.WebSocketMockOperation;
+import kr.co.ouroboros.core.websocket.mock.model.WebSocketMockStreamDefinition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service responsible for loading mock STOMP operations from ourowebsocket.yml
+ * into {@link WebSocketMockOperation} objects used by the mock registry.
+ *
+ * <h2>Main Responsibilities</h2>
+ * <ul>
+ *     <li>Reads the AsyncAPI document via {@link WebSocketYamlParser} (raw file, so {@code x-ouroboros-mock} is kept).</li>
+ *     <li>Extracts {@code receive} operations marked with <b>x-ouroboros-progress: mock</b>.</li>
+ *     <li>Resolves the channel and reply channel addresses to STOMP destinations using the configured prefixes.</li>
+ *     <li>Resolves the reply message payload schema, expanding <b>$ref</b> recursively.</li>
+ *     <li>Extracts {@code send} operations with an <b>x-ouroboros-stream</b> extension as mock streams.</li>
+ * </ul>
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnClass(SimpAnnotationMethodMessageHandler.class)
+public class WebSocketMockLoaderService {
+
+    private static final String USER_DESTINATION_PREFIX = "/user/";
+    private static final String STREAM_EXTENSION = "x-ouroboros-stream";
+
+    private final WebSocketYamlParser parser;
+    private final ObjectProvider<WebSocketPrefixProperties> prefixPropertiesProvider;
+
+    /**
+     * Load ourowebsocket.yml and build the mock operations it declares.
+     * <p>
+     * If the YAML file is missing, has no operations, or parsing fails, an empty list is returned.
+     *
+     * @return mock operations; may be empty
+     */
+    @SuppressWarnings("unchecked")
+    public List<WebSocketMockOperation> loadFromYaml() {
+        try {
+            Map<String, Object> document = readDocument();
+            Object operationsObj = document != null ? document.get("operations") : null;
+            if (!(operationsObj instanceof Map)) {
+                return Collections.emptyList();
+            }
+
+            WebSocketPrefixProperties prefixes = prefixPropertiesProvider.getIfAvailable(WebSocketPrefixProperties::new);
+            List<WebSocketMockOperation> mocks = new ArrayList<>();
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) operationsObj).entrySet()) {
+                if (!(entry.getValue() instanceof Map)) {
+                    continue;
+                }
+                WebSocketMockOperation meta = parseOperation(entry.getKey(), (Map<String, Object>) entry.getValue(), document, prefixes);
+                if (meta != null) {
+                    mocks.add(meta);
+                    log.debug("Parsed mock STOMP operation: {} -> {}", meta.getDestination(), meta.getReplyDestination());
+                }
+            }
+
+            log.info("Parsed {} mock STOMP operations from YAML", mocks.size());
+            return mocks;
+        } catch (Exception e) {
+            log.error("Failed to load mock STOMP operations from YAML", e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Load ourowebsocket.yml and build the mock streams it declares.
+     * <p>
+     * Only {@code send} operations (server to subscribers) with {@code x-ouroboros-progress: mock}
+     * and an {@code x-ouroboros-stream} extension with a positive rate are returned.
+     *
+     * @return mock stream definitions; may be empty
+     */
+    @SuppressWarnings("unchecked")
+    public List<WebSocketMockStreamDefinition> loadStreamsFromYaml() {
+        try {
+            Map<String, Object> document = readDocument();
+            Object operationsObj = document != null ? document.get("operations") : null;
+            if (!(operationsObj instanceof Map)) {
+                return Collections.emptyList();
+            }
+
+            WebSocketPrefixProperties prefixes = prefixPropertiesProvider.getIfAvailable(WebSocketPrefixProperties::new);
+            List<WebSocketMockStreamDefinition> streams = new ArrayList<>();
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) operationsObj).entrySet()) {
+                if (!(entry.getValue() instanceof Map)) {
+                    continue;
+                }
+                WebSocketMockStreamDefinition stream = parseStream(entry.getKey(), (Map<String, Object>) entry.getValue(), document, prefixes);
+                if (stream != null) {
+                    streams.add(stream);
+                    log.debug("Parsed mock STOMP stream: {} at {} msg/s", stream.getDestination(), stream.getRate());
+                }
+            }
+
+            log.info("Parsed {} mock STOMP streams from YAML", streams.size());
+            return streams;
+        } catch (Exception e) {
+            log.error("Failed to load mock STOMP streams from YAML", e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Reads the raw AsyncAPI document, or returns null if the YAML file does not exist.
+     */
+    private Map<String, Object> readDocument() {
+        if (!parser.fileExists()) {
+            log.debug("WebSocket YAML file does not exist");
+            return null;
+        }
+        return parser.readDocumentFromFile();
+    }
+
+    /**
+     * Parses a single AsyncAPI operation into WebSocketMockOperation.
+     * <p>
+     * Only {@code receive} operations (client SEND, {@code @MessageMapping} on the server) with
+     * {@code x-ouroboros-progress: mock} are parsed.
+     *
+     * @return the parsed operation, or null if the operation is not a mock receive operation
+     */
+    @SuppressWarnings("unchecked")
+    private WebSocketMockOperation parseOperation(String operationName, Map<String, Object> operation,
+                                                  Map<String, Object> document, WebSocketPrefixProperties prefixes) {
+        if (!"mock".equalsIgnoreCase(String.valueOf(operation.get("x-ouroboros-progress")))
+                || !"receive".equalsIgnoreCase(String.valueOf(operation.get("action")))) {
+            return null;
+        }
+
+        String address = channelAddress(operation.get("channel"), document);
+        if (address == null) {
+            log.warn("Mock operation {} has no channel address", operationName);
+            return null;
+        }
+
+        String replyDestination = null;
+        Map<String, Object> replySchema = null;
+        if (operation.get("reply") instanceof Map<?, ?> reply) {
+            String replyAddress = channelAddress(reply.get("channel"), document);
+            if (replyAddress != null) {
+                replyDestination = withBrokerPrefix(replyAddress, prefixes);
+                replySchema = payloadSchema(reply.get("messages"), document);
+            }
+        }
+
+        return WebSocketMockOperation.builder()
+                .id((String) operation.get("x-ouroboros-id"))
+                .operationName(operationName)
+                .destination(withApplicationPrefix(address, prefixes))
+                .replyDestination(replyDestination)
+                .replySchema(replySchema)
+                .build();
+    }
+
+    /**
+     * Parses the {@code x-ouroboros-stream} extension of a {@code send} operation.
+     *
+     * @return the stream definition, or null if the operation does not declare a valid mock stream
+     */
+    @SuppressWarnings("unchecked")
+    private WebSocketMockStreamDefinition parseStream(String operationName, Map<String, Object> operation,
+                                                      Map<String, Object> document, WebSocketPrefixProperties prefixes) {
+        if (!(operation.get(STREAM_EXTENSION) instanceof Map<?, ?> stream)
+                || !"mock".equalsIgnoreCase(String.valueOf(operation.get("x-ouroboros-progress")))
+                || !"send".equalsIgnoreCase(String.valueOf(operation.get("action")))) {
+            return null;
+        }
+
+        double rate = stream.get("rate") instanceof Number number ? number.doubleValue() : 0;
+        if (!(rate > 0) || Double.isInfinite(rate)) {
+            log.warn("Mock stream {} needs a positive rate: {}", operationName, stream.get("rate"));
+            return null;
+        }
+        String address = channelAddress(operation.get("channel"), document);
+        if (address == null) {
+            log.warn("Mock stream {} has no channel address", operationName);
+            return null;
+        }
+
+        int burst = stream.get("burst") instanceof Number number
+                ? Math.max(1, number.intValue())
+                : (int) Math.max(1, Math.ceil(rate));
+        Duration duration;
+        try {
+            duration = parseDuration(stream.get("duration"));
+        } catch (IllegalArgumentException e) {
+            log.warn("Mock stream {} has an invalid duration: {}", operationName, stream.get("duration"));
+            return null;
+        }
+
+        return WebSocketMockStreamDefinition.builder()
+                .id((String) operation.get("x-ouroboros-id"))
+                .operationName(operationName)
+                .destination(withBrokerPrefix(address, prefixes))
+                .payloadSchema(payloadSchema(operation.get("messages"), document))
+                .rate(rate)
+                .burst(burst)
+                .duration(duration)
+                .seed(stream.get("seed") instanceof Number number ? number.longValue() : null)
+                .build();
+    }
+
+    /**
+     * Parses a stream duration: a number of seconds, or a duration string such as {@code 30s} or {@code PT1M}.
+     *
+     * @return the duration, or null if absent or not positive (stream until the last subscriber leaves)
+     */
+    private Duration parseDuration(Object value) {
+        Duration duration;
+        if (value instanceof Number number) {
+            duration = Duration.ofMillis((long) (number.doubleValue() * 1000));
+        } else if (value instanceof String text && !text.isBlank()) {
+            duration = DurationStyle.detectAndParse(text.trim(), ChronoUnit.SECONDS);
+        } else {
+            return null;
+        }
+        return duration.isNegative() || duration.isZero() ? null : duration;
+    }
+
+    /**
+     * Resolves the address of a channel reference ({@code {$ref: '#/channels/name'}}).
+     */
+    @SuppressWarnings("unchecked")
+    private String channelAddress(Object channelRef, Map<String, Object> document) {
+        if (!(channelRef instanceof Map)) {
+            return null;
+        }
+        Map<String, Object> channel = resolveRef((Map<String, Object>) channelRef, document);
+        Object address = channel != null ? channel.get("address") : null;
+        return address instanceof String value && !value.isEmpty() ? value : null;
+    }
+
+    /**
+     * Resolves the payload schema of the first message of a {@code messages} list.
+     * <p>
+     * Supports both {@code payload: {schema: {...}}} (multi-format) and {@code payload: {...}}.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> payloadSchema(Object messagesObj, Map<String, Object> document) {
+        if (!(messagesObj instanceof List<?> messages) || messages.isEmpty()
+                || !(messages.get(0) instanceof Map)) {
+            return null;
+        }
+        Map<String, Object> message = resolveRef((Map<String, Object>) messages.get(0), document);
+        if (message == null || !(message.get("payload") instanceof Map)) {
+            return null;
+        }
+        Map<String, Object> payload = (Map<String, Object>) message.get("payload");
+        Map<String, Object> schema = payload.get("schema") instanceof Map
+                ? (Map<String, Object>) payload.get("schema")
+                : payload;
+        return resolveSchema(schema, document, new HashSet<>());
+    }
+
+    /**
+     * Recursively resolves {@code $ref} references in a schema, including properties and array items.
+     *
+     * @param schema   the schema map that may contain $ref
+     * @param document the AsyncAPI document used to look up references
+     * @param visited  references on the current path, to stop circular references
+     * @return the resolved schema (a copy; the document is not modified)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> resolveSchema(Map<String, Object> schema, Map<String, Object> document, Set<String> visited) {
+        if (schema == null) {
+            return Collections.emptyMap();
+        }
+
+        if (schema.get("$ref") instanceof String ref) {
+            if (!visited.add(ref)) {
+                log.warn("Circular reference detected: {}", ref);
+                return Collections.emptyMap();
+            }
+            Map<String, Object> referenced = lookup(ref, document);
+            if (referenced == null) {
+                log.warn("Schema not found: {}", ref);
+                return Collections.emptyMap();
+            }
+            return resolveSchema(referenced, document, visited);
+        }
+
+        Map<String, Object> resolved = new LinkedHashMap<>(schema);
+        if (resolved.get("properties") instanceof Map<?, ?> properties) {
+            Map<String, Object> resolvedProperties = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> property : properties.entrySet()) {
+                if (property.getValue() instanceof Map) {
+                    resolvedProperties.put(String.valueOf(property.getKey()),
+                            resolveSchema((Map<String, Object>) property.getValue(), document, new HashSet<>(visited)));
+                }
+            }
+            resolved.put("properties", resolvedProperties);
+        }
+        if (resolved.get("items") instanceof Map) {
+            resolved.put("items", resolveSchema((Map<String, Object>) resolved.get("items"), document, new HashSet<>(visited)));
+        }
+        return resolved;
+    }
+
+    /**
+     * Follows {@code $ref} chains of a reference object (channel or message) to the referenced object.
+     */
+    private Map<String, Object> resolveRef(Map<String, Object> object, Map<String, Object> document) {
+        Map<String, Object> current = object;
+        Set<String> visited = new HashSet<>();
+        while (current != null && current.get("$ref") instanceof String ref) {
+            if (!visited.add(ref)) {
+                return null;
+            }
+            current = lookup(ref, document);
+        }
+        return current;
+    }
+
+    /**
+     * Looks up a local JSON pointer such as {@code #/components/messages/ChatMessage}.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> lookup(String ref, Map<String, Object> document) {
+        if (!ref.startsWith("#/")) {
+            return null;
+        }
+        Object current = document;
+        for (String token : ref.substring(2).split("/")) {
+            if (!(current instanceof Map)) {
+                return null;
+            }
+            current = ((Map<String, Object>) current).get(token.replace("~1", "/").replace("~0", "~"));
+        }
+        return current instanceof Map ? (Map<String, Object>) current : null;
+    }
+
+    /**
+     * Adds the application destination prefix unless the address already has a known prefix.
+     */
+    private String withApplicationPrefix(String address, WebSocketPrefixProperties prefixes) {
+        if (hasKnownPrefix(address, prefixes)) {
+            return address;
+        }
+        return join(prefixes.getApplicationDestinationPrefix(), address);
+    }
+
+    /**
+     * Adds the first broker prefix unless the address already has a known prefix or is a user destination.
+     */
+    private String withBrokerPrefix(String address, WebSocketPrefixProperties prefixes) {
+        List<String> brokerPrefixes = prefixes.getBrokerPrefixes();
+        if (address.startsWith(USER_DESTINATION_PREFIX) || hasKnownPrefix(address, prefixes)
+                || brokerPrefixes == null || brokerPrefixes.isEmpty()) {
+            return address;
+        }
+        return join(brokerPrefixes.get(0), address);
+    }
+
+    private boolean hasKnownPrefix(String address, WebSocketPrefixProperties prefixes) {
+        String appPrefix = prefixes.getApplicationDestinationPrefix();
+        if (appPrefix != null && address.startsWith(appPrefix + "/")) {
+            return true;
+        }
+        List<String> brokerPrefixes = prefixes.getBrokerPrefixes();
+        if (brokerPrefixes != null) {
+            for (String brokerPrefix : brokerPrefixes) {
+                if (brokerPrefix != null && address.startsWith(brokerPrefix + "/")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private String join(String prefix, String address) {
+        if (prefix == null) {
+            return address;
+        }
+        String cleanPrefix = prefix.endsWith("/") ? prefix.substring(0, prefix.length() - 1) : prefix;
+        String cleanAddress = address.startsWith("/") ? address.substring(1) : address;
+        return cleanPrefix + "/" + cleanAddress;
+    }
+}
@@ -0,0 +1,174 @@
+package kr.co.ouroboros.core.websocket.mock.stream;
+
+import kr.co.ouroboros.core.websocket.mock.model.WebSocketMockStreamDefinition;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A running mock stream: a token bucket publishing generated payloads to one destination.
+ * <p>
+ * Tokens accrue at the configured rate and are capped at the burst size; tokens above the cap
+ * are counted as dropped. Each run publishes as many whole tokens as the shared per-tick budget
+ * allows, the remainder is the backlog. Runs happen on the timer wheel thread only, so the
+ * bucket state is not synchronized; the counters read by metrics are volatile.
+ *
+ * @since 1.0.6
+ */
+final class MockStream implements MockStreamTimerWheel.Task {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final String key;
+    private final String destination;
+    private final WebSocketMockStreamDefinition definition;
+    private final Supplier<Object> payloadFactory;
+    private final Consumer<Object> publisher;
+    private final IntSupplier budget;
+    private final Consumer<MockStream> onFinish;
+    private final long startNanos;
+    private final long deadlineNanos;
+
+    private long lastRefillNanos;
+    private double tokens;
+    private volatile long sent;
+    private volatile double dropped;
+    private volatile long failed;
+    private volatile long backlog;
+    private volatile long lastRunNanos;
+    private volatile boolean cancelled;
+
+    /**
+     * Number of subscriptions to the destination; guarded by the scheduler.
+     */
+    int subscribers;
+
+    /**
+     * @param key            stream key (destination, plus the session for user destinations)
+     * @param destination    destination as subscribed by the client
+     * @param definition     stream definition from the spec
+     * @param payloadFactory generates one payload per message
+     * @param publisher      publishes one payload to the destination
+     * @param budget         claims one message from the shared per-tick budget; returns 0 when exhausted
+     * @param onFinish       called once on the wheel thread when the stream stops by itself
+     * @param startNanos     {@link System#nanoTime()} at start
+     */
+    MockStream(String key, String destination, WebSocketMockStreamDefinition definition,
+               Supplier<Object> payloadFactory, Consumer<Object> publisher,
+               IntSupplier budget, Consumer<MockStream> onFinish, long startNanos) {
+        this.key = key;
+        this.destination = destination;
+        this.definition = definition;
+        this.payloadFactory = payloadFactory;
+        this.publisher = publisher;
+        this.budget = budget;
+        this.onFinish = onFinish;
+        this.startNanos = startNanos;
+        this.deadlineNanos = definition.getDuration() != null
+                ? startNanos + definition.getDuration().toNanos()
+                : Long.MAX_VALUE;
+        this.lastRefillNanos = startNanos;
+        this.lastRunNanos = startNanos;
+        // The first message is published on the first tick
+        this.tokens = 1;
+    }
+
+    @Override
+    public long run(long nowNanos) {
+        if (cancelled) {
+            return -1;
+        }
+        if (nowNanos - deadlineNanos >= 0) {
+            cancelled = true;
+            onFinish.accept(this);
+            return -1;
+        }
+
+        refill(nowNanos);
+        long published = 0;
+        while (tokens >= 1 && budget.getAsInt() > 0) {
+            tokens -= 1;
+            try {
+                publisher.accept(payloadFactory.get());
+                published++;
+            } catch (RuntimeException e) {
+                failed++;
+            }
+        }
+        sent += published;
+        backlog = (long) tokens;
+        lastRunNanos = nowNanos;
+
+        if (tokens >= 1) {
+            // Budget exhausted: catch up on the next tick
+            return 0;
+        }
+        long untilNextToken = (long) Math.ceil((1 - tokens) / definition.getRate() * NANOS_PER_SECOND);
+        return Math.min(untilNextToken, deadlineNanos - nowNanos);
+    }
+
+    /**
+     * Stops the stream; the wheel drops it on its next run.
+     */
+    void cancel() {
+        cancelled = true;
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String destination() {
+        return destination;
+    }
+
+    WebSocketMockStreamDefinition definition() {
+        return definition;
+    }
+
+    long sent() {
+        return sent;
+    }
+
+    long dropped() {
+        return (long) dropped;
+    }
+
+    long failed() {
+        return failed;
+    }
+
+    long backlog() {
+        return backlog;
+    }
+
+    /**
+     * Messages per second published since the stream started.
+     *
+     * @return achieved rate
+     */
+    double achievedRate() {
+        long elapsed = lastRunNanos - startNanos;
+        return elapsed > 0 ? sent * NANOS_PER_SECOND / elapsed : 0;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        lastRefillNanos = nowNanos;
+        if (elapsed <= 0) {
+            return;
+        }
+        tokens += definition.getRate() * elapsed / NANOS_PER_SECOND;
+        int burst = definition.getBurst();
+        if (tokens > burst) {
+            dropped += tokens - burst;
+            tokens = burst;
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package kr.co.ouroboros.core.websocket.mock.stream;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.ouroboros.core.global.mock.service.SchemaMockBuilder;
+import kr.co.ouroboros.core.websocket.mock.config.WebSocketMockStreamProperties;
+import kr.co.ouroboros.core.websocket.mock.model.WebSocketMockStreamDefinition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Publishes rate-controlled mock message streams to subscribed destinations.
+ * <p>
+ * A stream starts when the first client subscribes to a destination with an
+ * {@code x-ouroboros-stream} definition and stops when the last subscription ends, the
+ * session disconnects, or the configured duration elapses. Broker destinations share one
+ * stream per destination; {@code /user/...} destinations get one stream per session.
+ * <p>
+ * <b>Scheduling:</b> every stream is a token bucket on one shared {@link MockStreamTimerWheel},
+ * advanced by a single daemon thread. A tick only runs the streams that are due, and publishes
+ * at most {@code max-messages-per-tick} messages in total, so mock traffic cannot flood the
+ * broker channel; messages that do not fit stay in the stream backlog.
+ * <p>
+ * <b>Metrics</b> (tagged with {@code stream} and {@code operation}):
+ * <ul>
+ *   <li>{@code ouroboros.mock.stream.rate} - Achieved messages per second since the stream started</li>
+ *   <li>{@code ouroboros.mock.stream.backlog} - Messages due but not yet published</li>
+ *   <li>{@code ouroboros.mock.stream.sent} - Messages published</li>
+ *   <li>{@code ouroboros.mock.stream.dropped} - Messages skipped because the backlog exceeded the burst</li>
+ *   <li>{@code ouroboros.mock.stream.failed} - Messages whose publication failed</li>
+ *   <li>{@code ouroboros.mock.stream.active} - Running streams (untagged)</li>
+ * </ul>
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@Component
+@ConditionalOnClass(SimpAnnotationMethodMessageHandler.class)
+@ConditionalOnProperty(name = "ouroboros.mock-stream.enabled", havingValue = "true", matchIfMissing = true)
+public class MockStreamScheduler implements DisposableBean {
+
+    private static final String USER_DESTINATION_PREFIX = "/user/";
+    private static final String METRIC_PREFIX = "ouroboros.mock.stream.";
+
+    private final SchemaMockBuilder schemaMockBuilder;
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
+    private final MeterRegistry meterRegistry;
+    private final long tickMs;
+    private final int maxMessagesPerTick;
+    private final int maxStreams;
+
+    private final MockStreamTimerWheel wheel;
+    private final ScheduledThreadPoolExecutor ticker;
+    private ScheduledFuture<?> tickFuture;
+
+    /**
+     * Running streams by key; modified under the scheduler lock.
+     */
+    private final Map<String, MockStream> streams = new ConcurrentHashMap<>();
+
+    /**
+     * Subscriptions per session (subscription id to stream); guarded by the scheduler lock.
+     */
+    private final Map<String, Map<String, MockStream>> subscriptions = new HashMap<>();
+
+    private final Map<MockStream, List<Meter>> streamMeters = new HashMap<>();
+
+    /**
+     * Messages left in the current tick; only accessed by the ticker thread.
+     */
+    private int tickBudget;
+
+    /**
+     * Creates the scheduler. The ticker thread is started with the first stream.
+     *
+     * @param properties                stream configuration properties
+     * @param schemaMockBuilder         builder for non-seeded payloads
+     * @param messagingTemplateProvider provider of the messaging template used to publish
+     * @param meterRegistryProvider     optional provider for the application's MeterRegistry
+     */
+    public MockStreamScheduler(WebSocketMockStreamProperties properties,
+                               SchemaMockBuilder schemaMockBuilder,
+                               ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider,
+                               ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.schemaMockBuilder = schemaMockBuilder;
+        this.messagingTemplateProvider = messagingTemplateProvider;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.tickMs = Math.max(1, properties.getTickMs());
+        this.maxMessagesPerTick = Math.max(1, properties.getMaxMessagesPerTick());
+        this.maxStreams = Math.max(0, properties.getMaxStreams());
+        this.wheel = new MockStreamTimerWheel(TimeUnit.MILLISECONDS.toNanos(tickMs), properties.getWheelSize());
+        this.ticker = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "ouroboros-mock-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder(METRIC_PREFIX + "active", streams, Map::size)
+                .description("Running mock message streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records a subscription and starts the stream of its destination if it is not running.
+     *
+     * @param sessionId      WebSocket session id
+     * @param subscriptionId STOMP subscription id
+     * @param destination    subscribed destination
+     * @param definition     stream definition matched for the destination
+     * @return true if the subscription is served by a stream
+     */
+    public synchronized boolean subscribe(String sessionId, String subscriptionId, String destination,
+                                          WebSocketMockStreamDefinition definition) {
+        if (sessionId == null || subscriptionId == null) {
+            return false;
+        }
+        boolean userDestination = destination.startsWith(USER_DESTINATION_PREFIX);
+        String key = userDestination ? destination + "@" + sessionId : destination;
+
+        MockStream stream = streams.get(key);
+        if (stream == null) {
+            if (streams.size() >= maxStreams) {
+                log.warn("Mock stream limit reached ({}); not streaming {}", maxStreams, destination);
+                return false;
+            }
+            stream = start(key, destination, sessionId, userDestination, definition);
+        }
+        MockStream previous = subscriptions.computeIfAbsent(sessionId, id -> new HashMap<>()).put(subscriptionId, stream);
+        if (previous != stream) {
+            stream.subscribers++;
+            if (previous != null) {
+                release(previous);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes a subscription; the stream stops when it has no subscription left.
+     *
+     * @param sessionId      WebSocket session id
+     * @param subscriptionId STOMP subscription id
+     */
+    public synchronized void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, MockStream> bySubscription = subscriptions.get(sessionId);
+        if (bySubscription == null) {
+            return;
+        }
+        MockStream stream = bySubscription.remove(subscriptionId);
+        if (bySubscription.isEmpty()) {
+            subscriptions.remove(sessionId);
+        }
+        if (stream != null) {
+            release(stream);
+        }
+    }
+
+    /**
+     * Removes all subscriptions of a closed session.
+     *
+     * @param sessionId WebSocket session id
+     */
+    public synchronized void disconnect(String sessionId) {
+        Map<String, MockStream> bySubscription = subscriptions.remove(sessionId);
+        if (bySubscription != null) {
+            bySubscription.values().forEach(this::release);
+        }
+    }
+
+    /**
+     * Number of running streams.
+     *
+     * @return running stream count
+     */
+    public int activeStreams() {
+        return streams.size();
+    }
+
+    /**
+     * Stops the ticker thread. Running streams are discarded.
+     */
+    @Override
+    public void destroy() {
+        ticker.shutdownNow();
+    }
+
+    private MockStream start(String key, String destination, String sessionId, boolean userDestination,
+                             WebSocketMockStreamDefinition definition) {
+        MockStream stream = new MockStream(key, destination, definition,
+                payloadFactory(definition), publisher(destination, sessionId, userDestination),
+                this::claimBudget, this::finished, System.nanoTime());
+        streams.put(key, stream);
+        streamMeters.put(stream, registerMeters(stream));
+        ensureTicking();
+        wheel.schedule(stream, 0);
+        log.info("Started mock stream {} ({} msg/s, burst {}, duration {})",
+                key, definition.getRate(), definition.getBurst(), definition.getDuration());
+        return stream;
+    }
+
+    private void release(MockStream stream) {
+        if (--stream.subscribers <= 0) {
+            stop(stream);
+        }
+    }
+
+    /**
+     * Called on the ticker thread when a stream reached its duration.
+     */
+    private synchronized void finished(MockStream stream) {
+        stop(stream);
+    }
+
+    private void stop(MockStream stream) {
+        stream.cancel();
+        if (!streams.remove(stream.key(), stream)) {
+            return;
+        }
+        List<Meter> meters = streamMeters.remove(stream);
+        if (meters != null) {
+            meters.forEach(meterRegistry::remove);
+        }
+        log.info("Stopped mock stream {}: sent={}, dropped={}, failed={}",
+                stream.key(), stream.sent(), stream.dropped(), stream.failed());
+    }
+
+    private void ensureTicking() {
+        if (tickFuture == null) {
+            tickFuture = ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void tick() {
+        tickBudget = maxMessagesPerTick;
+        try {
+            wheel.advance(System.nanoTime());
+        } catch (Throwable t) {
+            // An exception would cancel the periodic task and silently stop every stream
+            log.warn("Mock stream tick failed", t);
+        }
+    }
+
+    private int claimBudget() {
+        return tickBudget > 0 ? tickBudget-- : 0;
+    }
+
+    private Supplier<Object> payloadFactory(WebSocketMockStreamDefinition definition) {
+        Map<String, Object> schema = definition.getPayloadSchema();
+        if (schema == null || schema.isEmpty()) {
+            return Map::of;
+        }
+        SchemaMockBuilder builder = definition.getSeed() != null
+                ? SchemaMockBuilder.seeded(definition.getSeed())
+                : schemaMockBuilder;
+        return () -> {
+            Object payload = builder.build(schema);
+            return payload != null ? payload : Map.of();
+        };
+    }
+
+    private Consumer<Object> publisher(String destination, String sessionId, boolean userDestination) {
+        if (!userDestination) {
+            return payload -> messagingTemplate().convertAndSend(destination, payload);
+        }
+        String userDestinationSuffix = destination.substring(USER_DESTINATION_PREFIX.length() - 1);
+        return payload -> messagingTemplate().convertAndSendToUser(sessionId, userDestinationSuffix, payload, createHeaders(sessionId));
+    }
+
+    private SimpMessagingTemplate messagingTemplate() {
+        SimpMessagingTemplate messagingTemplate = messagingTemplateProvider.getIfAvailable();
+        if (messagingTemplate == null) {
+            throw new IllegalStateException("SimpMessagingTemplate is not available");
+        }
+        return messagingTemplate;
+    }
+
+    private List<Meter> registerMeters(MockStream stream) {
+        String operation = stream.definition().getOperationName();
+        Tags tags = Tags.of("stream", stream.key(), "operation", operation != null ? operation : "");
+        return List.of(
+                Gauge.builder(METRIC_PREFIX + "rate", stream, MockStream::achievedRate)
+                        .description("Achieved mock stream messages per second")
+                        .tags(tags)
+                        .register(meterRegistry),
+                Gauge.builder(METRIC_PREFIX + "backlog", stream, MockStream::backlog)
+                        .description("Mock stream messages due but not yet published")
+                        .tags(tags)
+                        .register(meterRegistry),
+                FunctionCounter.builder(METRIC_PREFIX + "sent", stream, MockStream::sent)
+                        .description("Mock stream messages published")
+                        .tags(tags)
+                        .register(meterRegistry),
+                FunctionCounter.builder(METRIC_PREFIX + "dropped", stream, MockStream::dropped)
+                        .description("Mock stream messages skipped because the backlog exceeded the burst")
+                        .tags(tags)
+                        .register(meterRegistry),
+                FunctionCounter.builder(METRIC_PREFIX + "failed", stream, MockStream::failed)
+                        .description("Mock stream messages whose publication failed")
+                        .tags(tags)
+                        .register(meterRegistry));
+    }
+
+    /**
+     * Creates message headers targeting a single session, as required for session-addressed user destinations.
+     */
+    private Map<String, Object> createHeaders(String sessionId) {
+        SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headerAccessor.setSessionId(sessionId);
+        headerAccessor.setLeaveMutable(true);
+        return headerAccessor.getMessageHeaders();
+    }
+}
@@ -0,0 +1,117 @@
+package kr.co.ouroboros.core.websocket.mock.stream;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Hashed timer wheel shared by all mock streams.
+ * <p>
+ * Tasks are placed into the slot of the tick they are due on; delays longer than one turn are
+ * counted in remaining rounds. {@link #advance(long)} is called once per tick by a single
+ * thread and only runs the tasks of the current slot, so the cost of a tick does not grow
+ * with the number of idle streams. Tasks may be scheduled from any thread.
+ *
+ * @since 1.0.6
+ */
+final class MockStreamTimerWheel {
+
+    /**
+     * Work run by the wheel.
+     */
+    interface Task {
+
+        /**
+         * Runs the task.
+         *
+         * @param nowNanos current {@link System#nanoTime()}
+         * @return delay in nanoseconds until the next run, or a negative value to stop
+         */
+        long run(long nowNanos);
+    }
+
+    private final long tickNanos;
+    private final Queue<Entry>[] slots;
+    private final Queue<Entry> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Tick counter; only accessed by the thread calling {@link #advance(long)}.
+     */
+    private long cursor;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    MockStreamTimerWheel(long tickNanos, int wheelSize) {
+        this.tickNanos = Math.max(1, tickNanos);
+        this.slots = new Queue[Math.max(1, wheelSize)];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Schedules a task. Safe to call from any thread.
+     *
+     * @param task       task to run
+     * @param delayNanos delay until the first run; rounded up to whole ticks (at least one)
+     */
+    void schedule(Task task, long delayNanos) {
+        pending.add(new Entry(task, delayNanos));
+    }
+
+    /**
+     * Advances the wheel by one tick and runs the due tasks.
+     *
+     * @param nowNanos current {@link System#nanoTime()}
+     */
+    void advance(long nowNanos) {
+        Entry added;
+        while ((added = pending.poll()) != null) {
+            place(added, added.delayNanos);
+        }
+
+        cursor++;
+        Queue<Entry> slot = slots[(int) (cursor % slots.length)];
+        // Entries re-placed into this slot (delay of a full turn) are appended and not run again now
+        for (int n = slot.size(); n > 0; n--) {
+            Entry entry = slot.poll();
+            if (entry.rounds > 0) {
+                entry.rounds--;
+                slot.add(entry);
+                continue;
+            }
+            size--;
+            long next = entry.task.run(nowNanos);
+            if (next >= 0) {
+                place(entry, next);
+            }
+        }
+    }
+
+    /**
+     * Number of scheduled tasks, excluding tasks scheduled since the last tick.
+     *
+     * @return scheduled task count
+     */
+    int size() {
+        return size;
+    }
+
+    private void place(Entry entry, long delayNanos) {
+        long ticks = Math.max(1, (delayNanos + tickNanos - 1) / tickNanos);
+        entry.rounds = (ticks - 1) / slots.length;
+        slots[(int) ((cursor + ticks) % slots.length)].add(entry);
+        size++;
+    }
+
+    private static final class Entry {
+        private final Task task;
+        private final long delayNanos;
+        private long rounds;
+
+        private Entry(Task task, long delayNanos) {
+            this.task = task;
+            this.delayNanos = delayNanos;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package kr.co.ouroboros.core.websocket.tryit.common;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+/**
+ * Message helpers shared by the STOMP Try interceptors.
+ */
+public final class TryStompMessages {
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException indicating the class must not be instantiated
+     */
+    private TryStompMessages() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Copies the headers of the message into a new accessor.
+     * <p>
+     * STOMP frames with a command keep a {@link StompHeaderAccessor}. Messages created by the
+     * broker or {@code SimpMessagingTemplate} have no STOMP command; they keep a plain
+     * {@link SimpMessageHeaderAccessor} so that {@code StompSubProtocolHandler} still converts
+     * them into MESSAGE frames, as it does for messages without the Try interceptors.
+     * <p>
+     * The message itself is never modified, so it is safe to call for a message that is
+     * handled by several subscribers at the same time.
+     *
+     * @param message the message whose headers are copied
+     * @return a new accessor holding a copy of the headers
+     */
+    public static SimpMessageHeaderAccessor copyHeaders(Message<?> message) {
+        MessageHeaderAccessor existing = MessageHeaderAccessor.getAccessor(message, MessageHeaderAccessor.class);
+        if (existing instanceof StompHeaderAccessor stompAccessor && stompAccessor.getCommand() != null) {
+            return StompHeaderAccessor.wrap(message);
+        }
+        return SimpMessageHeaderAccessor.wrap(message);
+    }
+}
@@ -0,0 +1,89 @@
+package kr.co.ouroboros.core.websocket.tryit.common;
+
+/**
+ * Defines span attribute names and values used in STOMP Try traces.
+ * <p>
+ * Every span created for a STOMP Try carries the stage and phase it measures, so the latency
+ * of a try can be broken down per stage and destination without walking the span tree.
+ */
+public final class TryStompSpanAttributes {
+
+    /**
+     * Prevents instantiation of this utility class.
+     *
+     * @throws IllegalStateException indicating the class must not be instantiated
+     */
+    private TryStompSpanAttributes() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Messaging system attribute (OpenTelemetry semantic convention).
+     */
+    public static final String MESSAGING_SYSTEM = "messaging.system";
+
+    /**
+     * Destination attribute (OpenTelemetry semantic convention).
+     */
+    public static final String MESSAGING_DESTINATION = "messaging.destination.name";
+
+    /**
+     * STOMP command of the traced frame, e.g. SEND.
+     */
+    public static final String STOMP_COMMAND = "ouro.stomp.command";
+
+    /**
+     * WebSocket session of the traced message.
+     */
+    public static final String STOMP_SESSION_ID = "ouro.stomp.session_id";
+
+    /**
+     * Subscription a message is delivered to (outbound stage only).
+     */
+    public static final String STOMP_SUBSCRIPTION_ID = "ouro.stomp.subscription_id";
+
+    /**
+     * Message channel stage: {@link #STAGE_INBOUND}, {@link #STAGE_BROKER} or {@link #STAGE_OUTBOUND}.
+     */
+    public static final String STOMP_STAGE = "ouro.stomp.stage";
+
+    /**
+     * Measured phase within a stage: {@link #PHASE_QUEUE} or {@link #PHASE_HANDLE}.
+     */
+    public static final String STOMP_PHASE = "ouro.stomp.phase";
+
+    /**
+     * Message handler a queue or handle span belongs to.
+     */
+    public static final String STOMP_HANDLER = "ouro.stomp.handler";
+
+    /**
+     * Value of {@link #MESSAGING_SYSTEM}.
+     */
+    public static final String SYSTEM_STOMP = "stomp";
+
+    /**
+     * Client inbound channel: frames received from clients.
+     */
+    public static final String STAGE_INBOUND = "inbound";
+
+    /**
+     * Broker channel: messages sent by handlers to the broker (simple broker or broker relay).
+     */
+    public static final String STAGE_BROKER = "broker";
+
+    /**
+     * Client outbound channel: messages delivered to a subscriber session.
+     */
+    public static final String STAGE_OUTBOUND = "outbound";
+
+    /**
+     * Time a message waited in the channel executor before a handler picked it up.
+     */
+    public static final String PHASE_QUEUE = "queue";
+
+    /**
+     * Time a handler spent on the message.
+     */
+    public static final String PHASE_HANDLE = "handle";
+}
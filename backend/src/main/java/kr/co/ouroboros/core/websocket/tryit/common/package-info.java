@@ -7,6 +7,8 @@
  * <b>Components:</b>
  * <ul>
  *   <li>{@link kr.co.ouroboros.core.websocket.tryit.common.TryStompHeaders} - Header and attribute names used in STOMP Try functionality</li>
+ *   <li>{@link kr.co.ouroboros.core.websocket.tryit.common.TryStompMessages} - Copy-on-write header helper shared by the STOMP Try interceptors</li>
+ *   <li>{@link kr.co.ouroboros.core.websocket.tryit.common.TryStompSpanAttributes} - Span attribute names of STOMP Try traces</li>
  * </ul>
  *
  * @since 0.0.1
@@ -1,33 +1,50 @@
 package kr.co.ouroboros.core.websocket.tryit.config;
 
+import io.opentelemetry.api.OpenTelemetry;
+import kr.co.ouroboros.core.websocket.tryit.config.properties.TrySessionProperties;
+import kr.co.ouroboros.core.websocket.tryit.config.properties.WebSocketExecutorProperties;
 import kr.co.ouroboros.core.websocket.tryit.identification.TryStompChannelInterceptor;
 import kr.co.ouroboros.core.websocket.tryit.identification.TryStompOutboundChannelInterceptor;
+import kr.co.ouroboros.core.websocket.tryit.infrastructure.instrumentation.TryStompTracingInterceptor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
 /**
  * Configuration for STOMP Try module.
+ * <p>
+ * Besides the Try identification interceptors, a {@link TryStompTracingInterceptor} is
+ * registered on the client inbound, broker and client outbound channels so that a STOMP Try
+ * is traced from the received frame to the delivery to each subscriber.
  */
 @Slf4j
 @Configuration(proxyBeanMethods = false)
 @RequiredArgsConstructor
+@EnableConfigurationProperties({TrySessionProperties.class, WebSocketExecutorProperties.class})
 public class TryStompConfig implements WebSocketMessageBrokerConfigurer {
 
     private final TryStompChannelInterceptor tryStompChannelInterceptor;
     private final TryStompOutboundChannelInterceptor tryStompOutboundChannelInterceptor;
+    private final ObjectProvider<OpenTelemetry> openTelemetryProvider;
 
     /**
      * Registers the Try module's inbound STOMP channel interceptor so inbound messages are processed by it.
+     * <p>
+     * The tracing interceptor is registered after it, so the Try context is already set when
+     * the root span of the frame is created.
      *
      * @param registration the inbound channel registration to attach the interceptor to
      */
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         log.info("Registering TryStompChannelInterceptor for inbound channel");
-        registration.interceptors(tryStompChannelInterceptor);
+        registration.interceptors(tryStompChannelInterceptor,
+                new TryStompTracingInterceptor(TryStompTracingInterceptor.Stage.INBOUND, openTelemetryProvider));
     }
 
     /**
@@ -38,12 +55,21 @@ public class TryStompConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureClientOutboundChannel(ChannelRegistration registration) {
         log.info("Registering TryStompOutboundChannelInterceptor for outbound channel");
-        registration.interceptors(tryStompOutboundChannelInterceptor);
+        registration.interceptors(tryStompOutboundChannelInterceptor,
+                new TryStompTracingInterceptor(TryStompTracingInterceptor.Stage.OUTBOUND, openTelemetryProvider));
     }
 
     /**
-     * Empty method, but exists to avoid conflicts with Spring Boot auto-configuration.
+     * Registers the tracing interceptor on the broker channel.
+     * <p>
+     * Only an interceptor is added; the broker itself keeps the application's existing settings.
+     *
+     * @param registry the message broker registry of the application
      */
-    // Message broker configuration uses the application's existing settings.
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.configureBrokerChannel().interceptors(
+                new TryStompTracingInterceptor(TryStompTracingInterceptor.Stage.BROKER, openTelemetryProvider));
+    }
 }
 
@@ -7,6 +7,7 @@
  * <b>Components:</b>
  * <ul>
  *   <li>{@link kr.co.ouroboros.core.websocket.tryit.config.TryStompConfig} - Configuration for registering STOMP channel interceptors</li>
+ *   <li><b>properties</b> - Configuration properties of the STOMP Try module</li>
  * </ul>
  *
  * @since 0.0.1
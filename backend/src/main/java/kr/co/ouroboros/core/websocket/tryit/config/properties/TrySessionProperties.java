@@ -0,0 +1,49 @@
+package kr.co.ouroboros.core.websocket.tryit.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the STOMP Try session registry.
+ * <p>
+ * Every STOMP Try request keeps a registration (session and a copy of the dispatched message)
+ * until it is removed, expires or its session disconnects. These limits bound the memory held
+ * by long-lived sessions.
+ * <p>
+ * <b>Configuration Properties:</b>
+ * <ul>
+ *   <li>{@code ouroboros.try-session.ttl-ms} - Lifetime of a registration (default: 600000)</li>
+ *   <li>{@code ouroboros.try-session.max-tries-per-session} - Registrations kept per session, oldest evicted first (default: 100)</li>
+ *   <li>{@code ouroboros.try-session.max-payload-chars} - Payload characters kept per registration (default: 65536)</li>
+ * </ul>
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Data
+@ConfigurationProperties(prefix = "ouroboros.try-session")
+public class TrySessionProperties {
+
+    /**
+     * Time after which a registration expires, in milliseconds. 0 or less disables expiry.
+     * <p>
+     * Default: 600000 (10 minutes)
+     */
+    private long ttlMs = 600_000;
+
+    /**
+     * Maximum number of registrations per session. When exceeded, the oldest registration
+     * of the session is evicted. 0 or less disables the limit.
+     * <p>
+     * Default: 100
+     */
+    private int maxTriesPerSession = 100;
+
+    /**
+     * Maximum number of payload characters stored per registration. Longer payloads are
+     * truncated. 0 or less disables the limit.
+     * <p>
+     * Default: 65536
+     */
+    private int maxPayloadChars = 65_536;
+}
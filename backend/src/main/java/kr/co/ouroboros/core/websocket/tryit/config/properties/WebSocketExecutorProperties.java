@@ -0,0 +1,57 @@
+package kr.co.ouroboros.core.websocket.tryit.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the STOMP client inbound and outbound channel executors.
+ * <p>
+ * By default the channels keep the bounded {@code ThreadPoolTaskExecutor} pools configured by
+ * the application. With {@code mode: virtual} they run every task on its own virtual thread,
+ * so blocking {@code @MessageMapping} handlers (JDBC, remote calls) no longer exhaust the pool.
+ * Virtual threads require a Java 21+ runtime; on older runtimes the pools are kept and a
+ * warning is logged.
+ * <p>
+ * <b>Configuration Properties:</b>
+ * <ul>
+ *   <li>{@code ouroboros.websocket.executor.mode} - Executor mode, {@code platform} or {@code virtual} (default: platform)</li>
+ *   <li>{@code ouroboros.websocket.executor.preserve-session-order} - Run the tasks of a session one at a time, in submission order (default: true)</li>
+ * </ul>
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Data
+@ConfigurationProperties(prefix = "ouroboros.websocket.executor")
+public class WebSocketExecutorProperties {
+
+    /**
+     * Executor mode of the client inbound and outbound channels.
+     * <p>
+     * Default: {@link Mode#PLATFORM}
+     */
+    private Mode mode = Mode.PLATFORM;
+
+    /**
+     * Whether tasks of the same WebSocket session run one at a time, in the order they were
+     * submitted, in virtual mode. Tasks without a session run independently.
+     * <p>
+     * Default: true
+     */
+    private boolean preserveSessionOrder = true;
+
+    /**
+     * Executor mode.
+     */
+    public enum Mode {
+        /**
+         * Keep the application's thread pools.
+         */
+        PLATFORM,
+
+        /**
+         * One virtual thread per task (Java 21+).
+         */
+        VIRTUAL
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * Configuration properties for Try feature in STOMP.
+ * <p>
+ * <b>Components:</b>
+ * <ul>
+ *   <li>{@link kr.co.ouroboros.core.websocket.tryit.config.properties.TrySessionProperties} - Limits of the Try session registry (TTL, per-session cap, payload size)</li>
+ *   <li>{@link kr.co.ouroboros.core.websocket.tryit.config.properties.WebSocketExecutorProperties} - Executor mode of the client inbound and outbound channels (platform or virtual threads)</li>
+ * </ul>
+ *
+ * @since 1.0.6
+ */
+package kr.co.ouroboros.core.websocket.tryit.config.properties;
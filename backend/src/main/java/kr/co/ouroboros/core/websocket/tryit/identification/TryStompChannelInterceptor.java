@@ -9,11 +9,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageBuilder;
-import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -23,6 +24,11 @@ import java.util.UUID;
  * <p>
  * Uses the same header protocol as {@link kr.co.ouroboros.core.rest.tryit.identification.TryFilter}
  * to issue and propagate tryId in STOMP messages.
+ * <p>
+ * Every inbound frame passes through this interceptor, so the Try headers are first looked up
+ * directly in the raw native header map. Frames without them (regular traffic, heartbeats,
+ * most SUBSCRIBE frames) are passed on as the original message: no accessor, no rebuilt
+ * message and no context change.
  */
 @Slf4j
 @Component
@@ -33,6 +39,13 @@ public class TryStompChannelInterceptor implements ChannelInterceptor {
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        String tryHeader = NativeMessageHeaderAccessor.getFirstNativeHeader(TryStompHeaders.TRY_HEADER, headers);
+        String headerTryId = NativeMessageHeaderAccessor.getFirstNativeHeader(TryStompHeaders.TRY_ID_HEADER, headers);
+        if (tryHeader == null && headerTryId == null) {
+            return message;
+        }
+
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
 
         StompCommand command = accessor.getCommand();
@@ -42,10 +55,9 @@ public class TryStompChannelInterceptor implements ChannelInterceptor {
         }
 
         // Only inbound channel (client -> server) messages are processed. Additional filtering by command is possible.
-        String tryHeader = getFirstNativeHeader(accessor, TryStompHeaders.TRY_HEADER);
         boolean tryRequested = TryStompHeaders.TRY_HEADER_ENABLED_VALUE.equalsIgnoreCase(tryHeader);
 
-        UUID tryId = resolveTryId(accessor, tryRequested);
+        UUID tryId = resolveTryId(headerTryId, tryRequested);
         if (tryId == null) {
             // If it's not a Try request or we couldn't issue a Try identifier, don't touch the context.
             return message;
@@ -75,13 +87,8 @@ public class TryStompChannelInterceptor implements ChannelInterceptor {
             boolean sent,
             @Nullable Exception ex
     ) {
-        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
-        if (accessor == null) {
-            return;
-        }
-
-        Scope scope = (Scope) accessor.getHeader(TryStompHeaders.INTERNAL_SCOPE_HEADER);
-        if (scope != null) {
+        // Read the header directly: messages passed through unchanged have no scope and need no accessor
+        if (message.getHeaders().get(TryStompHeaders.INTERNAL_SCOPE_HEADER) instanceof Scope scope) {
             try {
                 scope.close();
             } catch (Exception e) {
@@ -91,9 +98,8 @@ public class TryStompChannelInterceptor implements ChannelInterceptor {
     }
 
     @Nullable
-    private UUID resolveTryId(StompHeaderAccessor accessor, boolean tryRequested) {
+    private UUID resolveTryId(@Nullable String headerTryId, boolean tryRequested) {
         // 1) If tryId is included in frame header, use it as is
-        String headerTryId = getFirstNativeHeader(accessor, TryStompHeaders.TRY_ID_HEADER);
         if (headerTryId != null) {
             try {
                 return UUID.fromString(headerTryId);
@@ -111,14 +117,4 @@ public class TryStompChannelInterceptor implements ChannelInterceptor {
 
         return null;
     }
-
-    @Nullable
-    private String getFirstNativeHeader(StompHeaderAccessor accessor, String headerName) {
-        if (accessor.getNativeHeader(headerName) == null || accessor.getNativeHeader(headerName).isEmpty()) {
-            return null;
-        }
-        return accessor.getFirstNativeHeader(headerName);
-    }
 }
-
-
@@ -0,0 +1,244 @@
+package kr.co.ouroboros.core.websocket.tryit.infrastructure.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * STOMP channel executor that runs every task on its own virtual thread.
+ * <p>
+ * Replaces the bounded {@code ThreadPoolTaskExecutor} of a client channel when
+ * {@code ouroboros.websocket.executor.mode=virtual}, so handlers that block (JDBC, remote
+ * calls) park a cheap virtual thread instead of occupying a pool thread.
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ *   <li>The task decorator (OpenTelemetry context, executor metrics) is applied when a task is
+ *       submitted, on the sending thread, like {@code ThreadPoolTaskExecutor} does</li>
+ *   <li>With session ordering, the tasks of a WebSocket session (read from the message of the
+ *       channel's {@link MessageHandlingRunnable}) run one at a time in submission order on one
+ *       virtual thread; different sessions run in parallel</li>
+ *   <li>Per-session queues exist only while the session has pending tasks</li>
+ *   <li>If a task throws an {@link Error}, the rest of its session queue is handed to a new
+ *       virtual thread; if the delegate rejects a task, the counters and session queue are
+ *       rolled back before the rejection is rethrown</li>
+ * </ul>
+ * <p>
+ * Virtual threads require a Java 21+ runtime, see {@link #isSupported()}.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+public class VirtualThreadChannelExecutor implements TaskExecutor, DisposableBean {
+
+    private static final int VIRTUAL_THREADS_MIN_FEATURE_VERSION = 21;
+
+    private final TaskExecutor delegate;
+    private final boolean preserveSessionOrder;
+    @Nullable
+    private volatile TaskDecorator taskDecorator;
+
+    private final Map<String, SessionQueue> sessionQueues = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * Creates an executor starting one virtual thread per task.
+     *
+     * @param threadNamePrefix     prefix of the virtual thread names
+     * @param preserveSessionOrder whether tasks of the same session run one at a time in submission order
+     * @throws UnsupportedOperationException if the runtime does not support virtual threads
+     */
+    public VirtualThreadChannelExecutor(String threadNamePrefix, boolean preserveSessionOrder) {
+        this(virtualThreadExecutor(threadNamePrefix), preserveSessionOrder);
+    }
+
+    VirtualThreadChannelExecutor(TaskExecutor delegate, boolean preserveSessionOrder) {
+        this.delegate = delegate;
+        this.preserveSessionOrder = preserveSessionOrder;
+    }
+
+    /**
+     * Sets the decorator applied to every task when it is submitted.
+     *
+     * @param taskDecorator the task decorator, or {@code null} for none
+     */
+    public void setTaskDecorator(@Nullable TaskDecorator taskDecorator) {
+        this.taskDecorator = taskDecorator;
+    }
+
+    /**
+     * Checks whether the running JVM supports virtual threads.
+     *
+     * @return true on Java 21 or later
+     */
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= VIRTUAL_THREADS_MIN_FEATURE_VERSION;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        String sessionId = preserveSessionOrder ? sessionId(task) : null;
+        TaskDecorator decorator = taskDecorator;
+        Runnable decorated = decorator != null ? decorator.decorate(task) : task;
+        queued.incrementAndGet();
+        if (sessionId == null) {
+            try {
+                delegate.execute(() -> run(decorated));
+            } catch (RuntimeException e) {
+                queued.decrementAndGet();
+                throw e;
+            }
+            return;
+        }
+
+        while (true) {
+            SessionQueue queue = sessionQueues.computeIfAbsent(sessionId, id -> new SessionQueue());
+            synchronized (queue) {
+                // A drained queue is removed from the map; retry with the current one
+                if (queue.removed) {
+                    continue;
+                }
+                queue.tasks.add(decorated);
+                if (queue.draining) {
+                    return;
+                }
+                queue.draining = true;
+            }
+            startDrain(sessionId, queue);
+            return;
+        }
+    }
+
+    /**
+     * Number of submitted tasks that have not started yet.
+     *
+     * @return queued task count
+     */
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    /**
+     * Number of tasks currently running.
+     *
+     * @return active task count
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * Closes the virtual thread executor, waiting for running tasks if it was configured to.
+     *
+     * @throws Exception if closing the delegate fails
+     */
+    @Override
+    public void destroy() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Starts draining a session queue on the delegate.
+     * <p>
+     * If the delegate rejects the drain, the queued tasks of the session are dropped and the
+     * queue is removed, so later tasks of the session start a new drain.
+     */
+    private void startDrain(String sessionId, SessionQueue queue) {
+        try {
+            delegate.execute(() -> drain(sessionId, queue));
+        } catch (RuntimeException e) {
+            int dropped;
+            synchronized (queue) {
+                dropped = queue.tasks.size();
+                queue.tasks.clear();
+                queue.draining = false;
+                queue.removed = true;
+                sessionQueues.remove(sessionId, queue);
+            }
+            queued.addAndGet(-dropped);
+            throw e;
+        }
+    }
+
+    /**
+     * Runs the queued tasks of a session until its queue is empty, then removes the queue.
+     * <p>
+     * If a task throws an {@link Error}, the remaining tasks are handed to a new drain before
+     * the error propagates, so the queue is not left marked as draining.
+     */
+    private void drain(String sessionId, SessionQueue queue) {
+        boolean drained = false;
+        try {
+            while (true) {
+                Runnable next;
+                synchronized (queue) {
+                    next = queue.tasks.poll();
+                    if (next == null) {
+                        queue.draining = false;
+                        queue.removed = true;
+                        sessionQueues.remove(sessionId, queue);
+                        drained = true;
+                        return;
+                    }
+                }
+                run(next);
+            }
+        } finally {
+            if (!drained) {
+                try {
+                    startDrain(sessionId, queue);
+                } catch (RuntimeException e) {
+                    log.error("Could not resume STOMP channel tasks of session {}", sessionId, e);
+                }
+            }
+        }
+    }
+
+    private void run(Runnable task) {
+        queued.decrementAndGet();
+        active.incrementAndGet();
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            // Keep draining the session; the channel has already reported the failure to its interceptors
+            log.error("STOMP channel task failed", e);
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    @Nullable
+    private static String sessionId(Runnable task) {
+        if (task instanceof MessageHandlingRunnable handlingRunnable) {
+            return SimpMessageHeaderAccessor.getSessionId(handlingRunnable.getMessage().getHeaders());
+        }
+        return null;
+    }
+
+    private static TaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    private static final class SessionQueue {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean draining;
+        private boolean removed;
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * Channel executors for STOMP in virtual thread mode.
+ * <p>
+ * Used when {@code ouroboros.websocket.executor.mode=virtual} replaces the thread pools of the
+ * client inbound and outbound channels.
+ * <p>
+ * <b>Components:</b>
+ * <ul>
+ *   <li>{@link kr.co.ouroboros.core.websocket.tryit.infrastructure.executor.VirtualThreadChannelExecutor} - Virtual-thread-per-task executor with optional per-session ordering</li>
+ * </ul>
+ *
+ * @since 1.0.6
+ */
+package kr.co.ouroboros.core.websocket.tryit.infrastructure.executor;
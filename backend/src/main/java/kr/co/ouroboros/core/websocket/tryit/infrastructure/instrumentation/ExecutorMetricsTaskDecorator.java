@@ -0,0 +1,147 @@
+package kr.co.ouroboros.core.websocket.tryit.infrastructure.instrumentation;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.co.ouroboros.core.websocket.tryit.infrastructure.executor.VirtualThreadChannelExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * TaskDecorator recording Micrometer metrics for a STOMP channel executor.
+ * <p>
+ * A task is decorated by {@link ThreadPoolTaskExecutor#execute} right before it is queued, so
+ * the time between decoration and the start of the task is the time it waited in the queue.
+ * <p>
+ * <b>Metrics</b> (tagged {@code executor=<bean name>}):
+ * <ul>
+ *   <li>{@code ouroboros.stomp.executor.wait} - Time from enqueue to start (histogram)</li>
+ *   <li>{@code ouroboros.stomp.executor.execution} - Task execution time (histogram)</li>
+ *   <li>{@code ouroboros.stomp.executor.queue.size} - Tasks waiting in the queue</li>
+ *   <li>{@code ouroboros.stomp.executor.queue.remaining} - Remaining queue capacity</li>
+ *   <li>{@code ouroboros.stomp.executor.active} - Threads executing tasks</li>
+ *   <li>{@code ouroboros.stomp.executor.pool.size} - Threads in the pool</li>
+ * </ul>
+ * For a thread pool the gauges read the underlying {@link ThreadPoolExecutor} when scraped;
+ * they report 0 while the executor is not initialized. For a {@link VirtualThreadChannelExecutor}
+ * only queue size and active tasks are exposed.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+public final class ExecutorMetricsTaskDecorator implements TaskDecorator {
+
+    private static final String METRIC_PREFIX = "ouroboros.stomp.executor.";
+    private static final String TAG_EXECUTOR = "executor";
+
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Registers the metrics of the given thread pool executor.
+     *
+     * @param executorName  bean name of the executor, used as the {@code executor} tag
+     * @param executor      the executor whose pool is exposed as gauges
+     * @param meterRegistry registry to register the metrics with
+     */
+    public ExecutorMetricsTaskDecorator(String executorName, ThreadPoolTaskExecutor executor, MeterRegistry meterRegistry) {
+        this(executorName, executor, meterRegistry, System::nanoTime);
+    }
+
+    /**
+     * Registers the metrics of the given virtual thread executor.
+     * <p>
+     * Queue size counts submitted tasks that have not started (including tasks waiting behind
+     * earlier tasks of the same session); there is no queue capacity or pool size.
+     *
+     * @param executorName  bean name of the executor, used as the {@code executor} tag
+     * @param executor      the executor whose queued and running tasks are exposed as gauges
+     * @param meterRegistry registry to register the metrics with
+     */
+    public ExecutorMetricsTaskDecorator(String executorName, VirtualThreadChannelExecutor executor,
+                                        MeterRegistry meterRegistry) {
+        this(executorName, meterRegistry, System::nanoTime);
+        Gauge.builder(METRIC_PREFIX + "queue.size", executor, VirtualThreadChannelExecutor::getQueuedCount)
+                .description("STOMP channel tasks waiting in the executor queue")
+                .tag(TAG_EXECUTOR, executorName)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "active", executor, VirtualThreadChannelExecutor::getActiveCount)
+                .description("STOMP channel executor threads executing tasks")
+                .tag(TAG_EXECUTOR, executorName)
+                .register(meterRegistry);
+    }
+
+    ExecutorMetricsTaskDecorator(String executorName, ThreadPoolTaskExecutor executor, MeterRegistry meterRegistry,
+                                 LongSupplier nanoClock) {
+        this(executorName, meterRegistry, nanoClock);
+        registerPoolGauge(meterRegistry, "queue.size", "STOMP channel tasks waiting in the executor queue",
+                executorName, executor, pool -> pool.getQueue().size());
+        registerPoolGauge(meterRegistry, "queue.remaining", "Remaining capacity of the STOMP channel executor queue",
+                executorName, executor, pool -> pool.getQueue().remainingCapacity());
+        registerPoolGauge(meterRegistry, "active", "STOMP channel executor threads executing tasks",
+                executorName, executor, ThreadPoolExecutor::getActiveCount);
+        registerPoolGauge(meterRegistry, "pool.size", "Threads in the STOMP channel executor pool",
+                executorName, executor, ThreadPoolExecutor::getPoolSize);
+    }
+
+    private ExecutorMetricsTaskDecorator(String executorName, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.waitTimer = Timer.builder(METRIC_PREFIX + "wait")
+                .description("Time STOMP channel tasks waited in the executor queue")
+                .tag(TAG_EXECUTOR, executorName)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder(METRIC_PREFIX + "execution")
+                .description("Execution time of STOMP channel tasks")
+                .tag(TAG_EXECUTOR, executorName)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Wraps a Runnable so that its queue wait time and execution time are recorded.
+     *
+     * @param runnable the task to decorate; may be {@code null}
+     * @return the decorated Runnable, or {@code null} if {@code runnable} is {@code null}
+     */
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        if (runnable == null) {
+            return null;
+        }
+        long enqueuedAt = nanoClock.getAsLong();
+        return () -> {
+            long startedAt = nanoClock.getAsLong();
+            waitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+            try {
+                runnable.run();
+            } finally {
+                executionTimer.record(nanoClock.getAsLong() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    private static void registerPoolGauge(MeterRegistry meterRegistry, String name, String description,
+                                          String executorName, ThreadPoolTaskExecutor executor,
+                                          ToIntFunction<ThreadPoolExecutor> value) {
+        Gauge.builder(METRIC_PREFIX + name, executor, e -> poolValue(e, value))
+                .description(description)
+                .tag(TAG_EXECUTOR, executorName)
+                .register(meterRegistry);
+    }
+
+    private static double poolValue(ThreadPoolTaskExecutor executor, ToIntFunction<ThreadPoolExecutor> value) {
+        try {
+            return value.applyAsInt(executor.getThreadPoolExecutor());
+        } catch (IllegalStateException e) {
+            // Not initialized yet, or already shut down
+            return 0;
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package kr.co.ouroboros.core.websocket.tryit.infrastructure.instrumentation;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.ouroboros.core.websocket.tryit.config.properties.WebSocketExecutorProperties;
+import kr.co.ouroboros.core.websocket.tryit.infrastructure.executor.VirtualThreadChannelExecutor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -17,6 +21,16 @@ import java.util.Set;
  * If an executor already has a TaskDecorator, it composes the decorators
  * instead of replacing the existing one to avoid breaking other functionality.
  * <p>
+ * When a {@link MeterRegistry} is available, an {@link ExecutorMetricsTaskDecorator} is composed
+ * as the outermost decorator, exposing queue depth, active threads, queue wait time and
+ * execution time per executor, so saturation of the STOMP pipeline shows up in the metrics
+ * before clients time out.
+ * <p>
+ * With {@code ouroboros.websocket.executor.mode=virtual} the client inbound and outbound
+ * executors are replaced by a {@link VirtualThreadChannelExecutor} carrying the same decorators.
+ * The pool settings of the replaced executors no longer apply. The broker channel executor is
+ * always kept.
+ * <p>
  * This implementation:
  * <ul>
  *   <li>Prefers the public {@code getTaskDecorator()} method (Spring Framework 4.3+)</li>
@@ -43,12 +57,33 @@ public class TryChannelExecutorCustomizer implements BeanPostProcessor {
             "brokerChannelExecutor"
     );
 
+    private static final Set<String> VIRTUAL_THREAD_EXECUTOR_BEAN_NAMES = Set.of(
+            "clientInboundChannelExecutor",
+            "clientOutboundChannelExecutor"
+    );
+
     // Cache the getTaskDecorator method if available (Spring Framework 4.3+)
     private static final Method GET_TASK_DECORATOR_METHOD = findGetTaskDecoratorMethod();
 
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final ObjectProvider<WebSocketExecutorProperties> executorPropertiesProvider;
+
+    /**
+     * Creates the customizer.
+     *
+     * @param meterRegistryProvider      optional provider for the application's MeterRegistry; executor metrics are skipped without one
+     * @param executorPropertiesProvider provider for the channel executor properties; platform mode without them
+     */
+    public TryChannelExecutorCustomizer(ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                        ObjectProvider<WebSocketExecutorProperties> executorPropertiesProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.executorPropertiesProvider = executorPropertiesProvider;
+    }
+
     @Override
     public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
         if (TARGET_EXECUTOR_BEAN_NAMES.contains(beanName) && bean instanceof ThreadPoolTaskExecutor threadPool) {
+            TaskDecorator decorator;
             TaskDecorator existingDecorator = getExistingTaskDecorator(threadPool);
             if (existingDecorator != null) {
                 log.warn("Executor bean '{}' already has a TaskDecorator ({}). " +
@@ -56,16 +91,61 @@ public class TryChannelExecutorCustomizer implements BeanPostProcessor {
                         beanName, existingDecorator.getClass().getName());
                 // Compose decorators: OtelContextTaskDecorator wraps the existing decorator
                 // The composed decorator sets OpenTelemetry context first, then executes the existing decorator's wrapped runnable
-                threadPool.setTaskDecorator(composeDecorators(existingDecorator, OtelContextTaskDecorator.INSTANCE));
+                decorator = composeDecorators(existingDecorator, OtelContextTaskDecorator.INSTANCE);
                 log.info("Composed OtelContextTaskDecorator with existing decorator for executor bean '{}'", beanName);
             } else {
-                threadPool.setTaskDecorator(OtelContextTaskDecorator.INSTANCE);
+                decorator = OtelContextTaskDecorator.INSTANCE;
                 log.info("Applied OtelContextTaskDecorator to executor bean '{}'", beanName);
             }
+
+            MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+            WebSocketExecutorProperties executorProperties = executorPropertiesProvider.getIfAvailable();
+            if (useVirtualThreads(beanName, executorProperties)) {
+                VirtualThreadChannelExecutor virtualExecutor = new VirtualThreadChannelExecutor(
+                        threadPool.getThreadNamePrefix(), executorProperties.isPreserveSessionOrder());
+                if (meterRegistry != null) {
+                    decorator = composeDecorators(decorator,
+                            new ExecutorMetricsTaskDecorator(beanName, virtualExecutor, meterRegistry));
+                }
+                virtualExecutor.setTaskDecorator(decorator);
+                log.info("Replaced executor bean '{}' with a virtual thread executor (preserveSessionOrder={})",
+                        beanName, executorProperties.isPreserveSessionOrder());
+                return virtualExecutor;
+            }
+
+            if (meterRegistry != null) {
+                // Outermost, so the wait time ends and the execution time starts before any other decorator runs
+                decorator = composeDecorators(decorator, new ExecutorMetricsTaskDecorator(beanName, threadPool, meterRegistry));
+                log.info("Applied ExecutorMetricsTaskDecorator to executor bean '{}'", beanName);
+            }
+            threadPool.setTaskDecorator(decorator);
         }
         return bean;
     }
 
+    /**
+     * Checks whether the executor bean is configured to be replaced by a virtual thread executor.
+     * <p>
+     * Logs a warning and keeps the thread pool if the runtime does not support virtual threads.
+     *
+     * @param beanName           the executor bean name
+     * @param executorProperties channel executor properties, or null if not available
+     * @return true if the bean should be replaced
+     */
+    private boolean useVirtualThreads(String beanName, WebSocketExecutorProperties executorProperties) {
+        if (executorProperties == null
+                || executorProperties.getMode() != WebSocketExecutorProperties.Mode.VIRTUAL
+                || !VIRTUAL_THREAD_EXECUTOR_BEAN_NAMES.contains(beanName)) {
+            return false;
+        }
+        if (!VirtualThreadChannelExecutor.isSupported()) {
+            log.warn("ouroboros.websocket.executor.mode=virtual requires Java 21+ (running {}). " +
+                    "Keeping the thread pool for executor bean '{}'.", Runtime.version(), beanName);
+            return false;
+        }
+        return true;
+    }
+
     @Override
     public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
         return bean;
@@ -0,0 +1,293 @@
+package kr.co.ouroboros.core.websocket.tryit.infrastructure.instrumentation;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.common.Clock;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.instrumentation.context.TryContext;
+import kr.co.ouroboros.core.websocket.tryit.common.TryStompMessages;
+import kr.co.ouroboros.core.websocket.tryit.common.TryStompSpanAttributes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates Try spans for the stages a STOMP message passes through.
+ * <p>
+ * One instance is registered per message channel (client inbound, broker, client outbound).
+ * For every Try message sent to the channel it records:
+ * <ul>
+ *   <li><b>queue</b> - time from {@code send} until a handler task picks the message up from
+ *       the channel executor</li>
+ *   <li><b>handle</b> - time the handler spent on the message; the span is current while the
+ *       handler runs, so method spans and messages it sends become its children</li>
+ * </ul>
+ * The inbound stage additionally creates the SERVER root span of the try
+ * ({@code STOMP SEND /app/...}), which ends when all handlers of the frame are done.
+ * <p>
+ * Executor tasks run with the OpenTelemetry context of the sender through
+ * {@link OtelContextTaskDecorator}, so the tryId is current on the handler threads and the
+ * broker and outbound spans of one frame end up in the same trace. Messages on the outbound
+ * channel are traced per subscriber session.
+ * <p>
+ * Non-Try messages cost one context lookup in {@code preSend} and one header lookup per handler.
+ * Span state travels in internal headers of copied messages; the original messages, which may
+ * be handled by several handlers concurrently, are never modified.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+public class TryStompTracingInterceptor implements ExecutorChannelInterceptor {
+
+    private static final String INSTRUMENTATION_NAME = "kr.co.ouroboros.stomp";
+
+    /**
+     * Message channel stage traced by an interceptor instance.
+     */
+    public enum Stage {
+        INBOUND(TryStompSpanAttributes.STAGE_INBOUND),
+        BROKER(TryStompSpanAttributes.STAGE_BROKER),
+        OUTBOUND(TryStompSpanAttributes.STAGE_OUTBOUND);
+
+        private final String value;
+        private final String traceHeader;
+        private final String handleHeader;
+
+        Stage(String value) {
+            this.value = value;
+            this.traceHeader = "kr.co.ouroboros.tryTrace." + value;
+            this.handleHeader = "kr.co.ouroboros.tryTraceHandle." + value;
+        }
+
+        /**
+         * Returns the value of the {@code ouro.stomp.stage} span attribute.
+         *
+         * @return stage attribute value
+         */
+        public String value() {
+            return value;
+        }
+    }
+
+    private final Stage stage;
+    private final ObjectProvider<OpenTelemetry> openTelemetryProvider;
+    private final Clock clock;
+
+    /**
+     * Tracer resolved from the Spring context, cached after the first Try message.
+     */
+    private volatile Tracer tracer;
+
+    /**
+     * Creates an interceptor for the given stage.
+     *
+     * @param stage                 the channel stage this interceptor is registered on
+     * @param openTelemetryProvider provider for the application's OpenTelemetry instance
+     */
+    public TryStompTracingInterceptor(Stage stage, ObjectProvider<OpenTelemetry> openTelemetryProvider) {
+        this(stage, openTelemetryProvider, Clock.getDefault());
+    }
+
+    TryStompTracingInterceptor(Stage stage, ObjectProvider<OpenTelemetry> openTelemetryProvider, Clock clock) {
+        this.stage = stage;
+        this.openTelemetryProvider = openTelemetryProvider;
+        this.clock = clock;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!TryContext.hasTryId()) {
+            return message;
+        }
+
+        long now = clock.now();
+        SimpMessageHeaderAccessor accessor = TryStompMessages.copyHeaders(message);
+        String destination = accessor.getDestination();
+        Context parent = Context.current();
+        Span root = null;
+        if (stage == Stage.INBOUND) {
+            String command = accessor instanceof StompHeaderAccessor stompAccessor && stompAccessor.getCommand() != null
+                    ? stompAccessor.getCommand().name()
+                    : String.valueOf(accessor.getMessageType());
+            root = tracer().spanBuilder(destination != null ? "STOMP " + command + " " + destination : "STOMP " + command)
+                    .setParent(parent)
+                    .setSpanKind(SpanKind.SERVER)
+                    .setStartTimestamp(now, TimeUnit.NANOSECONDS)
+                    .setAttribute(TryStompSpanAttributes.MESSAGING_SYSTEM, TryStompSpanAttributes.SYSTEM_STOMP)
+                    .setAttribute(TryStompSpanAttributes.STOMP_STAGE, stage.value)
+                    .setAttribute(TryStompSpanAttributes.STOMP_COMMAND, command)
+                    .startSpan();
+            setIfPresent(root, TryStompSpanAttributes.MESSAGING_DESTINATION, destination);
+            setIfPresent(root, TryStompSpanAttributes.STOMP_SESSION_ID, accessor.getSessionId());
+            parent = parent.with(root);
+        }
+
+        StageTrace trace = new StageTrace(parent, root, now, destination,
+                accessor.getSessionId(), accessor.getSubscriptionId(), handlerCount(channel));
+        accessor.setHeader(stage.traceHeader, trace);
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, @Nullable Exception ex) {
+        if (!(message.getHeaders().get(stage.traceHeader) instanceof StageTrace trace)) {
+            return;
+        }
+        // No handler task will finish the root span if the send failed or nobody is subscribed
+        if (!sent || ex != null || trace.pendingHandlers.get() <= 0) {
+            trace.endRoot(clock.now(), ex);
+        }
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (!(message.getHeaders().get(stage.traceHeader) instanceof StageTrace trace)) {
+            return message;
+        }
+
+        long now = clock.now();
+        String handlerName = handler.getClass().getSimpleName();
+        Span queue = startStageSpan(trace, stage.value + " queue " + (trace.destination != null ? trace.destination : handlerName),
+                TryStompSpanAttributes.PHASE_QUEUE, handlerName, trace.enqueuedAtNanos);
+        queue.end(now, TimeUnit.NANOSECONDS);
+
+        Span handle = startStageSpan(trace, stage.value + " handle " + handlerName,
+                TryStompSpanAttributes.PHASE_HANDLE, handlerName, now);
+        Scope scope = trace.parent.with(handle).makeCurrent();
+
+        SimpMessageHeaderAccessor accessor = TryStompMessages.copyHeaders(message);
+        accessor.setHeader(stage.handleHeader, new HandleSpan(handle, scope));
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+                                    @Nullable Exception ex) {
+        if (!(message.getHeaders().get(stage.handleHeader) instanceof HandleSpan handleSpan)) {
+            return;
+        }
+        try {
+            handleSpan.scope.close();
+        } catch (Exception e) {
+            log.warn("Exception while closing STOMP Try span scope: {}", e.getMessage());
+        }
+        long now = clock.now();
+        recordError(handleSpan.span, ex);
+        handleSpan.span.end(now, TimeUnit.NANOSECONDS);
+
+        if (message.getHeaders().get(stage.traceHeader) instanceof StageTrace trace
+                && trace.pendingHandlers.decrementAndGet() <= 0) {
+            trace.endRoot(now, null);
+        }
+    }
+
+    private Span startStageSpan(StageTrace trace, String name, String phase, String handlerName, long startNanos) {
+        Span span = tracer().spanBuilder(name)
+                .setParent(trace.parent)
+                .setSpanKind(SpanKind.INTERNAL)
+                .setStartTimestamp(startNanos, TimeUnit.NANOSECONDS)
+                .setAttribute(TryStompSpanAttributes.MESSAGING_SYSTEM, TryStompSpanAttributes.SYSTEM_STOMP)
+                .setAttribute(TryStompSpanAttributes.STOMP_STAGE, stage.value)
+                .setAttribute(TryStompSpanAttributes.STOMP_PHASE, phase)
+                .setAttribute(TryStompSpanAttributes.STOMP_HANDLER, handlerName)
+                .startSpan();
+        setIfPresent(span, TryStompSpanAttributes.MESSAGING_DESTINATION, trace.destination);
+        if (stage == Stage.OUTBOUND) {
+            setIfPresent(span, TryStompSpanAttributes.STOMP_SESSION_ID, trace.sessionId);
+            setIfPresent(span, TryStompSpanAttributes.STOMP_SUBSCRIPTION_ID, trace.subscriptionId);
+        }
+        return span;
+    }
+
+    private Tracer tracer() {
+        Tracer current = tracer;
+        if (current == null) {
+            OpenTelemetry openTelemetry = openTelemetryProvider.getIfAvailable(OpenTelemetry::noop);
+            current = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+            tracer = current;
+        }
+        return current;
+    }
+
+    /**
+     * Number of handler tasks the channel creates for one message; the root span ends after the last one.
+     */
+    private static int handlerCount(MessageChannel channel) {
+        if (channel instanceof AbstractSubscribableChannel subscribable) {
+            return subscribable.getSubscribers().size();
+        }
+        return 1;
+    }
+
+    private static void setIfPresent(Span span, String key, @Nullable String value) {
+        if (value != null) {
+            span.setAttribute(key, value);
+        }
+    }
+
+    private static void recordError(Span span, @Nullable Exception ex) {
+        if (ex != null) {
+            span.recordException(ex);
+            span.setStatus(StatusCode.ERROR);
+        }
+    }
+
+    /**
+     * Span state of one message on one channel, shared by all handler tasks of the message.
+     */
+    private static final class StageTrace {
+        private final Context parent;
+        @Nullable
+        private final Span root;
+        private final long enqueuedAtNanos;
+        @Nullable
+        private final String destination;
+        @Nullable
+        private final String sessionId;
+        @Nullable
+        private final String subscriptionId;
+        private final AtomicInteger pendingHandlers;
+        private final AtomicBoolean rootEnded = new AtomicBoolean();
+
+        private StageTrace(Context parent, @Nullable Span root, long enqueuedAtNanos, @Nullable String destination,
+                           @Nullable String sessionId, @Nullable String subscriptionId, int handlers) {
+            this.parent = parent;
+            this.root = root;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+            this.destination = destination;
+            this.sessionId = sessionId;
+            this.subscriptionId = subscriptionId;
+            this.pendingHandlers = new AtomicInteger(handlers);
+        }
+
+        private void endRoot(long endNanos, @Nullable Exception ex) {
+            if (root != null && rootEnded.compareAndSet(false, true)) {
+                recordError(root, ex);
+                root.end(endNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Handle span of one handler task and the scope that makes it current.
+     */
+    private record HandleSpan(Span span, Scope scope) {
+    }
+}
@@ -2,12 +2,15 @@
  * Instrumentation components for Try feature in STOMP.
  * <p>
  * This package contains instrumentation components for automatic
- * context propagation in STOMP channel executors using OpenTelemetry.
+ * context propagation in STOMP channel executors using OpenTelemetry,
+ * and for executor metrics.
  * <p>
  * <b>Components:</b>
  * <ul>
  *   <li>{@link kr.co.ouroboros.core.websocket.tryit.infrastructure.instrumentation.OtelContextTaskDecorator} - TaskDecorator for propagating OpenTelemetry Context across asynchronous tasks</li>
+ *   <li>{@link kr.co.ouroboros.core.websocket.tryit.infrastructure.instrumentation.ExecutorMetricsTaskDecorator} - TaskDecorator recording queue wait, execution time and pool gauges per executor</li>
  *   <li>{@link kr.co.ouroboros.core.websocket.tryit.infrastructure.instrumentation.TryChannelExecutorCustomizer} - BeanPostProcessor for applying TaskDecorator to STOMP channel executors</li>
+ *   <li>{@link kr.co.ouroboros.core.websocket.tryit.infrastructure.instrumentation.TryStompTracingInterceptor} - Channel interceptor creating queue and handle spans per STOMP stage for Try messages</li>
  * </ul>
  *
  * @since 0.0.1
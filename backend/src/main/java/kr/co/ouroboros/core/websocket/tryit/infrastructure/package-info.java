@@ -2,11 +2,12 @@
  * Infrastructure components for Try feature in STOMP.
  * <p>
  * This package contains infrastructure-level components for the Try feature in STOMP,
- * including instrumentation, messaging, and session management.
+ * including instrumentation, channel executors, messaging, and session management.
  * <p>
  * <b>Subpackages:</b>
  * <ul>
  *   <li><b>instrumentation</b> - OpenTelemetry instrumentation and context management for STOMP channels</li>
+ *   <li><b>executor</b> - Virtual-thread executor for STOMP channels with per-session ordering</li>
  *   <li><b>messaging</b> - Message delivery components for Try requests</li>
  *   <li><b>session</b> - Session management components for Try requests</li>
  * </ul>
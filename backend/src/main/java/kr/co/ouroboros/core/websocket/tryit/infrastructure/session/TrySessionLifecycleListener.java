@@ -3,7 +3,6 @@ package kr.co.ouroboros.core.websocket.tryit.infrastructure.session;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
@@ -26,8 +25,7 @@ public class TrySessionLifecycleListener {
      */
     @EventListener
     public void handleSessionDisconnect(SessionDisconnectEvent event) {
-        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
-        String sessionId = accessor.getSessionId();
+        String sessionId = event.getSessionId();
         if (sessionId == null) {
             return;
         }
@@ -1,45 +1,169 @@
 package kr.co.ouroboros.core.websocket.tryit.infrastructure.session;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.ouroboros.core.websocket.tryit.config.properties.TrySessionProperties;
 import kr.co.ouroboros.core.websocket.tryit.infrastructure.messaging.TryDispatchMessage;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 
 /**
  * Manages mappings between tryId and sessionId.
+ * <p>
+ * Registrations are indexed twice: by tryId, and by sessionId to the tryIds of that session,
+ * so cleaning up a disconnected session only touches the registrations of that session.
+ * <p>
+ * <b>Limits</b> (see {@link TrySessionProperties}):
+ * <ul>
+ *   <li>TTL - registrations expire; expired entries are removed in registration order on the
+ *       next register or lookup, without scanning the registry. The expiry queue only holds
+ *       tryIds and timestamps, so removed registrations release their payloads right away</li>
+ *   <li>Per-session cap - the oldest registration of a session is evicted first</li>
+ *   <li>Payload size - stored payload copies are truncated</li>
+ * </ul>
+ * <p>
+ * <b>Metrics:</b>
+ * <ul>
+ *   <li>{@code ouroboros.try.session.evictions} - Registrations evicted, tagged {@code reason=expired|session_cap}</li>
+ *   <li>{@code ouroboros.try.session.payload.truncated} - Payloads truncated to the size limit</li>
+ *   <li>{@code ouroboros.try.session.size} - Registrations currently held</li>
+ * </ul>
  */
 @Slf4j
 @Component
 public class TrySessionRegistry {
 
-    private final Map<UUID, TrySessionRegistration> registrations = new ConcurrentHashMap<>();
+    private static final String METRIC_EVICTIONS = "ouroboros.try.session.evictions";
+    private static final String METRIC_TRUNCATED = "ouroboros.try.session.payload.truncated";
+    private static final String METRIC_SIZE = "ouroboros.try.session.size";
+
+    private final Map<UUID, Entry> registrations = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> tryIdsBySession = new ConcurrentHashMap<>();
+
+    /**
+     * Expiry markers in registration order. With a fixed TTL this is also expiry order.
+     */
+    private final Queue<Expiry> expiryQueue = new ConcurrentLinkedQueue<>();
+
+    private final long ttlNanos;
+    private final int maxTriesPerSession;
+    private final int maxPayloadChars;
+    private final LongSupplier nanoClock;
+
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder sessionCapEvicted = new LongAdder();
+    private final LongAdder truncated = new LongAdder();
+
+    /**
+     * Creates the registry and registers its metrics.
+     *
+     * @param properties            registry limits
+     * @param meterRegistryProvider optional provider for the application's MeterRegistry
+     */
+    @Autowired
+    public TrySessionRegistry(TrySessionProperties properties, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this(properties, meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new), System::nanoTime);
+    }
+
+    TrySessionRegistry(TrySessionProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.ttlNanos = properties.getTtlMs() > 0 ? TimeUnit.MILLISECONDS.toNanos(properties.getTtlMs()) : 0;
+        this.maxTriesPerSession = properties.getMaxTriesPerSession();
+        this.maxPayloadChars = properties.getMaxPayloadChars();
+        this.nanoClock = nanoClock;
+
+        FunctionCounter.builder(METRIC_EVICTIONS, expired, LongAdder::sum)
+                .description("Try session registrations evicted")
+                .tag("reason", "expired")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_EVICTIONS, sessionCapEvicted, LongAdder::sum)
+                .description("Try session registrations evicted")
+                .tag("reason", "session_cap")
+                .register(meterRegistry);
+        FunctionCounter.builder(METRIC_TRUNCATED, truncated, LongAdder::sum)
+                .description("Try session payload copies truncated to the size limit")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_SIZE, registrations, Map::size)
+                .description("Try session registrations held")
+                .register(meterRegistry);
+    }
 
     /**
      * Associates the given tryId with the provided session registration in the registry.
      *
      * If a mapping for the same tryId already exists, it is replaced with the new registration.
+     * If the session exceeds its registration limit, its oldest registration is evicted.
      *
      * @param tryId        the identifier for the try operation to register
      * @param registration the session registration (sessionId and associated message) to associate with the tryId
      */
     public void register(@NonNull UUID tryId, @NonNull TrySessionRegistration registration) {
-        registrations.put(tryId, registration);
-        log.trace("Registered tryId {} for session {}", tryId, registration.sessionId());
+        expireDue();
+
+        Expiry expiry = ttlNanos > 0 ? new Expiry(tryId, nanoClock.getAsLong()) : null;
+        Entry entry = new Entry(tryId, limitPayload(registration), expiry);
+        Entry previous = registrations.put(tryId, entry);
+        if (previous != null && !previous.registration.sessionId().equals(entry.registration.sessionId())) {
+            unindex(previous);
+        }
+        if (expiry != null) {
+            expiryQueue.add(expiry);
+        }
+
+        String sessionId = entry.registration.sessionId();
+        UUID evicted = null;
+        boolean indexed = false;
+        while (!indexed) {
+            Set<UUID> tryIds = tryIdsBySession.computeIfAbsent(sessionId, id -> new LinkedHashSet<>());
+            synchronized (tryIds) {
+                // The set may have been dropped as empty in the meantime; retry with the current one
+                indexed = tryIdsBySession.get(sessionId) == tryIds;
+                if (indexed) {
+                    tryIds.add(tryId);
+                    if (maxTriesPerSession > 0 && tryIds.size() > maxTriesPerSession) {
+                        Iterator<UUID> oldest = tryIds.iterator();
+                        evicted = oldest.next();
+                        oldest.remove();
+                    }
+                }
+            }
+        }
+        Entry evictedEntry = evicted != null ? registrations.get(evicted) : null;
+        if (evictedEntry != null && sessionId.equals(evictedEntry.registration.sessionId())
+                && registrations.remove(evicted, evictedEntry)) {
+            sessionCapEvicted.increment();
+            log.debug("Evicted tryId {} of session {}: more than {} registrations", evicted, sessionId, maxTriesPerSession);
+        }
+        log.trace("Registered tryId {} for session {}", tryId, sessionId);
     }
 
     /**
      * Look up the TrySessionRegistration associated with a given tryId.
      *
      * @param tryId the UUID of the try execution to look up
-     * @return an Optional containing the registration for the given tryId, or {@link Optional#empty()} if none exists
+     * @return an Optional containing the registration for the given tryId, or {@link Optional#empty()} if none exists or it expired
      */
     public Optional<TrySessionRegistration> find(UUID tryId) {
-        return Optional.ofNullable(registrations.get(tryId));
+        expireDue();
+        Entry entry = registrations.get(tryId);
+        return entry != null ? Optional.of(entry.registration) : Optional.empty();
     }
 
     /**
@@ -49,24 +173,122 @@ public class TrySessionRegistry {
      * @return the removed registration wrapped in an Optional if present, otherwise an empty Optional
      */
     public Optional<TrySessionRegistration> remove(UUID tryId) {
-        TrySessionRegistration removed = registrations.remove(tryId);
-        if (removed != null) {
-            log.trace("Removed tryId {} for session {}", tryId, removed.sessionId());
+        Entry removed = registrations.remove(tryId);
+        if (removed == null) {
+            return Optional.empty();
         }
-        return Optional.ofNullable(removed);
+        unindex(removed);
+        log.trace("Removed tryId {} for session {}", tryId, removed.registration.sessionId());
+        return Optional.of(removed.registration);
     }
 
     /**
-     * Remove all mappings whose registration's sessionId matches the given sessionId.
+     * Remove all mappings of the given session.
+     * <p>
+     * Only the registrations of that session are visited.
      *
      * @param sessionId the session identifier whose associated try mappings will be removed
      */
     public void removeBySessionId(@NonNull String sessionId) {
-        registrations.entrySet()
-                .removeIf(entry -> sessionId.equals(entry.getValue().sessionId()));
+        Set<UUID> tryIds = tryIdsBySession.remove(sessionId);
+        if (tryIds == null) {
+            return;
+        }
+        synchronized (tryIds) {
+            for (UUID tryId : tryIds) {
+                // A tryId re-registered for another session is kept
+                registrations.computeIfPresent(tryId,
+                        (id, entry) -> sessionId.equals(entry.registration.sessionId()) ? null : entry);
+            }
+        }
         log.trace("Removed try mappings for session {}", sessionId);
     }
 
+    /**
+     * Number of registrations currently held.
+     *
+     * @return registration count
+     */
+    public int size() {
+        return registrations.size();
+    }
+
+    /**
+     * Removes expired registrations from the head of the expiry queue.
+     * <p>
+     * Markers of registrations that were replaced or removed in the meantime are skipped:
+     * only the registration that still holds the dequeued marker is removed.
+     */
+    private void expireDue() {
+        if (ttlNanos <= 0) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        Expiry head;
+        while ((head = expiryQueue.peek()) != null && now - head.registeredAtNanos >= ttlNanos) {
+            if (!expiryQueue.remove(head)) {
+                continue;
+            }
+            Entry entry = registrations.get(head.tryId);
+            if (entry != null && entry.expiry == head && registrations.remove(head.tryId, entry)) {
+                unindex(entry);
+                expired.increment();
+                log.trace("Expired tryId {} for session {}", head.tryId, entry.registration.sessionId());
+            }
+        }
+    }
+
+    private void unindex(Entry entry) {
+        String sessionId = entry.registration.sessionId();
+        Set<UUID> tryIds = tryIdsBySession.get(sessionId);
+        if (tryIds == null) {
+            return;
+        }
+        synchronized (tryIds) {
+            tryIds.remove(entry.tryId);
+            if (tryIds.isEmpty()) {
+                tryIdsBySession.remove(sessionId, tryIds);
+            }
+        }
+    }
+
+    private TrySessionRegistration limitPayload(TrySessionRegistration registration) {
+        TryDispatchMessage message = registration.message();
+        if (maxPayloadChars <= 0 || message == null || message.payload() == null
+                || message.payload().length() <= maxPayloadChars) {
+            return registration;
+        }
+        truncated.increment();
+        TryDispatchMessage limited = new TryDispatchMessage(message.payload().substring(0, maxPayloadChars), message.headers());
+        return new TrySessionRegistration(registration.sessionId(), limited);
+    }
+
     public record TrySessionRegistration(String sessionId, TryDispatchMessage message) {
     }
+
+    private static final class Entry {
+        private final UUID tryId;
+        private final TrySessionRegistration registration;
+        private final Expiry expiry;
+
+        private Entry(UUID tryId, TrySessionRegistration registration, Expiry expiry) {
+            this.tryId = tryId;
+            this.registration = registration;
+            this.expiry = expiry;
+        }
+    }
+
+    /**
+     * Expiry queue marker. Holds no reference to the registration; matched by identity
+     * against {@link Entry#expiry} when it comes due.
+     */
+    private static final class Expiry {
+        private final UUID tryId;
+        private final long registeredAtNanos;
+
+        private Expiry(UUID tryId, long registeredAtNanos) {
+            this.tryId = tryId;
+            this.registeredAtNanos = registeredAtNanos;
+        }
+    }
 }
@@ -6,7 +6,7 @@
  * <p>
  * <b>Components:</b>
  * <ul>
- *   <li>{@link kr.co.ouroboros.core.websocket.tryit.infrastructure.session.TrySessionRegistry} - Registry for managing tryId and sessionId mappings</li>
+ *   <li>{@link kr.co.ouroboros.core.websocket.tryit.infrastructure.session.TrySessionRegistry} - Registry for managing tryId and sessionId mappings, indexed by session and bounded by TTL and per-session limits</li>
  *   <li>{@link kr.co.ouroboros.core.websocket.tryit.infrastructure.session.TrySessionLifecycleListener} - Event listener for cleaning up Try mappings on session disconnect</li>
  * </ul>
  *
@@ -0,0 +1,133 @@
+package kr.co.ouroboros.ui.rest.tryit.controller;
+
+import kr.co.ouroboros.core.rest.tryit.config.properties.OtlpReceiverProperties;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.model.TraceDTO;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.otlp.OtlpTraceDecoder;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.otlp.OtlpTraceReceiver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Embedded OTLP/HTTP trace receiver endpoint.
+ * <p>
+ * Accepts {@code ExportTraceServiceRequest} payloads from other local services and stores
+ * the spans that belong to tries via {@link OtlpTraceReceiver}. This endpoint speaks the
+ * OTLP/HTTP protocol instead of returning {@code GlobalApiResponse}, so standard OpenTelemetry
+ * exporters can use it as their traces endpoint.
+ * <p>
+ * <b>Endpoints:</b>
+ * <ul>
+ *   <li>POST /ouro/otlp/v1/traces - Receives spans ({@code application/x-protobuf} or {@code application/json},
+ *       optionally gzip-compressed)</li>
+ * </ul>
+ * <p>
+ * Responds with an empty {@code ExportTraceServiceResponse} on success, 400 for a malformed
+ * payload, 413 when the payload exceeds {@code ouroboros.otlp-receiver.max-request-size-kb}
+ * and 415 for other content types.
+ * <p>
+ * <b>Activation:</b> {@code ouroboros.otlp-receiver.enabled=true}
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Slf4j
+@RestController
+@RequestMapping("/ouro/otlp")
+@ConditionalOnProperty(name = "ouroboros.otlp-receiver.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class OtlpReceiverController {
+
+    private static final MediaType PROTOBUF = MediaType.parseMediaType("application/x-protobuf");
+    private static final byte[] EMPTY_JSON_RESPONSE = "{}".getBytes(StandardCharsets.UTF_8);
+
+    private final OtlpTraceDecoder otlpTraceDecoder;
+    private final OtlpTraceReceiver otlpTraceReceiver;
+    private final OtlpReceiverProperties otlpReceiverProperties;
+
+    /**
+     * Receives an OTLP trace export request.
+     *
+     * @param contentType     request content type (protobuf when absent)
+     * @param contentEncoding request content encoding ({@code gzip} or none)
+     * @param body            request body
+     * @return empty export response in the request encoding
+     */
+    @PostMapping("/v1/traces")
+    public ResponseEntity<byte[]> exportTraces(
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            @RequestBody(required = false) byte[] body) {
+        MediaType mediaType;
+        try {
+            mediaType = contentType != null ? MediaType.parseMediaType(contentType) : PROTOBUF;
+        } catch (InvalidMediaTypeException e) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).build();
+        }
+        boolean json = MediaType.APPLICATION_JSON.isCompatibleWith(mediaType);
+        if (!json && !PROTOBUF.isCompatibleWith(mediaType)) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).build();
+        }
+
+        long maxBytes = otlpReceiverProperties.getMaxRequestSizeKb() * 1024L;
+        byte[] payload = body != null ? body : new byte[0];
+        try {
+            if ("gzip".equalsIgnoreCase(contentEncoding)) {
+                payload = gunzip(payload, maxBytes);
+            }
+            if (payload == null || payload.length > maxBytes) {
+                log.warn("Rejected OTLP trace request larger than {} KB", otlpReceiverProperties.getMaxRequestSizeKb());
+                return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+            }
+            List<TraceDTO.SpanDTO> spans = json
+                    ? otlpTraceDecoder.decodeJson(payload)
+                    : otlpTraceDecoder.decodeProtobuf(payload);
+            otlpTraceReceiver.receive(spans);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Rejected malformed OTLP trace request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(json ? MediaType.APPLICATION_JSON : PROTOBUF)
+                .body(json ? EMPTY_JSON_RESPONSE : new byte[0]);
+    }
+
+    /**
+     * Decompresses a gzip payload.
+     *
+     * @return decompressed bytes, or null when they exceed {@code maxBytes}
+     */
+    private static byte[] gunzip(byte[] compressed, long maxBytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(32, compressed.length * 4));
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                if (out.size() + read > maxBytes) {
+                    return null;
+                }
+                out.write(chunk, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package kr.co.ouroboros.ui.rest.tryit.controller;
 
 import kr.co.ouroboros.core.global.response.GlobalApiResponse;
+import kr.co.ouroboros.ui.rest.tryit.dto.TryAggregateResponse;
+import kr.co.ouroboros.ui.rest.tryit.dto.TryDiffResponse;
+import kr.co.ouroboros.ui.rest.tryit.dto.TryFlameGraphResponse;
 import kr.co.ouroboros.ui.rest.tryit.dto.TryIssuesResponse;
 import kr.co.ouroboros.ui.rest.tryit.dto.TryMethodListResponse;
 import kr.co.ouroboros.ui.rest.tryit.dto.TrySummaryResponse;
 import kr.co.ouroboros.ui.rest.tryit.dto.TryTraceResponse;
 import kr.co.ouroboros.core.rest.tryit.exception.InvalidTryIdException;
+import kr.co.ouroboros.core.rest.tryit.exception.TryNotFoundException;
+import kr.co.ouroboros.core.rest.tryit.service.TryAggregateService;
+import kr.co.ouroboros.core.rest.tryit.service.TryCompletionService;
+import kr.co.ouroboros.core.rest.tryit.service.TryDiffService;
+import kr.co.ouroboros.core.rest.tryit.service.TryFlameGraphService;
 import kr.co.ouroboros.core.rest.tryit.service.TryIssuesService;
 import kr.co.ouroboros.core.rest.tryit.service.TryMethodListService;
 import kr.co.ouroboros.core.rest.tryit.service.TrySummaryService;
@@ -14,6 +22,7 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,6 +31,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -33,11 +43,17 @@ import java.util.UUID;
  * <p>
  * <b>Endpoints:</b>
  * <ul>
+ *   <li>GET /ouro/tries/aggregate - Retrieves latency aggregated across all tries</li>
  *   <li>GET /ouro/tries/{tryId} - Retrieves Try summary</li>
+ *   <li>GET /ouro/tries/{tryId}/events - Streams the trace completion event (text/event-stream)</li>
  *   <li>GET /ouro/tries/{tryId}/methods - Retrieves paginated method list</li>
  *   <li>GET /ouro/tries/{tryId}/trace - Retrieves full call trace</li>
  *   <li>GET /ouro/tries/{tryId}/issues - Retrieves detected issues</li>
+ *   <li>GET /ouro/tries/{tryId}/diff/{otherTryId} - Compares the traces of two tries</li>
+ *   <li>GET /ouro/tries/{tryId}/flamegraph - Retrieves the trace as a merged flame graph</li>
+ *   <li>GET /ouro/tries/{tryId}/flamegraph/folded - Exports the trace as folded stacks (text/plain)</li>
  *   <li>DELETE /ouro/tries/{tryId} - Deletes trace data for the given tryId</li>
+ *   <li>DELETE /ouro/tries/aggregate - Clears aggregated latency</li>
  * </ul>
  * <p>
  * Exceptions are handled by {@link kr.co.ouroboros.core.rest.tryit.exception.TryExceptionHandler}.
@@ -59,12 +75,52 @@ public class TryController {
     private final TryTraceService tryTraceService;
     private final TryIssuesService tryIssuesService;
     private final TrySummaryService trySummaryService;
+    private final TryAggregateService tryAggregateService;
+    private final TryDiffService tryDiffService;
+    private final TryFlameGraphService tryFlameGraphService;
+    private final TryCompletionService tryCompletionService;
+    
+    /**
+     * Retrieves latency aggregated across all tries.
+     * <p>
+     * Returns p50/p95/p99 of total and self time and call counts per endpoint
+     * (HTTP method, route), and the traced methods with the largest cumulative self time.
+     *
+     * @param top maximum number of methods in the top self-time list (between 1 and 100)
+     * @return a GlobalApiResponse containing a TryAggregateResponse
+     */
+    @GetMapping("/aggregate")
+    public ResponseEntity<GlobalApiResponse<TryAggregateResponse>> getAggregate(
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int top) {
+        TryAggregateResponse data = tryAggregateService.getAggregate(top);
+        GlobalApiResponse<TryAggregateResponse> response = GlobalApiResponse.success(
+                data,
+                "Try aggregate retrieved successfully"
+        );
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Clears latency aggregated across all tries.
+     *
+     * @return a GlobalApiResponse indicating whether aggregated data was cleared
+     */
+    @DeleteMapping("/aggregate")
+    public ResponseEntity<GlobalApiResponse<Void>> resetAggregate() {
+        boolean reset = tryAggregateService.reset();
+        GlobalApiResponse<Void> response = GlobalApiResponse.success(
+                null,
+                reset ? "Try aggregate cleared" : "Try aggregation is disabled"
+        );
+        return ResponseEntity.ok(response);
+    }
     
     /**
      * Retrieves summary metadata for the given Try session.
      *
      * The summary includes tryId, traceId, analysis status (PENDING, COMPLETED, FAILED),
      * HTTP status code, total duration in milliseconds, span count, and issue count.
+     * For STOMP tries it also contains queue and handle latency per stage and destination.
      *
      * @param tryIdStr Try session ID; must be a valid UUID
      * @return GlobalApiResponse containing a TrySummaryResponse with the requested summary metadata
@@ -85,6 +141,27 @@ public class TryController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Subscribe to the trace completion of a Try session.
+     *
+     * <p>Sends a single {@code completed} event carrying the Try summary once the trace is complete
+     * (root span ended and no open spans after a grace period), then closes the stream. When completion
+     * is not tracked for the try (e.g. Tempo mode) an {@code unavailable} event is sent instead and the
+     * client should fetch the results directly.</p>
+     *
+     * @param tryIdStr Try session ID; must be a valid UUID
+     * @return an SseEmitter streaming the completion event
+     * @throws InvalidTryIdException if tryIdStr is not a valid UUID
+     */
+    @GetMapping(value = "/{tryId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeCompletion(
+            @PathVariable("tryId") String tryIdStr) {
+        // Validate tryId format
+        validateTryId(tryIdStr);
+
+        return tryCompletionService.subscribe(tryIdStr);
+    }
+    
     /**
      * Retrieve a paginated list of methods for a Try ordered by self-duration (descending).
      *
@@ -160,6 +237,81 @@ public class TryController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Compare the call trace of a Try session (baseline) with the call trace of another Try session (target).
+     *
+     * <p>Spans are aligned by call path (className, methodName from the root) and reported with
+     * deltas (target minus baseline) in duration, self duration and call count; call paths present
+     * in only one of the traces are reported as added or removed.</p>
+     *
+     * @param tryIdStr      baseline Try session ID; must be a valid UUID
+     * @param otherTryIdStr target Try session ID; must be a valid UUID
+     * @return a GlobalApiResponse containing the aligned call paths and their deltas
+     * @throws InvalidTryIdException if either ID is not a valid UUID
+     * @throws TryNotFoundException if either try has no trace data
+     */
+    @GetMapping("/{tryId}/diff/{otherTryId}")
+    public ResponseEntity<GlobalApiResponse<TryDiffResponse>> getDiff(
+            @PathVariable("tryId") String tryIdStr,
+            @PathVariable("otherTryId") String otherTryIdStr) {
+        // Validate tryId format
+        validateTryId(tryIdStr);
+        validateTryId(otherTryIdStr);
+
+        TryDiffResponse data = tryDiffService.getDiff(tryIdStr, otherTryIdStr);
+        GlobalApiResponse<TryDiffResponse> response = GlobalApiResponse.success(
+                data,
+                "Try diff retrieved successfully"
+        );
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Retrieve the call trace of a Try session as a merged flame graph.
+     *
+     * <p>Identical call stacks are merged into one frame, so the UI renders one frame per unique
+     * stack instead of one node per span. Values are in nanoseconds.</p>
+     *
+     * @param tryIdStr Try session ID; must be a valid UUID
+     * @return a GlobalApiResponse containing the merged flame graph
+     * @throws InvalidTryIdException if tryIdStr is not a valid UUID
+     */
+    @GetMapping("/{tryId}/flamegraph")
+    public ResponseEntity<GlobalApiResponse<TryFlameGraphResponse>> getFlameGraph(
+            @PathVariable("tryId") String tryIdStr) {
+        // Validate tryId format
+        validateTryId(tryIdStr);
+
+        TryFlameGraphResponse data = tryFlameGraphService.getFlameGraph(tryIdStr);
+        GlobalApiResponse<TryFlameGraphResponse> response = GlobalApiResponse.success(
+                data,
+                "Try flame graph retrieved successfully"
+        );
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Export the call trace of a Try session as folded (collapsed) stacks.
+     *
+     * <p>Returns plain text with one {@code frame;frame;frame self_ns} line per unique stack, the input
+     * format of flamegraph.pl, speedscope and similar tools. The body is not wrapped in
+     * {@link GlobalApiResponse} so that it can be piped to those tools directly.</p>
+     *
+     * @param tryIdStr Try session ID; must be a valid UUID
+     * @return folded stacks as text/plain (empty if no trace is available)
+     * @throws InvalidTryIdException if tryIdStr is not a valid UUID
+     */
+    @GetMapping(value = "/{tryId}/flamegraph/folded", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> getFoldedStacks(
+            @PathVariable("tryId") String tryIdStr) {
+        // Validate tryId format
+        validateTryId(tryIdStr);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(tryFlameGraphService.getFoldedStacks(tryIdStr));
+    }
+    
     /**
      * Deletes trace data for the given tryId from trace storage.
      * <p>
@@ -178,6 +330,7 @@ public class TryController {
         validateTryId(tryIdStr);
         
         boolean deleted = tryTraceService.deleteTrace(tryIdStr);
+        tryCompletionService.forget(tryIdStr);
         
         if (deleted) {
             GlobalApiResponse<Void> response = GlobalApiResponse.success(
@@ -0,0 +1,109 @@
+package kr.co.ouroboros.ui.rest.tryit.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Response DTO for cross-try aggregate API.
+ * <p>
+ * Response for GET /ouro/tries/aggregate
+ * <p>
+ * Contains latency distributions of all tries aggregated per endpoint and the
+ * traced methods with the largest cumulative self time.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Data
+@Builder
+public class TryAggregateResponse {
+    
+    /**
+     * Whether aggregation is enabled.
+     */
+    private Boolean enabled;
+    
+    /**
+     * Per (HTTP method, route) latency, ordered by call count (descending).
+     */
+    private List<Entry> endpoints;
+    
+    /**
+     * Traced methods ordered by cumulative self time (descending).
+     */
+    private List<Entry> topSelfTimeMethods;
+    
+    /**
+     * Aggregated latency of one endpoint or method.
+     *
+     * @author Ouroboros Team
+     * @since 1.0.6
+     */
+    @Data
+    @Builder
+    public static class Entry {
+        
+        /**
+         * Endpoint ("GET /api/users/{id}") or method ("UserService.findUser") key.
+         */
+        private String name;
+        
+        /**
+         * Number of recorded calls.
+         */
+        private Long count;
+        
+        /**
+         * Total (wall) time distribution.
+         */
+        private Latency total;
+        
+        /**
+         * Self time distribution (excluding time covered by child spans).
+         */
+        private Latency self;
+    }
+    
+    /**
+     * Latency distribution in milliseconds.
+     *
+     * @author Ouroboros Team
+     * @since 1.0.6
+     */
+    @Data
+    @Builder
+    public static class Latency {
+        
+        /**
+         * Median.
+         */
+        private Double p50Ms;
+        
+        /**
+         * 95th percentile.
+         */
+        private Double p95Ms;
+        
+        /**
+         * 99th percentile.
+         */
+        private Double p99Ms;
+        
+        /**
+         * Mean.
+         */
+        private Double meanMs;
+        
+        /**
+         * Maximum.
+         */
+        private Double maxMs;
+        
+        /**
+         * Sum over all calls.
+         */
+        private Double sumMs;
+    }
+}
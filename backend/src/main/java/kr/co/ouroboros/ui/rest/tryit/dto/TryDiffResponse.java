@@ -0,0 +1,68 @@
+package kr.co.ouroboros.ui.rest.tryit.dto;
+
+import kr.co.ouroboros.core.rest.tryit.trace.dto.SpanDiffNode;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Response DTO for Try diff API.
+ * <p>
+ * Response for GET /ouro/tries/{tryId}/diff/{otherTryId}
+ * <p>
+ * Compares the trace of a baseline try with the trace of a target try.
+ * Deltas are target minus baseline.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Data
+@Builder
+public class TryDiffResponse {
+    
+    /**
+     * Baseline (before) Try session ID.
+     */
+    private String baselineTryId;
+    
+    /**
+     * Target (after) Try session ID.
+     */
+    private String targetTryId;
+    
+    /**
+     * Total duration of the baseline request in milliseconds.
+     */
+    private Long baselineTotalDurationMs;
+    
+    /**
+     * Total duration of the target request in milliseconds.
+     */
+    private Long targetTotalDurationMs;
+    
+    /**
+     * Target minus baseline total duration in milliseconds.
+     */
+    private Long totalDurationDeltaMs;
+    
+    /**
+     * Number of call paths only present in the target trace.
+     */
+    private Integer addedCount;
+    
+    /**
+     * Number of call paths only present in the baseline trace.
+     */
+    private Integer removedCount;
+    
+    /**
+     * Number of call paths present in both traces with different call count or duration.
+     */
+    private Integer changedCount;
+    
+    /**
+     * Aligned call paths as a flat pre-order list.
+     */
+    private List<SpanDiffNode> nodes;
+}
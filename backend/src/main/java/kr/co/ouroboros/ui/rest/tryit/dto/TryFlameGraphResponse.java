@@ -0,0 +1,41 @@
+package kr.co.ouroboros.ui.rest.tryit.dto;
+
+import kr.co.ouroboros.core.rest.tryit.trace.dto.FlameGraphNode;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Response DTO for Try flame graph API.
+ * <p>
+ * Response for GET /ouro/tries/{tryId}/flamegraph
+ * <p>
+ * Contains the trace as a merged flame graph in which identical call stacks
+ * are combined into one frame.
+ *
+ * @author Ouroboros Team
+ * @since 1.0.6
+ */
+@Data
+@Builder
+public class TryFlameGraphResponse {
+    
+    /**
+     * Try session ID.
+     */
+    private String tryId;
+    
+    /**
+     * Trace ID from Tempo.
+     */
+    private String traceId;
+    
+    /**
+     * Unit of frame values.
+     */
+    private String unit;
+    
+    /**
+     * Synthetic root frame holding all root spans.
+     */
+    private FlameGraphNode root;
+}
@@ -1,9 +1,12 @@
 package kr.co.ouroboros.ui.rest.tryit.dto;
 
 import kr.co.ouroboros.core.rest.tryit.trace.dto.AnalysisStatus;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.StompStageLatency;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.List;
+
 /**
  * Response DTO for Try summary retrieval API.
  * <p>
@@ -54,6 +57,12 @@ public class TrySummaryResponse {
      */
     private Integer issueCount;
     
+    /**
+     * Queue and handle latency per STOMP stage and destination.
+     * Null for tries without STOMP stage spans (HTTP tries).
+     */
+    private List<StompStageLatency> stompLatency;
+    
     /**
      * Error message if analysis failed.
      */
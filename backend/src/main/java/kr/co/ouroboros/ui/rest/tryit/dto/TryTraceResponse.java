@@ -1,5 +1,6 @@
 package kr.co.ouroboros.ui.rest.tryit.dto;
 
+import kr.co.ouroboros.core.rest.tryit.trace.dto.CriticalPathSegment;
 import kr.co.ouroboros.core.rest.tryit.trace.dto.SpanNode;
 import lombok.Builder;
 import lombok.Data;
@@ -40,5 +41,11 @@ public class TryTraceResponse {
      * Hierarchical span tree showing all method calls.
      */
     private List<SpanNode> spans;
+    
+    /**
+     * Critical path of the trace: the chain of spans that bounded the request's wall time,
+     * as exclusive segments in chronological order.
+     */
+    private List<CriticalPathSegment> criticalPath;
 }
 
@@ -11,7 +11,8 @@
  * </ul>
  * <p>
  * All endpoints return standardized {@link kr.co.ouroboros.core.global.response.GlobalApiResponse}
- * format and are prefixed with {@code /ouro/tries}.
+ * format and are prefixed with {@code /ouro/tries}, except the optional embedded OTLP/HTTP
+ * receiver ({@code POST /ouro/otlp/v1/traces}), which speaks the OTLP protocol.
  *
  * @since 0.0.1
  */
@@ -0,0 +1,65 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.instrumentation.sampler;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.instrumentation.context.TryContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TryOnlySampler 테스트")
+class TryOnlySamplerTest {
+
+    private final TryOnlySampler sampler = new TryOnlySampler();
+
+    @Test
+    @DisplayName("Try context가 없으면 DROP")
+    void shouldSample_WithoutTryContext_Drops() {
+        // when
+        SamplingDecision decision = sample(Context.root());
+
+        // then
+        assertEquals(SamplingDecision.DROP, decision);
+    }
+
+    @Test
+    @DisplayName("현재 context에 tryId가 있으면 RECORD_AND_SAMPLE")
+    void shouldSample_WithCurrentTryContext_Samples() {
+        // given
+        try (Scope ignored = TryContext.setTryId(UUID.randomUUID())) {
+            // when
+            SamplingDecision decision = sample(Context.root());
+
+            // then
+            assertEquals(SamplingDecision.RECORD_AND_SAMPLE, decision);
+        }
+    }
+
+    @Test
+    @DisplayName("parent context에 tryId가 있으면 RECORD_AND_SAMPLE")
+    void shouldSample_WithParentTryContext_Samples() {
+        // given
+        Context parent;
+        try (Scope ignored = TryContext.setTryId(UUID.randomUUID())) {
+            parent = Context.current();
+        }
+
+        // when
+        SamplingDecision decision = sample(parent);
+
+        // then
+        assertEquals(SamplingDecision.RECORD_AND_SAMPLE, decision);
+    }
+
+    private SamplingDecision sample(Context parentContext) {
+        return sampler.shouldSample(parentContext, "trace", "span", SpanKind.INTERNAL,
+                Attributes.empty(), List.of()).getDecision();
+    }
+}
@@ -0,0 +1,289 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.disk;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import kr.co.ouroboros.core.rest.tryit.config.properties.TraceDiskProperties;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.model.TraceDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DiskTraceStorage 테스트")
+class DiskTraceStorageTest {
+
+    @TempDir
+    Path directory;
+
+    private final AtomicLong clockOffset = new AtomicLong();
+    private final AtomicReference<DiskTraceStorage> storage = new AtomicReference<>();
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(new StoringSpanProcessor())
+                .build();
+        tracer = tracerProvider.get("test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+        if (storage.get() != null) {
+            storage.get().destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("재시작 후에도 저장된 try trace를 조회")
+    void getTraceByTryId_AfterRestart_ReturnsSpans() {
+        // given
+        open(properties(16, 512));
+        String traceId = recordTry("try-1", "SELECT * FROM users");
+        storage.get().destroy();
+
+        // when
+        open(properties(16, 512));
+        TraceDTO trace = storage.get().getTraceByTryId("try-1");
+
+        // then
+        assertNotNull(trace);
+        List<TraceDTO.SpanDTO> spans = trace.getBatches().get(0).getScopeSpans().get(0).getSpans();
+        assertEquals(2, spans.size());
+        Map<String, TraceDTO.SpanDTO> byName = spans.stream()
+                .collect(Collectors.toMap(TraceDTO.SpanDTO::getName, Function.identity()));
+        TraceDTO.SpanDTO server = byName.get("GET /api/users");
+        TraceDTO.SpanDTO child = byName.get("UserRepository.findAll");
+        assertEquals("SPAN_KIND_SERVER", server.getKind());
+        assertNull(server.getParentSpanId());
+        assertEquals(server.getSpanId(), child.getParentSpanId());
+        assertEquals(traceId, child.getTraceId());
+        assertTrue(child.getDurationNanos() >= 0);
+        assertEquals("SELECT * FROM users", attribute(child, "db.statement").getStringValue());
+        assertEquals(3L, attribute(child, "db.rows").getIntValue());
+        assertEquals(traceId, storage.get().getTraceId("try-1"));
+        assertNotNull(storage.get().getTraceByTraceId(traceId));
+    }
+
+    @Test
+    @DisplayName("삭제한 try는 재시작 후에도 조회되지 않음")
+    void deleteTraceByTryId_AfterRestart_StaysDeleted() {
+        // given
+        open(properties(16, 512));
+        recordTry("try-1", "SELECT 1");
+        recordTry("try-2", "SELECT 2");
+
+        // when
+        boolean deleted = storage.get().deleteTraceByTryId("try-1");
+        storage.get().destroy();
+        open(properties(16, 512));
+
+        // then
+        assertTrue(deleted);
+        assertFalse(storage.get().hasTrace("try-1"));
+        assertTrue(storage.get().hasTrace("try-2"));
+        assertFalse(storage.get().deleteTraceByTryId("try-1"));
+    }
+
+    @Test
+    @DisplayName("전체 크기 제한을 넘으면 가장 오래된 segment의 try를 제거")
+    void addSpan_OverSizeLimit_DropsOldestTries() throws IOException {
+        // given
+        open(properties(1, 2));
+        String largeStatement = "x".repeat(200 * 1024);
+
+        // when
+        for (int i = 0; i < 30; i++) {
+            recordTry("try-" + i, largeStatement);
+        }
+
+        // then
+        assertFalse(storage.get().hasTrace("try-0"));
+        assertTrue(storage.get().hasTrace("try-29"));
+        long totalBytes;
+        try (Stream<Path> files = Files.list(directory)) {
+            totalBytes = files.mapToLong(path -> path.toFile().length()).sum();
+        }
+        assertTrue(totalBytes <= 4L * 1024 * 1024, "archive size: " + totalBytes);
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 try는 다음 쓰기 전에 제거")
+    void addSpan_AfterRetention_DropsExpiredTries() {
+        // given
+        open(properties(16, 512));
+        recordTry("try-old", "SELECT 1");
+
+        // when
+        clockOffset.set(73L * 3_600_000L);
+        recordTry("try-new", "SELECT 2");
+
+        // then
+        assertFalse(storage.get().hasTrace("try-old"));
+        assertTrue(storage.get().hasTrace("try-new"));
+    }
+
+    @Test
+    @DisplayName("손상된 마지막 레코드는 복구 시 잘라내고 계속 기록")
+    void recover_TornTail_TruncatesAndContinues() throws IOException {
+        // given
+        open(properties(16, 512));
+        recordTry("try-1", "SELECT 1");
+        storage.get().destroy();
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(path -> TraceSegment.parseId(path) >= 0).findFirst().orElseThrow();
+        }
+        long validSize = Files.size(segment);
+        Files.write(segment, new byte[]{0, 0, 1, 0, 42, 42}, StandardOpenOption.APPEND);
+
+        // when
+        open(properties(16, 512));
+        recordTry("try-2", "SELECT 2");
+
+        // then
+        assertTrue(storage.get().hasTrace("try-1"));
+        assertTrue(storage.get().hasTrace("try-2"));
+        assertTrue(Files.size(segment) > validSize);
+        assertEquals(2, storage.get().getTraceByTryId("try-2")
+                .getBatches().get(0).getScopeSpans().get(0).getSpans().size());
+    }
+
+    @Test
+    @DisplayName("쓰기와 읽기를 번갈아 해도 활성 segment의 마지막 레코드를 조회")
+    void getTraceByTryId_InterleavedWithAppends_ReadsActiveTail() {
+        // given
+        open(properties(16, 512));
+
+        for (int i = 0; i < 20; i++) {
+            // when
+            recordTry("try-" + i, "SELECT " + i);
+            TraceDTO trace = storage.get().getTraceByTryId("try-" + i);
+
+            // then
+            List<TraceDTO.SpanDTO> spans = trace.getBatches().get(0).getScopeSpans().get(0).getSpans();
+            assertEquals(2, spans.size());
+            TraceDTO.SpanDTO child = spans.stream()
+                    .filter(span -> span.getName().equals("UserRepository.findAll"))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals("SELECT " + i, attribute(child, "db.statement").getStringValue());
+        }
+        assertNotNull(storage.get().getTraceByTryId("try-0"));
+    }
+
+    @Test
+    @DisplayName("값이 없는 attribute는 문자열 \"null\"이 아닌 null로 복원")
+    void decodeSpan_NullAttributeValue_StaysNull() {
+        // given
+        TraceDTO.AttributeDTO attribute = new TraceDTO.AttributeDTO();
+        attribute.setKey("db.statement");
+        TraceDTO.SpanDTO span = new TraceDTO.SpanDTO();
+        span.setTraceId("trace-1");
+        span.setSpanId("span-1");
+        span.setName("UserRepository.findAll");
+        span.setAttributes(List.of(attribute));
+
+        // when
+        byte[] record = SpanRecordCodec.encodeSpan("try-1", span);
+        TraceDTO.SpanDTO decoded = SpanRecordCodec.decodeSpan(ByteBuffer.wrap(
+                record, SpanRecordCodec.HEADER_BYTES, record.length - SpanRecordCodec.HEADER_BYTES).slice());
+
+        // then
+        assertNull(attribute(decoded, "db.statement").getStringValue());
+    }
+
+    private void open(TraceDiskProperties properties) {
+        storage.set(new DiskTraceStorage(properties, () -> System.currentTimeMillis() + clockOffset.get()));
+    }
+
+    private TraceDiskProperties properties(int segmentSizeMb, int maxTotalSizeMb) {
+        TraceDiskProperties properties = new TraceDiskProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory.toString());
+        properties.setSegmentSizeMb(segmentSizeMb);
+        properties.setMaxTotalSizeMb(maxTotalSizeMb);
+        properties.setRetentionHours(72);
+        return properties;
+    }
+
+    /**
+     * Records a server span with one repository child span for the given tryId.
+     *
+     * @return trace ID
+     */
+    private String recordTry(String tryId, String statement) {
+        Span server = tracer.spanBuilder("GET /api/users")
+                .setNoParent()
+                .setSpanKind(SpanKind.SERVER)
+                .setAttribute("ouro.try_id", tryId)
+                .startSpan();
+        try (Scope ignored = server.makeCurrent()) {
+            tracer.spanBuilder("UserRepository.findAll")
+                    .setParent(Context.current())
+                    .setAttribute("ouro.try_id", tryId)
+                    .setAttribute("db.statement", statement)
+                    .setAttribute("db.rows", 3L)
+                    .startSpan()
+                    .end();
+        } finally {
+            server.end();
+        }
+        return server.getSpanContext().getTraceId();
+    }
+
+    private TraceDTO.ValueDTO attribute(TraceDTO.SpanDTO span, String key) {
+        return span.getAttributes().stream()
+                .filter(attribute -> key.equals(attribute.getKey()))
+                .findFirst()
+                .orElseThrow()
+                .getValue();
+    }
+
+    private class StoringSpanProcessor implements SpanProcessor {
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            storage.get().addSpan(span);
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+    }
+}
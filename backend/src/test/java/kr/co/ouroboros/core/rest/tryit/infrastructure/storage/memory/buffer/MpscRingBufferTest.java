@@ -0,0 +1,105 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.buffer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MpscRingBuffer 테스트")
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올림")
+    void constructor_RoundsCapacityUpToPowerOfTwo() {
+        assertEquals(2, new MpscRingBuffer<>(0).capacity());
+        assertEquals(8, new MpscRingBuffer<>(5).capacity());
+        assertEquals(8192, new MpscRingBuffer<>(8192).capacity());
+    }
+
+    @Test
+    @DisplayName("가득 차면 offer가 false를 반환하고 drain 후 다시 추가 가능")
+    void offer_WhenFull_ReturnsFalseUntilDrained() {
+        // given
+        MpscRingBuffer<Integer> ring = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i));
+        }
+
+        // when
+        boolean overflow = ring.offer(4);
+        List<Integer> drained = new ArrayList<>();
+        int count = ring.drain(drained::add, 2);
+
+        // then
+        assertFalse(overflow);
+        assertEquals(2, count);
+        assertEquals(List.of(0, 1), drained);
+        assertEquals(2, ring.size());
+        assertTrue(ring.offer(4));
+        assertTrue(ring.offer(5));
+        assertFalse(ring.offer(6));
+        ring.drain(drained::add, Integer.MAX_VALUE);
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), drained);
+        assertEquals(0, ring.size());
+    }
+
+    @Test
+    @DisplayName("여러 producer가 동시에 추가해도 모든 요소를 producer별 순서대로 한 번씩 전달")
+    void offer_ConcurrentProducers_DeliversEveryElementOnceInProducerOrder() throws InterruptedException {
+        // given
+        int producers = 4;
+        int perProducer = 50_000;
+        MpscRingBuffer<long[]> ring = new MpscRingBuffer<>(1024);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (long i = 0; i < perProducer; i++) {
+                    long[] element = {producer, i};
+                    while (!ring.offer(element)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // when
+        long[] next = new long[producers];
+        AtomicBoolean outOfOrder = new AtomicBoolean();
+        int received = 0;
+        start.countDown();
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (received < producers * perProducer && System.nanoTime() < deadline) {
+            received += ring.drain(element -> {
+                int producer = (int) element[0];
+                if (element[1] != next[producer]) {
+                    outOfOrder.set(true);
+                }
+                next[producer] = element[1] + 1;
+            }, 256);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertEquals(producers * perProducer, received);
+        assertFalse(outOfOrder.get());
+        for (long count : next) {
+            assertEquals(perProducer, count);
+        }
+    }
+}
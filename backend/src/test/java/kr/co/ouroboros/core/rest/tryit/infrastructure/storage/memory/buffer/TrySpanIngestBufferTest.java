@@ -0,0 +1,169 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.buffer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import kr.co.ouroboros.core.rest.tryit.config.properties.TraceBufferProperties;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.InMemoryTraceStorage;
+import kr.co.ouroboros.core.rest.tryit.trace.aggregate.TryAggregateRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TrySpanIngestBuffer 테스트")
+class TrySpanIngestBufferTest {
+
+    private InMemoryTraceStorage traceStorage;
+    private SimpleMeterRegistry meterRegistry;
+    private TrySpanIngestBuffer ingestBuffer;
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        traceStorage = new InMemoryTraceStorage();
+        meterRegistry = new SimpleMeterRegistry();
+        TraceBufferProperties properties = new TraceBufferProperties();
+        properties.setCapacity(64);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+        ingestBuffer = new TrySpanIngestBuffer(properties, traceStorage,
+                beanFactory.getBeanProvider(TryAggregateRegistry.class),
+                beanFactory.getBeanProvider(MeterRegistry.class));
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(new PublishingSpanProcessor())
+                .build();
+        tracer = tracerProvider.get("test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+        ingestBuffer.destroy();
+    }
+
+    @Test
+    @DisplayName("flush 후 publish된 span이 try별로 저장")
+    void flush_AfterPublish_StoresSpansPerTry() {
+        // given
+        String firstTraceId = recordTry("try-1", 3);
+        String secondTraceId = recordTry("try-2", 1);
+
+        // when
+        ingestBuffer.flush();
+
+        // then
+        assertEquals(firstTraceId, traceStorage.getTraceId("try-1"));
+        assertEquals(secondTraceId, traceStorage.getTraceId("try-2"));
+        assertEquals(4, spanCount("try-1"));
+        assertEquals(2, spanCount("try-2"));
+        assertEquals(0L, ingestBuffer.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("한 try의 저장이 실패해도 같은 batch의 다른 try는 저장")
+    void flush_StorageFailsForOneTry_StoresOtherTries() {
+        // given
+        InMemoryTraceStorage failingStorage = new InMemoryTraceStorage() {
+            @Override
+            public void addSpans(String tryId, List<ReadableSpan> spans) {
+                if ("try-1".equals(tryId)) {
+                    throw new IllegalStateException("storage failure");
+                }
+                super.addSpans(tryId, spans);
+            }
+        };
+        ingestBuffer.destroy();
+        ingestBuffer = new TrySpanIngestBuffer(new TraceBufferProperties(), failingStorage,
+                new StaticListableBeanFactory().getBeanProvider(TryAggregateRegistry.class),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        recordTry("try-1", 1);
+        String secondTraceId = recordTry("try-2", 1);
+
+        // when
+        ingestBuffer.flush();
+
+        // then
+        assertFalse(failingStorage.hasTrace("try-1"));
+        assertEquals(secondTraceId, failingStorage.getTraceId("try-2"));
+    }
+
+    @Test
+    @DisplayName("drain 스레드가 flush 없이도 span을 저장")
+    void publish_WithoutFlush_IsStoredByDrainThread() throws InterruptedException {
+        // given
+        recordTry("try-1", 1);
+
+        // when
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!traceStorage.hasTrace("try-1") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+
+        // then
+        assertTrue(traceStorage.hasTrace("try-1"));
+    }
+
+    @Test
+    @DisplayName("버퍼 metric 등록")
+    void constructor_RegistersMetrics() {
+        assertNotNull(meterRegistry.find("ouroboros.trace.buffer.dropped").functionCounter());
+        assertNotNull(meterRegistry.find("ouroboros.trace.buffer.size").gauge());
+    }
+
+    /**
+     * Records a root span with the given number of children for the tryId.
+     *
+     * @return trace ID
+     */
+    private String recordTry(String tryId, int children) {
+        Span root = tracer.spanBuilder("GET /api").setNoParent().setAttribute("ouro.try_id", tryId).startSpan();
+        try (Scope ignored = root.makeCurrent()) {
+            for (int i = 0; i < children; i++) {
+                tracer.spanBuilder("child-" + i).setAttribute("ouro.try_id", tryId).startSpan().end();
+            }
+        } finally {
+            root.end();
+        }
+        return root.getSpanContext().getTraceId();
+    }
+
+    private int spanCount(String tryId) {
+        return traceStorage.getTraceByTryId(tryId).getBatches().get(0).getScopeSpans().get(0).getSpans().size();
+    }
+
+    private class PublishingSpanProcessor implements SpanProcessor {
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            ingestBuffer.publish(span);
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.otlp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.model.TraceDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OtlpTraceDecoder 테스트")
+class OtlpTraceDecoderTest {
+
+    private static final String TRACE_ID = "0102030405060708090a0b0c0d0e0f10";
+    private static final String SPAN_ID = "a1a2a3a4a5a6a7a8";
+    private static final String PARENT_SPAN_ID = "b1b2b3b4b5b6b7b8";
+
+    private final OtlpTraceDecoder decoder = new OtlpTraceDecoder(new ObjectMapper());
+
+    @Test
+    @DisplayName("protobuf ExportTraceServiceRequest를 SpanDTO로 변환")
+    void decodeProtobuf_ExportRequest_DecodesSpans() {
+        // given
+        Proto span = new Proto()
+                .bytes(1, hex(TRACE_ID))
+                .bytes(2, hex(SPAN_ID))
+                .string(3, "vendor=value")
+                .bytes(4, hex(PARENT_SPAN_ID))
+                .string(5, "GET /orders")
+                .varint(6, 2)
+                .fixed64(7, 1_000_000_000L)
+                .fixed64(8, 1_250_000_000L)
+                .message(9, keyValue("ouro.try_id", new Proto().string(1, "try-1")))
+                .message(9, keyValue("http.status_code", new Proto().varint(3, 200)))
+                .message(9, keyValue("http.retry", new Proto().varint(2, 1)))
+                .message(9, keyValue("ratio", new Proto().fixed64(4, Double.doubleToLongBits(0.5))))
+                .message(9, keyValue("tags", new Proto().message(5, new Proto()
+                        .message(1, new Proto().string(1, "a"))
+                        .message(1, new Proto().varint(3, 7)))))
+                .fixed32(16, 1);
+        Proto request = new Proto().message(1, new Proto()
+                .message(1, new Proto().message(1, keyValue("service.name", new Proto().string(1, "order-service"))))
+                .message(2, new Proto()
+                        .message(1, new Proto().string(1, "io.opentelemetry.spring"))
+                        .message(2, span)));
+
+        // when
+        List<TraceDTO.SpanDTO> spans = decoder.decodeProtobuf(request.toByteArray());
+
+        // then
+        assertEquals(1, spans.size());
+        TraceDTO.SpanDTO decoded = spans.get(0);
+        assertEquals(TRACE_ID, decoded.getTraceId());
+        assertEquals(SPAN_ID, decoded.getSpanId());
+        assertEquals(PARENT_SPAN_ID, decoded.getParentSpanId());
+        assertEquals("GET /orders", decoded.getName());
+        assertEquals("SPAN_KIND_SERVER", decoded.getKind());
+        assertEquals(250_000_000L, decoded.getDurationNanos());
+        assertEquals("try-1", attribute(decoded, "ouro.try_id").getStringValue());
+        assertEquals(200L, attribute(decoded, "http.status_code").getIntValue());
+        assertTrue(attribute(decoded, "http.retry").getBoolValue());
+        assertEquals(0.5, attribute(decoded, "ratio").getDoubleValue());
+        assertEquals("[a, 7]", attribute(decoded, "tags").getStringValue());
+        assertEquals("order-service", attribute(decoded, "service.name").getStringValue());
+    }
+
+    @Test
+    @DisplayName("OTLP JSON 요청을 SpanDTO로 변환")
+    void decodeJson_ExportRequest_DecodesSpans() {
+        // given
+        String json = """
+                {"resourceSpans":[{
+                  "resource":{"attributes":[{"key":"service.name","value":{"stringValue":"payment-service"}}]},
+                  "scopeSpans":[{"scope":{"name":"lib"},"spans":[
+                    {"traceId":"0102030405060708090A0B0C0D0E0F10","spanId":"a1a2a3a4a5a6a7a8","parentSpanId":"",
+                     "name":"PaymentService.pay","kind":1,
+                     "startTimeUnixNano":"1000","endTimeUnixNano":"4000",
+                     "attributes":[
+                       {"key":"db.rows","value":{"intValue":"3"}},
+                       {"key":"ouro.try_id","value":{"stringValue":"try-2"}}
+                     ]}
+                  ]}]
+                }]}
+                """;
+
+        // when
+        List<TraceDTO.SpanDTO> spans = decoder.decodeJson(json.getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertEquals(1, spans.size());
+        TraceDTO.SpanDTO decoded = spans.get(0);
+        assertEquals(TRACE_ID, decoded.getTraceId());
+        assertNull(decoded.getParentSpanId());
+        assertEquals("SPAN_KIND_INTERNAL", decoded.getKind());
+        assertEquals(3000L, decoded.getDurationNanos());
+        assertEquals(3L, attribute(decoded, "db.rows").getIntValue());
+        assertEquals("payment-service", attribute(decoded, "service.name").getStringValue());
+    }
+
+    @Test
+    @DisplayName("잘린 protobuf payload는 IllegalArgumentException 발생")
+    void decodeProtobuf_TruncatedPayload_ThrowsException() {
+        // given
+        byte[] request = new Proto().message(1, new Proto().message(2, new Proto().string(5, "name"))).toByteArray();
+        byte[] truncated = Arrays.copyOf(request, request.length - 2);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> decoder.decodeProtobuf(truncated));
+    }
+
+    @Test
+    @DisplayName("잘못된 JSON payload는 IllegalArgumentException 발생")
+    void decodeJson_MalformedPayload_ThrowsException() {
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> decoder.decodeJson("{\"resourceSpans\":[".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static Proto keyValue(String key, Proto value) {
+        return new Proto().string(1, key).message(2, value);
+    }
+
+    private static TraceDTO.ValueDTO attribute(TraceDTO.SpanDTO span, String key) {
+        return span.getAttributes().stream()
+                .filter(attribute -> key.equals(attribute.getKey()))
+                .findFirst()
+                .orElseThrow()
+                .getValue();
+    }
+
+    private static byte[] hex(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+        }
+        return bytes;
+    }
+
+    /**
+     * Minimal protobuf writer used to build OTLP payloads.
+     */
+    private static final class Proto {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Proto varint(int field, long value) {
+            tag(field, 0);
+            writeVarint(value);
+            return this;
+        }
+
+        Proto fixed64(int field, long value) {
+            tag(field, 1);
+            for (int i = 0; i < 8; i++) {
+                out.write((int) (value >>> (8 * i)));
+            }
+            return this;
+        }
+
+        Proto fixed32(int field, int value) {
+            tag(field, 5);
+            for (int i = 0; i < 4; i++) {
+                out.write(value >>> (8 * i));
+            }
+            return this;
+        }
+
+        Proto bytes(int field, byte[] value) {
+            tag(field, 2);
+            writeVarint(value.length);
+            out.writeBytes(value);
+            return this;
+        }
+
+        Proto string(int field, String value) {
+            return bytes(field, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        Proto message(int field, Proto message) {
+            return bytes(field, message.toByteArray());
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+
+        private void tag(int field, int wireType) {
+            writeVarint((long) field << 3 | wireType);
+        }
+
+        private void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.otlp;
+
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceStorage;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.memory.buffer.TrySpanIngestBuffer;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.model.TraceDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OtlpTraceReceiver 테스트")
+class OtlpTraceReceiverTest {
+
+    @Mock
+    private TraceStorage traceStorage;
+
+    @Mock
+    private ObjectProvider<TrySpanIngestBuffer> ingestBufferProvider;
+
+    @Mock
+    private TrySpanIngestBuffer ingestBuffer;
+
+    @InjectMocks
+    private OtlpTraceReceiver otlpTraceReceiver;
+
+    @Test
+    @DisplayName("ouro.try_id attribute가 있는 span은 해당 try로 저장")
+    void receive_SpanWithTryIdAttribute_StoresUnderTryId() {
+        // given
+        TraceDTO.SpanDTO span = span("trace-1", "span-1", "try-1");
+
+        // when
+        int stored = otlpTraceReceiver.receive(List.of(span));
+
+        // then
+        assertEquals(1, stored);
+        verify(traceStorage).addSpan("try-1", span);
+    }
+
+    @Test
+    @DisplayName("같은 요청의 다른 span에서 tryId를 찾아 attribute 없는 span도 저장")
+    void receive_SpanWithoutAttributeInSameTrace_UsesTryIdFromRequest() {
+        // given
+        TraceDTO.SpanDTO child = span("trace-1", "span-2", null);
+        TraceDTO.SpanDTO root = span("trace-1", "span-1", "try-1");
+
+        // when
+        int stored = otlpTraceReceiver.receive(List.of(child, root));
+
+        // then
+        assertEquals(2, stored);
+        verify(traceStorage).addSpan("try-1", child);
+        verify(traceStorage, never()).getTryId(anyString());
+    }
+
+    @Test
+    @DisplayName("저장된 trace의 traceId와 일치하면 attribute 없는 span도 저장")
+    void receive_SpanOfKnownTrace_StoresUnderStoredTryId() {
+        // given
+        TraceDTO.SpanDTO first = span("trace-1", "span-2", null);
+        TraceDTO.SpanDTO second = span("trace-1", "span-3", null);
+        when(traceStorage.getTryId("trace-1")).thenReturn("try-1");
+
+        // when
+        int stored = otlpTraceReceiver.receive(List.of(first, second));
+
+        // then
+        assertEquals(2, stored);
+        verify(traceStorage).addSpan("try-1", first);
+        verify(traceStorage).addSpan("try-1", second);
+        verify(traceStorage, times(1)).getTryId("trace-1");
+    }
+
+    @Test
+    @DisplayName("ingest buffer에 남아 있는 로컬 span의 trace도 flush 후 찾아서 저장")
+    void receive_SpanOfTraceStillInIngestBuffer_FlushesBeforeLookup() {
+        // given
+        TraceDTO.SpanDTO first = span("trace-1", "span-2", null);
+        TraceDTO.SpanDTO second = span("trace-2", "span-3", null);
+        when(ingestBufferProvider.getIfAvailable()).thenReturn(ingestBuffer);
+        // The local root span of trace-1 is only stored once the buffer is drained
+        doAnswer(invocation -> {
+            when(traceStorage.getTryId("trace-1")).thenReturn("try-1");
+            return null;
+        }).when(ingestBuffer).flush();
+
+        // when
+        int stored = otlpTraceReceiver.receive(List.of(first, second));
+
+        // then
+        assertEquals(1, stored);
+        InOrder order = inOrder(ingestBuffer, traceStorage);
+        order.verify(ingestBuffer).flush();
+        order.verify(traceStorage).getTryId("trace-1");
+        order.verify(traceStorage).addSpan("try-1", first);
+        verify(ingestBuffer, times(1)).flush();
+    }
+
+    @Test
+    @DisplayName("어떤 try에도 속하지 않는 span은 저장하지 않음")
+    void receive_SpanOfUnknownTrace_IsDropped() {
+        // given
+        when(traceStorage.getTryId("trace-9")).thenReturn(null);
+
+        // when
+        int stored = otlpTraceReceiver.receive(List.of(span("trace-9", "span-1", null), span(null, "span-2", "try-1")));
+
+        // then
+        assertEquals(0, stored);
+        verify(traceStorage, never()).addSpan(anyString(), any(TraceDTO.SpanDTO.class));
+    }
+
+    private TraceDTO.SpanDTO span(String traceId, String spanId, String tryId) {
+        TraceDTO.SpanDTO span = new TraceDTO.SpanDTO();
+        span.setTraceId(traceId);
+        span.setSpanId(spanId);
+        span.setName("span");
+        List<TraceDTO.AttributeDTO> attributes = new ArrayList<>();
+        if (tryId != null) {
+            TraceDTO.ValueDTO value = new TraceDTO.ValueDTO();
+            value.setStringValue(tryId);
+            TraceDTO.AttributeDTO attribute = new TraceDTO.AttributeDTO();
+            attribute.setKey("ouro.try_id");
+            attribute.setValue(value);
+            attributes.add(attribute);
+        }
+        span.setAttributes(attributes);
+        return span;
+    }
+}
@@ -0,0 +1,75 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.tempo.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ExpiringLruCache 테스트")
+class ExpiringLruCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("저장한 값은 TTL 이내에 조회된다")
+    void get_WithinTtl_ReturnsValue() {
+        // given
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10, 1000, clock::get);
+        cache.put("try-1", "trace-1");
+
+        // when
+        clock.addAndGet(999_000_000L);
+
+        // then
+        assertEquals("trace-1", cache.get("try-1"));
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 값이 만료된다")
+    void get_AfterTtl_ReturnsNull() {
+        // given
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10, 1000, clock::get);
+        cache.put("try-1", "trace-1");
+
+        // when
+        clock.addAndGet(1_000_000_000L);
+
+        // then
+        assertNull(cache.get("try-1"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목을 제거한다")
+    void put_OverCapacity_EvictsLeastRecentlyUsed() {
+        // given
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(2, 1000, clock::get);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+
+        // when
+        cache.put("c", "3");
+
+        // then
+        assertEquals(2, cache.size());
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c"));
+    }
+
+    @Test
+    @DisplayName("null 값은 저장하지 않는다")
+    void put_NullValue_Ignored() {
+        // given
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(2, 1000, clock::get);
+
+        // when
+        cache.put("a", null);
+
+        // then
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,98 @@
+package kr.co.ouroboros.core.rest.tryit.infrastructure.storage.tempo.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.ouroboros.core.rest.tryit.config.properties.TempoProperties;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.TraceSpanInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TempoTraceCache 테스트")
+class TempoTraceCacheTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+    private TempoTraceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        TempoProperties properties = new TempoProperties();
+        properties.getCache().setIngestionDelaySeconds(10);
+        cache = new TempoTraceCache(properties, new SimpleMeterRegistry(), clock::get);
+    }
+
+    @Test
+    @DisplayName("루트 스팬이 있고 수집 지연이 지난 트레이스는 캐시된다")
+    void putSpans_SettledTrace_IsCached() {
+        // given
+        List<TraceSpanInfo> spans = List.of(
+                span("root", null, clock.get() - 20 * SECOND),
+                span("child", "root", clock.get() - 10 * SECOND));
+
+        // when
+        cache.putSpans("trace-1", spans);
+
+        // then
+        assertEquals(spans, cache.getSpans("trace-1"));
+    }
+
+    @Test
+    @DisplayName("마지막 스팬 종료 후 수집 지연이 지나지 않으면 캐시하지 않는다")
+    void putSpans_RecentSpan_IsNotCached() {
+        // given
+        List<TraceSpanInfo> spans = List.of(
+                span("root", null, clock.get() - 20 * SECOND),
+                span("child", "root", clock.get() - 9 * SECOND));
+
+        // when
+        cache.putSpans("trace-1", spans);
+
+        // then
+        assertNull(cache.getSpans("trace-1"));
+    }
+
+    @Test
+    @DisplayName("루트 스팬이 아직 없는 트레이스는 캐시하지 않는다")
+    void putSpans_MissingRoot_IsNotCached() {
+        // given
+        List<TraceSpanInfo> spans = List.of(span("child", "root", clock.get() - 20 * SECOND));
+
+        // when
+        cache.putSpans("trace-1", spans);
+
+        // then
+        assertNull(cache.getSpans("trace-1"));
+    }
+
+    @Test
+    @DisplayName("invalidate는 tryId의 traceId와 스팬 캐시를 함께 제거한다")
+    void invalidate_RemovesTraceIdAndSpans() {
+        // given
+        cache.putTraceId("try-1", "trace-1");
+        cache.putSpans("trace-1", List.of(span("root", null, clock.get() - 20 * SECOND)));
+
+        // when
+        cache.invalidate("try-1");
+
+        // then
+        assertNull(cache.getTraceId("try-1"));
+        assertNull(cache.getSpans("trace-1"));
+    }
+
+    private static TraceSpanInfo span(String spanId, String parentSpanId, long endTimeNanos) {
+        return TraceSpanInfo.builder()
+                .spanId(spanId)
+                .parentSpanId(parentSpanId)
+                .name(spanId)
+                .startTimeNanos(endTimeNanos - SECOND)
+                .endTimeNanos(endTimeNanos)
+                .build();
+    }
+}
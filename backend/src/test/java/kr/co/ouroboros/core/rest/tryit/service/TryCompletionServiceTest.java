@@ -0,0 +1,194 @@
+package kr.co.ouroboros.core.rest.tryit.service;
+
+import kr.co.ouroboros.core.rest.tryit.trace.completion.TryCompletedEvent;
+import kr.co.ouroboros.core.rest.tryit.trace.completion.TryCompletionTracker;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.AnalysisStatus;
+import kr.co.ouroboros.ui.rest.tryit.dto.TrySummaryResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TryCompletionService 테스트")
+class TryCompletionServiceTest {
+
+    @Mock
+    private TrySummaryService trySummaryService;
+
+    @Mock
+    private ObjectProvider<TryCompletionTracker> completionTrackerProvider;
+
+    @Mock
+    private TryCompletionTracker completionTracker;
+
+    private TryCompletionService tryCompletionService;
+
+    private String tryId;
+    private TrySummaryResponse summary;
+
+    @BeforeEach
+    void setUp() {
+        tryId = "test-try-id";
+        summary = TrySummaryResponse.builder()
+                .tryId(tryId)
+                .traceId("test-trace-id")
+                .status(AnalysisStatus.COMPLETED)
+                .build();
+        tryCompletionService = new TryCompletionService(trySummaryService, completionTrackerProvider) {
+            @Override
+            SseEmitter createEmitter() {
+                return new RecordingEmitter();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("이미 완료된 try는 구독 즉시 completed 이벤트 전송")
+    void subscribe_CompletedTry_SendsCompleted() {
+        // given
+        when(completionTrackerProvider.getIfAvailable()).thenReturn(completionTracker);
+        when(completionTracker.getStatus(tryId)).thenReturn(TryCompletionTracker.Status.COMPLETED);
+        when(trySummaryService.getSummary(tryId)).thenReturn(summary);
+
+        // when
+        RecordingEmitter emitter = (RecordingEmitter) tryCompletionService.subscribe(tryId);
+
+        // then
+        assertEquals(List.of(TryCompletionService.EVENT_COMPLETED), emitter.eventNames());
+        assertSame(summary, emitter.data().get(0));
+        assertTrue(emitter.completed);
+    }
+
+    @Test
+    @DisplayName("캐시된 summary가 있으면 상태 조회 없이 completed 이벤트 전송")
+    void subscribe_CachedSummary_SendsCompletedWithoutAnalysis() {
+        // given
+        when(trySummaryService.getCachedSummary(tryId)).thenReturn(summary);
+
+        // when
+        RecordingEmitter emitter = (RecordingEmitter) tryCompletionService.subscribe(tryId);
+
+        // then
+        assertEquals(List.of(TryCompletionService.EVENT_COMPLETED), emitter.eventNames());
+        assertSame(summary, emitter.data().get(0));
+        verify(trySummaryService, never()).getSummary(anyString());
+    }
+
+    @Test
+    @DisplayName("완료 추적이 비활성화된 경우 unavailable 이벤트 전송")
+    void subscribe_TrackerUnavailable_SendsUnavailable() {
+        // given
+        when(completionTrackerProvider.getIfAvailable()).thenReturn(null);
+
+        // when
+        RecordingEmitter emitter = (RecordingEmitter) tryCompletionService.subscribe(tryId);
+
+        // then
+        assertEquals(List.of(TryCompletionService.EVENT_UNAVAILABLE), emitter.eventNames());
+        assertEquals(tryId, emitter.data().get(0));
+        assertTrue(emitter.completed);
+    }
+
+    @Test
+    @DisplayName("추적되지 않는 try는 unavailable 이벤트 전송")
+    void subscribe_UnknownTry_SendsUnavailable() {
+        // given
+        when(completionTrackerProvider.getIfAvailable()).thenReturn(completionTracker);
+        when(completionTracker.getStatus(tryId)).thenReturn(TryCompletionTracker.Status.UNKNOWN);
+
+        // when
+        RecordingEmitter emitter = (RecordingEmitter) tryCompletionService.subscribe(tryId);
+
+        // then
+        assertEquals(List.of(TryCompletionService.EVENT_UNAVAILABLE), emitter.eventNames());
+    }
+
+    @Test
+    @DisplayName("구독 후 완료되면 미리 계산한 summary로 completed 이벤트 전송")
+    void subscribe_CompletionAfterRegistration_SendsCompleted() {
+        // given
+        when(completionTrackerProvider.getIfAvailable()).thenReturn(completionTracker);
+        when(completionTracker.getStatus(tryId)).thenReturn(TryCompletionTracker.Status.IN_PROGRESS);
+        when(trySummaryService.precompute(tryId)).thenReturn(summary);
+        RecordingEmitter emitter = (RecordingEmitter) tryCompletionService.subscribe(tryId);
+        assertTrue(emitter.events.isEmpty());
+
+        // when
+        tryCompletionService.onTryCompleted(new TryCompletedEvent(tryId));
+
+        // then
+        assertEquals(List.of(TryCompletionService.EVENT_COMPLETED), emitter.eventNames());
+        assertSame(summary, emitter.data().get(0));
+        assertTrue(emitter.completed);
+    }
+
+    @Test
+    @DisplayName("상태 확인과 등록 사이에 완료되면 구독 중에 completed 이벤트 전송")
+    void subscribe_CompletionDuringRegistration_SendsCompleted() {
+        // given
+        when(completionTrackerProvider.getIfAvailable()).thenReturn(completionTracker);
+        when(completionTracker.getStatus(tryId))
+                .thenReturn(TryCompletionTracker.Status.IN_PROGRESS)
+                .thenReturn(TryCompletionTracker.Status.COMPLETED);
+        when(trySummaryService.getSummary(tryId)).thenReturn(summary);
+
+        // when
+        RecordingEmitter emitter = (RecordingEmitter) tryCompletionService.subscribe(tryId);
+        tryCompletionService.onTryCompleted(new TryCompletedEvent(tryId));
+
+        // then
+        assertEquals(List.of(TryCompletionService.EVENT_COMPLETED), emitter.eventNames());
+        assertSame(summary, emitter.data().get(0));
+    }
+
+    /**
+     * Emitter recording sent events instead of writing them to a response.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Set<ResponseBodyEmitter.DataWithMediaType>> events = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(builder.build());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        private List<String> eventNames() {
+            List<String> names = new ArrayList<>();
+            for (Set<ResponseBodyEmitter.DataWithMediaType> event : events) {
+                // The first part holds the "event:<name>" line
+                String head = event.iterator().next().getData().toString();
+                names.add(head.substring("event:".length(), head.indexOf('\n')));
+            }
+            return names;
+        }
+
+        private List<Object> data() {
+            List<Object> data = new ArrayList<>();
+            for (Set<ResponseBodyEmitter.DataWithMediaType> event : events) {
+                // Parts: "event:...\ndata:", the data object, "\n\n"
+                data.add(event.stream().skip(1).findFirst().orElseThrow().getData());
+            }
+            return data;
+        }
+    }
+}
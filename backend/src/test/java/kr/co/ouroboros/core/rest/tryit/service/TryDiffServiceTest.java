@@ -0,0 +1,61 @@
+package kr.co.ouroboros.core.rest.tryit.service;
+
+import kr.co.ouroboros.core.rest.tryit.exception.TryNotFoundException;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceDataRetriever;
+import kr.co.ouroboros.core.rest.tryit.trace.builder.TraceTreeBuilder;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.TraceSpanInfo;
+import kr.co.ouroboros.core.rest.tryit.trace.util.TraceTreeDiffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TryDiffService 테스트")
+class TryDiffServiceTest {
+
+    @Mock
+    private TraceDataRetriever traceDataRetriever;
+
+    @Mock
+    private TraceTreeBuilder traceTreeBuilder;
+
+    @Mock
+    private TraceTreeDiffer traceTreeDiffer;
+
+    @InjectMocks
+    private TryDiffService tryDiffService;
+
+    @Test
+    @DisplayName("trace가 없거나 만료된 tryId는 TryNotFoundException 발생")
+    void getDiff_UnknownTargetTryId_ThrowsTryNotFound() {
+        // given
+        List<TraceSpanInfo> spans = List.of(TraceSpanInfo.builder()
+                .spanId("span1")
+                .name("GET /api/orders")
+                .startTimeNanos(0L)
+                .endTimeNanos(100_000_000L)
+                .durationNanos(100_000_000L)
+                .durationMs(100L)
+                .build());
+        when(traceDataRetriever.getTraceData("baseline"))
+                .thenReturn(Optional.of(new TraceDataRetriever.TraceDataResult("trace-1", spans)));
+        when(traceDataRetriever.getTraceData("expired")).thenReturn(Optional.empty());
+
+        // when
+        TryNotFoundException exception = assertThrows(TryNotFoundException.class,
+                () -> tryDiffService.getDiff("baseline", "expired"));
+
+        // then
+        assertEquals("expired", exception.getTryId());
+        verifyNoInteractions(traceTreeBuilder, traceTreeDiffer);
+    }
+}
@@ -1,11 +1,10 @@
 package kr.co.ouroboros.core.rest.tryit.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.ouroboros.core.rest.tryit.config.properties.TraceCompletionProperties;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.TraceDataRetriever;
 import kr.co.ouroboros.ui.rest.tryit.dto.TrySummaryResponse;
-import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.tempo.client.TempoClient;
-import kr.co.ouroboros.core.rest.tryit.infrastructure.storage.model.TraceDTO;
 import kr.co.ouroboros.core.rest.tryit.trace.analyzer.IssueAnalyzer;
-import kr.co.ouroboros.core.rest.tryit.trace.converter.TraceSpanConverter;
+import kr.co.ouroboros.core.rest.tryit.trace.completion.TryCompletionTracker;
 import kr.co.ouroboros.core.rest.tryit.trace.dto.AnalysisStatus;
 import kr.co.ouroboros.core.rest.tryit.trace.dto.Issue;
 import kr.co.ouroboros.core.rest.tryit.trace.dto.TraceSpanInfo;
@@ -13,13 +12,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -30,18 +30,17 @@ import static org.mockito.Mockito.*;
 class TrySummaryServiceTest {
 
     @Mock
-    private TempoClient tempoClient;
+    private TraceDataRetriever traceDataRetriever;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private IssueAnalyzer issueAnalyzer;
 
     @Mock
-    private TraceSpanConverter traceSpanConverter;
+    private ObjectProvider<TryCompletionTracker> completionTrackerProvider;
 
     @Mock
-    private IssueAnalyzer issueAnalyzer;
+    private TryCompletionTracker completionTracker;
 
-    @InjectMocks
     private TrySummaryService trySummaryService;
 
     private String tryId;
@@ -51,13 +50,15 @@ class TrySummaryServiceTest {
     void setUp() {
         tryId = "test-try-id";
         traceId = "test-trace-id";
+        trySummaryService = new TrySummaryService(
+                traceDataRetriever, issueAnalyzer, completionTrackerProvider, new TraceCompletionProperties());
     }
 
     @Test
-    @DisplayName("Tempo가 비활성화된 경우 PENDING 상태 반환")
-    void getSummary_TempoDisabled_ReturnsPending() {
+    @DisplayName("Trace 데이터가 없는 경우 PENDING 상태 반환")
+    void getSummary_TraceNotFound_ReturnsPending() {
         // given
-        when(tempoClient.isEnabled()).thenReturn(false);
+        when(traceDataRetriever.getTraceData(tryId)).thenReturn(Optional.empty());
 
         // when
         TrySummaryResponse response = trySummaryService.getSummary(tryId);
@@ -69,61 +70,17 @@ class TrySummaryServiceTest {
         assertEquals(AnalysisStatus.PENDING, response.getStatus());
         assertEquals(0, response.getSpanCount());
         assertEquals(0, response.getIssueCount());
-
-        verify(tempoClient, never()).pollForTrace(anyString());
-    }
-
-    @Test
-    @DisplayName("Trace를 찾지 못한 경우 PENDING 상태 반환")
-    void getSummary_TraceNotFound_ReturnsPending() {
-        // given
-        when(tempoClient.isEnabled()).thenReturn(true);
-        when(tempoClient.pollForTrace(anyString())).thenReturn(null);
-
-        // when
-        TrySummaryResponse response = trySummaryService.getSummary(tryId);
-
-        // then
-        assertNotNull(response);
-        assertEquals(tryId, response.getTryId());
-        assertNull(response.getTraceId());
-        assertEquals(AnalysisStatus.PENDING, response.getStatus());
-    }
-
-    @Test
-    @DisplayName("Trace 데이터가 null인 경우 PENDING 상태 반환")
-    void getSummary_TraceDataNull_ReturnsPending() throws Exception {
-        // given
-        when(tempoClient.isEnabled()).thenReturn(true);
-        when(tempoClient.pollForTrace(anyString())).thenReturn(traceId);
-        when(tempoClient.getTrace(traceId)).thenReturn(null);
-
-        // when
-        TrySummaryResponse response = trySummaryService.getSummary(tryId);
-
-        // then
-        assertNotNull(response);
-        assertEquals(tryId, response.getTryId());
-        assertNull(response.getTraceId());
-        assertEquals(AnalysisStatus.PENDING, response.getStatus());
     }
 
     @Test
     @DisplayName("정상적으로 summary 조회 성공")
-    void getSummary_Success() throws Exception {
+    void getSummary_Success() {
         // given
-        String traceDataJson = "{\"batches\":[]}";
-        TraceDTO traceData = new TraceDTO();
-        traceData.setBatches(new ArrayList<>());
-
         List<TraceSpanInfo> spans = createTestSpans();
         List<Issue> issues = createTestIssues();
 
-        when(tempoClient.isEnabled()).thenReturn(true);
-        when(tempoClient.pollForTrace(anyString())).thenReturn(traceId);
-        when(tempoClient.getTrace(traceId)).thenReturn(traceDataJson);
-        when(objectMapper.readValue(traceDataJson, TraceDTO.class)).thenReturn(traceData);
-        when(traceSpanConverter.convert(traceData)).thenReturn(spans);
+        when(traceDataRetriever.getTraceData(tryId))
+                .thenReturn(Optional.of(new TraceDataRetriever.TraceDataResult(traceId, spans)));
         when(issueAnalyzer.analyze(spans, 100L)).thenReturn(issues);
 
         // when
@@ -139,39 +96,13 @@ class TrySummaryServiceTest {
         assertEquals(1, response.getSpanCount());
         assertEquals(1, response.getIssueCount());
 
-        verify(tempoClient).pollForTrace(contains(tryId));
-        verify(traceSpanConverter).convert(traceData);
         verify(issueAnalyzer).analyze(spans, 100L);
     }
 
-    @Test
-    @DisplayName("예외 발생 시 FAILED 상태 반환")
-    void getSummary_Exception_ReturnsFailed() {
-        // given
-        when(tempoClient.isEnabled()).thenReturn(true);
-        when(tempoClient.pollForTrace(anyString())).thenThrow(new RuntimeException("Test exception"));
-
-        // when
-        TrySummaryResponse response = trySummaryService.getSummary(tryId);
-
-        // then
-        assertNotNull(response);
-        assertEquals(tryId, response.getTryId());
-        assertEquals(AnalysisStatus.FAILED, response.getStatus());
-        assertNotNull(response.getError());
-        assertTrue(response.getError().contains("Failed to retrieve summary"));
-        assertEquals(0, response.getSpanCount());
-        assertEquals(0, response.getIssueCount());
-    }
-
     @Test
     @DisplayName("HTTP status code 추출 테스트")
-    void getSummary_ExtractHttpStatusCode() throws Exception {
+    void getSummary_ExtractHttpStatusCode() {
         // given
-        String traceDataJson = "{\"batches\":[]}";
-        TraceDTO traceData = new TraceDTO();
-        traceData.setBatches(new ArrayList<>());
-
         HashMap<String, String> attributes = new HashMap<>();
         attributes.put("http.status_code", "404");
         TraceSpanInfo span = TraceSpanInfo.builder()
@@ -187,14 +118,10 @@ class TrySummaryServiceTest {
                 .build();
 
         List<TraceSpanInfo> spans = List.of(span);
-        List<Issue> issues = new ArrayList<>();
 
-        when(tempoClient.isEnabled()).thenReturn(true);
-        when(tempoClient.pollForTrace(anyString())).thenReturn(traceId);
-        when(tempoClient.getTrace(traceId)).thenReturn(traceDataJson);
-        when(objectMapper.readValue(traceDataJson, TraceDTO.class)).thenReturn(traceData);
-        when(traceSpanConverter.convert(traceData)).thenReturn(spans);
-        when(issueAnalyzer.analyze(spans, 100L)).thenReturn(issues);
+        when(traceDataRetriever.getTraceData(tryId))
+                .thenReturn(Optional.of(new TraceDataRetriever.TraceDataResult(traceId, spans)));
+        when(issueAnalyzer.analyze(spans, 100L)).thenReturn(new ArrayList<>());
 
         // when
         TrySummaryResponse response = trySummaryService.getSummary(tryId);
@@ -204,6 +131,75 @@ class TrySummaryServiceTest {
         assertEquals(404, response.getStatusCode());
     }
 
+    @Test
+    @DisplayName("진행 중인 try는 분석 없이 PENDING 상태 반환")
+    void getSummary_TryInProgress_ReturnsPendingWithoutAnalysis() {
+        // given
+        when(completionTrackerProvider.getIfAvailable()).thenReturn(completionTracker);
+        when(completionTracker.getStatus(tryId)).thenReturn(TryCompletionTracker.Status.IN_PROGRESS);
+
+        // when
+        TrySummaryResponse response = trySummaryService.getSummary(tryId);
+
+        // then
+        assertEquals(tryId, response.getTryId());
+        assertEquals(AnalysisStatus.PENDING, response.getStatus());
+        verifyNoInteractions(traceDataRetriever, issueAnalyzer);
+    }
+
+    @Test
+    @DisplayName("완료 시 미리 계산한 summary는 캐시에서 반환")
+    void getSummary_AfterPrecompute_ReturnsCachedSummary() {
+        // given
+        List<TraceSpanInfo> spans = createTestSpans();
+        when(traceDataRetriever.getTraceData(tryId))
+                .thenReturn(Optional.of(new TraceDataRetriever.TraceDataResult(traceId, spans)));
+        when(issueAnalyzer.analyze(spans, 100L)).thenReturn(createTestIssues());
+        TrySummaryResponse precomputed = trySummaryService.precompute(tryId);
+
+        // when
+        TrySummaryResponse response = trySummaryService.getSummary(tryId);
+
+        // then
+        assertSame(precomputed, response);
+        assertSame(precomputed, trySummaryService.getCachedSummary(tryId));
+        verify(traceDataRetriever, times(1)).getTraceData(tryId);
+        verify(completionTrackerProvider, never()).getIfAvailable();
+    }
+
+    @Test
+    @DisplayName("PENDING 결과는 캐시하지 않고 다음 요청에서 다시 분석")
+    void precompute_TraceNotFound_IsNotCached() {
+        // given
+        when(traceDataRetriever.getTraceData(tryId)).thenReturn(Optional.empty());
+
+        // when
+        TrySummaryResponse precomputed = trySummaryService.precompute(tryId);
+        trySummaryService.getSummary(tryId);
+
+        // then
+        assertEquals(AnalysisStatus.PENDING, precomputed.getStatus());
+        assertNull(trySummaryService.getCachedSummary(tryId));
+        verify(traceDataRetriever, times(2)).getTraceData(tryId);
+    }
+
+    @Test
+    @DisplayName("evict 후에는 캐시된 summary를 반환하지 않음")
+    void evict_RemovesCachedSummary() {
+        // given
+        List<TraceSpanInfo> spans = createTestSpans();
+        when(traceDataRetriever.getTraceData(tryId))
+                .thenReturn(Optional.of(new TraceDataRetriever.TraceDataResult(traceId, spans)));
+        when(issueAnalyzer.analyze(anyList(), anyLong())).thenReturn(createTestIssues());
+        trySummaryService.precompute(tryId);
+
+        // when
+        trySummaryService.evict(tryId);
+
+        // then
+        assertNull(trySummaryService.getCachedSummary(tryId));
+    }
+
     private List<TraceSpanInfo> createTestSpans() {
         HashMap<String, String> attributes = new HashMap<>();
         attributes.put("http.status_code", "200");
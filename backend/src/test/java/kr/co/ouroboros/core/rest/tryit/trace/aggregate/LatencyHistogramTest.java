@@ -0,0 +1,68 @@
+package kr.co.ouroboros.core.rest.tryit.trace.aggregate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LatencyHistogram 테스트")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("비어 있는 histogram은 0을 반환")
+    void getPercentileMs_Empty_ReturnsZero() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when & then
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.getPercentileMs(99));
+        assertEquals(0.0, histogram.getMeanMs());
+    }
+
+    @Test
+    @DisplayName("1~1000ms 균등 분포의 백분위수는 상대 오차 6% 이내")
+    void getPercentileMs_UniformValues_WithinRelativeError() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int ms = 1; ms <= 1000; ms++) {
+            histogram.recordNanos(ms * 1_000_000L);
+        }
+
+        // when & then
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500.0, histogram.getPercentileMs(50), 500.0 * 0.06);
+        assertEquals(950.0, histogram.getPercentileMs(95), 950.0 * 0.06);
+        assertEquals(990.0, histogram.getPercentileMs(99), 990.0 * 0.06);
+        assertEquals(1000.0, histogram.getMaxMs());
+        assertEquals(500.5, histogram.getMeanMs(), 0.001);
+        assertEquals(500_500.0, histogram.getSumMs(), 0.001);
+    }
+
+    @Test
+    @DisplayName("백분위수는 기록된 최소/최대값 범위를 벗어나지 않음")
+    void getPercentileMs_SingleValue_ClampedToRecordedValue() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(123_456_000L);
+
+        // when & then
+        assertEquals(123.456, histogram.getPercentileMs(50), 0.0001);
+        assertEquals(123.456, histogram.getPercentileMs(99), 0.0001);
+    }
+
+    @Test
+    @DisplayName("bucket index는 값에 대해 단조 증가하고 범위를 벗어나지 않음")
+    void bucketIndex_IsMonotonicAndBounded() {
+        // given
+        int previous = -1;
+
+        // when & then
+        for (long micros = 0; micros < 1_000_000L; micros += 37) {
+            int index = LatencyHistogram.bucketIndex(micros);
+            assertTrue(index >= previous);
+            previous = index;
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+}
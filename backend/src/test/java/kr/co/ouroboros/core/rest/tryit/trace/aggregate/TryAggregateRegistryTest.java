@@ -0,0 +1,135 @@
+package kr.co.ouroboros.core.rest.tryit.trace.aggregate;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import kr.co.ouroboros.core.rest.tryit.config.properties.TraceAggregateProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TryAggregateRegistry 테스트")
+class TryAggregateRegistryTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private TryAggregateRegistry registry;
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        TraceAggregateProperties properties = new TraceAggregateProperties();
+        properties.setMaxPendingTraces(1);
+        registry = new TryAggregateRegistry(properties);
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(new RecordingSpanProcessor())
+                .build();
+        tracer = tracerProvider.get("test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    @DisplayName("root 이후에 끝난 자식 span이 있어도 이후 trace의 self time은 정확")
+    void record_ChildEndingAfterRoot_LaterTraceKeepsSelfTime() {
+        // given: the broker span of a STOMP try ends after its local root
+        Span root = start("inbound", null, 0);
+        Span late = start("broker", root, 2 * MS);
+        root.end(10 * MS, TimeUnit.NANOSECONDS);
+        late.end(20 * MS, TimeUnit.NANOSECONDS);
+
+        // when
+        recordParentWithChild();
+
+        // then
+        assertEquals(8.0, selfSumMs("OrderService.parent"), 0.5);
+    }
+
+    @Test
+    @DisplayName("root가 기록되지 않은 trace는 가장 오래된 것부터 제거되어 새 trace를 막지 않음")
+    void record_TraceWithoutRoot_IsEvictedForNewTrace() {
+        // given: a child whose root never ends in this process
+        Span orphanRoot = start("orphan-root", null, 0);
+        start("orphan-child", orphanRoot, MS).end(2 * MS, TimeUnit.NANOSECONDS);
+
+        // when
+        recordParentWithChild();
+
+        // then
+        assertEquals(8.0, selfSumMs("OrderService.parent"), 0.5);
+    }
+
+    /**
+     * Records a trace with a 10 ms parent method span and a 2 ms child method span.
+     */
+    private void recordParentWithChild() {
+        Span parent = start("parent", null, 100 * MS);
+        parent.setAttribute("code.namespace", "com.example.OrderService");
+        parent.setAttribute("code.function", "parent");
+        Span child = start("child", parent, 101 * MS);
+        child.setAttribute("code.namespace", "com.example.OrderRepository");
+        child.setAttribute("code.function", "child");
+        child.end(103 * MS, TimeUnit.NANOSECONDS);
+        parent.end(110 * MS, TimeUnit.NANOSECONDS);
+    }
+
+    private Span start(String name, Span parent, long startNanos) {
+        var builder = tracer.spanBuilder(name)
+                .setSpanKind(SpanKind.INTERNAL)
+                .setStartTimestamp(startNanos, TimeUnit.NANOSECONDS);
+        if (parent == null) {
+            builder.setNoParent();
+        } else {
+            builder.setParent(Context.root().with(parent));
+        }
+        return builder.startSpan();
+    }
+
+    private double selfSumMs(String methodKey) {
+        Map<String, TryAggregateRegistry.Snapshot> byKey = registry.topSelfTimeMethods(10).stream()
+                .collect(Collectors.toMap(TryAggregateRegistry.Snapshot::key, Function.identity()));
+        TryAggregateRegistry.Snapshot snapshot = byKey.get(methodKey);
+        assertNotNull(snapshot, "no aggregate for " + methodKey + " in " + List.copyOf(byKey.keySet()));
+        return snapshot.self().getSumMs();
+    }
+
+    private class RecordingSpanProcessor implements SpanProcessor {
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            registry.record(span);
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+    }
+}
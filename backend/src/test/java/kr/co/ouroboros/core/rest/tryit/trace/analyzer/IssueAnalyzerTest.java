@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -337,4 +338,99 @@ class IssueAnalyzerTest {
         assertFalse(issue.getRecommendation().isEmpty());
         assertTrue(issue.getRecommendation().contains("index") || issue.getRecommendation().contains("optimization"));
     }
+
+    @Test
+    @DisplayName("같은 부모 아래 반복된 SQL은 N+1로 감지")
+    void analyze_RepeatedStatementUnderParent_DetectsNPlusOne() {
+        // given
+        List<TraceSpanInfo> spans = new ArrayList<>();
+        spans.add(patternSpan("parent", null, "OrderService.getOrders", 0, 100, new HashMap<>()));
+        for (int i = 0; i < 6; i++) {
+            Map<String, String> attributes = new HashMap<>();
+            attributes.put("db.statement", "select * from item where order_id = " + (i + 1));
+            spans.add(patternSpan("q" + i, "parent", "SELECT item", 10 + i * 10, 15 + i * 10, attributes));
+        }
+
+        // when
+        List<Issue> issues = issueAnalyzer.analyze(spans, 100L);
+
+        // then
+        Issue issue = issues.stream()
+                .filter(i -> i.getType() == Issue.Type.N_PLUS_ONE)
+                .findFirst()
+                .orElse(null);
+        assertNotNull(issue);
+        assertEquals(6, issue.getCount());
+        assertEquals(30L, issue.getCumulativeDurationMs());
+        assertEquals("parent", issue.getParentSpanId());
+        assertEquals("OrderService.getOrders", issue.getParentSpanName());
+    }
+
+    @Test
+    @DisplayName("동일한 HTTP 호출 반복 감지")
+    void analyze_IdenticalHttpCalls_DetectsRepeatedHttpCall() {
+        // given
+        List<TraceSpanInfo> spans = new ArrayList<>();
+        spans.add(patternSpan("parent", null, "UserService.load", 0, 100, new HashMap<>()));
+        for (int i = 0; i < 2; i++) {
+            Map<String, String> attributes = new HashMap<>();
+            attributes.put("http.method", "GET");
+            attributes.put("http.url", "http://profile-api/users/42");
+            TraceSpanInfo call = patternSpan("h" + i, "parent", "http get", 10 + i * 30, 30 + i * 30, attributes);
+            call.setKind("CLIENT");
+            spans.add(call);
+        }
+
+        // when
+        List<Issue> issues = issueAnalyzer.analyze(spans, 100L);
+
+        // then
+        Issue issue = issues.stream()
+                .filter(i -> i.getType() == Issue.Type.REPEATED_HTTP_CALL)
+                .findFirst()
+                .orElse(null);
+        assertNotNull(issue);
+        assertEquals(2, issue.getCount());
+        assertEquals(40L, issue.getCumulativeDurationMs());
+    }
+
+    @Test
+    @DisplayName("순차 실행된 같은 메서드 호출 감지, 병렬 실행은 제외")
+    void analyze_SequentialSiblingCalls_DetectsSequentialCalls() {
+        // given
+        List<TraceSpanInfo> sequential = new ArrayList<>();
+        List<TraceSpanInfo> parallel = new ArrayList<>();
+        sequential.add(patternSpan("parent", null, "ReportService.build", 0, 100, new HashMap<>()));
+        parallel.add(patternSpan("parent", null, "ReportService.build", 0, 100, new HashMap<>()));
+        for (int i = 0; i < 3; i++) {
+            Map<String, String> attributes = new HashMap<>();
+            attributes.put("code.namespace", "kr.co.demo.PriceCalculator");
+            attributes.put("code.function", "calculate");
+            sequential.add(patternSpan("s" + i, "parent", "PriceCalculator.calculate", i * 20, i * 20 + 10, attributes));
+            parallel.add(patternSpan("p" + i, "parent", "PriceCalculator.calculate", 0, 10, attributes));
+        }
+
+        // when
+        List<Issue> sequentialIssues = issueAnalyzer.analyze(sequential, 100L);
+        List<Issue> parallelIssues = issueAnalyzer.analyze(parallel, 100L);
+
+        // then
+        assertTrue(sequentialIssues.stream().anyMatch(i -> i.getType() == Issue.Type.SEQUENTIAL_CALLS));
+        assertTrue(parallelIssues.stream().noneMatch(i -> i.getType() == Issue.Type.SEQUENTIAL_CALLS));
+    }
+
+    private TraceSpanInfo patternSpan(String spanId, String parentSpanId, String name,
+                                      long startMs, long endMs, Map<String, String> attributes) {
+        return TraceSpanInfo.builder()
+                .spanId(spanId)
+                .parentSpanId(parentSpanId)
+                .name(name)
+                .kind("INTERNAL")
+                .startTimeNanos(startMs * 1_000_000)
+                .endTimeNanos(endMs * 1_000_000)
+                .durationNanos((endMs - startMs) * 1_000_000)
+                .durationMs(endMs - startMs)
+                .attributes(attributes)
+                .build();
+    }
 }
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -207,6 +208,100 @@ class TraceTreeBuilderTest {
         verify(spanMethodParser).parse(httpSpan);
     }
 
+    @Test
+    @DisplayName("자식 span은 시작 시간 순으로 정렬")
+    void buildTree_ChildrenSortedByStartTime() {
+        // given
+        when(spanMethodParser.parse(any())).thenReturn(SpanMethodInfo.builder().build());
+        TraceSpanInfo root = createSpan("root", null, "root", 100L);
+        TraceSpanInfo late = createSpan("late", "root", "late", 10L);
+        late.setStartTimeNanos(20_000_000L);
+        late.setEndTimeNanos(30_000_000L);
+        TraceSpanInfo early = createSpan("early", "root", "early", 10L);
+        early.setStartTimeNanos(2_000L);
+        early.setEndTimeNanos(10_002_000L);
+        TraceSpanInfo orphan = createSpan("orphan", "missing", "orphan", 10L);
+        orphan.setStartTimeNanos(500L);
+
+        // when
+        List<SpanNode> tree = traceTreeBuilder.buildTree(List.of(late, root, early, orphan), 100L);
+
+        // then
+        assertEquals(2, tree.size());
+        assertEquals("orphan", tree.get(0).getSpanId());
+        assertEquals("root", tree.get(1).getSpanId());
+        List<SpanNode> children = tree.get(1).getChildren();
+        assertEquals("early", children.get(0).getSpanId());
+        assertEquals("late", children.get(1).getSpanId());
+        assertEquals(80L, tree.get(1).getSelfDurationMs());
+    }
+
+    @Test
+    @DisplayName("병렬로 실행된 자식 span은 겹친 구간을 한 번만 제외")
+    void buildTree_ParallelChildren_SubtractsIntervalUnion() {
+        // given
+        when(spanMethodParser.parse(any())).thenReturn(SpanMethodInfo.builder().build());
+        TraceSpanInfo root = createSpan("root", null, "root", 100L);
+        TraceSpanInfo first = createSpan("first", "root", "first", 50L);
+        TraceSpanInfo second = createSpan("second", "root", "second", 50L);
+
+        // when
+        List<SpanNode> tree = traceTreeBuilder.buildTree(List.of(root, first, second), 100L);
+
+        // then
+        assertEquals(50L, tree.get(0).getSelfDurationMs());
+    }
+
+    @Test
+    @DisplayName("1ms 미만의 self time은 나노초 단위로 유지")
+    void buildTree_SubMillisecondSpans_KeepsSelfDurationNanos() {
+        // given
+        when(spanMethodParser.parse(any())).thenReturn(SpanMethodInfo.builder().build());
+        TraceSpanInfo root = createSpan("root", null, "root", 1L);
+        TraceSpanInfo child = createSpan("child", "root", "child", 0L);
+        child.setStartTimeNanos(1000L + 100_000L);
+        child.setEndTimeNanos(1000L + 400_000L);
+        child.setDurationNanos(300_000L);
+
+        // when
+        List<SpanNode> tree = traceTreeBuilder.buildTree(List.of(root, child), 1L);
+
+        // then
+        SpanNode rootNode = tree.get(0);
+        assertEquals(700_000L, rootNode.getSelfDurationNanos());
+        assertEquals(1L, rootNode.getSelfDurationMs());
+        assertEquals(300_000L, rootNode.getChildren().get(0).getSelfDurationNanos());
+        assertEquals(0L, rootNode.getChildren().get(0).getSelfDurationMs());
+    }
+
+    @Test
+    @DisplayName("깊게 중첩된 span도 StackOverflow 없이 트리 구성")
+    void buildTree_VeryDeepTrace_BuildsWithoutRecursion() {
+        // given
+        when(spanMethodParser.parse(any())).thenReturn(SpanMethodInfo.builder().build());
+        int depth = 100_000;
+        List<TraceSpanInfo> spans = new ArrayList<>(depth);
+        for (int i = 0; i < depth; i++) {
+            TraceSpanInfo span = createSpan("s" + i, i == 0 ? null : "s" + (i - 1), "span" + i, 1L);
+            span.setStartTimeNanos((long) i);
+            spans.add(span);
+        }
+
+        // when
+        List<SpanNode> tree = traceTreeBuilder.buildTree(spans, 1L);
+
+        // then
+        assertEquals(1, tree.size());
+        SpanNode node = tree.get(0);
+        int count = 1;
+        while (!node.getChildren().isEmpty()) {
+            node = node.getChildren().get(0);
+            count++;
+        }
+        assertEquals(depth, count);
+        assertEquals("s" + (depth - 1), node.getSpanId());
+    }
+
     private TraceSpanInfo createSpan(String spanId, String parentSpanId, String name, Long durationMs) {
         long startTime = 1000L;
         long durationNanos = durationMs * 1_000_000;
@@ -0,0 +1,89 @@
+package kr.co.ouroboros.core.rest.tryit.trace.completion;
+
+import kr.co.ouroboros.core.rest.tryit.config.properties.TraceCompletionProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TryCompletionTracker 테스트")
+class TryCompletionTrackerTest {
+
+    private static final String TRY_ID = "0f8fad5b-d9cb-469f-a165-70867728950e";
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TryCompletionTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        TraceCompletionProperties properties = new TraceCompletionProperties();
+        properties.setGracePeriodMs(20);
+        tracker = new TryCompletionTracker(properties, eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracker.destroy();
+    }
+
+    @Test
+    @DisplayName("루트 span 종료 후 grace period가 지나면 완료 이벤트 발행")
+    void onSpanEnd_RootEndedAndNoOpenSpans_PublishesCompletion() {
+        // given
+        tracker.onSpanStart(TRY_ID);
+        tracker.onSpanStart(TRY_ID);
+        tracker.onSpanEnd(TRY_ID, false);
+
+        // when
+        tracker.onSpanEnd(TRY_ID, true);
+
+        // then
+        verify(eventPublisher, timeout(1000)).publishEvent(new TryCompletedEvent(TRY_ID));
+        assertEquals(TryCompletionTracker.Status.COMPLETED, tracker.getStatus(TRY_ID));
+    }
+
+    @Test
+    @DisplayName("열린 자식 span이 있으면 완료되지 않고 자식 종료 후 완료")
+    void onSpanEnd_ChildStillOpen_WaitsForChild() {
+        // given
+        tracker.onSpanStart(TRY_ID);
+        tracker.onSpanStart(TRY_ID);
+
+        // when
+        tracker.onSpanEnd(TRY_ID, true);
+
+        // then
+        verify(eventPublisher, after(200).never()).publishEvent(any(Object.class));
+        assertEquals(TryCompletionTracker.Status.IN_PROGRESS, tracker.getStatus(TRY_ID));
+
+        tracker.onSpanEnd(TRY_ID, false);
+        verify(eventPublisher, timeout(1000)).publishEvent(new TryCompletedEvent(TRY_ID));
+    }
+
+    @Test
+    @DisplayName("추적하지 않은 try와 forget된 try는 UNKNOWN 상태")
+    void getStatus_UntrackedOrForgotten_ReturnsUnknown() {
+        // given
+        tracker.onSpanStart(TRY_ID);
+
+        // when
+        tracker.forget(TRY_ID);
+        tracker.onSpanEnd(TRY_ID, true);
+
+        // then
+        assertEquals(TryCompletionTracker.Status.UNKNOWN, tracker.getStatus(TRY_ID));
+        assertEquals(TryCompletionTracker.Status.UNKNOWN, tracker.getStatus("unknown-try"));
+        verifyNoInteractions(eventPublisher);
+    }
+}
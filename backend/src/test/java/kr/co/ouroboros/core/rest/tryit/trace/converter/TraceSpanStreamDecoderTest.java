@@ -0,0 +1,118 @@
+package kr.co.ouroboros.core.rest.tryit.trace.converter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.TraceSpanInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TraceSpanStreamDecoder 테스트")
+class TraceSpanStreamDecoderTest {
+
+    private static final String TEMPO_TRACE = """
+            {"batches":[{
+              "resource":{"attributes":[{"key":"service.name","value":{"stringValue":"demo"}}]},
+              "scopeSpans":[{
+                "scope":{"name":"lib"},
+                "spans":[
+                  {"traceId":"t1","spanId":"s1","name":"http get /api/users","kind":"SPAN_KIND_SERVER",
+                   "startTimeUnixNano":"1000000000","endTimeUnixNano":"1250000000",
+                   "attributes":[
+                     {"key":"http.url","value":{"stringValue":"http://localhost/api/users"}},
+                     {"key":"http.status_code","value":{"intValue":"200"}},
+                     {"key":"thread.name","value":{"stringValue":"exec-1"}},
+                     {"key":"code.parameter.0.name","value":{"arrayValue":{"values":[]}}}
+                   ]},
+                  {"traceId":"t1","spanId":"s2","parentSpanId":"s1","name":"UserService.find","kind":1,
+                   "startTimeUnixNano":1100000000,"endTimeUnixNano":1200000000,"durationNanos":100000000,
+                   "attributes":[{"value":{"boolValue":true},"key":"code.function"}]}
+                ]}]}]}
+            """;
+
+    @Test
+    @DisplayName("Tempo batches 형식을 TraceSpanInfo로 변환")
+    void decode_TempoBatches_DecodesSpans() throws IOException {
+        // given
+        TraceSpanStreamDecoder decoder = new TraceSpanStreamDecoder(new JsonFactory(), null);
+
+        // when
+        List<TraceSpanInfo> spans = decoder.decode(stream(TEMPO_TRACE));
+
+        // then
+        assertEquals(2, spans.size());
+        TraceSpanInfo server = spans.get(0);
+        assertEquals("s1", server.getSpanId());
+        assertNull(server.getParentSpanId());
+        assertEquals("SERVER", server.getKind());
+        assertEquals(250_000_000L, server.getDurationNanos());
+        assertEquals(250L, server.getDurationMs());
+        assertEquals("200", server.getAttributes().get("http.status_code"));
+        assertEquals("http://localhost/api/users", server.getAttributes().get("http.url"));
+        assertFalse(server.getAttributes().containsKey("thread.name"));
+        assertFalse(server.getAttributes().containsKey("code.parameter.0.name"));
+
+        TraceSpanInfo child = spans.get(1);
+        assertEquals("s1", child.getParentSpanId());
+        assertEquals("INTERNAL", child.getKind());
+        assertEquals(100L, child.getDurationMs());
+        assertEquals("true", child.getAttributes().get("code.function"));
+    }
+
+    @Test
+    @DisplayName("attribute allow-list가 설정되면 해당 attribute만 유지")
+    void decode_WithAllowList_KeepsOnlyAllowedAttributes() throws IOException {
+        // given
+        TraceSpanStreamDecoder decoder = new TraceSpanStreamDecoder(new JsonFactory(), List.of("thread.*"));
+
+        // when
+        List<TraceSpanInfo> spans = decoder.decode(stream(TEMPO_TRACE));
+
+        // then
+        assertEquals("exec-1", spans.get(0).getAttributes().get("thread.name"));
+        assertEquals(1, spans.get(0).getAttributes().size());
+        assertTrue(spans.get(1).getAttributes().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Tempo v2 trace.resourceSpans 형식 지원")
+    void decode_ResourceSpansUnderTrace_DecodesSpans() throws IOException {
+        // given
+        String json = """
+                {"trace":{"resourceSpans":[{"scopeSpans":[{"spans":[
+                  {"spanId":"a","name":"root","kind":"SPAN_KIND_CLIENT","startTimeUnixNano":"5","endTimeUnixNano":"9"}
+                ]}]}]}}
+                """;
+        TraceSpanStreamDecoder decoder = new TraceSpanStreamDecoder(new JsonFactory(), List.of("*"));
+
+        // when
+        List<TraceSpanInfo> spans = decoder.decode(stream(json));
+
+        // then
+        assertEquals(1, spans.size());
+        assertEquals("CLIENT", spans.get(0).getKind());
+        assertEquals(4L, spans.get(0).getDurationNanos());
+    }
+
+    @Test
+    @DisplayName("span이 없는 payload는 빈 리스트 반환")
+    void decode_EmptyPayload_ReturnsEmptyList() throws IOException {
+        // given
+        TraceSpanStreamDecoder decoder = new TraceSpanStreamDecoder(new JsonFactory(), null);
+
+        // when
+        List<TraceSpanInfo> spans = decoder.decode(stream("{}"));
+
+        // then
+        assertTrue(spans.isEmpty());
+    }
+
+    private ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,82 @@
+package kr.co.ouroboros.core.rest.tryit.trace.util;
+
+import kr.co.ouroboros.core.rest.tryit.trace.dto.CriticalPathSegment;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.TraceSpanInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CriticalPathCalculator 테스트")
+class CriticalPathCalculatorTest {
+
+    @Test
+    @DisplayName("빈 spans 리스트는 빈 경로 반환")
+    void calculate_EmptySpans_ReturnsEmptyPath() {
+        // when & then
+        assertTrue(CriticalPathCalculator.calculate(List.of()).isEmpty());
+        assertTrue(CriticalPathCalculator.calculate(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("병렬 자식 중 늦게 끝난 체인만 critical path에 포함")
+    void calculate_ParallelChildren_FollowsLatestFinishingChain() {
+        // given
+        List<TraceSpanInfo> spans = List.of(
+                span("root", null, 0, 100),
+                span("a", "root", 10, 40),
+                span("b", "root", 20, 90),
+                span("c", "b", 30, 60)
+        );
+
+        // when
+        List<CriticalPathSegment> path = CriticalPathCalculator.calculate(spans);
+
+        // then
+        assertEquals(List.of("root", "b", "c", "b", "root"),
+                path.stream().map(CriticalPathSegment::getSpanId).toList());
+        assertEquals(20.0, path.get(0).getDurationMs());
+        assertEquals(10.0, path.get(1).getDurationMs());
+        assertEquals(30.0, path.get(2).getDurationMs());
+        assertEquals(30.0, path.get(3).getDurationMs());
+        assertEquals(10.0, path.get(4).getDurationMs());
+        assertEquals(100.0, path.stream().mapToDouble(CriticalPathSegment::getPercentage).sum(), 0.01);
+    }
+
+    @Test
+    @DisplayName("부모보다 늦게 끝난 자식은 부모 종료 시점까지만 포함")
+    void calculate_ChildOutlivesParent_ClipsToParentEnd() {
+        // given
+        List<TraceSpanInfo> spans = List.of(
+                span("root", null, 0, 50),
+                span("async", "root", 40, 80)
+        );
+
+        // when
+        List<CriticalPathSegment> path = CriticalPathCalculator.calculate(spans);
+
+        // then
+        assertEquals(2, path.size());
+        assertEquals("root", path.get(0).getSpanId());
+        assertEquals(40.0, path.get(0).getDurationMs());
+        assertEquals("async", path.get(1).getSpanId());
+        assertEquals(10.0, path.get(1).getDurationMs());
+    }
+
+    private TraceSpanInfo span(String spanId, String parentSpanId, long startMs, long endMs) {
+        return TraceSpanInfo.builder()
+                .spanId(spanId)
+                .parentSpanId(parentSpanId)
+                .name(spanId)
+                .kind("INTERNAL")
+                .startTimeNanos(startMs * 1_000_000)
+                .endTimeNanos(endMs * 1_000_000)
+                .durationNanos((endMs - startMs) * 1_000_000)
+                .durationMs(endMs - startMs)
+                .attributes(new HashMap<>())
+                .build();
+    }
+}
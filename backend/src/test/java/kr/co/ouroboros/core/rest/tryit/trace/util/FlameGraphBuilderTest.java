@@ -0,0 +1,142 @@
+package kr.co.ouroboros.core.rest.tryit.trace.util;
+
+import kr.co.ouroboros.core.rest.tryit.trace.dto.FlameGraphNode;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.SpanNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FlameGraphBuilder 테스트")
+class FlameGraphBuilderTest {
+
+    private FlameGraphBuilder flameGraphBuilder;
+
+    @BeforeEach
+    void setUp() {
+        flameGraphBuilder = new FlameGraphBuilder(new SpanFlattener());
+    }
+
+    @Test
+    @DisplayName("동일한 스택은 병합되어 folded stack 한 줄로 출력")
+    void buildFoldedStacks_IdenticalStacks_Merged() {
+        // given
+        List<SpanNode> tree = List.of(node("OrderController.getOrder", 5,
+                node("OrderRepository.findById", 10),
+                node("OrderRepository.findById", 12),
+                node("PaymentClient.call", 0)));
+
+        // when
+        String folded = flameGraphBuilder.buildFoldedStacks(tree);
+
+        // then
+        assertEquals("OrderController.getOrder 5000000\n"
+                + "OrderController.getOrder;OrderRepository.findById 22000000\n", folded);
+    }
+
+    @Test
+    @DisplayName("병합된 flame graph의 value는 self time과 자식 value의 합")
+    void buildFlameGraph_MergedFrames_ValuesIncludeChildren() {
+        // given
+        List<SpanNode> tree = List.of(
+                node("UserController.get", 2, node("UserService.find", 3, node("UserRepository.load", 10))),
+                node("UserController.get", 1, node("UserService.find", 4)));
+
+        // when
+        FlameGraphNode root = flameGraphBuilder.buildFlameGraph(tree);
+
+        // then
+        assertEquals(FlameGraphBuilder.ROOT_FRAME, root.getName());
+        assertEquals(20_000_000L, root.getValue());
+        assertEquals(1, root.getChildren().size());
+
+        FlameGraphNode controller = root.getChildren().get(0);
+        assertEquals(2, controller.getCount());
+        assertEquals(3_000_000L, controller.getSelfValue());
+        assertEquals(20_000_000L, controller.getValue());
+
+        FlameGraphNode service = controller.getChildren().get(0);
+        assertEquals("UserService.find", service.getName());
+        assertEquals(7_000_000L, service.getSelfValue());
+        assertEquals(17_000_000L, service.getValue());
+    }
+
+    @Test
+    @DisplayName("1ms 미만의 span도 나노초 self time으로 출력")
+    void buildFoldedStacks_SubMillisecondSpans_UseNanos() {
+        // given
+        SpanNode cacheGet = node("CacheClient.get", 0);
+        cacheGet.setSelfDurationNanos(300_000L);
+        SpanNode controller = node("CacheController.get", 1, cacheGet);
+        controller.setSelfDurationNanos(700_000L);
+
+        // when
+        String folded = flameGraphBuilder.buildFoldedStacks(List.of(controller));
+        FlameGraphNode root = flameGraphBuilder.buildFlameGraph(List.of(controller));
+
+        // then
+        assertEquals("CacheController.get 700000\n"
+                + "CacheController.get;CacheClient.get 300000\n", folded);
+        assertEquals(1_000_000L, root.getValue());
+        assertEquals(300_000L, root.getChildren().get(0).getChildren().get(0).getSelfValue());
+    }
+
+    @Test
+    @DisplayName("frame 이름의 세미콜론은 치환")
+    void buildFoldedStacks_SemicolonInName_Replaced() {
+        // given
+        List<SpanNode> tree = List.of(node("select a; select b", 1));
+
+        // when
+        String folded = flameGraphBuilder.buildFoldedStacks(tree);
+
+        // then
+        assertEquals("select a: select b 1000000\n", folded);
+    }
+
+    @Test
+    @DisplayName("빈 트리는 빈 결과 반환")
+    void build_EmptyTree_ReturnsEmpty() {
+        // when
+        FlameGraphNode root = flameGraphBuilder.buildFlameGraph(null);
+        String folded = flameGraphBuilder.buildFoldedStacks(List.of());
+
+        // then
+        assertEquals(0L, root.getValue());
+        assertTrue(root.getChildren().isEmpty());
+        assertEquals("", folded);
+    }
+
+    @Test
+    @DisplayName("매우 깊은 트리도 스택 오버플로 없이 처리")
+    void buildFlameGraph_DeepChain_NoStackOverflow() {
+        // given
+        int depth = 100_000;
+        SpanNode root = node("Chain.call", 1);
+        SpanNode current = root;
+        for (int i = 1; i < depth; i++) {
+            SpanNode child = node("Chain.call", 1);
+            current.getChildren().add(child);
+            current = child;
+        }
+
+        // when
+        FlameGraphNode flameGraph = flameGraphBuilder.buildFlameGraph(List.of(root));
+
+        // then
+        assertEquals(depth * 1_000_000L, flameGraph.getValue());
+        assertEquals(1, flameGraph.getChildren().size());
+    }
+
+    private SpanNode node(String name, long selfDurationMs, SpanNode... children) {
+        return SpanNode.builder()
+                .name(name)
+                .selfDurationMs(selfDurationMs)
+                .children(new ArrayList<>(List.of(children)))
+                .build();
+    }
+}
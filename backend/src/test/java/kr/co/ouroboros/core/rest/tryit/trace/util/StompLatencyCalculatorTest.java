@@ -0,0 +1,116 @@
+package kr.co.ouroboros.core.rest.tryit.trace.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import kr.co.ouroboros.core.rest.tryit.trace.converter.TraceSpanStreamDecoder;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.StompStageLatency;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.TraceSpanInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StompLatencyCalculator 테스트")
+class StompLatencyCalculatorTest {
+
+    @Test
+    @DisplayName("STOMP stage span이 없으면 빈 결과 반환")
+    void calculate_WithoutStompSpans_ReturnsEmpty() {
+        // given
+        List<TraceSpanInfo> spans = List.of(span(null, null, null, 0, 10));
+
+        // when & then
+        assertTrue(StompLatencyCalculator.calculate(spans).isEmpty());
+        assertTrue(StompLatencyCalculator.calculate(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("stage와 destination별로 queue/handle 시간을 합산하고 stage 순서로 정렬")
+    void calculate_GroupsByStageAndDestination() {
+        // given
+        List<TraceSpanInfo> spans = List.of(
+                span("outbound", "queue", "/topic/chat", 20, 23),
+                span("outbound", "handle", "/topic/chat", 23, 24),
+                span("outbound", "queue", "/topic/chat", 20, 30),
+                span("outbound", "handle", "/topic/chat", 30, 32),
+                span("inbound", "queue", "/app/chat", 0, 5),
+                span("inbound", "handle", "/app/chat", 5, 15),
+                span("broker", "queue", "/topic/chat", 15, 16),
+                span("broker", "handle", "/topic/chat", 16, 20)
+        );
+
+        // when
+        List<StompStageLatency> latency = StompLatencyCalculator.calculate(spans);
+
+        // then
+        assertEquals(List.of("inbound", "broker", "outbound"),
+                latency.stream().map(StompStageLatency::getStage).toList());
+        StompStageLatency outbound = latency.get(2);
+        assertEquals("/topic/chat", outbound.getDestination());
+        assertEquals(2, outbound.getCount());
+        assertEquals(13.0, outbound.getQueueMs());
+        assertEquals(10.0, outbound.getMaxQueueMs());
+        assertEquals(3.0, outbound.getHandleMs());
+        assertEquals(2.0, outbound.getMaxHandleMs());
+        assertEquals(10.0, latency.get(0).getHandleMs());
+    }
+
+    @Test
+    @DisplayName("Tempo에서 기본 allow-list로 디코딩한 span도 destination별로 분리")
+    void calculate_WithTempoDecodedSpans_KeepsDestination() throws IOException {
+        // given
+        String trace = """
+                {"batches":[{"scopeSpans":[{"spans":[
+                  %s,
+                  %s
+                ]}]}]}
+                """.formatted(tempoSpan("s1", "/app/chat", 0, 5), tempoSpan("s2", "/app/room", 0, 8));
+        TraceSpanStreamDecoder decoder = new TraceSpanStreamDecoder(new JsonFactory(), null);
+
+        // when
+        List<TraceSpanInfo> spans = decoder.decode(new ByteArrayInputStream(trace.getBytes(StandardCharsets.UTF_8)));
+        List<StompStageLatency> latency = StompLatencyCalculator.calculate(spans);
+
+        // then
+        assertEquals(List.of("/app/chat", "/app/room"),
+                latency.stream().map(StompStageLatency::getDestination).toList());
+        assertEquals(5.0, latency.get(0).getHandleMs());
+        assertEquals(8.0, latency.get(1).getHandleMs());
+    }
+
+    private String tempoSpan(String spanId, String destination, long startMs, long endMs) {
+        return """
+                {"traceId":"t1","spanId":"%s","name":"inbound handle","kind":"SPAN_KIND_INTERNAL",
+                 "startTimeUnixNano":"%d","endTimeUnixNano":"%d",
+                 "attributes":[
+                   {"key":"ouro.stomp.stage","value":{"stringValue":"inbound"}},
+                   {"key":"ouro.stomp.phase","value":{"stringValue":"handle"}},
+                   {"key":"messaging.destination.name","value":{"stringValue":"%s"}}
+                 ]}""".formatted(spanId, startMs * 1_000_000, endMs * 1_000_000, destination);
+    }
+
+    private TraceSpanInfo span(String stage, String phase, String destination, long startMs, long endMs) {
+        Map<String, String> attributes = new HashMap<>();
+        if (stage != null) {
+            attributes.put("ouro.stomp.stage", stage);
+            attributes.put("ouro.stomp.phase", phase);
+            attributes.put("messaging.destination.name", destination);
+        }
+        return TraceSpanInfo.builder()
+                .spanId(stage + phase + startMs + endMs)
+                .name(stage + " " + phase)
+                .kind("INTERNAL")
+                .startTimeNanos(startMs * 1_000_000)
+                .endTimeNanos(endMs * 1_000_000)
+                .durationNanos((endMs - startMs) * 1_000_000)
+                .durationMs(endMs - startMs)
+                .attributes(attributes)
+                .build();
+    }
+}
@@ -0,0 +1,160 @@
+package kr.co.ouroboros.core.rest.tryit.trace.util;
+
+import kr.co.ouroboros.core.rest.tryit.trace.dto.SpanDiffNode;
+import kr.co.ouroboros.core.rest.tryit.trace.dto.SpanNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TraceTreeDiffer 테스트")
+class TraceTreeDifferTest {
+
+    private TraceTreeDiffer traceTreeDiffer;
+
+    @BeforeEach
+    void setUp() {
+        traceTreeDiffer = new TraceTreeDiffer();
+    }
+
+    @Test
+    @DisplayName("동일한 트리는 모두 UNCHANGED")
+    void diff_IdenticalTrees_AllUnchanged() {
+        // given
+        List<SpanNode> baseline = List.of(node("OrderController", "getOrder", 100, 40,
+                node("OrderService", "find", 60, 60)));
+        List<SpanNode> target = List.of(node("OrderController", "getOrder", 100, 40,
+                node("OrderService", "find", 60, 60)));
+
+        // when
+        List<SpanDiffNode> result = traceTreeDiffer.diff(baseline, target);
+
+        // then
+        assertEquals(2, result.size());
+        assertTrue(result.stream().allMatch(n -> n.getStatus() == SpanDiffNode.Status.UNCHANGED));
+        assertNull(result.get(0).getParentId());
+        assertEquals(0, result.get(1).getParentId());
+        assertEquals(1, result.get(1).getDepth());
+    }
+
+    @Test
+    @DisplayName("같은 호출 경로의 형제 span은 병합되어 호출 횟수와 시간 차이를 보고")
+    void diff_RepeatedSiblings_MergedWithCountDelta() {
+        // given: baseline calls the repository 5 times, target once
+        SpanNode[] repeated = new SpanNode[5];
+        for (int i = 0; i < repeated.length; i++) {
+            repeated[i] = node("UserRepository", "findById", 10, 10);
+        }
+        List<SpanNode> baseline = List.of(node("UserService", "findAll", 60, 10, repeated));
+        List<SpanNode> target = List.of(node("UserService", "findAll", 25, 10,
+                node("UserRepository", "findAllById", 15, 15)));
+
+        // when
+        List<SpanDiffNode> result = traceTreeDiffer.diff(baseline, target);
+
+        // then
+        assertEquals(3, result.size());
+        SpanDiffNode root = result.get(0);
+        assertEquals(SpanDiffNode.Status.CHANGED, root.getStatus());
+        assertEquals(-35L, root.getDurationDeltaMs());
+        assertEquals(0L, root.getSelfDurationDeltaMs());
+
+        SpanDiffNode removed = result.get(1);
+        assertEquals("findById", removed.getMethodName());
+        assertEquals(SpanDiffNode.Status.REMOVED, removed.getStatus());
+        assertEquals(5, removed.getBaselineCount());
+        assertEquals(-5, removed.getCountDelta());
+        assertEquals(50L, removed.getBaselineDurationMs());
+
+        SpanDiffNode added = result.get(2);
+        assertEquals("findAllById", added.getMethodName());
+        assertEquals(SpanDiffNode.Status.ADDED, added.getStatus());
+        assertEquals(1, added.getTargetCount());
+        assertEquals(0, added.getParentId());
+    }
+
+    @Test
+    @DisplayName("같은 메서드라도 호출 경로가 다르면 별도로 정렬")
+    void diff_SameMethodDifferentPath_AlignedSeparately() {
+        // given
+        List<SpanNode> baseline = List.of(node("Controller", "get", 30, 10,
+                node("ServiceA", "run", 20, 0, node("Repository", "load", 20, 20))));
+        List<SpanNode> target = List.of(node("Controller", "get", 30, 10,
+                node("ServiceB", "run", 20, 0, node("Repository", "load", 20, 20))));
+
+        // when
+        List<SpanDiffNode> result = traceTreeDiffer.diff(baseline, target);
+
+        // then
+        assertEquals(5, result.size());
+        assertEquals(SpanDiffNode.Status.UNCHANGED, result.get(0).getStatus());
+        assertEquals("ServiceA", result.get(1).getClassName());
+        assertEquals(SpanDiffNode.Status.REMOVED, result.get(1).getStatus());
+        assertEquals(SpanDiffNode.Status.REMOVED, result.get(2).getStatus());
+        assertEquals(1, result.get(2).getParentId());
+        assertEquals("ServiceB", result.get(3).getClassName());
+        assertEquals(SpanDiffNode.Status.ADDED, result.get(3).getStatus());
+        assertEquals(SpanDiffNode.Status.ADDED, result.get(4).getStatus());
+        assertEquals(3, result.get(4).getParentId());
+    }
+
+    @Test
+    @DisplayName("한쪽 트리가 비어 있으면 모두 ADDED")
+    void diff_EmptyBaseline_AllAdded() {
+        // given
+        List<SpanNode> target = List.of(node("Controller", "get", 10, 10));
+
+        // when
+        List<SpanDiffNode> result = traceTreeDiffer.diff(null, target);
+
+        // then
+        assertEquals(1, result.size());
+        assertEquals(SpanDiffNode.Status.ADDED, result.get(0).getStatus());
+        assertEquals(10L, result.get(0).getDurationDeltaMs());
+    }
+
+    @Test
+    @DisplayName("매우 깊은 트리도 스택 오버플로 없이 비교")
+    void diff_DeepChain_NoStackOverflow() {
+        // given
+        int depth = 100_000;
+        SpanNode baselineRoot = node("Chain", "call", depth, 1);
+        SpanNode targetRoot = node("Chain", "call", depth, 1);
+        SpanNode baselineCurrent = baselineRoot;
+        SpanNode targetCurrent = targetRoot;
+        for (int i = 1; i < depth; i++) {
+            SpanNode baselineChild = node("Chain", "call", depth - i, 1);
+            SpanNode targetChild = node("Chain", "call", depth - i, 1);
+            baselineCurrent.getChildren().add(baselineChild);
+            targetCurrent.getChildren().add(targetChild);
+            baselineCurrent = baselineChild;
+            targetCurrent = targetChild;
+        }
+
+        // when
+        List<SpanDiffNode> result = traceTreeDiffer.diff(List.of(baselineRoot), List.of(targetRoot));
+
+        // then
+        assertEquals(depth, result.size());
+        assertEquals(depth - 1, result.get(depth - 1).getDepth());
+        assertTrue(result.stream().allMatch(n -> n.getStatus() == SpanDiffNode.Status.UNCHANGED));
+    }
+
+    private SpanNode node(String className, String methodName, long durationMs, long selfDurationMs,
+                          SpanNode... children) {
+        return SpanNode.builder()
+                .spanId(className + "." + methodName + "@" + System.identityHashCode(children))
+                .name(className + "." + methodName)
+                .className(className)
+                .methodName(methodName)
+                .durationMs(durationMs)
+                .selfDurationMs(selfDurationMs)
+                .kind("INTERNAL")
+                .children(new ArrayList<>(List.of(children)))
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package kr.co.ouroboros.core.websocket.common.schema;
+
+import kr.co.ouroboros.core.websocket.common.dto.Schema;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaHashIndexTest {
+
+    @Test
+    void of_shouldIgnorePropertyOrderAndExamples() {
+        Schema first = object(Map.entry("name", primitive("string")), Map.entry("age", primitive("integer")));
+        Schema second = object(Map.entry("age", primitive("integer")), Map.entry("name", primitive("string")));
+        second.setExamples(List.of(Map.of("name", "ouro")));
+
+        assertThat(hash(first)).isEqualTo(hash(second));
+    }
+
+    @Test
+    void of_shouldNormalizeComponentSchemaRefs() {
+        Schema qualified = new Schema();
+        qualified.setRef("#/components/schemas/com.example.ChatMessage");
+        Schema simple = new Schema();
+        simple.setRef("#/components/schemas/ChatMessage");
+        Schema other = new Schema();
+        other.setRef("#/components/schemas/com.example.RoomMessage");
+
+        assertThat(hash(qualified)).isEqualTo(hash(simple));
+        assertThat(hash(qualified)).isNotEqualTo(hash(other));
+    }
+
+    @Test
+    void of_shouldDistinguishStructuralChanges() {
+        Schema base = object(Map.entry("name", primitive("string")));
+        Schema retyped = object(Map.entry("name", primitive("integer")));
+        Schema renamed = object(Map.entry("title", primitive("string")));
+        Schema noProperties = new Schema();
+        noProperties.setType("object");
+        Schema emptyProperties = object();
+
+        assertThat(hash(base)).isNotEqualTo(hash(retyped));
+        assertThat(hash(base)).isNotEqualTo(hash(renamed));
+        assertThat(hash(noProperties)).isNotEqualTo(hash(emptyProperties));
+    }
+
+    @Test
+    void of_shouldDistinguishNestedItems() {
+        Schema strings = new Schema();
+        strings.setType("array");
+        strings.setItems(primitive("string"));
+        Schema integers = new Schema();
+        integers.setType("array");
+        integers.setItems(primitive("integer"));
+
+        assertThat(hash(strings)).isNotEqualTo(hash(integers));
+    }
+
+    @Test
+    void covers_shouldCompareSchemaNames() {
+        Map<String, Schema> schemas = new LinkedHashMap<>();
+        schemas.put("com.example.ChatMessage", primitive("string"));
+        SchemaHashIndex index = SchemaHashIndex.of(schemas);
+
+        assertThat(index.covers(schemas)).isTrue();
+        assertThat(index.covers(Map.of("ChatMessage", primitive("string")))).isFalse();
+        assertThat(SchemaHashIndex.of(null).covers(null)).isTrue();
+    }
+
+    private static SchemaHashIndex.StructuralHash hash(Schema schema) {
+        return SchemaHashIndex.of(Map.of("Schema", schema)).hashes().get("Schema");
+    }
+
+    @SafeVarargs
+    private static Schema object(Map.Entry<String, Schema>... properties) {
+        Map<String, Schema> map = new LinkedHashMap<>();
+        for (Map.Entry<String, Schema> property : properties) {
+            map.put(property.getKey(), property.getValue());
+        }
+        Schema schema = new Schema();
+        schema.setType("object");
+        schema.setProperties(map);
+        return schema;
+    }
+
+    private static Schema primitive(String type) {
+        Schema schema = new Schema();
+        schema.setType(type);
+        return schema;
+    }
+}
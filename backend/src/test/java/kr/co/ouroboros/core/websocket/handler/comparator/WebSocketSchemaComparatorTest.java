@@ -0,0 +1,69 @@
+package kr.co.ouroboros.core.websocket.handler.comparator;
+
+import kr.co.ouroboros.core.websocket.common.dto.Components;
+import kr.co.ouroboros.core.websocket.common.dto.OuroWebSocketApiSpec;
+import kr.co.ouroboros.core.websocket.common.dto.Schema;
+import kr.co.ouroboros.core.websocket.common.schema.SchemaHashIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebSocketSchemaComparatorTest {
+
+    private final WebSocketSchemaComparator comparator = new WebSocketSchemaComparator();
+
+    @Test
+    void compareSchemas_shouldMatchScannedSchemasBySimpleName() {
+        OuroWebSocketApiSpec fileSpec = spec(Map.of(
+                "ChatMessage", message("string"),
+                "RoomMessage", message("string")));
+        OuroWebSocketApiSpec scanSpec = spec(Map.of(
+                "com.example.ChatMessage", message("string"),
+                "com.example.RoomMessage", message("integer"),
+                "com.example.NewMessage", message("string")));
+
+        Map<String, Boolean> result = comparator.compareSchemas(fileSpec, scanSpec);
+
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "ChatMessage", true,
+                "RoomMessage", false,
+                "NewMessage", false));
+    }
+
+    @Test
+    void compareSchemas_shouldUseAttachedHashesOnlyWhenTheyCoverTheSchemas() {
+        OuroWebSocketApiSpec fileSpec = spec(Map.of("ChatMessage", message("string")));
+        OuroWebSocketApiSpec scanSpec = spec(Map.of("com.example.ChatMessage", message("string")));
+        // Hashes of a different structure under the same name are trusted as the scanner's snapshot
+        scanSpec.setSchemaHashes(SchemaHashIndex.of(Map.of("com.example.ChatMessage", message("integer"))));
+
+        assertThat(comparator.compareSchemas(fileSpec, scanSpec)).containsEntry("ChatMessage", false);
+
+        // Hashes that do not cover the schema names are recomputed
+        scanSpec.setSchemaHashes(SchemaHashIndex.of(Map.of("com.example.Other", message("integer"))));
+
+        assertThat(comparator.compareSchemas(fileSpec, scanSpec)).containsEntry("ChatMessage", true);
+    }
+
+    private static OuroWebSocketApiSpec spec(Map<String, Schema> schemas) {
+        Components components = new Components();
+        components.setSchemas(new LinkedHashMap<>(schemas));
+        OuroWebSocketApiSpec spec = new OuroWebSocketApiSpec();
+        spec.setComponents(components);
+        return spec;
+    }
+
+    private static Schema message(String textType) {
+        Schema text = new Schema();
+        text.setType(textType);
+        Map<String, Schema> properties = new LinkedHashMap<>();
+        properties.put("text", text);
+        Schema schema = new Schema();
+        schema.setType("object");
+        schema.setProperties(properties);
+        return schema;
+    }
+}
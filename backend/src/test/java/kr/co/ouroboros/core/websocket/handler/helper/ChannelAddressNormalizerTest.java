@@ -0,0 +1,102 @@
+package kr.co.ouroboros.core.websocket.handler.helper;
+
+import kr.co.ouroboros.core.websocket.common.dto.Channel;
+import kr.co.ouroboros.core.websocket.common.dto.ChannelReference;
+import kr.co.ouroboros.core.websocket.common.dto.MessageReference;
+import kr.co.ouroboros.core.websocket.common.dto.Operation;
+import kr.co.ouroboros.core.websocket.common.dto.OuroWebSocketApiSpec;
+import kr.co.ouroboros.core.websocket.config.WebSocketPrefixProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChannelAddressNormalizerTest {
+
+    private final ChannelPrefixRules rules = ChannelPrefixRules.compile(new WebSocketPrefixProperties());
+
+    @Test
+    void hasKnownPrefix_shouldRequireSlashAfterPrefix() {
+        assertThat(rules.hasKnownPrefix("/app/chat")).isTrue();
+        assertThat(rules.hasKnownPrefix("/topic/messages")).isTrue();
+        assertThat(rules.hasKnownPrefix("/queue/")).isTrue();
+        assertThat(rules.hasKnownPrefix("/app")).isFalse();
+        assertThat(rules.hasKnownPrefix("/application/chat")).isFalse();
+        assertThat(rules.hasKnownPrefix("/topics/messages")).isFalse();
+        assertThat(rules.hasKnownPrefix("/chat/send")).isFalse();
+        assertThat(rules.hasKnownPrefix("")).isFalse();
+        assertThat(rules.hasKnownPrefix(null)).isFalse();
+    }
+
+    @Test
+    void compile_shouldResolveDefaultPrefixesAndLabels() {
+        assertThat(rules.applicationPrefix()).isEqualTo("/app");
+        assertThat(rules.applicationLabel()).isEqualTo("app");
+        assertThat(rules.brokerPrefix()).isEqualTo("/topic");
+        assertThat(rules.brokerLabel()).isEqualTo("topic");
+    }
+
+    @Test
+    void normalizeChannelAddresses_shouldCreatePrefixedChannelPerAction() {
+        OuroWebSocketApiSpec spec = new OuroWebSocketApiSpec();
+        Map<String, Channel> channels = new LinkedHashMap<>();
+        channels.put("_chat.send", channel("/chat/send"));
+        channels.put("_topic.messages", channel("/topic/messages"));
+        spec.setChannels(channels);
+        Map<String, Operation> operations = new LinkedHashMap<>();
+        operations.put("handleMessage", operation("receive", "_chat.send"));
+        operations.put("sendMessage", operation("send", "_chat.send"));
+        operations.put("broadcast", operation("send", "_topic.messages"));
+        spec.setOperations(operations);
+
+        ChannelAddressNormalizer.normalizeChannelAddresses(spec, rules);
+
+        assertThat(spec.getChannels().get("_app_chat_send").getAddress()).isEqualTo("/app/chat/send");
+        assertThat(spec.getChannels().get("_topic_chat_send").getAddress()).isEqualTo("/topic/chat/send");
+        assertThat(operations.get("handleMessage").getChannel().getRef()).isEqualTo("#/channels/_app_chat_send");
+        assertThat(operations.get("handleMessage").getMessages().get(0).getRef())
+                .isEqualTo("#/channels/_app_chat_send/messages/ChatMessage");
+        assertThat(operations.get("sendMessage").getChannel().getRef()).isEqualTo("#/channels/_topic_chat_send");
+        // Already prefixed: left unchanged
+        assertThat(operations.get("broadcast").getChannel().getRef()).isEqualTo("#/channels/_topic.messages");
+        assertThat(operations.get("broadcast").getMessages().get(0).getRef())
+                .isEqualTo("#/channels/_topic.messages/messages/ChatMessage");
+    }
+
+    @Test
+    void normalizeChannelAddresses_shouldMatchPropertiesOverload() {
+        OuroWebSocketApiSpec withRules = new OuroWebSocketApiSpec();
+        withRules.setChannels(new LinkedHashMap<>(Map.of("_chat.send", channel("/chat/send"))));
+        withRules.setOperations(new LinkedHashMap<>(Map.of("handleMessage", operation("receive", "_chat.send"))));
+        OuroWebSocketApiSpec withProperties = new OuroWebSocketApiSpec();
+        withProperties.setChannels(new LinkedHashMap<>(Map.of("_chat.send", channel("/chat/send"))));
+        withProperties.setOperations(new LinkedHashMap<>(Map.of("handleMessage", operation("receive", "_chat.send"))));
+
+        ChannelAddressNormalizer.normalizeChannelAddresses(withRules, rules);
+        ChannelAddressNormalizer.normalizeChannelAddresses(withProperties, new WebSocketPrefixProperties());
+
+        assertThat(withRules).isEqualTo(withProperties);
+    }
+
+    private static Channel channel(String address) {
+        Channel channel = new Channel();
+        channel.setAddress(address);
+        return channel;
+    }
+
+    private static Operation operation(String action, String channelName) {
+        ChannelReference channelRef = new ChannelReference();
+        channelRef.setRef("#/channels/" + channelName);
+        MessageReference messageRef = new MessageReference();
+        messageRef.setRef("#/channels/" + channelName + "/messages/ChatMessage");
+
+        Operation operation = new Operation();
+        operation.setAction(action);
+        operation.setChannel(channelRef);
+        operation.setMessages(List.of(messageRef));
+        return operation;
+    }
+}
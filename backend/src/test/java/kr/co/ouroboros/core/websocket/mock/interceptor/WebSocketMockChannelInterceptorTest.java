@@ -0,0 +1,88 @@
+package kr.co.ouroboros.core.websocket.mock.interceptor;
+
+import kr.co.ouroboros.core.global.manager.OuroApiSpecManager;
+import kr.co.ouroboros.core.global.mock.service.SchemaMockBuilder;
+import kr.co.ouroboros.core.websocket.mock.model.WebSocketMockOperation;
+import kr.co.ouroboros.core.websocket.mock.registry.WebSocketMockRegistry;
+import kr.co.ouroboros.core.websocket.mock.service.WebSocketMockLoaderService;
+import kr.co.ouroboros.core.websocket.mock.stream.MockStreamScheduler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class WebSocketMockChannelInterceptorTest {
+
+    private final WebSocketMockRegistry registry = new WebSocketMockRegistry();
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final WebSocketMockChannelInterceptor interceptor = new WebSocketMockChannelInterceptor(
+            registry,
+            mock(WebSocketMockLoaderService.class),
+            mock(SchemaMockBuilder.class),
+            mock(OuroApiSpecManager.class),
+            new StaticListableBeanFactory(Map.of("messagingTemplate", messagingTemplate))
+                    .getBeanProvider(SimpMessagingTemplate.class),
+            new StaticListableBeanFactory().getBeanProvider(MockStreamScheduler.class));
+
+    @Test
+    void preSend_shouldNotReplyOnSendingThread() {
+        registry.registerAll(List.of(operation()));
+
+        interceptor.preSend(send("/app/chat"), channel);
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void afterMessageHandled_shouldReplyOnceForAnnotationHandler() {
+        registry.registerAll(List.of(operation()));
+        Message<?> message = send("/app/chat");
+        MessageHandler brokerHandler = sent -> { };
+
+        interceptor.afterMessageHandled(message, channel, brokerHandler, null);
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+
+        interceptor.afterMessageHandled(message, channel, mock(SimpAnnotationMethodMessageHandler.class), null);
+        verify(messagingTemplate).convertAndSend("/topic/chat", Map.of());
+    }
+
+    @Test
+    void afterMessageHandled_shouldIgnoreUnmatchedDestinations() {
+        registry.registerAll(List.of(operation()));
+
+        interceptor.afterMessageHandled(send("/app/other"), channel, mock(SimpAnnotationMethodMessageHandler.class), null);
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private static WebSocketMockOperation operation() {
+        return WebSocketMockOperation.builder()
+                .id("chat")
+                .destination("/app/chat")
+                .replyDestination("/topic/chat")
+                .build();
+    }
+
+    private static Message<byte[]> send(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setSessionId("session-1");
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,90 @@
+package kr.co.ouroboros.core.websocket.mock.registry;
+
+import kr.co.ouroboros.core.websocket.mock.model.WebSocketMockOperation;
+import kr.co.ouroboros.core.websocket.mock.model.WebSocketMockStreamDefinition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebSocketMockRegistryTest {
+
+    private final WebSocketMockRegistry registry = new WebSocketMockRegistry();
+
+    @Test
+    void match_shouldReturnExactDestination() {
+        WebSocketMockOperation chat = operation("sendChat", "/app/chat");
+        registry.registerAll(List.of(chat));
+
+        assertThat(registry.match("/app/chat")).isSameAs(chat);
+        assertThat(registry.match("/app/chat/")).isSameAs(chat);
+        assertThat(registry.match("/app/chats")).isNull();
+    }
+
+    @Test
+    void match_shouldMatchTemplateWithinSingleSegment() {
+        WebSocketMockOperation room = operation("sendRoom", "/app/rooms/{roomId}/messages");
+        WebSocketMockOperation dotted = operation("sendDotted", "/app/chat.{roomId}");
+        registry.registerAll(List.of(room, dotted));
+
+        assertThat(registry.match("/app/rooms/42/messages")).isSameAs(room);
+        assertThat(registry.match("/app/rooms//messages")).isNull();
+        assertThat(registry.match("/app/rooms/4/2/messages")).isNull();
+        assertThat(registry.match("/app/chat.lobby")).isSameAs(dotted);
+        assertThat(registry.match("/app/chat.")).isNull();
+        assertThat(registry.match("/app/chat.lobby/extra")).isNull();
+    }
+
+    @Test
+    void match_shouldPreferExactOverTemplate() {
+        WebSocketMockOperation template = operation("sendRoom", "/app/rooms/{roomId}");
+        WebSocketMockOperation exact = operation("sendLobby", "/app/rooms/lobby");
+        registry.registerAll(List.of(template, exact));
+
+        assertThat(registry.match("/app/rooms/lobby")).isSameAs(exact);
+        assertThat(registry.match("/app/rooms/7")).isSameAs(template);
+    }
+
+    @Test
+    void find_shouldOnlyMatchSendFrames() {
+        WebSocketMockOperation chat = operation("sendChat", "/app/chat");
+        registry.register(chat);
+
+        assertThat(registry.find("/app/chat", "SEND")).contains(chat);
+        assertThat(registry.find("/app/chat", "SUBSCRIBE")).isEmpty();
+    }
+
+    @Test
+    void registerAll_shouldReplacePreviousOperations() {
+        registry.registerAll(List.of(operation("sendChat", "/app/chat")));
+        registry.registerAll(List.of());
+
+        assertThat(registry.isEmpty()).isTrue();
+        assertThat(registry.match("/app/chat")).isNull();
+    }
+
+    @Test
+    void matchStream_shouldUseSeparateIndex() {
+        WebSocketMockStreamDefinition prices = WebSocketMockStreamDefinition.builder()
+                .operationName("priceTicks")
+                .destination("/topic/prices/{symbol}")
+                .rate(10)
+                .burst(10)
+                .build();
+        registry.registerAll(List.of(operation("sendChat", "/app/chat")));
+        registry.registerStreams(List.of(prices));
+
+        assertThat(registry.matchStream("/topic/prices/AAPL")).isSameAs(prices);
+        assertThat(registry.matchStream("/app/chat")).isNull();
+        assertThat(registry.match("/topic/prices/AAPL")).isNull();
+    }
+
+    private WebSocketMockOperation operation(String name, String destination) {
+        return WebSocketMockOperation.builder()
+                .operationName(name)
+                .destination(destination)
+                .replyDestination("/topic/replies")
+                .build();
+    }
+}
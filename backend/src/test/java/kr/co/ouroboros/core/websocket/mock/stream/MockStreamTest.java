@@ -0,0 +1,95 @@
+package kr.co.ouroboros.core.websocket.mock.stream;
+
+import kr.co.ouroboros.core.websocket.mock.model.WebSocketMockStreamDefinition;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MockStreamTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final List<Object> published = new ArrayList<>();
+    private final List<MockStream> finished = new ArrayList<>();
+    private int budget = Integer.MAX_VALUE;
+
+    @Test
+    void run_shouldPublishAtConfiguredRate() {
+        MockStream stream = stream(definition(10, 10, null));
+
+        long delay = stream.run(0);
+        assertThat(published).hasSize(1);
+        assertThat(delay).isEqualTo(SECOND / 10);
+
+        stream.run(SECOND);
+        assertThat(published).hasSize(11);
+        assertThat(stream.sent()).isEqualTo(11);
+        assertThat(stream.achievedRate()).isEqualTo(11.0);
+    }
+
+    @Test
+    void run_shouldCapAccumulatedMessagesAtBurst() {
+        MockStream stream = stream(definition(100, 5, null));
+
+        stream.run(SECOND);
+
+        assertThat(published).hasSize(5);
+        assertThat(stream.dropped()).isEqualTo(96);
+    }
+
+    @Test
+    void run_shouldKeepBacklogWhenTickBudgetIsExhausted() {
+        MockStream stream = stream(definition(100, 50, null));
+        budget = 20;
+
+        long delay = stream.run(SECOND / 2);
+
+        assertThat(published).hasSize(20);
+        assertThat(stream.backlog()).isEqualTo(30);
+        assertThat(delay).isZero();
+    }
+
+    @Test
+    void run_shouldStopAfterDuration() {
+        MockStream stream = stream(definition(10, 10, Duration.ofSeconds(1)));
+
+        stream.run(0);
+        long delay = stream.run(SECOND);
+
+        assertThat(delay).isNegative();
+        assertThat(stream.isCancelled()).isTrue();
+        assertThat(finished).containsExactly(stream);
+    }
+
+    @Test
+    void run_shouldStopWhenCancelled() {
+        MockStream stream = stream(definition(10, 10, null));
+        stream.cancel();
+
+        assertThat(stream.run(SECOND)).isNegative();
+        assertThat(published).isEmpty();
+        assertThat(finished).isEmpty();
+    }
+
+    private MockStream stream(WebSocketMockStreamDefinition definition) {
+        return new MockStream(definition.getDestination(), definition.getDestination(), definition,
+                () -> Map.of("price", 1), published::add,
+                () -> budget > 0 ? budget-- : 0, finished::add, 0);
+    }
+
+    private WebSocketMockStreamDefinition definition(double rate, int burst, Duration duration) {
+        return WebSocketMockStreamDefinition.builder()
+                .operationName("priceTicks")
+                .destination("/topic/prices")
+                .rate(rate)
+                .burst(burst)
+                .duration(duration)
+                .build();
+    }
+}
@@ -8,6 +8,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.MessageBuilder;
@@ -107,6 +109,20 @@ class TryStompChannelInterceptorTest {
         assertNull(TryContext.getTryId());
     }
 
+    @Test
+    void preSend_shouldPassOriginalMessageWithoutTryHeaders() {
+        Message<byte[]> message = createStompMessageWithHeader(StompCommand.SEND, Map.of("content-type", "application/json"));
+
+        Message<?> intercepted = interceptor.preSend(message, dummyChannel);
+
+        assertSame(message, intercepted);
+        assertNull(TryContext.getTryId());
+        verifyNoInteractions(publisherNotifier);
+
+        interceptor.afterSendCompletion(intercepted, dummyChannel, true, null);
+        assertNull(TryContext.getTryId());
+    }
+
     @Test
     void outboundInterceptor_shouldAttachTryIdFromContext() {
         UUID tryId = UUID.randomUUID();
@@ -120,6 +136,39 @@ class TryStompChannelInterceptorTest {
         }
     }
 
+    @Test
+    void outboundInterceptor_shouldReturnSameMessageWithoutTry() {
+        Message<byte[]> message = createStompMessageWithHeader(StompCommand.MESSAGE, Map.of());
+
+        Message<?> intercepted = outboundInterceptor.preSend(message, dummyChannel);
+
+        assertSame(message, intercepted);
+    }
+
+    @Test
+    void outboundInterceptor_shouldCopyHeadersOfBroadcastMessage() {
+        SimpMessageHeaderAccessor broadcast = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        broadcast.setDestination("/topic/prices");
+        broadcast.setSubscriptionId("sub-1");
+        broadcast.setNativeHeader("content-type", "application/json");
+        Message<byte[]> message = MessageBuilder.createMessage("{}".getBytes(StandardCharsets.UTF_8), broadcast.getMessageHeaders());
+        UUID tryId = UUID.randomUUID();
+
+        Message<?> intercepted;
+        try (Scope scope = TryContext.setTryId(tryId)) {
+            intercepted = outboundInterceptor.preSend(message, dummyChannel);
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(intercepted);
+        assertEquals(tryId.toString(), accessor.getFirstNativeHeader(TryStompHeaders.TRY_ID_HEADER));
+        assertEquals("application/json", accessor.getFirstNativeHeader("content-type"));
+        assertEquals("/topic/prices", accessor.getDestination());
+        assertEquals("sub-1", accessor.getSubscriptionId());
+        // Without a STOMP command the message stays a plain server message for StompSubProtocolHandler
+        assertNull(MessageHeaderAccessor.getAccessor(intercepted, StompHeaderAccessor.class));
+        assertNull(SimpMessageHeaderAccessor.wrap(message).getFirstNativeHeader(TryStompHeaders.TRY_ID_HEADER));
+    }
+
     private Message<byte[]> createStompMessageWithHeader(StompCommand command, Map<String, String> headers) {
         StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
         accessor.setSessionId("session-try");
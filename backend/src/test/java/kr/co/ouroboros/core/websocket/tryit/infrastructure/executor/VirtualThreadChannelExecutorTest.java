@@ -0,0 +1,171 @@
+package kr.co.ouroboros.core.websocket.tryit.infrastructure.executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VirtualThreadChannelExecutorTest {
+
+    // Platform threads stand in for virtual threads, the toolchain runs on Java 17
+    private final SimpleAsyncTaskExecutor threads = new SimpleAsyncTaskExecutor("test-");
+
+    @AfterEach
+    void tearDown() {
+        threads.close();
+    }
+
+    @Test
+    void execute_shouldRunTasksOfSessionInSubmissionOrder() throws InterruptedException {
+        VirtualThreadChannelExecutor executor = new VirtualThreadChannelExecutor(threads, true);
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(50);
+
+        for (int i = 0; i < 50; i++) {
+            int index = i;
+            executor.execute(task("session-1", () -> {
+                maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                order.add(index);
+                concurrent.decrementAndGet();
+                done.countDown();
+            }));
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).isSorted().hasSize(50);
+        assertThat(maxConcurrent.get()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_shouldRunSessionsInParallel() throws InterruptedException {
+        VirtualThreadChannelExecutor executor = new VirtualThreadChannelExecutor(threads, true);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CountDownLatch done = new CountDownLatch(2);
+
+        for (String sessionId : List.of("session-1", "session-2")) {
+            executor.execute(task(sessionId, () -> {
+                bothStarted.countDown();
+                try {
+                    // Only returns if the other session's task runs at the same time
+                    bothStarted.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            }));
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(bothStarted.getCount()).isZero();
+    }
+
+    @Test
+    void execute_shouldApplyTaskDecoratorAndContinueAfterFailure() throws InterruptedException {
+        VirtualThreadChannelExecutor executor = new VirtualThreadChannelExecutor(threads, true);
+        AtomicInteger decorated = new AtomicInteger();
+        executor.setTaskDecorator(runnable -> () -> {
+            decorated.incrementAndGet();
+            runnable.run();
+        });
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(task("session-1", () -> {
+            throw new IllegalStateException("handler failed");
+        }));
+        executor.execute(task("session-1", done::countDown));
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(decorated.get()).isEqualTo(2);
+    }
+
+    @Test
+    void execute_shouldResumeSessionQueueAfterError() throws InterruptedException {
+        CountDownLatch failing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        VirtualThreadChannelExecutor executor = new VirtualThreadChannelExecutor(threads, true);
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(task("session-1", () -> {
+            failing.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new Error("handler failed");
+        }));
+        assertThat(failing.await(5, TimeUnit.SECONDS)).isTrue();
+        // Queued behind the failing task on the same drain
+        executor.execute(task("session-1", done::countDown));
+        release.countDown();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getQueuedCount()).isZero();
+    }
+
+    @Test
+    void execute_shouldRollBackWhenDelegateRejects() throws InterruptedException {
+        AtomicBoolean reject = new AtomicBoolean(true);
+        TaskExecutor delegate = runnable -> {
+            if (reject.get()) {
+                throw new TaskRejectedException("executor shut down");
+            }
+            threads.execute(runnable);
+        };
+        VirtualThreadChannelExecutor executor = new VirtualThreadChannelExecutor(delegate, true);
+
+        assertThatThrownBy(() -> executor.execute(task("session-1", () -> { })))
+                .isInstanceOf(TaskRejectedException.class);
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(TaskRejectedException.class);
+        assertThat(executor.getQueuedCount()).isZero();
+
+        // The session queue was not left marked as draining
+        reject.set(false);
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(task("session-1", done::countDown));
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private Runnable task(String sessionId, Runnable body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        return new MessageHandlingRunnable() {
+            @Override
+            public Message<?> getMessage() {
+                return message;
+            }
+
+            @Override
+            public MessageHandler getMessageHandler() {
+                return sent -> { };
+            }
+
+            @Override
+            public void run() {
+                body.run();
+            }
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package kr.co.ouroboros.core.websocket.tryit.infrastructure.instrumentation;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExecutorMetricsTaskDecoratorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void decorate_shouldRecordWaitAndExecutionTime() {
+        ExecutorMetricsTaskDecorator decorator = new ExecutorMetricsTaskDecorator(
+                "clientInboundChannelExecutor", new ThreadPoolTaskExecutor(), meterRegistry, clock::get);
+
+        Runnable task = decorator.decorate(() -> clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(3)));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(5));
+        task.run();
+
+        assertThat(timer("wait").totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5.0);
+        assertThat(timer("execution").totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3.0);
+        assertThat(timer("execution").count()).isEqualTo(1);
+    }
+
+    @Test
+    void gauges_shouldReadThreadPoolAndReportZeroBeforeInitialization() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setQueueCapacity(10);
+        new ExecutorMetricsTaskDecorator("brokerChannelExecutor", executor, meterRegistry, clock::get);
+
+        assertThat(gauge("queue.remaining")).isZero();
+
+        executor.initialize();
+        try {
+            assertThat(gauge("queue.remaining")).isEqualTo(10.0);
+            assertThat(gauge("queue.size")).isZero();
+            assertThat(gauge("active")).isZero();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Timer timer(String name) {
+        return meterRegistry.get("ouroboros.stomp.executor." + name).tag("executor", "clientInboundChannelExecutor").timer();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get("ouroboros.stomp.executor." + name).tag("executor", "brokerChannelExecutor").gauge().value();
+    }
+}
@@ -0,0 +1,156 @@
+package kr.co.ouroboros.core.websocket.tryit.infrastructure.instrumentation;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import kr.co.ouroboros.core.rest.tryit.infrastructure.instrumentation.context.TryContext;
+import kr.co.ouroboros.core.websocket.tryit.common.TryStompSpanAttributes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TryStompTracingInterceptorTest {
+
+    private static final AttributeKey<String> PHASE = AttributeKey.stringKey(TryStompSpanAttributes.STOMP_PHASE);
+    private static final AttributeKey<String> DESTINATION = AttributeKey.stringKey(TryStompSpanAttributes.MESSAGING_DESTINATION);
+
+    private final List<ReadableSpan> endedSpans = new CopyOnWriteArrayList<>();
+    private final SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+            .addSpanProcessor(new CollectingSpanProcessor())
+            .build();
+    private final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(
+            Map.of("openTelemetry", OpenTelemetrySdk.builder().setTracerProvider(tracerProvider).build()));
+    private final ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel();
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void send_shouldCreateRootQueueAndHandleSpansForTryFrame() {
+        List<Span> currentInHandler = new ArrayList<>();
+        channel.addInterceptor(interceptor(TryStompTracingInterceptor.Stage.INBOUND));
+        channel.subscribe(message -> currentInHandler.add(Span.current()));
+        channel.subscribe(new OtherHandler());
+
+        try (Scope ignored = TryContext.setTryId(UUID.randomUUID())) {
+            channel.send(sendFrame("/app/chat"));
+        }
+
+        assertThat(endedSpans).hasSize(5);
+        ReadableSpan root = single(SpanKind.SERVER);
+        assertThat(root.getName()).isEqualTo("STOMP SEND /app/chat");
+        assertThat(root.getParentSpanContext().isValid()).isFalse();
+        assertThat(endedSpans).filteredOn(span -> span != root)
+                .allSatisfy(span -> assertThat(span.getParentSpanContext().getSpanId())
+                        .isEqualTo(root.getSpanContext().getSpanId()));
+        assertThat(phases(TryStompSpanAttributes.PHASE_QUEUE)).hasSize(2);
+        assertThat(phases(TryStompSpanAttributes.PHASE_HANDLE)).hasSize(2)
+                .allSatisfy(span -> assertThat(span.getAttribute(DESTINATION)).isEqualTo("/app/chat"));
+        assertThat(phases(TryStompSpanAttributes.PHASE_HANDLE))
+                .anySatisfy(span -> assertThat(span.getSpanContext()).isEqualTo(currentInHandler.get(0).getSpanContext()));
+        assertThat(Span.current().getSpanContext().isValid()).isFalse();
+    }
+
+    @Test
+    void send_shouldParentBrokerSpansToCurrentSpan() {
+        channel.addInterceptor(interceptor(TryStompTracingInterceptor.Stage.BROKER));
+        channel.subscribe(message -> { });
+
+        Span parent = tracerProvider.get("test").spanBuilder("handler").startSpan();
+        try (Scope ignored = TryContext.setTryId(UUID.randomUUID());
+             Scope parentScope = Context.current().with(parent).makeCurrent()) {
+            channel.send(sendFrame("/topic/chat"));
+        }
+        parent.end();
+
+        assertThat(endedSpans).hasSize(3);
+        assertThat(endedSpans).filteredOn(span -> span.getKind() == SpanKind.SERVER).isEmpty();
+        assertThat(phases(TryStompSpanAttributes.PHASE_QUEUE)).singleElement()
+                .satisfies(span -> assertThat(span.getParentSpanContext()).isEqualTo(parent.getSpanContext()));
+    }
+
+    @Test
+    void send_shouldPassNonTryMessagesThroughWithoutSpans() {
+        List<Message<?>> handled = new ArrayList<>();
+        channel.addInterceptor(interceptor(TryStompTracingInterceptor.Stage.INBOUND));
+        channel.subscribe(handled::add);
+        Message<byte[]> message = sendFrame("/app/chat");
+
+        channel.send(message);
+
+        assertThat(handled).containsExactly(message);
+        assertThat(endedSpans).isEmpty();
+    }
+
+    private TryStompTracingInterceptor interceptor(TryStompTracingInterceptor.Stage stage) {
+        return new TryStompTracingInterceptor(stage, beanFactory.getBeanProvider(OpenTelemetry.class));
+    }
+
+    private ReadableSpan single(SpanKind kind) {
+        return endedSpans.stream().filter(span -> span.getKind() == kind).findFirst().orElseThrow();
+    }
+
+    private List<ReadableSpan> phases(String phase) {
+        return endedSpans.stream()
+                .filter(span -> phase.equals(span.getAttribute(PHASE)))
+                .toList();
+    }
+
+    private Message<byte[]> sendFrame(String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination(destination);
+        accessor.setSessionId("session-1");
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static class OtherHandler implements MessageHandler {
+        @Override
+        public void handleMessage(Message<?> message) {
+        }
+    }
+
+    private class CollectingSpanProcessor implements SpanProcessor {
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            endedSpans.add(span);
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+    }
+}
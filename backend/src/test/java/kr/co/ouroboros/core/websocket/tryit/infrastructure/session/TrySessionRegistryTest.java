@@ -0,0 +1,161 @@
+package kr.co.ouroboros.core.websocket.tryit.infrastructure.session;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.co.ouroboros.core.websocket.tryit.config.properties.TrySessionProperties;
+import kr.co.ouroboros.core.websocket.tryit.infrastructure.messaging.TryDispatchMessage;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrySessionRegistryTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void removeBySessionId_shouldOnlyRemoveThatSession() {
+        TrySessionRegistry registry = registry(new TrySessionProperties());
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        registry.register(first, registration("session-1", "a"));
+        registry.register(second, registration("session-1", "b"));
+        registry.register(other, registration("session-2", "c"));
+
+        registry.removeBySessionId("session-1");
+
+        assertThat(registry.find(first)).isEmpty();
+        assertThat(registry.find(second)).isEmpty();
+        assertThat(registry.find(other)).isPresent();
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removeBySessionId_shouldKeepTryIdReRegisteredForAnotherSession() {
+        TrySessionRegistry registry = registry(new TrySessionProperties());
+        UUID tryId = UUID.randomUUID();
+        registry.register(tryId, registration("session-1", "a"));
+        registry.register(tryId, registration("session-2", "b"));
+
+        registry.removeBySessionId("session-1");
+
+        assertThat(registry.find(tryId)).map(TrySessionRegistry.TrySessionRegistration::sessionId).contains("session-2");
+    }
+
+    @Test
+    void find_shouldExpireRegistrationsAfterTtl() {
+        TrySessionProperties properties = new TrySessionProperties();
+        properties.setTtlMs(1_000);
+        TrySessionRegistry registry = registry(properties);
+        UUID tryId = UUID.randomUUID();
+        registry.register(tryId, registration("session-1", "a"));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertThat(registry.find(tryId)).isPresent();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(registry.find(tryId)).isEmpty();
+        assertThat(evictions("expired")).isEqualTo(1);
+    }
+
+    @Test
+    void register_shouldEvictOldestRegistrationOfSessionOverCap() {
+        TrySessionProperties properties = new TrySessionProperties();
+        properties.setMaxTriesPerSession(2);
+        TrySessionRegistry registry = registry(properties);
+        UUID oldest = UUID.randomUUID();
+        UUID middle = UUID.randomUUID();
+        UUID newest = UUID.randomUUID();
+
+        registry.register(oldest, registration("session-1", "a"));
+        registry.register(middle, registration("session-1", "b"));
+        registry.register(newest, registration("session-1", "c"));
+
+        assertThat(registry.find(oldest)).isEmpty();
+        assertThat(registry.find(middle)).isPresent();
+        assertThat(registry.find(newest)).isPresent();
+        assertThat(evictions("session_cap")).isEqualTo(1);
+    }
+
+    @Test
+    void register_shouldTruncateLargePayloads() {
+        TrySessionProperties properties = new TrySessionProperties();
+        properties.setMaxPayloadChars(4);
+        TrySessionRegistry registry = registry(properties);
+        UUID tryId = UUID.randomUUID();
+
+        registry.register(tryId, registration("session-1", "0123456789"));
+
+        assertThat(registry.find(tryId).orElseThrow().message().payload()).isEqualTo("0123");
+        assertThat(meterRegistry.get("ouroboros.try.session.payload.truncated").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void remove_shouldUnindexSession() {
+        TrySessionRegistry registry = registry(new TrySessionProperties());
+        UUID tryId = UUID.randomUUID();
+        registry.register(tryId, registration("session-1", "a"));
+
+        assertThat(registry.remove(tryId)).isPresent();
+        registry.removeBySessionId("session-1");
+
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    void removeBySessionId_shouldReleasePayloadBeforeTtl() throws InterruptedException {
+        TrySessionProperties properties = new TrySessionProperties();
+        properties.setTtlMs(60_000);
+        TrySessionRegistry registry = registry(properties);
+        WeakReference<TryDispatchMessage> message = registerWeakly(registry, UUID.randomUUID(), "session-1");
+
+        registry.removeBySessionId("session-1");
+
+        // Only the expiry queue could still reach the payload; it holds tryIds and timestamps only
+        for (int i = 0; i < 50 && message.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(message.get()).isNull();
+    }
+
+    @Test
+    void find_shouldNotExpireReRegistrationWithOlderMarker() {
+        TrySessionProperties properties = new TrySessionProperties();
+        properties.setTtlMs(1_000);
+        TrySessionRegistry registry = registry(properties);
+        UUID tryId = UUID.randomUUID();
+        registry.register(tryId, registration("session-1", "a"));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        registry.register(tryId, registration("session-1", "b"));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        assertThat(registry.find(tryId).orElseThrow().message().payload()).isEqualTo("b");
+        assertThat(evictions("expired")).isZero();
+    }
+
+    private TrySessionRegistry registry(TrySessionProperties properties) {
+        return new TrySessionRegistry(properties, meterRegistry, clock::get);
+    }
+
+    private double evictions(String reason) {
+        return meterRegistry.get("ouroboros.try.session.evictions").tag("reason", reason).functionCounter().count();
+    }
+
+    private WeakReference<TryDispatchMessage> registerWeakly(TrySessionRegistry registry, UUID tryId, String sessionId) {
+        TrySessionRegistry.TrySessionRegistration registration = registration(sessionId, new String(new char[1024]));
+        registry.register(tryId, registration);
+        return new WeakReference<>(registration.message());
+    }
+
+    private TrySessionRegistry.TrySessionRegistration registration(String sessionId, String payload) {
+        return new TrySessionRegistry.TrySessionRegistration(sessionId, new TryDispatchMessage(payload, Map.of()));
+    }
+}
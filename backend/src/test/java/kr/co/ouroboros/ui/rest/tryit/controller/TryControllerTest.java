@@ -1,9 +1,16 @@
 package kr.co.ouroboros.ui.rest.tryit.controller;
 
+import kr.co.ouroboros.ui.rest.tryit.dto.TryAggregateResponse;
+import kr.co.ouroboros.ui.rest.tryit.dto.TryDiffResponse;
 import kr.co.ouroboros.ui.rest.tryit.dto.TryIssuesResponse;
 import kr.co.ouroboros.ui.rest.tryit.dto.TryMethodListResponse;
 import kr.co.ouroboros.ui.rest.tryit.dto.TrySummaryResponse;
 import kr.co.ouroboros.ui.rest.tryit.dto.TryTraceResponse;
+import kr.co.ouroboros.core.rest.tryit.exception.TryNotFoundException;
+import kr.co.ouroboros.core.rest.tryit.service.TryAggregateService;
+import kr.co.ouroboros.core.rest.tryit.service.TryCompletionService;
+import kr.co.ouroboros.core.rest.tryit.service.TryDiffService;
+import kr.co.ouroboros.core.rest.tryit.service.TryFlameGraphService;
 import kr.co.ouroboros.core.rest.tryit.service.TryIssuesService;
 import kr.co.ouroboros.core.rest.tryit.service.TryMethodListService;
 import kr.co.ouroboros.core.rest.tryit.service.TrySummaryService;
@@ -43,6 +50,18 @@ class TryControllerTest {
     @Mock
     private TrySummaryService trySummaryService;
 
+    @Mock
+    private TryAggregateService tryAggregateService;
+
+    @Mock
+    private TryDiffService tryDiffService;
+
+    @Mock
+    private TryFlameGraphService tryFlameGraphService;
+
+    @Mock
+    private TryCompletionService tryCompletionService;
+
     @InjectMocks
     private TryController tryController;
 
@@ -68,7 +87,9 @@ class TryControllerTest {
                         new kr.co.ouroboros.core.rest.tryit.exception.TryExceptionHandler(),
                         new kr.co.ouroboros.core.global.exception.GlobalExceptionHandler()
                 )
-                .setMessageConverters(new org.springframework.http.converter.json.MappingJackson2HttpMessageConverter())
+                .setMessageConverters(
+                        new org.springframework.http.converter.StringHttpMessageConverter(java.nio.charset.StandardCharsets.UTF_8),
+                        new org.springframework.http.converter.json.MappingJackson2HttpMessageConverter())
                 .build();
         validTryId = UUID.randomUUID().toString();
     }
@@ -326,5 +347,92 @@ class TryControllerTest {
                         .param("size", "50"))
                 .andExpect(status().isOk());
     }
-}
 
+    @Test
+    @DisplayName("aggregate 조회 성공")
+    void getAggregate_Success() throws Exception {
+        // given
+        TryAggregateResponse response = TryAggregateResponse.builder()
+                .enabled(true)
+                .endpoints(List.of(TryAggregateResponse.Entry.builder()
+                        .name("GET /api/users/{id}")
+                        .count(3L)
+                        .build()))
+                .topSelfTimeMethods(List.of())
+                .build();
+
+        when(tryAggregateService.getAggregate(5)).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/ouro/tries/aggregate").param("top", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.enabled").value(true))
+                .andExpect(jsonPath("$.data.endpoints[0].name").value("GET /api/users/{id}"))
+                .andExpect(jsonPath("$.data.endpoints[0].count").value(3));
+    }
+
+    @Test
+    @DisplayName("aggregate top이 최대값을 초과하면 400 에러")
+    void getAggregate_TopExceedsMax_Returns400() throws Exception {
+        // when & then
+        mockMvc.perform(get("/ouro/tries/aggregate").param("top", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("유효한 두 tryId로 diff 조회 성공")
+    void getDiff_Success() throws Exception {
+        // given
+        String otherTryId = UUID.randomUUID().toString();
+        TryDiffResponse response = TryDiffResponse.builder()
+                .baselineTryId(validTryId)
+                .targetTryId(otherTryId)
+                .totalDurationDeltaMs(-20L)
+                .nodes(List.of())
+                .build();
+
+        when(tryDiffService.getDiff(validTryId, otherTryId)).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/ouro/tries/{tryId}/diff/{otherTryId}", validTryId, otherTryId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.baselineTryId").value(validTryId))
+                .andExpect(jsonPath("$.data.targetTryId").value(otherTryId))
+                .andExpect(jsonPath("$.data.totalDurationDeltaMs").value(-20));
+    }
+
+    @Test
+    @DisplayName("잘못된 비교 대상 tryId로 diff 조회 시 400 에러")
+    void getDiff_InvalidOtherTryId_Returns400() throws Exception {
+        // when & then
+        mockMvc.perform(get("/ouro/tries/{tryId}/diff/{otherTryId}", validTryId, "invalid-uuid"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("trace가 없는 tryId로 diff 조회 시 404 에러")
+    void getDiff_UnknownTryId_Returns404() throws Exception {
+        // given
+        String otherTryId = UUID.randomUUID().toString();
+        when(tryDiffService.getDiff(validTryId, otherTryId)).thenThrow(new TryNotFoundException(otherTryId));
+
+        // when & then
+        mockMvc.perform(get("/ouro/tries/{tryId}/diff/{otherTryId}", validTryId, otherTryId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error.code").value("TRY_NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("folded stacks는 text/plain으로 반환")
+    void getFoldedStacks_Success_ReturnsPlainText() throws Exception {
+        // given
+        String folded = "OrderController.getOrder;OrderService.find 30000000\n";
+        when(tryFlameGraphService.getFoldedStacks(validTryId)).thenReturn(folded);
+
+        // when & then
+        mockMvc.perform(get("/ouro/tries/{tryId}/flamegraph/folded", validTryId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/plain"))
+                .andExpect(content().string(folded));
+    }
+}
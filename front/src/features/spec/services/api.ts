@@ -813,6 +813,37 @@ export async function getTryTrace(tryId: string): Promise<TryTraceResponse> {
   return response.json();
 }
 
+/**
+ * Try Trace 완료 대기 (Server-Sent Events)
+ *
+ * 서버가 trace 완료(루트 span 종료 후 열린 span 없음)를 감지하면 "completed" 이벤트를 보낸다.
+ * 완료 추적이 불가능한 경우("unavailable": Tempo 모드 등), 연결 오류, 타임아웃 시에도
+ * resolve되므로 호출 측은 항상 이어서 결과를 조회하면 된다.
+ */
+export function waitForTryCompletion(
+  tryId: string,
+  timeoutMs: number = 10000
+): Promise<void> {
+  return new Promise((resolve) => {
+    if (typeof EventSource === "undefined") {
+      resolve();
+      return;
+    }
+
+    const source = new EventSource(`${TRY_API_BASE_URL}/${tryId}/events`);
+    const finish = () => {
+      clearTimeout(timer);
+      source.close();
+      resolve();
+    };
+    const timer = setTimeout(finish, timeoutMs);
+
+    source.addEventListener("completed", finish);
+    source.addEventListener("unavailable", finish);
+    source.onerror = finish;
+  });
+}
+
 // ========== WebSocket Types ==========
 
 // WebSocket Operation 관련 인터페이스
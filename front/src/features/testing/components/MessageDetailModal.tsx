@@ -2,7 +2,11 @@ import { useState, useEffect } from "react";
 import { useTranslation } from "react-i18next";
 import type { WebSocketMessage } from "../store/testing.store";
 import type { TryMethod, TryTraceData } from "@/features/spec/services/api";
-import { getTryMethodList, getTryTrace } from "@/features/spec/services/api";
+import {
+  getTryMethodList,
+  getTryTrace,
+  waitForTryCompletion,
+} from "@/features/spec/services/api";
 import { TestContent } from "./WsTestResponseTabs";
 import { TraceModal } from "./TraceModal";
 
@@ -52,6 +56,7 @@ export function MessageDetailModal({ isOpen, onClose, message }: MessageDetailMo
 
       setIsLoadingMethods(true);
       try {
+        await waitForTryCompletion(message.tryId);
         const response = await getTryMethodList(message.tryId);
         
         // methods가 빈 배열이어도 정상 응답이므로 null이 아닌 빈 배열로 설정
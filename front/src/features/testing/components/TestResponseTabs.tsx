@@ -8,7 +8,11 @@ import type {
   TryTraceData,
 } from "@/features/spec/services/api";
 import type { TestResponse } from "../store/testing.store";
-import { getTryMethodList, getTryTrace } from "@/features/spec/services/api";
+import {
+  getTryMethodList,
+  getTryTrace,
+  waitForTryCompletion,
+} from "@/features/spec/services/api";
 import { TraceModal } from "./TraceModal";
 
 export function TestResponseTabs() {
@@ -42,6 +46,7 @@ export function TestResponseTabs() {
 
       setIsLoadingMethods(true);
       try {
+        await waitForTryCompletion(tryId);
         const response = await getTryMethodList(tryId);
         setMethodList(response.data.methods);
         setTotalDurationMs(response.data.totalDurationMs);